@@ -57,16 +57,35 @@ struct CallbackData {
 static atomic_short sessionMap[SESSION_MAP_SIZE];
 static atomic_int sessionInTransitMessageCountMap[SESSION_MAP_SIZE];
 
+/** Maximum number of callback threads */
+#define MAX_CALLBACK_THREADS 16
+
+/** Callback data list consumed by a single callback thread */
+struct CallbackQueue {
+  pthread_mutex_t lockMutex;
+  pthread_mutex_t monitorMutex;
+  pthread_cond_t monitorCondition;
+  pthread_t thread;
+
+  /* guarded by monitorMutex, active is cleared to stop the thread, running is cleared by the thread when it exits */
+  int active;
+  int running;
+
+  struct CallbackData *head;
+  struct CallbackData *tail;
+};
+
 /** Redirection control variables */
 static pthread_mutex_t lockMutex;
-static pthread_mutex_t monitorMutex;
-static pthread_cond_t monitorCondition;
 
-pthread_t callbackThread;
 int redirectionEnabled;
 
-struct CallbackData *callbackDataHead;
-struct CallbackData *callbackDataTail;
+/** Callback queues, messages of a session are always added to the same queue */
+static struct CallbackQueue callbackQueues[MAX_CALLBACK_THREADS];
+static atomic_int callbackThreadCount;
+
+/** Number of sessions in the session map, guarded by lockMutex */
+static int activeSessionCount;
 
 /** Global reference to the virtual machine running */
 static JavaVM *globalVm;
@@ -80,6 +99,9 @@ static jmethodID logMethod;
 /** Global reference of statistics redirection method in Java */
 static jmethodID statisticsMethod;
 
+/** Global reference of trace method in Java */
+static jmethodID traceMethod;
+
 /** Global reference of safOpen method in Java */
 static jmethodID safOpenMethod;
 
@@ -119,14 +141,15 @@ JNINativeMethod configMethods[] = {
     {"getNativeLogLevel", "()I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_getNativeLogLevel},
     {"getNativeFFmpegVersion", "()Ljava/lang/String;", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_getNativeFFmpegVersion},
     {"getNativeVersion", "()Ljava/lang/String;", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_getNativeVersion},
-    {"nativeFFmpegExecute", "(J[Ljava/lang/String;)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegExecute},
+    {"nativeFFmpegExecute", "(J[BI)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegExecute},
     {"nativeFFmpegCancel", "(J)V", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegCancel},
-    {"nativeFFprobeExecute", "(J[Ljava/lang/String;)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprobeExecute},
+    {"nativeFFprobeExecute", "(J[BI)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprobeExecute},
     {"registerNewNativeFFmpegPipe", "(Ljava/lang/String;)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_registerNewNativeFFmpegPipe},
     {"getNativeBuildDate", "()Ljava/lang/String;", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_getNativeBuildDate},
     {"setNativeEnvironmentVariable", "(Ljava/lang/String;Ljava/lang/String;)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_setNativeEnvironmentVariable},
     {"ignoreNativeSignal", "(I)V", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_ignoreNativeSignal},
-    {"messagesInTransmit", "(J)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_messagesInTransmit}
+    {"messagesInTransmit", "(J)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_messagesInTransmit},
+    {"setNativeCallbackThreadCount", "(I)I", (void*) Java_com_arthenica_ffmpegkit_FFmpegKitConfig_setNativeCallbackThreadCount}
 };
 
 /** Forward declaration for function defined in fftools_ffmpeg.c */
@@ -206,7 +229,7 @@ void mutexInit() {
     pthread_mutexattr_destroy(&attributes);
 }
 
-void monitorInit() {
+void monitorInit(struct CallbackQueue *queue) {
     pthread_mutexattr_t attributes;
     pthread_mutexattr_init(&attributes);
     pthread_mutexattr_settype(&attributes, PTHREAD_MUTEX_RECURSIVE_NP);
@@ -215,20 +238,27 @@ void monitorInit() {
     pthread_condattr_init(&cattributes);
     pthread_condattr_setpshared(&cattributes, PTHREAD_PROCESS_PRIVATE);
 
-    pthread_mutex_init(&monitorMutex, &attributes);
+    pthread_mutex_init(&queue->lockMutex, &attributes);
+    pthread_mutex_init(&queue->monitorMutex, &attributes);
     pthread_mutexattr_destroy(&attributes);
 
-    pthread_cond_init(&monitorCondition, &cattributes);
+    pthread_cond_init(&queue->monitorCondition, &cattributes);
     pthread_condattr_destroy(&cattributes);
+
+    queue->head = NULL;
+    queue->tail = NULL;
+    queue->active = 0;
+    queue->running = 0;
 }
 
 void mutexUnInit() {
     pthread_mutex_destroy(&lockMutex);
 }
 
-void monitorUnInit() {
-    pthread_mutex_destroy(&monitorMutex);
-    pthread_cond_destroy(&monitorCondition);
+void monitorUnInit(struct CallbackQueue *queue) {
+    pthread_mutex_destroy(&queue->lockMutex);
+    pthread_mutex_destroy(&queue->monitorMutex);
+    pthread_cond_destroy(&queue->monitorCondition);
 }
 
 void mutexLock() {
@@ -239,7 +269,7 @@ void mutexUnlock() {
     pthread_mutex_unlock(&lockMutex);
 }
 
-void monitorWait(int milliSeconds) {
+void monitorWait(struct CallbackQueue *queue, int milliSeconds) {
     struct timeval tp;
     struct timespec ts;
     int rc;
@@ -256,57 +286,79 @@ void monitorWait(int milliSeconds) {
     ts.tv_sec += ts.tv_nsec / 1000000000L;
     ts.tv_nsec = ts.tv_nsec % 1000000000L;
 
-    pthread_mutex_lock(&monitorMutex);
-    pthread_cond_timedwait(&monitorCondition, &monitorMutex, &ts);
-    pthread_mutex_unlock(&monitorMutex);
+    pthread_mutex_lock(&queue->monitorMutex);
+    pthread_cond_timedwait(&queue->monitorCondition, &queue->monitorMutex, &ts);
+    pthread_mutex_unlock(&queue->monitorMutex);
 }
 
-void monitorNotify() {
-    pthread_mutex_lock(&monitorMutex);
-    pthread_cond_signal(&monitorCondition);
-    pthread_mutex_unlock(&monitorMutex);
+void monitorNotify(struct CallbackQueue *queue) {
+    pthread_mutex_lock(&queue->monitorMutex);
+    pthread_cond_signal(&queue->monitorCondition);
+    pthread_mutex_unlock(&queue->monitorMutex);
 }
 
 /**
- * Adds log data to the end of callback data list.
+ * Returns the callback queue that delivers messages of the given session.
  *
- * @param level log level
- * @param data log data
+ * @param id session id
+ * @return callback queue of the session
  */
-void logCallbackDataAdd(int level, AVBPrint *data) {
+static struct CallbackQueue *callbackQueueForSession(long id) {
+    return &callbackQueues[id % atomic_load(&callbackThreadCount)];
+}
 
-    // CREATE DATA STRUCT FIRST
-    struct CallbackData *newData = (struct CallbackData*)av_malloc(sizeof(struct CallbackData));
-    newData->type = LogType;
-    newData->sessionId = globalSessionId;
-    newData->logLevel = level;
-    av_bprint_init(&newData->logData, 0, AV_BPRINT_SIZE_UNLIMITED);
-    av_bprintf(&newData->logData, "%s", data->str);
-    newData->next = NULL;
+/**
+ * Adds callback data to the end of the callback data list of its session.
+ *
+ * @param newData callback data
+ */
+static void callbackDataAdd(struct CallbackData *newData) {
+    struct CallbackQueue *queue = callbackQueueForSession(newData->sessionId);
 
-    mutexLock();
+    // COUNT THE MESSAGE BEFORE IT BECOMES VISIBLE TO THE CALLBACK THREAD
+    atomic_fetch_add(&sessionInTransitMessageCountMap[newData->sessionId % SESSION_MAP_SIZE], 1);
+
+    pthread_mutex_lock(&queue->lockMutex);
 
     // INSERT IT TO THE END OF QUEUE
-    if (callbackDataTail == NULL) {
-        callbackDataTail = newData;
+    if (queue->tail == NULL) {
+        queue->tail = newData;
 
-        if (callbackDataHead != NULL) {
+        if (queue->head != NULL) {
             LOGE("Dangling callback data head detected. This can cause memory leak.");
         } else {
-            callbackDataHead = newData;
+            queue->head = newData;
         }
     } else {
-        struct CallbackData *oldTail = callbackDataTail;
+        struct CallbackData *oldTail = queue->tail;
         oldTail->next = newData;
 
-        callbackDataTail = newData;
+        queue->tail = newData;
     }
 
-    mutexUnlock();
+    pthread_mutex_unlock(&queue->lockMutex);
 
-    monitorNotify();
+    monitorNotify(queue);
+}
+
+/**
+ * Adds log data to the end of callback data list.
+ *
+ * @param level log level
+ * @param data log data
+ */
+void logCallbackDataAdd(int level, AVBPrint *data) {
+
+    // CREATE DATA STRUCT FIRST
+    struct CallbackData *newData = (struct CallbackData*)av_malloc(sizeof(struct CallbackData));
+    newData->type = LogType;
+    newData->sessionId = globalSessionId;
+    newData->logLevel = level;
+    av_bprint_init(&newData->logData, 0, AV_BPRINT_SIZE_UNLIMITED);
+    av_bprintf(&newData->logData, "%s", data->str);
+    newData->next = NULL;
 
-    atomic_fetch_add(&sessionInTransitMessageCountMap[globalSessionId % SESSION_MAP_SIZE], 1);
+    callbackDataAdd(newData);
 }
 
 /**
@@ -328,29 +380,7 @@ void statisticsCallbackDataAdd(int frameNumber, float fps, float quality, int64_
 
     newData->next = NULL;
 
-    mutexLock();
-
-    // INSERT IT TO THE END OF QUEUE
-    if (callbackDataTail == NULL) {
-        callbackDataTail = newData;
-
-        if (callbackDataHead != NULL) {
-            LOGE("Dangling callback data head detected. This can cause memory leak.");
-        } else {
-            callbackDataHead = newData;
-        }
-    } else {
-        struct CallbackData *oldTail = callbackDataTail;
-        oldTail->next = newData;
-
-        callbackDataTail = newData;
-    }
-
-    mutexUnlock();
-
-    monitorNotify();
-
-    atomic_fetch_add(&sessionInTransitMessageCountMap[globalSessionId % SESSION_MAP_SIZE], 1);
+    callbackDataAdd(newData);
 }
 
 /**
@@ -359,37 +389,42 @@ void statisticsCallbackDataAdd(int frameNumber, float fps, float quality, int64_
  * @param id session id
  */
 void addSession(long id) {
+    mutexLock();
     atomic_store(&sessionMap[id % SESSION_MAP_SIZE], 1);
+    activeSessionCount++;
+    mutexUnlock();
 }
 
 /**
  * Removes head of callback data list.
+ *
+ * @param queue callback queue
  */
-struct CallbackData *callbackDataRemove() {
+struct CallbackData *callbackDataRemove(struct CallbackQueue *queue) {
     struct CallbackData *currentData;
 
-    mutexLock();
+    pthread_mutex_lock(&queue->lockMutex);
 
-    if (callbackDataHead == NULL) {
+    if (queue->head == NULL) {
         currentData = NULL;
     } else {
-        currentData = callbackDataHead;
+        currentData = queue->head;
 
         struct CallbackData *nextHead = currentData->next;
         if (nextHead == NULL) {
-            if (callbackDataHead != callbackDataTail) {
+            if (queue->head != queue->tail) {
                 LOGE("Head and tail callback data pointers do not match for single callback data element. This can cause memory leak.");
             } else {
-                callbackDataTail = NULL;
+                queue->tail = NULL;
             }
-            callbackDataHead = NULL;
+            queue->head = NULL;
 
         } else {
-            callbackDataHead = nextHead;
+            queue->head = nextHead;
         }
     }
 
-    mutexUnlock();
+    pthread_mutex_unlock(&queue->lockMutex);
 
     return currentData;
 }
@@ -400,7 +435,10 @@ struct CallbackData *callbackDataRemove() {
  * @param id session id
  */
 void removeSession(long id) {
+    mutexLock();
     atomic_store(&sessionMap[id % SESSION_MAP_SIZE], 0);
+    activeSessionCount--;
+    mutexUnlock();
 }
 
 /**
@@ -496,28 +534,73 @@ void ffmpegkit_statistics_callback_function(int frameNumber, float fps, float qu
 }
 
 /**
- * Forwards callback messages to Java classes.
+ * Callback function for FFmpeg phase events. Events are raised by the thread running the session, which is a Java
+ * thread, so they are forwarded synchronously to keep timestamps and ordering intact.
+ *
+ * @param event one of FFMPEG_KIT_TRACE_* identifiers
+ * @param timestamp CLOCK_MONOTONIC time of the event in nanoseconds
  */
-void *callbackThreadFunction() {
+void ffmpegkit_trace_callback_function(int event, int64_t timestamp) {
+    JNIEnv *env = NULL;
+    if ((*globalVm)->GetEnv(globalVm, (void**) &env, JNI_VERSION_1_6) != JNI_OK) {
+        return;
+    }
+    (*env)->CallStaticVoidMethod(env, configClass, traceMethod, (jlong) globalSessionId, event, (jlong) timestamp);
+}
+
+/**
+ * Returns whether the callback thread of a callback queue must keep running. When it must not, marks the thread as
+ * exited in the same critical section, so a new thread is only started for the queue after this one stops consuming it.
+ *
+ * @param queue callback queue
+ * @return 1 if the thread must keep running, 0 otherwise
+ */
+static int callbackThreadContinue(struct CallbackQueue *queue) {
+    int active;
+
+    pthread_mutex_lock(&queue->monitorMutex);
+    active = queue->active;
+    if (!active) {
+        queue->running = 0;
+    }
+    pthread_mutex_unlock(&queue->monitorMutex);
+
+    return active;
+}
+
+/**
+ * Forwards callback messages of a callback queue to Java classes.
+ *
+ * @param pointer callback queue consumed by this thread
+ */
+void *callbackThreadFunction(void *pointer) {
+    struct CallbackQueue *queue = (struct CallbackQueue *) pointer;
+
     JNIEnv *env;
     jint getEnvRc = (*globalVm)->GetEnv(globalVm, (void**) &env, JNI_VERSION_1_6);
     if (getEnvRc != JNI_OK) {
         if (getEnvRc != JNI_EDETACHED) {
             LOGE("Callback thread failed to GetEnv for class %s with rc %d.\n", configClassName, getEnvRc);
+            pthread_mutex_lock(&queue->monitorMutex);
+            queue->running = 0;
+            pthread_mutex_unlock(&queue->monitorMutex);
             return NULL;
         }
 
         if ((*globalVm)->AttachCurrentThread(globalVm, &env, NULL) != 0) {
             LOGE("Callback thread failed to AttachCurrentThread for class %s.\n", configClassName);
+            pthread_mutex_lock(&queue->monitorMutex);
+            queue->running = 0;
+            pthread_mutex_unlock(&queue->monitorMutex);
             return NULL;
         }
     }
 
     LOGD("Async callback block started.\n");
 
-    while(redirectionEnabled) {
+    while(callbackThreadContinue(queue)) {
 
-        struct CallbackData *callbackData = callbackDataRemove();
+        struct CallbackData *callbackData = callbackDataRemove(queue);
         if (callbackData != NULL) {
             if (callbackData->type == LogType) {
 
@@ -552,7 +635,7 @@ void *callbackThreadFunction() {
             av_free(callbackData);
 
         } else {
-            monitorWait(100);
+            monitorWait(queue, 100);
         }
     }
 
@@ -581,6 +664,66 @@ int saf_close(int fd) {
     return (*env)->CallStaticIntMethod(env, configClass, safCloseMethod, fd);
 }
 
+/**
+ * Activates callback queues up to the configured callback thread count. A new thread is created only for queues whose
+ * previous thread has exited; a thread that is still running keeps consuming its queue, so a queue never has two
+ * consumers. Must be called while holding the lock.
+ */
+static void startCallbackThreads() {
+    int count = atomic_load(&callbackThreadCount);
+
+    for (int i = 0; i < count; i++) {
+        struct CallbackQueue *queue = &callbackQueues[i];
+
+        pthread_mutex_lock(&queue->monitorMutex);
+        queue->active = 1;
+        if (!queue->running) {
+            int rc = pthread_create(&queue->thread, 0, callbackThreadFunction, queue);
+            if (rc == 0) {
+                pthread_detach(queue->thread);
+                queue->running = 1;
+            } else {
+                LOGE("Failed to create callback thread %d (rc=%d).\n", i, rc);
+            }
+        }
+        pthread_mutex_unlock(&queue->monitorMutex);
+    }
+}
+
+/**
+ * Deactivates all callback queues. Callback threads exit after the message they are delivering. Must be called while
+ * holding the lock.
+ */
+static void stopCallbackThreads() {
+    for (int i = 0; i < MAX_CALLBACK_THREADS; i++) {
+        struct CallbackQueue *queue = &callbackQueues[i];
+
+        pthread_mutex_lock(&queue->monitorMutex);
+        queue->active = 0;
+        pthread_cond_signal(&queue->monitorCondition);
+        pthread_mutex_unlock(&queue->monitorMutex);
+    }
+}
+
+/**
+ * Returns whether any session is running or has messages that are not delivered yet. Must be called while holding the
+ * lock.
+ *
+ * @return 1 if there are active sessions, 0 otherwise
+ */
+static int thereAreActiveSessions() {
+    if (activeSessionCount > 0) {
+        return 1;
+    }
+    for (int i = 0; i < SESSION_MAP_SIZE; i++) {
+        if (atomic_load(&sessionInTransitMessageCountMap[i]) > 0) {
+            return 1;
+        }
+    }
+
+    return 0;
+}
+
 /**
  * Used by JNI methods to enable redirection.
  */
@@ -593,13 +736,9 @@ static void enableNativeRedirection() {
     }
     redirectionEnabled = 1;
 
-    mutexUnlock();
+    startCallbackThreads();
 
-    int rc = pthread_create(&callbackThread, 0, callbackThreadFunction, 0);
-    if (rc != 0) {
-        LOGE("Failed to create callback thread (rc=%d).\n", rc);
-        return;
-    }
+    mutexUnlock();
 
     av_log_set_callback(ffmpegkit_log_callback_function);
     set_report_callback(ffmpegkit_statistics_callback_function);
@@ -625,7 +764,7 @@ jint JNI_OnLoad(JavaVM *vm, void *reserved) {
         return JNI_FALSE;
     }
 
-    if ((*env)->RegisterNatives(env, localConfigClass, configMethods, 14) < 0) {
+    if ((*env)->RegisterNatives(env, localConfigClass, configMethods, 15) < 0) {
         LOGE("OnLoad failed to RegisterNatives for class %s.\n", configClassName);
         return JNI_FALSE;
     }
@@ -650,6 +789,12 @@ jint JNI_OnLoad(JavaVM *vm, void *reserved) {
         return JNI_FALSE;
     }
 
+    traceMethod = (*env)->GetStaticMethodID(env, localConfigClass, "trace", "(JIJ)V");
+    if (traceMethod == NULL) {
+        LOGE("OnLoad thread failed to GetStaticMethodID for %s.\n", "trace");
+        return JNI_FALSE;
+    }
+
     safOpenMethod = (*env)->GetStaticMethodID(env, localConfigClass, "safOpen", "(I)I");
     if (safOpenMethod == NULL) {
         LOGE("OnLoad thread failed to GetStaticMethodID for %s.\n", "safOpen");
@@ -673,21 +818,24 @@ jint JNI_OnLoad(JavaVM *vm, void *reserved) {
     configClass = (jclass) ((*env)->NewGlobalRef(env, localConfigClass));
     stringClass = (jclass) ((*env)->NewGlobalRef(env, localStringClass));
 
-    callbackDataHead = NULL;
-    callbackDataTail = NULL;
-    
+    for(int i = 0; i<MAX_CALLBACK_THREADS; i++) {
+        monitorInit(&callbackQueues[i]);
+    }
+    atomic_init(&callbackThreadCount, 1);
+    activeSessionCount = 0;
+
     for(int i = 0; i<SESSION_MAP_SIZE; i++) {
         atomic_init(&sessionMap[i], 0);
         atomic_init(&sessionInTransitMessageCountMap[i], 0);
     }
 
     mutexInit();
-    monitorInit();
 
     redirectionEnabled = 0;
 
     av_set_saf_open(saf_open);
     av_set_saf_close(saf_close);
+    set_trace_callback(ffmpegkit_trace_callback_function);
 
     enableNativeRedirection();
 
@@ -741,12 +889,48 @@ JNIEXPORT void JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_disableNativ
     }
     redirectionEnabled = 0;
 
+    // ALL CALLBACK THREADS EXIT, THEY ARE STARTED AGAIN WHEN REDIRECTION IS ENABLED
+    stopCallbackThreads();
+
     mutexUnlock();
 
     av_log_set_callback(av_log_default_callback);
     set_report_callback(NULL);
+}
 
-    monitorNotify();
+/**
+ * Sets the number of callback threads. Messages are assigned to callback threads by session id, so messages of a
+ * session are delivered in order by a single thread. The count can not be changed while a session is running or has
+ * messages in transit, because its messages would move to another queue.
+ *
+ * @param env pointer to native method interface
+ * @param object reference to the class on which this method is invoked
+ * @param count number of callback threads, clamped between 1 and MAX_CALLBACK_THREADS
+ * @return zero on success, non-zero if there are active sessions
+ */
+JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_setNativeCallbackThreadCount(JNIEnv *env, jclass object, jint count) {
+    if (count < 1) {
+        count = 1;
+    } else if (count > MAX_CALLBACK_THREADS) {
+        count = MAX_CALLBACK_THREADS;
+    }
+
+    mutexLock();
+
+    if (thereAreActiveSessions()) {
+        mutexUnlock();
+        LOGW("Callback thread count can not be changed while sessions are active.\n");
+        return 1;
+    }
+
+    atomic_store(&callbackThreadCount, count);
+
+    // THREADS ABOVE THE NEW COUNT DRAIN THEIR QUEUES AND STAY IDLE UNTIL REDIRECTION IS DISABLED
+    if (redirectionEnabled) {
+        startCallbackThreads();
+    }
+
+    mutexUnlock();
 }
 
 /**
@@ -772,45 +956,84 @@ JNIEXPORT jstring JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_getNative
 }
 
 /**
- * Synchronously executes FFmpeg natively with arguments provided.
+ * Unpacks command arguments packed by FFmpegKitConfig.packArguments into an argv array.
+ *
+ * Packed arguments are NUL terminated UTF-8 strings stored one after another in a single byte
+ * array. The array is copied once into a block that holds the argv pointers, the program name
+ * and argument bytes together, so no JNI references are kept while the command runs.
  *
  * @param env pointer to native method interface
- * @param object reference to the class on which this method is invoked
- * @param id session id
- * @param stringArray reference to the object holding FFmpeg command arguments
- * @return zero on successful execution, non-zero on error
+ * @param packedArguments reference to the byte array holding packed arguments
+ * @param argumentCount number of arguments packed
+ * @return argv array with LIB_NAME as the first element, NULL if arguments are malformed; must be
+ * released using av_free
  */
-JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegExecute(JNIEnv *env, jclass object, jlong id, jobjectArray stringArray) {
-    jstring *tempArray = NULL;
-    int argumentCount = 1;
-    char **argv = NULL;
-
-    // SETS DEFAULT LOG LEVEL BEFORE STARTING A NEW RUN
-    av_log_set_level(configuredLogLevel);
+char **unpackArguments(JNIEnv *env, jbyteArray packedArguments, jint argumentCount) {
+    jsize packedLength = 0;
+    if (packedArguments) {
+        packedLength = (*env)->GetArrayLength(env, packedArguments);
+    }
 
-    if (stringArray) {
-        int programArgumentCount = (*env)->GetArrayLength(env, stringArray);
-        argumentCount = programArgumentCount + 1;
+    size_t pointersLength = sizeof(char*) * (argumentCount + 2);
+    size_t nameLength = strlen(LIB_NAME) + 1;
 
-        tempArray = (jstring *) av_malloc(sizeof(jstring) * programArgumentCount);
+    char **argv = (char **)av_malloc(pointersLength + nameLength + packedLength);
+    if (argv == NULL) {
+        LOGE("Failed to allocate %d bytes for command arguments.", (int)(pointersLength + nameLength + packedLength));
+        return NULL;
     }
 
+    char *name = ((char *)argv) + pointersLength;
+    char *buffer = name + nameLength;
+
     /* PRESERVE USAGE FORMAT
      *
      * ffmpeg <arguments>
      */
-    argv = (char **)av_malloc(sizeof(char*) * (argumentCount));
-    argv[0] = (char *)av_malloc(sizeof(char) * (strlen(LIB_NAME) + 1));
-    strcpy(argv[0], LIB_NAME);
-
-    // PREPARE ARRAY ELEMENTS
-    if (stringArray) {
-        for (int i = 0; i < (argumentCount - 1); i++) {
-            tempArray[i] = (jstring) (*env)->GetObjectArrayElement(env, stringArray, i);
-            if (tempArray[i] != NULL) {
-                argv[i + 1] = (char *) (*env)->GetStringUTFChars(env, tempArray[i], 0);
-            }
+    strcpy(name, LIB_NAME);
+    argv[0] = name;
+
+    if (packedLength > 0) {
+        (*env)->GetByteArrayRegion(env, packedArguments, 0, packedLength, (jbyte *)buffer);
+    }
+
+    // EVERY ARGUMENT MUST BE TERMINATED INSIDE THE BUFFER
+    char *current = buffer;
+    char *end = buffer + packedLength;
+    for (int i = 1; i <= argumentCount; i++) {
+        char *terminator = (current < end) ? memchr(current, '\0', end - current) : NULL;
+        if (terminator == NULL) {
+            LOGE("Packed command arguments are malformed. Argument %d of %d is not terminated.", i, argumentCount);
+            av_free(argv);
+            return NULL;
         }
+
+        argv[i] = current;
+        current = terminator + 1;
+    }
+    argv[argumentCount + 1] = NULL;
+
+    return argv;
+}
+
+/**
+ * Synchronously executes FFmpeg natively with arguments provided.
+ *
+ * @param env pointer to native method interface
+ * @param object reference to the class on which this method is invoked
+ * @param id session id
+ * @param packedArguments reference to the byte array holding packed FFmpeg command arguments
+ * @param argumentCount number of arguments packed
+ * @return zero on successful execution, non-zero on error
+ */
+JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegExecute(JNIEnv *env, jclass object, jlong id, jbyteArray packedArguments, jint argumentCount) {
+
+    // SETS DEFAULT LOG LEVEL BEFORE STARTING A NEW RUN
+    av_log_set_level(configuredLogLevel);
+
+    char **argv = unpackArguments(env, packedArguments, argumentCount);
+    if (argv == NULL) {
+        return 1;
     }
 
     // REGISTER THE ID BEFORE STARTING THE SESSION
@@ -820,20 +1043,12 @@ JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpeg
     resetMessagesInTransmit(globalSessionId);
 
     // RUN
-    int returnCode = ffmpeg_execute(argumentCount, argv);
+    int returnCode = ffmpeg_execute(argumentCount + 1, argv);
 
     // ALWAYS REMOVE THE ID FROM THE MAP
     removeSession((long) id);
 
     // CLEANUP
-    if (tempArray) {
-        for (int i = 0; i < (argumentCount - 1); i++) {
-            (*env)->ReleaseStringUTFChars(env, tempArray[i], argv[i + 1]);
-        }
-
-        av_free(tempArray);
-    }
-    av_free(argv[0]);
     av_free(argv);
 
     return returnCode;
@@ -92,9 +92,9 @@ JNIEXPORT jstring JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_getNative
 /*
  * Class:     com_arthenica_ffmpegkit_FFmpegKitConfig
  * Method:    nativeFFmpegExecute
- * Signature: (J[Ljava/lang/String;)I
+ * Signature: (J[BI)I
  */
-JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegExecute(JNIEnv *, jclass, jlong, jobjectArray);
+JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFmpegExecute(JNIEnv *, jclass, jlong, jbyteArray, jint);
 
 /*
  * Class:     com_arthenica_ffmpegkit_FFmpegKitConfig
@@ -138,4 +138,11 @@ JNIEXPORT void JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_ignoreNative
  */
 JNIEXPORT int JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_messagesInTransmit(JNIEnv *env, jclass object, jlong id);
 
+/*
+ * Class:     com_arthenica_ffmpegkit_FFmpegKitConfig
+ * Method:    setNativeCallbackThreadCount
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_setNativeCallbackThreadCount(JNIEnv *env, jclass object, jint count);
+
 #endif /* FFMPEG_KIT_H */
\ No newline at end of file
@@ -35,6 +35,7 @@ extern __thread long globalSessionId;
 extern void addSession(long sessionId);
 extern void removeSession(long sessionId);
 extern void resetMessagesInTransmit(long sessionId);
+extern char **unpackArguments(JNIEnv *env, jbyteArray packedArguments, jint argumentCount);
 
 /**
  * Synchronously executes FFprobe natively with arguments provided.
@@ -42,40 +43,18 @@ extern void resetMessagesInTransmit(long sessionId);
  * @param env pointer to native method interface
  * @param object reference to the class on which this method is invoked
  * @param id session id
- * @param stringArray reference to the object holding FFprobe command arguments
+ * @param packedArguments reference to the byte array holding packed FFprobe command arguments
+ * @param argumentCount number of arguments packed
  * @return zero on successful execution, non-zero on error
  */
-JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprobeExecute(JNIEnv *env, jclass object, jlong id, jobjectArray stringArray) {
-    jstring *tempArray = NULL;
-    int argumentCount = 1;
-    char **argv = NULL;
+JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprobeExecute(JNIEnv *env, jclass object, jlong id, jbyteArray packedArguments, jint argumentCount) {
 
     // SETS DEFAULT LOG LEVEL BEFORE STARTING A NEW RUN
     av_log_set_level(configuredLogLevel);
 
-    if (stringArray) {
-        int programArgumentCount = (*env)->GetArrayLength(env, stringArray);
-        argumentCount = programArgumentCount + 1;
-
-        tempArray = (jstring *) av_malloc(sizeof(jstring) * programArgumentCount);
-    }
-
-    /* PRESERVE USAGE FORMAT
-     *
-     * ffprobe <arguments>
-     */
-    argv = (char **)av_malloc(sizeof(char*) * (argumentCount));
-    argv[0] = (char *)av_malloc(sizeof(char) * (strlen(LIB_NAME) + 1));
-    strcpy(argv[0], LIB_NAME);
-
-    // PREPARE ARRAY ELEMENTS
-    if (stringArray) {
-        for (int i = 0; i < (argumentCount - 1); i++) {
-            tempArray[i] = (jstring) (*env)->GetObjectArrayElement(env, stringArray, i);
-            if (tempArray[i] != NULL) {
-                argv[i + 1] = (char *) (*env)->GetStringUTFChars(env, tempArray[i], 0);
-            }
-        }
+    char **argv = unpackArguments(env, packedArguments, argumentCount);
+    if (argv == NULL) {
+        return 1;
     }
 
     // REGISTER THE ID BEFORE STARTING THE SESSION
@@ -85,20 +64,12 @@ JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprob
     resetMessagesInTransmit(globalSessionId);
 
     // RUN
-    int returnCode = ffprobe_execute(argumentCount, argv);
+    int returnCode = ffprobe_execute(argumentCount + 1, argv);
 
     // ALWAYS REMOVE THE ID FROM THE MAP
     removeSession((long) id);
 
     // CLEANUP
-    if (tempArray) {
-        for (int i = 0; i < (argumentCount - 1); i++) {
-            (*env)->ReleaseStringUTFChars(env, tempArray[i], argv[i + 1]);
-        }
-
-        av_free(tempArray);
-    }
-    av_free(argv[0]);
     av_free(argv);
 
     return returnCode;
@@ -25,8 +25,8 @@
 /*
  * Class:     com_arthenica_ffmpegkit_FFmpegKitConfig
  * Method:    nativeFFprobeExecute
- * Signature: (J[Ljava/lang/String;)I
+ * Signature: (J[BI)I
  */
-JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprobeExecute(JNIEnv *, jclass, jlong, jobjectArray);
+JNIEXPORT jint JNICALL Java_com_arthenica_ffmpegkit_FFmpegKitConfig_nativeFFprobeExecute(JNIEnv *, jclass, jlong, jbyteArray, jint);
 
 #endif /* FFPROBE_KIT_H */
\ No newline at end of file
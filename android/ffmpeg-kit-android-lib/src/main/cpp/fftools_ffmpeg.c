@@ -32,6 +32,12 @@
  *
  * ffmpeg-kit changes by ARTHENICA LTD
  *
+ * 10.2024
+ * --------------------------------------------------------
+ * - trace_callback, set_trace_callback and ffmpeg_trace added to forward phase events
+ * - first packet and first encoded frame events traced once per execution
+ * - trailer written event traced after writing output trailers
+ *
  * 09.2023
  * --------------------------------------------------------
  * - forward_report method signature accepts pts to calculate the time
@@ -101,6 +107,7 @@
 #include <limits.h>
 #include <stdatomic.h>
 #include <stdint.h>
+#include <time.h>
 
 #include "ffmpegkit_exception.h"
 #include "fftools_opt_common.h"
@@ -223,6 +230,10 @@ __thread int first_report = 1;
 __thread int qp_histogram[52];
 
 void (*report_callback)(int, float, float, int64_t, double, double, double) = NULL;
+void (*trace_callback)(int, int64_t) = NULL;
+
+__thread int first_packet_traced = 0;
+__thread int first_encoded_frame_traced = 0;
 
 extern int opt_map(void *optctx, const char *opt, const char *arg);
 extern int opt_map_channel(void *optctx, const char *opt, const char *arg);
@@ -1093,6 +1104,11 @@ static int encode_frame(OutputFile *of, OutputStream *ost, AVFrame *frame)
             return ret;
         }
 
+        if (!first_encoded_frame_traced) {
+            first_encoded_frame_traced = 1;
+            ffmpeg_trace(FFMPEG_KIT_TRACE_FIRST_ENCODED_FRAME);
+        }
+
         if (enc->codec_type == AVMEDIA_TYPE_VIDEO)
             update_video_stats(ost, pkt, !!vstats_filename);
         if (ost->enc_stats_post.io)
@@ -4002,6 +4018,11 @@ static int process_input(int file_index)
 
     reset_eagain();
 
+    if (!first_packet_traced) {
+        first_packet_traced = 1;
+        ffmpeg_trace(FFMPEG_KIT_TRACE_FIRST_PACKET);
+    }
+
     ist = ifile->streams[pkt->stream_index];
 
     ist->data_size += pkt->size;
@@ -4199,7 +4220,7 @@ static int transcode_step(void)
  */
 static int transcode(void)
 {
-    int ret, i;
+    int ret, i, trailer_failed;
     InputStream *ist;
     int64_t timer_start;
     int64_t total_packets_written = 0;
@@ -4249,10 +4270,17 @@ static int transcode(void)
     term_exit();
 
     /* write the trailer if needed */
+    trailer_failed = 0;
     for (i = 0; i < nb_output_files; i++) {
         ret = of_write_trailer(output_files[i]);
-        if (ret < 0 && exit_on_error)
-            exit_program(1);
+        if (ret < 0) {
+            trailer_failed = 1;
+            if (exit_on_error)
+                exit_program(1);
+        }
+    }
+    if (!trailer_failed) {
+        ffmpeg_trace(FFMPEG_KIT_TRACE_TRAILER_WRITTEN);
     }
 
     /* dump report by using the first video and audio streams */
@@ -4362,6 +4390,8 @@ void ffmpeg_var_cleanup() {
     last_time = -1;
     keyboard_last_time = 0;
     first_report = 1;
+    first_packet_traced = 0;
+    first_encoded_frame_traced = 0;
     for(int i = 0; i < FF_ARRAY_ELEMS(qp_histogram); i++) {
         qp_histogram[i] = 0;
     }
@@ -4372,6 +4402,21 @@ void set_report_callback(void (*callback)(int, float, float, int64_t, double, do
     report_callback = callback;
 }
 
+void set_trace_callback(void (*callback)(int, int64_t))
+{
+    trace_callback = callback;
+}
+
+void ffmpeg_trace(int event)
+{
+    void (*callback)(int, int64_t) = trace_callback;
+    struct timespec now;
+
+    if (callback && clock_gettime(CLOCK_MONOTONIC, &now) == 0) {
+        callback(event, (int64_t)now.tv_sec * 1000000000LL + now.tv_nsec);
+    }
+}
+
 void cancel_operation(long id)
 {
     if (id == 0) {
@@ -25,6 +25,11 @@
  *
  * ffmpeg-kit changes by ARTHENICA LTD
  *
+ * 10.2024
+ * --------------------------------------------------------
+ * - FFMPEG_KIT_TRACE_* event identifiers defined
+ * - set_trace_callback() and ffmpeg_trace() methods declared
+ *
  * 07.2023
  * --------------------------------------------------------
  * - FFmpeg 6.0 changes migrated
@@ -906,7 +911,16 @@ extern const char * const opt_name_codec_tags[];
 extern const char * const opt_name_frame_rates[];
 extern const char * const opt_name_top_field_first[];
 
+/* phase events forwarded to the trace callback, timestamps are CLOCK_MONOTONIC nanoseconds */
+#define FFMPEG_KIT_TRACE_INPUTS_OPENED          0
+#define FFMPEG_KIT_TRACE_FILTERGRAPH_CONFIGURED 1
+#define FFMPEG_KIT_TRACE_FIRST_PACKET           2
+#define FFMPEG_KIT_TRACE_FIRST_ENCODED_FRAME    3
+#define FFMPEG_KIT_TRACE_TRAILER_WRITTEN        4
+
 void set_report_callback(void (*callback)(int, float, float, int64_t, double, double, double));
+void set_trace_callback(void (*callback)(int, int64_t));
+void ffmpeg_trace(int event);
 void cancel_operation(long id);
 
 #endif /* FFTOOLS_FFMPEG_H */
@@ -27,6 +27,10 @@
  *
  * ffmpeg-kit changes by ARTHENICA LTD
  *
+ * 10.2024
+ * --------------------------------------------------------
+ * - filtergraph configured event traced
+ *
  * 07.2023
  * --------------------------------------------------------
  * - FFmpeg 6.0 changes migrated
@@ -1289,6 +1293,8 @@ int configure_filtergraph(FilterGraph *fg)
         }
     }
 
+    ffmpeg_trace(FFMPEG_KIT_TRACE_FILTERGRAPH_CONFIGURED);
+
     return 0;
 
 fail:
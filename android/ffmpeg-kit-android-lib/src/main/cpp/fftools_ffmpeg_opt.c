@@ -27,6 +27,10 @@
  *
  * ffmpeg-kit changes by ARTHENICA LTD
  *
+ * 10.2024
+ * --------------------------------------------------------
+ * - inputs opened event traced
+ *
  * 07.2023
  * --------------------------------------------------------
  * - FFmpeg 6.0 changes migrated
@@ -1331,6 +1335,7 @@ int ffmpeg_parse_options(int argc, char **argv)
         av_log(NULL, AV_LOG_FATAL, "Error opening input files: ");
         goto fail;
     }
+    ffmpeg_trace(FFMPEG_KIT_TRACE_INPUTS_OPENED);
 
     /* create the complex filtergraphs */
     ret = init_complex_filters();
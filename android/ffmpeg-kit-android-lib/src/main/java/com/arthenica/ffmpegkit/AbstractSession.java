@@ -21,9 +21,11 @@ package com.arthenica.ffmpegkit;
 
 import com.arthenica.smartexception.java.Exceptions;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -108,6 +110,16 @@ public abstract class AbstractSession implements Session {
      */
     protected final LogRedirectionStrategy logRedirectionStrategy;
 
+    /**
+     * Performance metrics collected for this session.
+     */
+    protected final SessionMetrics metrics;
+
+    /**
+     * Runs callbacks of this session in {@link CallbackDispatchMode#SESSION_EXECUTOR} mode.
+     */
+    protected final SessionCallbackExecutor callbackExecutor;
+
     /**
      * Creates a new abstract session.
      *
@@ -124,13 +136,15 @@ public abstract class AbstractSession implements Session {
         this.startTime = null;
         this.endTime = null;
         this.arguments = arguments;
-        this.logs = new LinkedList<>();
+        this.logs = new ArrayList<>();
         this.logsLock = new Object();
         this.future = null;
         this.state = SessionState.CREATED;
         this.returnCode = null;
         this.failStackTrace = null;
         this.logRedirectionStrategy = logRedirectionStrategy;
+        this.metrics = new SessionMetrics();
+        this.callbackExecutor = new SessionCallbackExecutor(metrics);
 
         FFmpegKitConfig.addSession(this);
     }
@@ -211,6 +225,20 @@ public abstract class AbstractSession implements Session {
         }
     }
 
+    @Override
+    public List<Log> getLogsSince(final int index, final int max) {
+        synchronized (logsLock) {
+            return sublist(logs, index, max);
+        }
+    }
+
+    @Override
+    public int getLogCount() {
+        synchronized (logsLock) {
+            return logs.size();
+        }
+    }
+
     @Override
     public String getAllLogsAsString(final int waitTimeout) {
         waitForAsynchronousMessagesInTransmit(waitTimeout);
@@ -289,6 +317,21 @@ public abstract class AbstractSession implements Session {
         return future;
     }
 
+    @Override
+    public SessionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the executor that runs callbacks of this session in
+     * {@link CallbackDispatchMode#SESSION_EXECUTOR} mode.
+     *
+     * @return session callback executor
+     */
+    SessionCallbackExecutor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     @Override
     public void cancel() {
         if (state == SessionState.RUNNING) {
@@ -323,12 +366,32 @@ public abstract class AbstractSession implements Session {
         this.future = future;
     }
 
+    /**
+     * Blocks until the asynchronous execution of this session, including its complete
+     * callbacks, ends. Returns immediately if the session is not started asynchronously.
+     */
+    void waitForFuture() {
+        final Future<?> localFuture = future;
+        if (localFuture != null) {
+            try {
+                localFuture.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException e) {
+                android.util.Log.w(FFmpegKitConfig.TAG, String.format("Asynchronous execution of session %d failed.%s", sessionId, Exceptions.getStackTraceString(e.getCause())));
+            }
+        }
+    }
+
     /**
      * Starts running the session.
      */
     void startRunning() {
         this.state = SessionState.RUNNING;
         this.startTime = new Date();
+        this.metrics.markStarted();
+        FFmpegKitMetrics.sessionStarted(metrics);
+        FFmpegKitConfig.trace(sessionId, SessionTraceEvent.STARTED);
     }
 
     /**
@@ -340,6 +403,9 @@ public abstract class AbstractSession implements Session {
         this.returnCode = returnCode;
         this.state = SessionState.COMPLETED;
         this.endTime = new Date();
+        this.metrics.markEnded();
+        FFmpegKitMetrics.sessionEnded(metrics, false);
+        FFmpegKitConfig.trace(sessionId, SessionTraceEvent.COMPLETED);
     }
 
     /**
@@ -351,6 +417,25 @@ public abstract class AbstractSession implements Session {
         this.failStackTrace = Exceptions.getStackTraceString(exception);
         this.state = SessionState.FAILED;
         this.endTime = new Date();
+        this.metrics.markEnded();
+        FFmpegKitMetrics.sessionEnded(metrics, true);
+        FFmpegKitConfig.trace(sessionId, SessionTraceEvent.FAILED);
+    }
+
+    /**
+     * Copies up to max entries of the given list starting from the given index.
+     *
+     * @param list  source list, expected to support constant time random access
+     * @param index index of the first entry to copy
+     * @param max   maximum number of entries to copy, zero or a negative value copies all
+     * @param <T>   type of list entries
+     * @return copied entries
+     */
+    static <T> List<T> sublist(final List<T> list, final int index, final int max) {
+        final int size = list.size();
+        final int fromIndex = Math.min(Math.max(index, 0), size);
+        final int toIndex = (max > 0) ? (int) Math.min((long) fromIndex + max, size) : size;
+        return new ArrayList<>(list.subList(fromIndex, toIndex));
     }
 
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+import android.os.Build;
+import android.os.Trace;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Default {@link SessionTracer} that records sessions with {@link Trace}, so they can be
+ * inspected in perfetto or systrace captures.
+ *
+ * <p>Each session is shown as two asynchronous slices, <code>ffmpeg-kit queued</code> and
+ * <code>ffmpeg-kit session</code>. Synchronous sessions only have the second slice. Sessions
+ * cancelled before they start only have the first one. Every slice gets its own cookie, so
+ * slices of different sessions never share a cookie. Native phases are written to the single
+ * <code>ffmpeg-kit phase</code> counter track, whose value is the {@link SessionTraceEvent}
+ * ordinal of the last phase reported by any session. {@link SessionTraceEvent#FILTERGRAPH_CONFIGURED}
+ * is written again each time a filtergraph is reconfigured.
+ *
+ * <p>Requires API Level 29; events are ignored on older devices. While tracing is not active no
+ * new slices are started, but slices started earlier are still ended.
+ */
+public class AndroidSessionTracer implements SessionTracer {
+
+    static final String QUEUED_SECTION = "ffmpeg-kit queued";
+    static final String SESSION_SECTION = "ffmpeg-kit session";
+    static final String PHASE_COUNTER = "ffmpeg-kit phase";
+
+    private final AtomicInteger cookieGenerator;
+    private final Map<Long, Integer> queuedCookies;
+    private final Map<Long, Integer> sessionCookies;
+
+    AndroidSessionTracer() {
+        this.cookieGenerator = new AtomicInteger(1);
+        this.queuedCookies = new ConcurrentHashMap<>();
+        this.sessionCookies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a new tracer.
+     *
+     * @return new tracer instance
+     */
+    public static AndroidSessionTracer create() {
+        return new AndroidSessionTracer();
+    }
+
+    @Override
+    public void trace(final long sessionId, final SessionTraceEvent event, final long timestampNanos) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+            return;
+        }
+
+        // TRACING MAY BE TURNED ON OR OFF WHILE A SESSION RUNS, SO ONLY NEW SLICES DEPEND ON IT
+        final boolean enabled = Trace.isEnabled();
+
+        switch (event) {
+            case QUEUED: {
+                if (enabled) {
+                    final int cookie = cookieGenerator.getAndIncrement();
+                    queuedCookies.put(sessionId, cookie);
+                    Trace.beginAsyncSection(QUEUED_SECTION, cookie);
+                }
+            }
+            break;
+            case STARTED: {
+                endSection(QUEUED_SECTION, queuedCookies.remove(sessionId));
+                if (enabled) {
+                    final int cookie = cookieGenerator.getAndIncrement();
+                    sessionCookies.put(sessionId, cookie);
+                    Trace.beginAsyncSection(SESSION_SECTION, cookie);
+                }
+            }
+            break;
+            case COMPLETED:
+            case FAILED: {
+                endSection(QUEUED_SECTION, queuedCookies.remove(sessionId));
+                endSection(SESSION_SECTION, sessionCookies.remove(sessionId));
+            }
+            break;
+        }
+
+        if (enabled) {
+            Trace.setCounter(PHASE_COUNTER, event.ordinal());
+        }
+    }
+
+    private static void endSection(final String sectionName, final Integer cookie) {
+        if (cookie != null) {
+            Trace.endAsyncSection(sectionName, cookie);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.Locale;
+
+/**
+ * <p>Snapshot of the executor that runs asynchronous sessions.
+ *
+ * <p>Values are read without locking the executor, so they are approximate while sessions are
+ * being submitted or completed.
+ */
+public class AsyncExecutorStatistics {
+    private final int concurrencyLimit;
+    private final int activeCount;
+    private final int queuedCount;
+    private final long completedCount;
+
+    AsyncExecutorStatistics(final int concurrencyLimit, final int activeCount, final int queuedCount, final long completedCount) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.activeCount = activeCount;
+        this.queuedCount = queuedCount;
+        this.completedCount = completedCount;
+    }
+
+    /**
+     * Returns the maximum number of tasks executed in parallel.
+     *
+     * @return concurrency limit
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Returns the number of tasks running at the time of the snapshot.
+     *
+     * @return number of running tasks
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a free thread at the time of the snapshot.
+     *
+     * @return number of queued tasks
+     */
+    public int getQueuedCount() {
+        return queuedCount;
+    }
+
+    /**
+     * Returns the number of tasks completed since the library was loaded.
+     *
+     * @return number of completed tasks
+     */
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "AsyncExecutorStatistics{concurrencyLimit=%d, activeCount=%d, queuedCount=%d, completedCount=%d}", concurrencyLimit, activeCount, queuedCount, completedCount);
+    }
+
+}
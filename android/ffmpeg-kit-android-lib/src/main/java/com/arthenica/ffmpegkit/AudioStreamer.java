@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import android.content.Context;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>Decodes the audio of an input and streams it as raw PCM chunks to a {@link PcmCallback}.
+ *
+ * <p>Audio is decoded, resampled and converted in-process by <code>FFmpeg</code>, then streamed
+ * through a named pipe into a direct {@link ByteBuffer} reused for every chunk. Analysis can
+ * start as soon as the first chunk is decoded and no intermediate file is created.
+ * <pre>
+ * FFmpegSession session = AudioStreamer.streamAsync(context, "file1.mp4", 44100, 1, PcmFormat.S16LE, 4096, (position, pcm) -&gt; {
+ *     ShortBuffer samples = pcm.asShortBuffer();
+ *     ...
+ * }, completeCallback);
+ * </pre>
+ * <p>Streaming can be stopped by cancelling the session returned.
+ */
+public class AudioStreamer {
+
+    /**
+     * Executor used to read pipes of asynchronous streams. Readers are blocked most of the time
+     * so threads are created on demand.
+     */
+    private static final ExecutorService readerExecutorService = Executors.newCachedThreadPool();
+
+    static {
+        AbiDetect.class.getName();
+        FFmpegKitConfig.class.getName();
+    }
+
+    /**
+     * Default constructor hidden.
+     */
+    private AudioStreamer() {
+    }
+
+    /**
+     * <p>Synchronously streams the audio of the input given. This method returns after the last
+     * chunk is delivered.
+     *
+     * @param context          application context
+     * @param input            input path, SAF parameter or url
+     * @param sampleRate       sample rate of streamed audio
+     * @param channels         number of channels of streamed audio
+     * @param format           sample format of streamed audio
+     * @param samplesPerChunk  number of sample frames delivered in each chunk
+     * @param pcmCallback      callback that will receive PCM chunks
+     * @return FFmpeg session created for this stream or null if the pipe used to transfer audio
+     * can not be created
+     */
+    public static FFmpegSession stream(final Context context,
+                                       final String input,
+                                       final int sampleRate,
+                                       final int channels,
+                                       final PcmFormat format,
+                                       final int samplesPerChunk,
+                                       final PcmCallback pcmCallback) {
+        validateArguments(sampleRate, channels, format, samplesPerChunk);
+        final int bytesPerFrame = channels * format.getBytesPerSample();
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(bytesPerFrame * samplesPerChunk).order(ByteOrder.LITTLE_ENDIAN);
+
+        final String pipePath = FFmpegKitConfig.registerNewFFmpegPipe(context);
+        if (pipePath == null) {
+            return null;
+        }
+
+        final FFmpegPipeReleaser pipeReleaser = new FFmpegPipeReleaser(pipePath);
+        final FFmpegSession session = FFmpegSession.create(buildArguments(input, sampleRate, channels, format, pipePath), pipeReleaser, null, null, LogRedirectionStrategy.NEVER_PRINT_LOGS);
+        FFmpegKitConfig.asyncFFmpegExecute(session);
+
+        readPipe(session, pipePath, pipeReleaser, chunk, bytesPerFrame, pcmCallback);
+
+        return session;
+    }
+
+    /**
+     * <p>Starts streaming the audio of the input given asynchronously.
+     *
+     * <p>Note that this method returns immediately. Chunks are delivered on a background thread
+     * and complete callback is called after the last chunk is delivered.
+     *
+     * @param context          application context
+     * @param input            input path, SAF parameter or url
+     * @param sampleRate       sample rate of streamed audio
+     * @param channels         number of channels of streamed audio
+     * @param format           sample format of streamed audio
+     * @param samplesPerChunk  number of sample frames delivered in each chunk
+     * @param pcmCallback      callback that will receive PCM chunks
+     * @param completeCallback callback that will be called when streaming has completed
+     * @return FFmpeg session created for this stream or null if the pipe used to transfer audio
+     * can not be created
+     */
+    public static FFmpegSession streamAsync(final Context context,
+                                            final String input,
+                                            final int sampleRate,
+                                            final int channels,
+                                            final PcmFormat format,
+                                            final int samplesPerChunk,
+                                            final PcmCallback pcmCallback,
+                                            final FFmpegSessionCompleteCallback completeCallback) {
+        validateArguments(sampleRate, channels, format, samplesPerChunk);
+        final int bytesPerFrame = channels * format.getBytesPerSample();
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(bytesPerFrame * samplesPerChunk).order(ByteOrder.LITTLE_ENDIAN);
+
+        final String pipePath = FFmpegKitConfig.registerNewFFmpegPipe(context);
+        if (pipePath == null) {
+            return null;
+        }
+
+        final FFmpegPipeReleaser pipeReleaser = new FFmpegPipeReleaser(pipePath);
+        final FFmpegSession session = FFmpegSession.create(buildArguments(input, sampleRate, channels, format, pipePath), pipeReleaser, null, null, LogRedirectionStrategy.NEVER_PRINT_LOGS);
+        FFmpegKitConfig.asyncFFmpegExecute(session);
+
+        readerExecutorService.submit(() -> {
+            readPipe(session, pipePath, pipeReleaser, chunk, bytesPerFrame, pcmCallback);
+
+            if (completeCallback != null) {
+                try {
+                    completeCallback.apply(session);
+                } catch (final Exception e) {
+                    android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session complete callback.%s", Exceptions.getStackTraceString(e)));
+                }
+            }
+        });
+
+        return session;
+    }
+
+    private static void validateArguments(final int sampleRate, final int channels, final PcmFormat format, final int samplesPerChunk) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid sample rate %d.", sampleRate));
+        }
+        if (channels <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid number of channels %d.", channels));
+        }
+        if (samplesPerChunk <= 0 || (long) channels * format.getBytesPerSample() * samplesPerChunk > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Invalid number of samples per chunk %d.", samplesPerChunk));
+        }
+    }
+
+    static String[] buildArguments(final String input, final int sampleRate, final int channels, final PcmFormat format, final String output) {
+        return new String[]{
+                "-i", input,
+                "-vn", "-sn", "-dn",
+                "-ac", String.valueOf(channels),
+                "-ar", String.valueOf(sampleRate),
+                "-f", format.getMuxer(),
+                "-y", output};
+    }
+
+    private static void readPipe(final FFmpegSession session,
+                                 final String pipePath,
+                                 final FFmpegPipeReleaser pipeReleaser,
+                                 final ByteBuffer chunk,
+                                 final int bytesPerFrame,
+                                 final PcmCallback pcmCallback) {
+        long position = 0;
+
+        FileInputStream inputStream = null;
+        try {
+            inputStream = new FileInputStream(pipePath);
+            final FileChannel channel = inputStream.getChannel();
+            boolean endOfStream = false;
+
+            while (!endOfStream) {
+                chunk.clear();
+                while (chunk.hasRemaining()) {
+                    if (channel.read(chunk) < 0) {
+                        endOfStream = true;
+                        break;
+                    }
+                }
+
+                // A TRUNCATED STREAM MAY END WITH A PARTIAL SAMPLE FRAME, DROP IT
+                chunk.limit(chunk.position() - (chunk.position() % bytesPerFrame));
+                chunk.position(0);
+
+                if (chunk.hasRemaining()) {
+                    try {
+                        pcmCallback.apply(position, chunk);
+                    } catch (final Exception e) {
+                        android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside pcm callback.%s", Exceptions.getStackTraceString(e)));
+                    }
+                    position += chunk.limit() / bytesPerFrame;
+                }
+            }
+        } catch (final IOException e) {
+            android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to read audio stream of session %d.%s", session.getSessionId(), Exceptions.getStackTraceString(e)));
+        } finally {
+            pipeReleaser.closeReader(inputStream);
+        }
+
+        session.waitForFuture();
+        FFmpegKitConfig.closeFFmpegPipe(pipePath);
+    }
+
+}
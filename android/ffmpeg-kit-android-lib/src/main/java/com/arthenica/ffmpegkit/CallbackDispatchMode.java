@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Defines the thread that runs log and statistics callbacks.
+ */
+public enum CallbackDispatchMode {
+
+    /**
+     * Callbacks run on the native callback thread that delivers messages of the session. A slow
+     * callback delays messages of every session sharing that thread.
+     */
+    NATIVE_THREAD,
+
+    /**
+     * Callbacks of each session run on a serial executor owned by the session. Messages of a
+     * session are delivered in order, while a slow callback only delays its own session.
+     */
+    SESSION_EXECUTOR
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Defines what happens when a session's callback backlog is full in
+ * {@link CallbackDispatchMode#SESSION_EXECUTOR} mode.
+ */
+public enum CallbackOverflowPolicy {
+
+    /**
+     * Native callback thread waits until the session's backlog has room.
+     */
+    BLOCK,
+
+    /**
+     * Oldest pending callback of the session is dropped to make room.
+     */
+    DROP_OLDEST,
+
+    /**
+     * New callback is dropped.
+     */
+    DROP_NEWEST
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>A command parsed once and reused to create arguments of many executions.
+ *
+ * <p>Placeholders are defined using <code>${name}</code> syntax. Names may contain letters,
+ * digits and underscores. A placeholder can form a whole argument or only a part of it.
+ * <pre>
+ * CommandTemplate template = CommandTemplate.create("-i ${input} -c:v mpeg4 -b:v ${bitrate} ${output}");
+ *
+ * Map&lt;String, String&gt; values = new HashMap&lt;&gt;();
+ * values.put("input", "file one.mp4");
+ * values.put("bitrate", "1M");
+ * values.put("output", "file one.avi");
+ *
+ * FFmpegSession session = FFmpegKit.executeWithArgumentsAsync(template.toArguments(values), completeCallback);
+ * </pre>
+ * <p>Values are substituted after the command is split into arguments, so they are never split
+ * or unquoted and do not need to be quoted when they contain spaces.
+ *
+ * <p>Templates are immutable and can be shared between threads.
+ */
+public class CommandTemplate {
+
+    private final String command;
+
+    /**
+     * Literal value of each argument, null for arguments that contain placeholders.
+     */
+    private final String[] literals;
+
+    /**
+     * Segments of each argument that contains placeholders, null for literal arguments. Even
+     * indexes hold literal text, odd indexes hold placeholder names.
+     */
+    private final String[][] segments;
+
+    private final List<String> placeholders;
+
+    private CommandTemplate(final String command, final String[] arguments) {
+        final Set<String> placeholderSet = new LinkedHashSet<>();
+
+        this.command = command;
+        this.literals = new String[arguments.length];
+        this.segments = new String[arguments.length][];
+
+        for (int i = 0; i < arguments.length; i++) {
+            final String[] argumentSegments = split(arguments[i]);
+            if (argumentSegments == null) {
+                literals[i] = arguments[i];
+            } else {
+                segments[i] = argumentSegments;
+                for (int j = 1; j < argumentSegments.length; j += 2) {
+                    placeholderSet.add(argumentSegments[j]);
+                }
+            }
+        }
+
+        this.placeholders = Collections.unmodifiableList(new ArrayList<>(placeholderSet));
+    }
+
+    /**
+     * <p>Creates a new template by parsing the command given. Command is split into arguments
+     * using {@link FFmpegKitConfig#parseArguments(String)}.
+     *
+     * @param command command with placeholders
+     * @return created template
+     * @throws IllegalArgumentException if the command contains a malformed placeholder
+     */
+    public static CommandTemplate create(final String command) {
+        return new CommandTemplate(command, FFmpegKitConfig.parseArguments(command));
+    }
+
+    /**
+     * <p>Creates a new template from arguments that are already split.
+     *
+     * @param arguments command arguments with placeholders
+     * @return created template
+     * @throws IllegalArgumentException if an argument contains a malformed placeholder
+     */
+    public static CommandTemplate create(final String[] arguments) {
+        return new CommandTemplate(FFmpegKitConfig.argumentsToString(arguments), arguments.clone());
+    }
+
+    /**
+     * Returns the command this template is created from.
+     *
+     * @return template command
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns names of the placeholders defined in this template, in order of first appearance.
+     *
+     * @return placeholder names
+     */
+    public List<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * <p>Creates command arguments by replacing placeholders with the values given. Arguments
+     * without placeholders are shared between all calls.
+     *
+     * @param values placeholder values, keyed by placeholder name
+     * @return command arguments
+     * @throws IllegalArgumentException if a value is not provided for a placeholder
+     */
+    public String[] toArguments(final Map<String, String> values) {
+        final String[] arguments = new String[literals.length];
+
+        for (int i = 0; i < literals.length; i++) {
+            if (literals[i] != null) {
+                arguments[i] = literals[i];
+            } else {
+                final String[] argumentSegments = segments[i];
+                final StringBuilder argument = new StringBuilder();
+                for (int j = 0; j < argumentSegments.length; j++) {
+                    if (j % 2 == 0) {
+                        argument.append(argumentSegments[j]);
+                    } else {
+                        final String value = values.get(argumentSegments[j]);
+                        if (value == null) {
+                            throw new IllegalArgumentException(String.format("No value provided for placeholder %s.", argumentSegments[j]));
+                        }
+                        argument.append(value);
+                    }
+                }
+                arguments[i] = argument.toString();
+            }
+        }
+
+        return arguments;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandTemplate{" +
+                "command=" + command +
+                ", placeholders=" + placeholders +
+                '}';
+    }
+
+    /**
+     * Splits an argument into literal and placeholder segments.
+     *
+     * @param argument argument
+     * @return segments or null if the argument does not contain placeholders
+     */
+    static String[] split(final String argument) {
+        int placeholderStart = argument.indexOf("${");
+        if (placeholderStart < 0) {
+            return null;
+        }
+
+        final List<String> segmentList = new ArrayList<>();
+        int literalStart = 0;
+
+        while (placeholderStart >= 0) {
+            final int placeholderEnd = argument.indexOf('}', placeholderStart + 2);
+            if (placeholderEnd < 0) {
+                throw new IllegalArgumentException(String.format("Placeholder is not closed in argument %s.", argument));
+            }
+
+            final String name = argument.substring(placeholderStart + 2, placeholderEnd);
+            if (!isValidName(name)) {
+                throw new IllegalArgumentException(String.format("Invalid placeholder name \"%s\" in argument %s.", name, argument));
+            }
+
+            segmentList.add(argument.substring(literalStart, placeholderStart));
+            segmentList.add(name);
+
+            literalStart = placeholderEnd + 1;
+            placeholderStart = argument.indexOf("${", literalStart);
+        }
+
+        segmentList.add(argument.substring(literalStart));
+
+        return segmentList.toArray(new String[0]);
+    }
+
+    private static boolean isValidName(final String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (!(c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
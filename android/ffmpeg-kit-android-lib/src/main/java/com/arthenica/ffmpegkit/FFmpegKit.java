@@ -259,6 +259,102 @@ public class FFmpegKit {
         return session;
     }
 
+    /**
+     * <p>Synchronously executes a single FFmpeg command that reads the inputs given once and
+     * writes all outputs provided. Inputs are decoded only once, no matter how many outputs are
+     * produced.
+     *
+     * @param inputArguments      input options and inputs
+     * @param outputArgumentsList options and path of each output
+     * @return FFmpeg session created for this execution
+     */
+    public static FFmpegSession executeWithSharedInput(final String[] inputArguments,
+                                                       final List<String[]> outputArgumentsList) {
+        return executeWithArguments(SessionGroup.buildMultiOutputArguments(inputArguments, outputArgumentsList));
+    }
+
+    /**
+     * <p>Starts an asynchronous FFmpeg execution of a single command that reads the inputs given
+     * once and writes all outputs provided. Inputs are decoded only once, no matter how many
+     * outputs are produced.
+     *
+     * <p>Note that this method returns immediately and does not wait the execution to complete.
+     * You must use an {@link FFmpegSessionCompleteCallback} if you want to be notified about the
+     * result.
+     *
+     * @param inputArguments      input options and inputs
+     * @param outputArgumentsList options and path of each output
+     * @param completeCallback    callback that will be called when the execution has completed
+     * @return FFmpeg session created for this execution
+     */
+    public static FFmpegSession executeWithSharedInputAsync(final String[] inputArguments,
+                                                            final List<String[]> outputArgumentsList,
+                                                            final FFmpegSessionCompleteCallback completeCallback) {
+        return executeWithArgumentsAsync(SessionGroup.buildMultiOutputArguments(inputArguments, outputArgumentsList), completeCallback);
+    }
+
+    /**
+     * <p>Starts asynchronous FFmpeg executions for each of the argument arrays provided and
+     * groups them under a single {@link SessionGroup}.
+     *
+     * <p>Note that this method returns immediately and does not wait the executions to complete.
+     * You must use a {@link SessionGroupCompleteCallback} if you want to be notified when all
+     * sessions end.
+     *
+     * @param argumentsList    FFmpeg command options/arguments of each session
+     * @param completeCallback callback that will be called when all sessions end
+     * @return session group created for these executions
+     */
+    public static SessionGroup executeBatchAsync(final List<String[]> argumentsList,
+                                                 final SessionGroupCompleteCallback completeCallback) {
+        return SessionGroup.executeAsync(argumentsList, completeCallback, null, null, null);
+    }
+
+    /**
+     * <p>Starts asynchronous FFmpeg executions for each of the argument arrays provided and
+     * groups them under a single {@link SessionGroup}.
+     *
+     * <p>Note that this method returns immediately and does not wait the executions to complete.
+     * You must use a {@link SessionGroupCompleteCallback} if you want to be notified when all
+     * sessions end.
+     *
+     * @param argumentsList      FFmpeg command options/arguments of each session
+     * @param completeCallback   callback that will be called when all sessions end
+     * @param logCallback        callback that will receive logs of all sessions
+     * @param statisticsCallback callback that will receive statistics of all sessions
+     * @return session group created for these executions
+     */
+    public static SessionGroup executeBatchAsync(final List<String[]> argumentsList,
+                                                 final SessionGroupCompleteCallback completeCallback,
+                                                 final LogCallback logCallback,
+                                                 final StatisticsCallback statisticsCallback) {
+        return SessionGroup.executeAsync(argumentsList, completeCallback, logCallback, statisticsCallback, null);
+    }
+
+    /**
+     * <p>Starts asynchronous FFmpeg executions for each of the argument arrays provided and
+     * groups them under a single {@link SessionGroup}.
+     *
+     * <p>Note that this method returns immediately and does not wait the executions to complete.
+     * You must use a {@link SessionGroupCompleteCallback} if you want to be notified when all
+     * sessions end.
+     *
+     * @param argumentsList      FFmpeg command options/arguments of each session
+     * @param completeCallback   callback that will be called when all sessions end
+     * @param logCallback        callback that will receive logs of all sessions
+     * @param statisticsCallback callback that will receive statistics of all sessions
+     * @param executorService    executor service that will be used to run these asynchronous
+     *                           operations
+     * @return session group created for these executions
+     */
+    public static SessionGroup executeBatchAsync(final List<String[]> argumentsList,
+                                                 final SessionGroupCompleteCallback completeCallback,
+                                                 final LogCallback logCallback,
+                                                 final StatisticsCallback statisticsCallback,
+                                                 final ExecutorService executorService) {
+        return SessionGroup.executeAsync(argumentsList, completeCallback, logCallback, statisticsCallback, executorService);
+    }
+
     /**
      * <p>Cancels all running sessions.
      *
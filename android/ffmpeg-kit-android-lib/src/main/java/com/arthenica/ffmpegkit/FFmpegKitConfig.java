@@ -34,18 +34,28 @@ import com.arthenica.smartexception.java.Exceptions;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -103,11 +113,21 @@ public class FFmpegKitConfig {
      */
     static final String FFMPEG_KIT_NAMED_PIPE_PREFIX = "fk_pipe_";
 
+    /**
+     * Maximum number of native callback threads.
+     */
+    public static final int MAX_CALLBACK_THREAD_COUNT = 16;
+
     /**
      * Generates ids for named ffmpeg kit pipes and saf protocol urls.
      */
     private static final AtomicInteger uniqueIdGenerator;
 
+    /**
+     * Paths of pipes registered by this process and not closed yet.
+     */
+    private static final Set<String> registeredFFmpegPipes;
+
     private static Level activeLogLevel;
 
     /* Session history variables */
@@ -117,17 +137,35 @@ public class FFmpegKitConfig {
     private static final Object sessionHistoryLock;
 
     private static int asyncConcurrencyLimit;
-    private static ExecutorService asyncExecutorService;
+    private static final ThreadPoolExecutor asyncExecutorService;
+    private static final ExecutorService sharedAsyncExecutorService;
+
+    /* Callback dispatch variables */
+    private static volatile CallbackDispatchMode callbackDispatchMode;
+    private static volatile int callbackBacklogLimit;
+    private static volatile CallbackOverflowPolicy callbackOverflowPolicy;
+    private static final ExecutorService callbackExecutorService;
+    private static int callbackThreadCount;
 
     /* Global callbacks */
     private static LogCallback globalLogCallback;
     private static StatisticsCallback globalStatisticsCallback;
+    private static LogViewCallback globalLogViewCallback;
+    private static StatisticsViewCallback globalStatisticsViewCallback;
+    private static final ThreadLocal<LogView> logViews;
+    private static final ThreadLocal<StatisticsView> statisticsViews;
     private static FFmpegSessionCompleteCallback globalFFmpegSessionCompleteCallback;
     private static FFprobeSessionCompleteCallback globalFFprobeSessionCompleteCallback;
     private static MediaInformationSessionCompleteCallback globalMediaInformationSessionCompleteCallback;
     private static final SparseArray<SAFProtocolUrl> safIdMap;
     private static final SparseArray<SAFProtocolUrl> safFileDescriptorMap;
     private static LogRedirectionStrategy globalLogRedirectionStrategy;
+    private static volatile SessionTracer sessionTracer;
+
+    /* Session snapshot variables */
+    private static final Object sessionSnapshotLock;
+    private static ScheduledExecutorService sessionSnapshotExecutorService;
+    private static ScheduledFuture<?> sessionSnapshotFuture;
 
     static {
 
@@ -145,12 +183,22 @@ public class FFmpegKitConfig {
         NativeLoader.loadFFmpegKit(nativeFFmpegTriedAndFailed);
 
         uniqueIdGenerator = new AtomicInteger(1);
+        registeredFFmpegPipes = ConcurrentHashMap.newKeySet();
 
         /* NATIVE LOG LEVEL IS RECEIVED ONLY ON STARTUP */
         activeLogLevel = Level.from(NativeLoader.loadLogLevel());
 
         asyncConcurrencyLimit = 10;
-        asyncExecutorService = Executors.newFixedThreadPool(asyncConcurrencyLimit);
+        asyncExecutorService = new ThreadPoolExecutor(asyncConcurrencyLimit, asyncConcurrencyLimit, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        sharedAsyncExecutorService = new SharedExecutorService(asyncExecutorService);
+
+        callbackDispatchMode = CallbackDispatchMode.NATIVE_THREAD;
+        callbackBacklogLimit = 1000;
+        callbackOverflowPolicy = CallbackOverflowPolicy.BLOCK;
+        callbackExecutorService = Executors.newCachedThreadPool();
+        callbackThreadCount = 1;
+
+        sessionSnapshotLock = new Object();
 
         sessionHistorySize = 10;
         sessionHistoryMap = new LinkedHashMap<Long, Session>() {
@@ -165,6 +213,10 @@ public class FFmpegKitConfig {
 
         globalLogCallback = null;
         globalStatisticsCallback = null;
+        globalLogViewCallback = null;
+        globalStatisticsViewCallback = null;
+        logViews = ThreadLocal.withInitial(LogView::new);
+        statisticsViews = ThreadLocal.withInitial(StatisticsView::new);
         globalFFmpegSessionCompleteCallback = null;
         globalFFprobeSessionCompleteCallback = null;
         globalMediaInformationSessionCompleteCallback = null;
@@ -172,6 +224,7 @@ public class FFmpegKitConfig {
         safIdMap = new SparseArray<>();
         safFileDescriptorMap = new SparseArray<>();
         globalLogRedirectionStrategy = LogRedirectionStrategy.PRINT_LOGS_WHEN_NO_CALLBACKS_DEFINED;
+        sessionTracer = AndroidSessionTracer.create();
 
         android.util.Log.i(FFmpegKitConfig.TAG, String.format("Loaded ffmpeg-kit-%s-%s-%s-%s.", NativeLoader.loadPackageName(), NativeLoader.loadAbi(), NativeLoader.loadVersion(), NativeLoader.loadBuildDate()));
     }
@@ -217,73 +270,66 @@ public class FFmpegKitConfig {
      */
     private static void log(final long sessionId, final int levelValue, final byte[] logMessage) {
         final Level level = Level.from(levelValue);
-        final String text = new String(logMessage);
-        final Log log = new Log(sessionId, level, text);
         boolean globalCallbackDefined = false;
         boolean sessionCallbackDefined = false;
         LogRedirectionStrategy activeLogRedirectionStrategy = globalLogRedirectionStrategy;
 
         // AV_LOG_STDERR logs are always redirected
         if ((activeLogLevel == Level.AV_LOG_QUIET && levelValue != Level.AV_LOG_STDERR.getValue()) || levelValue > activeLogLevel.getValue()) {
-            // LOG NEITHER PRINTED NOR FORWARDED
+            // LOG NEITHER PRINTED NOR FORWARDED, FILTERING IS NOT A LOSS SO IT IS NOT COUNTED AS DROPPED
+            FFmpegKitMetrics.logFiltered();
             return;
         }
 
+        final long receiveTime = System.nanoTime();
         final Session session = getSession(sessionId);
         if (session != null) {
             activeLogRedirectionStrategy = session.getLogRedirectionStrategy();
-            session.addLog(log);
-
-            if (session.getLogCallback() != null) {
-                sessionCallbackDefined = true;
-
-                try {
-                    // NOTIFY SESSION CALLBACK DEFINED
-                    session.getLogCallback().apply(log);
-                } catch (final Exception e) {
-                    android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session log callback.%s", Exceptions.getStackTraceString(e)));
-                }
-            }
+            sessionCallbackDefined = (session.getLogCallback() != null);
         }
+        final boolean logCallbackDefined = (FFmpegKitConfig.globalLogCallback != null);
+        final LogViewCallback globalLogViewCallbackFunction = FFmpegKitConfig.globalLogViewCallback;
+        globalCallbackDefined = logCallbackDefined || (globalLogViewCallbackFunction != null);
 
-        final LogCallback globalLogCallbackFunction = FFmpegKitConfig.globalLogCallback;
-        if (globalLogCallbackFunction != null) {
-            globalCallbackDefined = true;
+        LogView logView = null;
+        if (globalLogViewCallbackFunction != null) {
+            logView = logViews.get();
+            logView.set(sessionId, level, logMessage);
 
             try {
-                // NOTIFY GLOBAL CALLBACK DEFINED
-                globalLogCallbackFunction.apply(log);
+                // NOTIFY GLOBAL VIEW CALLBACK DEFINED
+                globalLogViewCallbackFunction.apply(logView);
             } catch (final Exception e) {
-                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside global log callback.%s", Exceptions.getStackTraceString(e)));
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside global log view callback.%s", Exceptions.getStackTraceString(e)));
             }
         }
 
-        // EXECUTE THE LOG STRATEGY
-        switch (activeLogRedirectionStrategy) {
-            case NEVER_PRINT_LOGS: {
-                return;
-            }
-            case PRINT_LOGS_WHEN_GLOBAL_CALLBACK_NOT_DEFINED: {
-                if (globalCallbackDefined) {
-                    return;
-                }
-            }
-            break;
-            case PRINT_LOGS_WHEN_SESSION_CALLBACK_NOT_DEFINED: {
-                if (sessionCallbackDefined) {
-                    return;
-                }
-            }
-            break;
-            case PRINT_LOGS_WHEN_NO_CALLBACKS_DEFINED: {
-                if (globalCallbackDefined || sessionCallbackDefined) {
-                    return;
-                }
-            }
-            break;
-            case ALWAYS_PRINT_LOGS: {
+        final boolean printLog = isLogPrinted(activeLogRedirectionStrategy, globalCallbackDefined, sessionCallbackDefined);
+        if (session == null && !logCallbackDefined && !printLog) {
+
+            // LOG IS NOT RETAINED, SO AN IMMUTABLE COPY IS NOT CREATED
+            FFmpegKitMetrics.messageReceived(logMessage.length, System.nanoTime() - receiveTime);
+            return;
+        }
+
+        final String text = (logView != null) ? logView.getMessage().toString() : new String(logMessage, StandardCharsets.UTF_8);
+        final Log log = new Log(sessionId, level, text);
+        if (session != null) {
+            session.addLog(log);
+        }
+
+        final SessionCallbackExecutor sessionCallbackExecutor = getSessionCallbackExecutor(session, sessionCallbackDefined || logCallbackDefined);
+        if (sessionCallbackExecutor != null) {
+            sessionCallbackExecutor.execute(() -> notifyLogCallbacks(session, log, logMessage.length, System.nanoTime()));
+        } else {
+            notifyLogCallbacks(session, log, logMessage.length, receiveTime);
+            if (session != null) {
+                session.getMetrics().recordCallbackLatency(System.nanoTime() - receiveTime);
             }
-            break;
+        }
+
+        if (!printLog) {
+            return;
         }
 
         // PRINT LOGS
@@ -335,17 +381,152 @@ public class FFmpegKitConfig {
     private static void statistics(final long sessionId, final int videoFrameNumber,
                                    final float videoFps, final float videoQuality, final long size,
                                    final double time, final double bitrate, final double speed) {
-        final Statistics statistics = new Statistics(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed);
+        final long receiveTime = System.nanoTime();
+        boolean callbackDefined = (FFmpegKitConfig.globalStatisticsCallback != null);
+
+        final StatisticsViewCallback globalStatisticsViewCallbackFunction = FFmpegKitConfig.globalStatisticsViewCallback;
+        if (globalStatisticsViewCallbackFunction != null) {
+            final StatisticsView statisticsView = statisticsViews.get();
+            statisticsView.set(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed);
+
+            try {
+                // NOTIFY GLOBAL VIEW CALLBACK IF DEFINED
+                globalStatisticsViewCallbackFunction.apply(statisticsView);
+            } catch (final Exception e) {
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside global statistics view callback.%s", Exceptions.getStackTraceString(e)));
+            }
+        }
 
         final Session session = getSession(sessionId);
-        if (session != null && session.isFFmpeg()) {
-            FFmpegSession ffmpegSession = (FFmpegSession) session;
+        final FFmpegSession ffmpegSession = (session != null && session.isFFmpeg()) ? (FFmpegSession) session : null;
+        if (ffmpegSession != null) {
+            callbackDefined |= (ffmpegSession.getStatisticsCallback() != null);
+        } else if (!callbackDefined) {
+
+            // STATISTICS ARE NOT RETAINED, SO AN IMMUTABLE COPY IS NOT CREATED
+            FFmpegKitMetrics.messageReceived(0, System.nanoTime() - receiveTime);
+            if (session != null) {
+                session.getMetrics().recordStatistics(speed, 0, receiveTime);
+            }
+            return;
+        }
+
+        // PROGRESS IS ESTIMATED BEFORE THE ENTRY IS STORED OR DELIVERED
+        final Statistics receivedStatistics = new Statistics(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed);
+        final Statistics statistics = (ffmpegSession != null) ? ffmpegSession.getProgressEstimator().update(receivedStatistics) : receivedStatistics;
+        if (ffmpegSession != null) {
             ffmpegSession.addStatistics(statistics);
+        }
+
+        final SessionCallbackExecutor sessionCallbackExecutor = getSessionCallbackExecutor(session, callbackDefined);
+        if (sessionCallbackExecutor != null) {
+            sessionCallbackExecutor.execute(() -> notifyStatisticsCallbacks(session, statistics, receiveTime, System.nanoTime()));
+        } else {
+            notifyStatisticsCallbacks(session, statistics, receiveTime, receiveTime);
+            if (session != null) {
+                session.getMetrics().recordCallbackLatency(System.nanoTime() - receiveTime);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a log should be printed to Logcat by the given log redirection strategy.
+     *
+     * @param logRedirectionStrategy active log redirection strategy
+     * @param globalCallbackDefined  whether a global log callback is defined
+     * @param sessionCallbackDefined whether a session log callback is defined
+     * @return true if the log should be printed, false otherwise
+     */
+    private static boolean isLogPrinted(final LogRedirectionStrategy logRedirectionStrategy, final boolean globalCallbackDefined, final boolean sessionCallbackDefined) {
+        switch (logRedirectionStrategy) {
+            case NEVER_PRINT_LOGS: {
+                return false;
+            }
+            case PRINT_LOGS_WHEN_GLOBAL_CALLBACK_NOT_DEFINED: {
+                return !globalCallbackDefined;
+            }
+            case PRINT_LOGS_WHEN_SESSION_CALLBACK_NOT_DEFINED: {
+                return !sessionCallbackDefined;
+            }
+            case PRINT_LOGS_WHEN_NO_CALLBACKS_DEFINED: {
+                return !globalCallbackDefined && !sessionCallbackDefined;
+            }
+            case ALWAYS_PRINT_LOGS:
+            default: {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the executor that should run the callbacks of the given session.
+     *
+     * @param session         session that generated the message
+     * @param callbackDefined whether any callback is defined for the message
+     * @return session callback executor or null if callbacks should run on the current thread
+     */
+    private static SessionCallbackExecutor getSessionCallbackExecutor(final Session session, final boolean callbackDefined) {
+        if (callbackDefined && callbackDispatchMode == CallbackDispatchMode.SESSION_EXECUTOR && session instanceof AbstractSession) {
+            return ((AbstractSession) session).getCallbackExecutor();
+        }
+
+        return null;
+    }
+
+    /**
+     * Notifies session and global log callbacks.
+     *
+     * @param session       session that generated the log, null if the log does not belong to a
+     *                      session
+     * @param log           log entry
+     * @param size          size of the native log message
+     * @param callbackStart time callback execution started
+     */
+    private static void notifyLogCallbacks(final Session session, final Log log, final int size, final long callbackStart) {
+        if (session != null) {
+            final LogCallback sessionLogCallback = session.getLogCallback();
+            if (sessionLogCallback != null) {
+                try {
+                    // NOTIFY SESSION CALLBACK DEFINED
+                    sessionLogCallback.apply(log);
+                } catch (final Exception e) {
+                    android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session log callback.%s", Exceptions.getStackTraceString(e)));
+                }
+            }
+        }
+
+        final LogCallback globalLogCallbackFunction = FFmpegKitConfig.globalLogCallback;
+        if (globalLogCallbackFunction != null) {
+            try {
+                // NOTIFY GLOBAL CALLBACK DEFINED
+                globalLogCallbackFunction.apply(log);
+            } catch (final Exception e) {
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside global log callback.%s", Exceptions.getStackTraceString(e)));
+            }
+        }
+
+        final long callbackTime = System.nanoTime() - callbackStart;
+        FFmpegKitMetrics.messageReceived(size, callbackTime);
+        if (session != null) {
+            session.getMetrics().recordLog(size, callbackTime);
+        }
+    }
 
-            if (ffmpegSession.getStatisticsCallback() != null) {
+    /**
+     * Notifies session and global statistics callbacks.
+     *
+     * @param session       session that generated the statistics, null if the session is not found
+     * @param statistics    statistics entry
+     * @param receiveTime   time statistics entry was received from the native library
+     * @param callbackStart time callback execution started
+     */
+    private static void notifyStatisticsCallbacks(final Session session, final Statistics statistics, final long receiveTime, final long callbackStart) {
+        if (session != null && session.isFFmpeg()) {
+            final StatisticsCallback sessionStatisticsCallback = ((FFmpegSession) session).getStatisticsCallback();
+            if (sessionStatisticsCallback != null) {
                 try {
                     // NOTIFY SESSION CALLBACK IF DEFINED
-                    ffmpegSession.getStatisticsCallback().apply(statistics);
+                    sessionStatisticsCallback.apply(statistics);
                 } catch (final Exception e) {
                     android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session statistics callback.%s", Exceptions.getStackTraceString(e)));
                 }
@@ -361,6 +542,49 @@ public class FFmpegKitConfig {
                 android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside global statistics callback.%s", Exceptions.getStackTraceString(e)));
             }
         }
+
+        final long callbackTime = System.nanoTime() - callbackStart;
+        FFmpegKitMetrics.messageReceived(0, callbackTime);
+        if (session != null) {
+            session.getMetrics().recordStatistics(statistics.getSpeed(), callbackTime, receiveTime);
+        }
+    }
+
+    /**
+     * <p>Trace method called by the native library when an FFmpeg session reaches a new phase.
+     *
+     * @param sessionId      id of the session that reached the phase
+     * @param eventValue     native phase value as defined in {@link SessionTraceEvent}
+     * @param timestampNanos time of the event in nanoseconds
+     */
+    private static void trace(final long sessionId, final int eventValue, final long timestampNanos) {
+        final SessionTraceEvent event = SessionTraceEvent.from(eventValue);
+        if (event != null) {
+            trace(sessionId, event, timestampNanos);
+        }
+    }
+
+    /**
+     * <p>Notifies the session tracer about a lifecycle event that happens now.
+     *
+     * @param sessionId id of the session
+     * @param event     lifecycle event
+     */
+    static void trace(final long sessionId, final SessionTraceEvent event) {
+        if (sessionTracer != null) {
+            trace(sessionId, event, System.nanoTime());
+        }
+    }
+
+    private static void trace(final long sessionId, final SessionTraceEvent event, final long timestampNanos) {
+        final SessionTracer sessionTracerFunction = FFmpegKitConfig.sessionTracer;
+        if (sessionTracerFunction != null) {
+            try {
+                sessionTracerFunction.trace(sessionId, event, timestampNanos);
+            } catch (final Exception e) {
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session tracer.%s", Exceptions.getStackTraceString(e)));
+            }
+        }
     }
 
     /**
@@ -508,11 +732,16 @@ public class FFmpegKitConfig {
 
         final String newFFmpegPipePath = MessageFormat.format("{0}{1}{2}{3}", pipesDir, File.separator, FFMPEG_KIT_NAMED_PIPE_PREFIX, uniqueIdGenerator.getAndIncrement());
 
-        // FIRST CLOSE OLD PIPES WITH THE SAME NAME
-        closeFFmpegPipe(newFFmpegPipePath);
+        // FIRST DELETE OLD PIPES WITH THE SAME NAME, LEFT BY A PREVIOUS PROCESS
+        final File oldPipe = new File(newFFmpegPipePath);
+        if (oldPipe.exists() && !oldPipe.delete()) {
+            android.util.Log.w(TAG, String.format("Failed to delete old FFmpeg pipe %s.", newFFmpegPipePath));
+        }
 
         int rc = registerNewNativeFFmpegPipe(newFFmpegPipePath);
         if (rc == 0) {
+            registeredFFmpegPipes.add(newFFmpegPipePath);
+            FFmpegKitMetrics.pipesOpen.increment();
             return newFFmpegPipePath;
         } else {
             android.util.Log.e(TAG, String.format("Failed to register new FFmpeg pipe %s. Operation failed with rc=%d.", newFFmpegPipePath, rc));
@@ -530,6 +759,9 @@ public class FFmpegKitConfig {
         if (file.exists()) {
             file.delete();
         }
+        if (registeredFFmpegPipes.remove(ffmpegPipePath)) {
+            FFmpegKitMetrics.pipesOpen.decrement();
+        }
     }
 
     /**
@@ -655,7 +887,9 @@ public class FFmpegKitConfig {
         ffmpegSession.startRunning();
 
         try {
-            final int returnCode = nativeFFmpegExecute(ffmpegSession.getSessionId(), ffmpegSession.getArguments());
+            final byte[] packedArguments = packArguments(ffmpegSession.getArguments());
+            ffmpegSession.getMetrics().setArgumentBytes(packedArguments.length);
+            final int returnCode = nativeFFmpegExecute(ffmpegSession.getSessionId(), packedArguments, ffmpegSession.getArguments().length);
             ffmpegSession.complete(new ReturnCode(returnCode));
         } catch (final Exception e) {
             ffmpegSession.fail(e);
@@ -672,7 +906,9 @@ public class FFmpegKitConfig {
         ffprobeSession.startRunning();
 
         try {
-            final int returnCode = nativeFFprobeExecute(ffprobeSession.getSessionId(), ffprobeSession.getArguments());
+            final byte[] packedArguments = packArguments(ffprobeSession.getArguments());
+            ffprobeSession.getMetrics().setArgumentBytes(packedArguments.length);
+            final int returnCode = nativeFFprobeExecute(ffprobeSession.getSessionId(), packedArguments, ffprobeSession.getArguments().length);
             ffprobeSession.complete(new ReturnCode(returnCode));
         } catch (final Exception e) {
             ffprobeSession.fail(e);
@@ -690,7 +926,9 @@ public class FFmpegKitConfig {
         mediaInformationSession.startRunning();
 
         try {
-            final int returnCodeValue = nativeFFprobeExecute(mediaInformationSession.getSessionId(), mediaInformationSession.getArguments());
+            final byte[] packedArguments = packArguments(mediaInformationSession.getArguments());
+            mediaInformationSession.getMetrics().setArgumentBytes(packedArguments.length);
+            final int returnCodeValue = nativeFFprobeExecute(mediaInformationSession.getSessionId(), packedArguments, mediaInformationSession.getArguments().length);
             final ReturnCode returnCode = new ReturnCode(returnCodeValue);
             mediaInformationSession.complete(returnCode);
             if (returnCode.isValueSuccess()) {
@@ -722,6 +960,9 @@ public class FFmpegKitConfig {
      */
     public static void asyncFFmpegExecute(final FFmpegSession ffmpegSession) {
         AsyncFFmpegExecuteTask asyncFFmpegExecuteTask = new AsyncFFmpegExecuteTask(ffmpegSession);
+        ffmpegSession.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+        trace(ffmpegSession.getSessionId(), SessionTraceEvent.QUEUED);
         Future<?> future = asyncExecutorService.submit(asyncFFmpegExecuteTask);
         ffmpegSession.setFuture(future);
     }
@@ -738,6 +979,9 @@ public class FFmpegKitConfig {
      */
     public static void asyncFFmpegExecute(final FFmpegSession ffmpegSession, final ExecutorService executorService) {
         AsyncFFmpegExecuteTask asyncFFmpegExecuteTask = new AsyncFFmpegExecuteTask(ffmpegSession);
+        ffmpegSession.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+        trace(ffmpegSession.getSessionId(), SessionTraceEvent.QUEUED);
         Future<?> future = executorService.submit(asyncFFmpegExecuteTask);
         ffmpegSession.setFuture(future);
     }
@@ -753,6 +997,9 @@ public class FFmpegKitConfig {
      */
     public static void asyncFFprobeExecute(final FFprobeSession ffprobeSession) {
         AsyncFFprobeExecuteTask asyncFFmpegExecuteTask = new AsyncFFprobeExecuteTask(ffprobeSession);
+        ffprobeSession.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+        trace(ffprobeSession.getSessionId(), SessionTraceEvent.QUEUED);
         Future<?> future = asyncExecutorService.submit(asyncFFmpegExecuteTask);
         ffprobeSession.setFuture(future);
     }
@@ -769,6 +1016,9 @@ public class FFmpegKitConfig {
      */
     public static void asyncFFprobeExecute(final FFprobeSession ffprobeSession, final ExecutorService executorService) {
         AsyncFFprobeExecuteTask asyncFFmpegExecuteTask = new AsyncFFprobeExecuteTask(ffprobeSession);
+        ffprobeSession.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+        trace(ffprobeSession.getSessionId(), SessionTraceEvent.QUEUED);
         Future<?> future = executorService.submit(asyncFFmpegExecuteTask);
         ffprobeSession.setFuture(future);
     }
@@ -786,6 +1036,9 @@ public class FFmpegKitConfig {
      */
     public static void asyncGetMediaInformationExecute(final MediaInformationSession mediaInformationSession, final int waitTimeout) {
         AsyncGetMediaInformationTask asyncGetMediaInformationTask = new AsyncGetMediaInformationTask(mediaInformationSession, waitTimeout);
+        mediaInformationSession.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+        trace(mediaInformationSession.getSessionId(), SessionTraceEvent.QUEUED);
         Future<?> future = asyncExecutorService.submit(asyncGetMediaInformationTask);
         mediaInformationSession.setFuture(future);
     }
@@ -805,6 +1058,9 @@ public class FFmpegKitConfig {
      */
     public static void asyncGetMediaInformationExecute(final MediaInformationSession mediaInformationSession, final ExecutorService executorService, final int waitTimeout) {
         AsyncGetMediaInformationTask asyncGetMediaInformationTask = new AsyncGetMediaInformationTask(mediaInformationSession, waitTimeout);
+        mediaInformationSession.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+        trace(mediaInformationSession.getSessionId(), SessionTraceEvent.QUEUED);
         Future<?> future = executorService.submit(asyncGetMediaInformationTask);
         mediaInformationSession.setFuture(future);
     }
@@ -822,24 +1078,194 @@ public class FFmpegKitConfig {
      * Sets the maximum number of async sessions that will be executed in parallel. If more
      * sessions are submitted those will be queued.
      *
+     * <p>The executor is resized in place. Sessions already queued are kept and run under the new
+     * limit.
+     *
      * @param asyncConcurrencyLimit new async concurrency limit
      */
     public static void setAsyncConcurrencyLimit(final int asyncConcurrencyLimit) {
 
         if (asyncConcurrencyLimit > 0) {
+            synchronized (asyncExecutorService) {
+
+                /* SET THE NEW LIMIT */
+                FFmpegKitConfig.asyncConcurrencyLimit = asyncConcurrencyLimit;
 
-            /* SET THE NEW LIMIT */
-            FFmpegKitConfig.asyncConcurrencyLimit = asyncConcurrencyLimit;
-            ExecutorService oldAsyncExecutorService = FFmpegKitConfig.asyncExecutorService;
+                /* CORE SIZE CAN NOT EXCEED MAXIMUM SIZE, SO THE ORDER DEPENDS ON THE DIRECTION */
+                if (asyncConcurrencyLimit > asyncExecutorService.getMaximumPoolSize()) {
+                    asyncExecutorService.setMaximumPoolSize(asyncConcurrencyLimit);
+                    asyncExecutorService.setCorePoolSize(asyncConcurrencyLimit);
+                } else {
+                    asyncExecutorService.setCorePoolSize(asyncConcurrencyLimit);
+                    asyncExecutorService.setMaximumPoolSize(asyncConcurrencyLimit);
+                }
+            }
+        }
+    }
 
-            /* CREATE THE NEW ASYNC THREAD POOL */
-            FFmpegKitConfig.asyncExecutorService = Executors.newFixedThreadPool(asyncConcurrencyLimit);
+    /**
+     * <p>Returns the executor that runs asynchronous sessions.
+     *
+     * <p>Platform bridges submit their own session tasks to this executor, so a single
+     * concurrency limit applies to every session started by the application. The executor is
+     * owned by the library, calling <code>shutdown</code> or <code>shutdownNow</code> on it throws
+     * {@link UnsupportedOperationException}.
+     *
+     * @return async executor service
+     */
+    public static ExecutorService getAsyncExecutorService() {
+        return sharedAsyncExecutorService;
+    }
 
-            /* STOP THE OLD ASYNC THREAD POOL */
-            oldAsyncExecutorService.shutdown();
+    /**
+     * Returns the number of threads in the async executor. Threads above a reduced concurrency
+     * limit exit once they are idle, so this may exceed the limit for a short time.
+     *
+     * @return number of threads in the async executor
+     */
+    static int getAsyncExecutorPoolSize() {
+        return asyncExecutorService.getPoolSize();
+    }
+
+    /**
+     * Removes a task that has not started yet from the queue of an executor. Only tasks queued
+     * on the async executor or on a {@link ThreadPoolExecutor} can be removed.
+     *
+     * @param executorService executor the task was submitted to, null for the async executor
+     * @param future          future returned when the task was submitted
+     * @return true if the task was removed and will never run, false otherwise
+     */
+    static boolean removeQueuedTask(final ExecutorService executorService, final Future<?> future) {
+        final ExecutorService queueOwner = (executorService == null || executorService == sharedAsyncExecutorService) ? asyncExecutorService : executorService;
+        if (queueOwner instanceof ThreadPoolExecutor && future instanceof Runnable) {
+            return ((ThreadPoolExecutor) queueOwner).remove((Runnable) future);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns a snapshot of the async executor, including the number of running and queued
+     * tasks.
+     *
+     * @return async executor statistics
+     */
+    public static AsyncExecutorStatistics getAsyncExecutorStatistics() {
+        return new AsyncExecutorStatistics(asyncConcurrencyLimit, asyncExecutorService.getActiveCount(), asyncExecutorService.getQueue().size(), asyncExecutorService.getCompletedTaskCount());
+    }
+
+    /**
+     * Returns the number of native threads that deliver logs and statistics to Java.
+     *
+     * @return number of native callback threads
+     */
+    public static int getCallbackThreadCount() {
+        return callbackThreadCount;
+    }
+
+    /**
+     * <p>Sets the number of native threads that deliver logs and statistics to Java. Default value
+     * is 1, maximum value is {@value #MAX_CALLBACK_THREAD_COUNT}.
+     *
+     * <p>Sessions are assigned to threads by session id, so messages of a session are still
+     * delivered in order. Using more threads helps when many sessions with verbose logs run
+     * concurrently. The thread count can only be changed when no session is running and all
+     * messages are delivered, otherwise the messages of a session would be split between two
+     * threads.
+     *
+     * @param callbackThreadCount new number of native callback threads
+     * @return true if the thread count is changed, false if it is not valid or sessions are active
+     */
+    public static boolean setCallbackThreadCount(final int callbackThreadCount) {
+        if (callbackThreadCount > 0) {
+            final int count = Math.min(callbackThreadCount, MAX_CALLBACK_THREAD_COUNT);
+            if (setNativeCallbackThreadCount(count) == 0) {
+                FFmpegKitConfig.callbackThreadCount = count;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the thread that runs log and statistics callbacks.
+     *
+     * @return callback dispatch mode
+     */
+    public static CallbackDispatchMode getCallbackDispatchMode() {
+        return callbackDispatchMode;
+    }
+
+    /**
+     * <p>Sets the thread that runs log and statistics callbacks. By default callbacks run on the
+     * native callback thread, which is shared by sessions.
+     *
+     * <p>In {@link CallbackDispatchMode#SESSION_EXECUTOR} mode session logs and statistics are
+     * still collected on the native callback thread, but callbacks are moved to a serial executor
+     * of the session, so a slow callback does not delay other sessions.
+     *
+     * @param callbackDispatchMode callback dispatch mode
+     */
+    public static void setCallbackDispatchMode(final CallbackDispatchMode callbackDispatchMode) {
+        if (callbackDispatchMode != null) {
+            FFmpegKitConfig.callbackDispatchMode = callbackDispatchMode;
         }
     }
 
+    /**
+     * Returns the maximum number of pending callbacks a session can have in
+     * {@link CallbackDispatchMode#SESSION_EXECUTOR} mode.
+     *
+     * @return callback backlog limit
+     */
+    public static int getCallbackBacklogLimit() {
+        return callbackBacklogLimit;
+    }
+
+    /**
+     * Sets the maximum number of pending callbacks a session can have in
+     * {@link CallbackDispatchMode#SESSION_EXECUTOR} mode. Default value is 1000.
+     *
+     * @param callbackBacklogLimit new callback backlog limit
+     */
+    public static void setCallbackBacklogLimit(final int callbackBacklogLimit) {
+        if (callbackBacklogLimit > 0) {
+            FFmpegKitConfig.callbackBacklogLimit = callbackBacklogLimit;
+        }
+    }
+
+    /**
+     * Returns the policy applied when a session's callback backlog is full.
+     *
+     * @return callback overflow policy
+     */
+    public static CallbackOverflowPolicy getCallbackOverflowPolicy() {
+        return callbackOverflowPolicy;
+    }
+
+    /**
+     * Sets the policy applied when a session's callback backlog is full. Default policy is
+     * {@link CallbackOverflowPolicy#BLOCK}, which does not lose callbacks but stalls the native
+     * callback thread until the session catches up.
+     *
+     * @param callbackOverflowPolicy callback overflow policy
+     */
+    public static void setCallbackOverflowPolicy(final CallbackOverflowPolicy callbackOverflowPolicy) {
+        if (callbackOverflowPolicy != null) {
+            FFmpegKitConfig.callbackOverflowPolicy = callbackOverflowPolicy;
+        }
+    }
+
+    /**
+     * Returns the thread pool shared by session callback executors.
+     *
+     * @return callback executor service
+     */
+    static ExecutorService getCallbackExecutorService() {
+        return callbackExecutorService;
+    }
+
     /**
      * <p>Sets a global callback to redirect FFmpeg/FFprobe logs.
      *
@@ -859,6 +1285,35 @@ public class FFmpegKitConfig {
         globalStatisticsCallback = statisticsCallback;
     }
 
+    /**
+     * <p>Sets a global callback that receives FFmpeg/FFprobe logs as reusable views.
+     *
+     * <p>Views are reused for every log delivered on a native callback thread, so no objects are
+     * created for the callback. Immutable <code>Log</code> copies are still created for logs that
+     * are kept in session history, delivered to <code>LogCallback</code>s or printed to Logcat.
+     * A view callback counts as a global callback for {@link LogRedirectionStrategy}.
+     *
+     * @param logViewCallback log view callback or null to disable a previously defined callback
+     */
+    public static void enableLogViewCallback(final LogViewCallback logViewCallback) {
+        globalLogViewCallback = logViewCallback;
+    }
+
+    /**
+     * <p>Sets a global callback that receives FFmpeg statistics as reusable views.
+     *
+     * <p>Views are reused for every statistics entry delivered on a native callback thread, so
+     * no objects are created for the callback. Immutable <code>Statistics</code> copies are still
+     * created for entries that are kept in session history or delivered to
+     * <code>StatisticsCallback</code>s.
+     *
+     * @param statisticsViewCallback statistics view callback or null to disable a previously
+     *                               defined callback
+     */
+    public static void enableStatisticsViewCallback(final StatisticsViewCallback statisticsViewCallback) {
+        globalStatisticsViewCallback = statisticsViewCallback;
+    }
+
     /**
      * <p>Sets a global FFmpegSessionCompleteCallback to receive execution results for FFmpeg
      * sessions.
@@ -1029,6 +1484,7 @@ public class FFmpegKitConfig {
                 safUrl.setParcelFileDescriptor(parcelFileDescriptor);
                 final int fd = parcelFileDescriptor.getFd();
                 safFileDescriptorMap.put(fd, safUrl);
+                FFmpegKitMetrics.safFileDescriptorsOpen.increment();
                 return fd;
             } else {
                 android.util.Log.e(TAG, String.format("SAF id %d not found.", safId));
@@ -1055,6 +1511,7 @@ public class FFmpegKitConfig {
                     safFileDescriptorMap.delete(fileDescriptor);
                     safIdMap.delete(safProtocolUrl.getSafId());
                     parcelFileDescriptor.close();
+                    FFmpegKitMetrics.safFileDescriptorsOpen.decrement();
                     return 1;
                 } else {
                     android.util.Log.e(TAG, String.format("ParcelFileDescriptor for SAF fd %d not found.", fileDescriptor));
@@ -1277,6 +1734,53 @@ public class FFmpegKitConfig {
         return list;
     }
 
+    /**
+     * <p>Returns a page of sessions that match the given filters, starting from the newest session
+     * in the session history.
+     * <p>Filters that are null are not applied. A session matches the time range if its create time
+     * is not before <code>createdAfter</code> and is before <code>createdBefore</code>.
+     *
+     * @param type          session class, e.g. {@link FFmpegSession}
+     * @param state         session state
+     * @param createdAfter  start of the create time range, inclusive
+     * @param createdBefore end of the create time range, exclusive
+     * @param offset        number of matching sessions to skip
+     * @param limit         maximum number of sessions to return, zero or a negative value returns all
+     *                      remaining sessions
+     * @return matching sessions ordered from the newest to the oldest
+     */
+    public static List<Session> getSessions(final Class<? extends Session> type, final SessionState state, final Date createdAfter, final Date createdBefore, final int offset, final int limit) {
+        final List<Session> list = new ArrayList<>();
+        int skipped = 0;
+
+        synchronized (sessionHistoryLock) {
+            final ListIterator<Session> iterator = sessionHistoryList.listIterator(sessionHistoryList.size());
+            while (iterator.hasPrevious() && (limit <= 0 || list.size() < limit)) {
+                final Session session = iterator.previous();
+                if (type != null && !type.isInstance(session)) {
+                    continue;
+                }
+                if (state != null && session.getState() != state) {
+                    continue;
+                }
+                final Date createTime = session.getCreateTime();
+                if (createdAfter != null && (createTime == null || createTime.before(createdAfter))) {
+                    continue;
+                }
+                if (createdBefore != null && (createTime == null || !createTime.before(createdBefore))) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                list.add(session);
+            }
+        }
+
+        return list;
+    }
+
     /**
      * Returns the active log redirection strategy.
      *
@@ -1295,6 +1799,88 @@ public class FFmpegKitConfig {
         FFmpegKitConfig.globalLogRedirectionStrategy = logRedirectionStrategy;
     }
 
+    /**
+     * Returns the tracer notified about session lifecycle and native phase events.
+     *
+     * @return session tracer or null if tracing is disabled
+     */
+    public static SessionTracer getSessionTracer() {
+        return sessionTracer;
+    }
+
+    /**
+     * <p>Sets the tracer notified about session lifecycle and native phase events. By default an
+     * {@link AndroidSessionTracer} is used, which writes to the system trace only while a trace
+     * is being captured.
+     *
+     * @param sessionTracer session tracer or null to disable tracing
+     */
+    public static void setSessionTracer(final SessionTracer sessionTracer) {
+        FFmpegKitConfig.sessionTracer = sessionTracer;
+    }
+
+    /**
+     * <p>Starts taking snapshots of running sessions periodically, replacing the previous schedule
+     * if there is one.
+     *
+     * <p>At each period a {@link SessionSnapshot} is created for every running session and all
+     * snapshots are passed to the callback in a single call. Nothing is delivered when there are
+     * no running sessions.
+     *
+     * @param periodInMilliseconds    snapshot period in milliseconds
+     * @param sessionSnapshotCallback callback that receives snapshots
+     */
+    public static void enableSessionSnapshots(final long periodInMilliseconds, final SessionSnapshotCallback sessionSnapshotCallback) {
+        if (periodInMilliseconds <= 0 || sessionSnapshotCallback == null) {
+            return;
+        }
+
+        synchronized (sessionSnapshotLock) {
+            if (sessionSnapshotFuture != null) {
+                sessionSnapshotFuture.cancel(false);
+            }
+            if (sessionSnapshotExecutorService == null) {
+                sessionSnapshotExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "FFmpegKitSessionSnapshot");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+
+            sessionSnapshotFuture = sessionSnapshotExecutorService.scheduleAtFixedRate(() -> takeSessionSnapshots(sessionSnapshotCallback), periodInMilliseconds, periodInMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * <p>Stops taking snapshots of running sessions.
+     */
+    public static void disableSessionSnapshots() {
+        synchronized (sessionSnapshotLock) {
+            if (sessionSnapshotFuture != null) {
+                sessionSnapshotFuture.cancel(false);
+                sessionSnapshotFuture = null;
+            }
+        }
+    }
+
+    static void takeSessionSnapshots(final SessionSnapshotCallback sessionSnapshotCallback) {
+        final List<Session> runningSessions = getSessionsByState(SessionState.RUNNING);
+        if (runningSessions.isEmpty()) {
+            return;
+        }
+
+        final List<SessionSnapshot> snapshots = new ArrayList<>(runningSessions.size());
+        for (Session session : runningSessions) {
+            snapshots.add(SessionSnapshot.create(session));
+        }
+
+        try {
+            sessionSnapshotCallback.apply(snapshots);
+        } catch (final Exception e) {
+            android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session snapshot callback.%s", Exceptions.getStackTraceString(e)));
+        }
+    }
+
     /**
      * Converts session state to string.
      *
@@ -1314,18 +1900,15 @@ public class FFmpegKitConfig {
      */
     public static String[] parseArguments(final String command) {
         final List<String> argumentList = new ArrayList<>();
-        StringBuilder currentArgument = new StringBuilder();
+        final StringBuilder currentArgument = new StringBuilder(command.length());
 
         boolean singleQuoteStarted = false;
         boolean doubleQuoteStarted = false;
 
+        // A QUOTE IS ESCAPED WHEN THE PREVIOUS CHARACTER IS A BACKSLASH, '\0' NEVER MATCHES
+        char previousChar = '\0';
+
         for (int i = 0; i < command.length(); i++) {
-            final Character previousChar;
-            if (i > 0) {
-                previousChar = command.charAt(i - 1);
-            } else {
-                previousChar = null;
-            }
             final char currentChar = command.charAt(i);
 
             if (currentChar == ' ') {
@@ -1333,9 +1916,9 @@ public class FFmpegKitConfig {
                     currentArgument.append(currentChar);
                 } else if (currentArgument.length() > 0) {
                     argumentList.add(currentArgument.toString());
-                    currentArgument = new StringBuilder();
+                    currentArgument.setLength(0);
                 }
-            } else if (currentChar == '\'' && (previousChar == null || previousChar != '\\')) {
+            } else if (currentChar == '\'' && previousChar != '\\') {
                 if (singleQuoteStarted) {
                     singleQuoteStarted = false;
                 } else if (doubleQuoteStarted) {
@@ -1343,7 +1926,7 @@ public class FFmpegKitConfig {
                 } else {
                     singleQuoteStarted = true;
                 }
-            } else if (currentChar == '\"' && (previousChar == null || previousChar != '\\')) {
+            } else if (currentChar == '\"' && previousChar != '\\') {
                 if (doubleQuoteStarted) {
                     doubleQuoteStarted = false;
                 } else if (singleQuoteStarted) {
@@ -1354,6 +1937,8 @@ public class FFmpegKitConfig {
             } else {
                 currentArgument.append(currentChar);
             }
+
+            previousChar = currentChar;
         }
 
         if (currentArgument.length() > 0) {
@@ -1385,6 +1970,41 @@ public class FFmpegKitConfig {
         return stringBuilder.toString();
     }
 
+    /**
+     * <p>Packs arguments into a single byte array to transfer them to the native library with
+     * one copy. Each argument is encoded in standard UTF-8 and terminated with a NUL byte, which
+     * is the layout native code uses for <code>argv</code>. <code>null</code> arguments are
+     * packed as empty strings.
+     *
+     * @param arguments arguments
+     * @return packed arguments
+     * @throws IllegalArgumentException if an argument contains a NUL character, which would
+     *                                  split it into two native arguments
+     */
+    static byte[] packArguments(final String[] arguments) {
+        final byte[][] encodedArguments = new byte[arguments.length][];
+        int packedLength = 0;
+
+        for (int i = 0; i < arguments.length; i++) {
+            final String argument = arguments[i];
+            if (argument != null && argument.indexOf('\0') >= 0) {
+                throw new IllegalArgumentException(String.format("Argument %d contains a NUL character.", i));
+            }
+            encodedArguments[i] = (argument == null) ? new byte[0] : argument.getBytes(StandardCharsets.UTF_8);
+            packedLength += encodedArguments[i].length + 1;
+        }
+
+        final byte[] packed = new byte[packedLength];
+        int position = 0;
+
+        for (byte[] encodedArgument : encodedArguments) {
+            System.arraycopy(encodedArgument, 0, packed, position, encodedArgument.length);
+            position += encodedArgument.length + 1;
+        }
+
+        return packed;
+    }
+
     /**
      * <p>Enables redirection natively.
      */
@@ -1426,24 +2046,28 @@ public class FFmpegKitConfig {
     /**
      * <p>Synchronously executes FFmpeg natively.
      *
-     * @param sessionId id of the session
-     * @param arguments FFmpeg command options/arguments as string array
+     * @param sessionId       id of the session
+     * @param packedArguments FFmpeg command options/arguments packed using
+     *                        {@link #packArguments(String[])}
+     * @param argumentCount   number of arguments packed
      * @return {@link ReturnCode#SUCCESS} on successful execution and {@link ReturnCode#CANCEL} on
      * user cancel. Other non-zero values are returned on error. Use {@link ReturnCode} class to
      * handle the value
      */
-    private native static int nativeFFmpegExecute(final long sessionId, final String[] arguments);
+    private native static int nativeFFmpegExecute(final long sessionId, final byte[] packedArguments, final int argumentCount);
 
     /**
      * <p>Synchronously executes FFprobe natively.
      *
-     * @param sessionId id of the session
-     * @param arguments FFprobe command options/arguments as string array
+     * @param sessionId       id of the session
+     * @param packedArguments FFprobe command options/arguments packed using
+     *                        {@link #packArguments(String[])}
+     * @param argumentCount   number of arguments packed
      * @return {@link ReturnCode#SUCCESS} on successful execution and {@link ReturnCode#CANCEL} on
      * user cancel. Other non-zero values are returned on error. Use {@link ReturnCode} class to
      * handle the value
      */
-    native static int nativeFFprobeExecute(final long sessionId, final String[] arguments);
+    native static int nativeFFprobeExecute(final long sessionId, final byte[] packedArguments, final int argumentCount);
 
     /**
      * <p>Cancels an ongoing FFmpeg operation natively. This method does not wait for termination
@@ -1497,4 +2121,12 @@ public class FFmpegKitConfig {
      */
     private native static void ignoreNativeSignal(final int signum);
 
+    /**
+     * <p>Sets the number of native callback threads natively.
+     *
+     * @param count number of native callback threads
+     * @return zero on success, non-zero if sessions are active
+     */
+    private native static int setNativeCallbackThreadCount(final int count);
+
 }
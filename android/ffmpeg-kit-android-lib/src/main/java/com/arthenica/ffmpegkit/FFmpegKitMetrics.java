@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Registry of runtime metrics collected by <code>FFmpegKit</code>.
+ *
+ * <p>Built-in metrics are updated by {@link FFmpegKitConfig} and sessions. Applications can
+ * register their own metrics and add {@link MetricsExporter}s to feed them to a monitoring
+ * system, either on demand using {@link #export()} or periodically using
+ * {@link #scheduleExport(long)}.
+ *
+ * <p>Counters only increase. Rates, such as messages received per second, are calculated by
+ * readers from the difference between two reads, so any number of exporters can read the same
+ * counter.
+ */
+public class FFmpegKitMetrics {
+
+    static final MetricsCounter sessionsSubmitted = new MetricsCounter("ffmpegkit_sessions_submitted_total", "Sessions submitted for asynchronous execution");
+    static final MetricsCounter sessionsCompleted = new MetricsCounter("ffmpegkit_sessions_completed_total", "Sessions completed");
+    static final MetricsCounter sessionsFailed = new MetricsCounter("ffmpegkit_sessions_failed_total", "Sessions failed");
+    static final MetricsGauge sessionsQueued = new MetricsGauge("ffmpegkit_sessions_queued", "Sessions waiting in an executor queue");
+    static final MetricsGauge sessionsRunning = new MetricsGauge("ffmpegkit_sessions_running", "Sessions running");
+    static final MetricsGauge callbackBacklog = new MetricsGauge("ffmpegkit_callback_backlog", "Log and statistics messages waiting to be delivered by the native callback thread", FFmpegKitMetrics::countMessagesInTransmit);
+    static final MetricsCounter jniMessages = new MetricsCounter("ffmpegkit_jni_messages_total", "Log and statistics messages received from the native library");
+    static final MetricsCounter logBytes = new MetricsCounter("ffmpegkit_log_bytes_total", "Size of log messages received from the native library");
+    static final MetricsCounter droppedMessages = new MetricsCounter("ffmpegkit_dropped_messages_total", "Messages received from the native library but not delivered");
+    static final MetricsCounter filteredLogs = new MetricsCounter("ffmpegkit_filtered_logs_total", "Logs received from the native library and filtered by the active log level");
+    static final MetricsGauge safFileDescriptorsOpen = new MetricsGauge("ffmpegkit_saf_fds_open", "SAF file descriptors open");
+    static final MetricsGauge pipesOpen = new MetricsGauge("ffmpegkit_pipes_open", "FFmpeg pipes registered and not closed");
+    static final MetricsHistogram queueWaitTime = new MetricsHistogram("ffmpegkit_queue_wait_ms", "Time sessions waited in an executor queue in milliseconds", 1, 10, 100, 1000, 10000, 60000);
+    static final MetricsHistogram runTime = new MetricsHistogram("ffmpegkit_run_time_ms", "Time sessions spent running in milliseconds", 10, 100, 1000, 10000, 60000, 600000);
+    static final MetricsHistogram callbackLatency = new MetricsHistogram("ffmpegkit_callback_latency_us", "Time spent dispatching a single log or statistics message in microseconds", 10, 100, 1000, 10000, 100000);
+
+    private static final List<Metric> metrics;
+    private static final List<MetricsExporter> exporters;
+    private static final Object exportLock;
+    private static ScheduledExecutorService exportExecutorService;
+    private static ScheduledFuture<?> exportFuture;
+
+    static {
+        metrics = new CopyOnWriteArrayList<>();
+        exporters = new CopyOnWriteArrayList<>();
+        exportLock = new Object();
+
+        Collections.addAll(metrics,
+                sessionsSubmitted,
+                sessionsCompleted,
+                sessionsFailed,
+                sessionsQueued,
+                sessionsRunning,
+                callbackBacklog,
+                jniMessages,
+                logBytes,
+                droppedMessages,
+                filteredLogs,
+                safFileDescriptorsOpen,
+                pipesOpen,
+                queueWaitTime,
+                runTime,
+                callbackLatency);
+    }
+
+    /**
+     * Default constructor hidden.
+     */
+    private FFmpegKitMetrics() {
+    }
+
+    /**
+     * <p>Registers a custom metric. Metrics with names that are already registered are ignored.
+     *
+     * @param metric metric to register
+     * @return true if the metric is registered, false otherwise
+     */
+    public static boolean register(final Metric metric) {
+        synchronized (metrics) {
+            if (getMetric(metric.getName()) != null) {
+                return false;
+            }
+
+            return metrics.add(metric);
+        }
+    }
+
+    /**
+     * <p>Returns the metric registered with the given name.
+     *
+     * @param name metric name
+     * @return metric registered with the given name or null if it is not found
+     */
+    public static Metric getMetric(final String name) {
+        for (Metric metric : metrics) {
+            if (metric.getName().equals(name)) {
+                return metric;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * <p>Returns all registered metrics.
+     *
+     * @return registered metrics
+     */
+    public static List<Metric> getMetrics() {
+        return new ArrayList<>(metrics);
+    }
+
+    /**
+     * <p>Adds a new exporter.
+     *
+     * @param exporter exporter that will receive metrics
+     */
+    public static void addExporter(final MetricsExporter exporter) {
+        exporters.add(exporter);
+    }
+
+    /**
+     * <p>Removes a previously added exporter.
+     *
+     * @param exporter exporter to remove
+     */
+    public static void removeExporter(final MetricsExporter exporter) {
+        exporters.remove(exporter);
+    }
+
+    /**
+     * <p>Exports all registered metrics to all exporters.
+     */
+    public static void export() {
+        final List<Metric> metricList = getMetrics();
+
+        for (MetricsExporter exporter : exporters) {
+            try {
+                exporter.export(metricList);
+            } catch (final Exception e) {
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside metrics exporter.%s", Exceptions.getStackTraceString(e)));
+            }
+        }
+    }
+
+    /**
+     * <p>Starts exporting metrics periodically, replacing the previous schedule if there is one.
+     *
+     * @param periodInMilliseconds export period in milliseconds
+     */
+    public static void scheduleExport(final long periodInMilliseconds) {
+        synchronized (exportLock) {
+            if (exportFuture != null) {
+                exportFuture.cancel(false);
+            }
+            if (exportExecutorService == null) {
+                exportExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "FFmpegKitMetrics");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+
+            exportFuture = exportExecutorService.scheduleAtFixedRate(FFmpegKitMetrics::export, periodInMilliseconds, periodInMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * <p>Stops exporting metrics periodically.
+     */
+    public static void cancelScheduledExport() {
+        synchronized (exportLock) {
+            if (exportFuture != null) {
+                exportFuture.cancel(false);
+                exportFuture = null;
+            }
+        }
+    }
+
+    /**
+     * <p>Returns all registered metrics in plain text, one line per value.
+     *
+     * @return metrics in plain text
+     */
+    public static String toText() {
+        return toText(getMetrics());
+    }
+
+    /**
+     * <p>Returns the given metrics in plain text, one line per value.
+     *
+     * @param metricList metrics to format
+     * @return metrics in plain text
+     */
+    public static String toText(final List<Metric> metricList) {
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        for (Metric metric : metricList) {
+            switch (metric.getType()) {
+                case COUNTER: {
+                    appendTextLine(stringBuilder, metric.getName(), ((MetricsCounter) metric).get());
+                }
+                break;
+                case GAUGE: {
+                    appendTextLine(stringBuilder, metric.getName(), ((MetricsGauge) metric).get());
+                }
+                break;
+                case HISTOGRAM: {
+                    final MetricsHistogram histogram = (MetricsHistogram) metric;
+                    final long[] bounds = histogram.getBounds();
+                    final long[] counts = histogram.getBucketCounts();
+                    long cumulativeCount = 0;
+                    for (int i = 0; i < counts.length; i++) {
+                        cumulativeCount += counts[i];
+                        final String bound = (i < bounds.length) ? String.valueOf(bounds[i]) : "+Inf";
+                        appendTextLine(stringBuilder, metric.getName() + "_bucket{le=\"" + bound + "\"}", cumulativeCount);
+                    }
+                    appendTextLine(stringBuilder, metric.getName() + "_count", histogram.getCount());
+                    appendTextLine(stringBuilder, metric.getName() + "_sum", histogram.getSum());
+                }
+                break;
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * <p>Returns all registered metrics as a JSON object keyed by metric name.
+     *
+     * @return metrics as JSON
+     */
+    public static String toJson() {
+        return toJson(getMetrics());
+    }
+
+    /**
+     * <p>Returns the given metrics as a JSON object keyed by metric name.
+     *
+     * @param metricList metrics to format
+     * @return metrics as JSON
+     */
+    public static String toJson(final List<Metric> metricList) {
+        final StringBuilder stringBuilder = new StringBuilder("{");
+
+        for (int i = 0; i < metricList.size(); i++) {
+            final Metric metric = metricList.get(i);
+            if (i > 0) {
+                stringBuilder.append(',');
+            }
+            appendJsonString(stringBuilder, metric.getName());
+            stringBuilder.append(":{\"type\":\"");
+            stringBuilder.append(metric.getType().name().toLowerCase(Locale.US));
+            stringBuilder.append("\",\"description\":");
+            appendJsonString(stringBuilder, metric.getDescription());
+
+            switch (metric.getType()) {
+                case COUNTER: {
+                    stringBuilder.append(",\"value\":").append(((MetricsCounter) metric).get());
+                }
+                break;
+                case GAUGE: {
+                    stringBuilder.append(",\"value\":").append(((MetricsGauge) metric).get());
+                }
+                break;
+                case HISTOGRAM: {
+                    final MetricsHistogram histogram = (MetricsHistogram) metric;
+                    stringBuilder.append(",\"count\":").append(histogram.getCount());
+                    stringBuilder.append(",\"sum\":").append(histogram.getSum());
+                    stringBuilder.append(",\"bounds\":").append(Arrays.toString(histogram.getBounds()).replace(" ", ""));
+                    stringBuilder.append(",\"buckets\":").append(Arrays.toString(histogram.getBucketCounts()).replace(" ", ""));
+                }
+                break;
+            }
+            stringBuilder.append('}');
+        }
+
+        return stringBuilder.append('}').toString();
+    }
+
+    static void sessionSubmitted() {
+        sessionsSubmitted.increment();
+        sessionsQueued.increment();
+    }
+
+    static void sessionStarted(final SessionMetrics sessionMetrics) {
+        if (sessionMetrics.isSubmitted()) {
+            sessionsQueued.decrement();
+            queueWaitTime.record(TimeUnit.NANOSECONDS.toMillis(sessionMetrics.getQueueWaitTime()));
+        }
+        sessionsRunning.increment();
+    }
+
+    static void sessionEnded(final SessionMetrics sessionMetrics, final boolean failed) {
+        if (sessionMetrics.isStarted()) {
+            sessionsRunning.decrement();
+            runTime.record(TimeUnit.NANOSECONDS.toMillis(sessionMetrics.getRunTime()));
+        } else if (sessionMetrics.isSubmitted()) {
+            sessionsQueued.decrement();
+        }
+
+        if (failed) {
+            sessionsFailed.increment();
+        } else {
+            sessionsCompleted.increment();
+        }
+    }
+
+    static void messageReceived(final int logSize, final long callbackNanos) {
+        jniMessages.increment();
+        logBytes.add(logSize);
+        callbackLatency.record(TimeUnit.NANOSECONDS.toMicros(callbackNanos));
+    }
+
+    static void messageDropped() {
+        jniMessages.increment();
+        droppedMessages.increment();
+    }
+
+    static void logFiltered() {
+        jniMessages.increment();
+        filteredLogs.increment();
+    }
+
+    private static long countMessagesInTransmit() {
+        long count = 0;
+
+        try {
+            for (Session session : FFmpegKitConfig.getSessionsByState(SessionState.RUNNING)) {
+                count += FFmpegKitConfig.messagesInTransmit(session.getSessionId());
+            }
+        } catch (final UnsatisfiedLinkError e) {
+            // NATIVE LIBRARY IS NOT LOADED
+        }
+
+        return count;
+    }
+
+    private static void appendTextLine(final StringBuilder stringBuilder, final String name, final long value) {
+        stringBuilder.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void appendJsonString(final StringBuilder stringBuilder, final String value) {
+        stringBuilder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                case '\\': {
+                    stringBuilder.append('\\').append(c);
+                }
+                break;
+                case '\n': {
+                    stringBuilder.append("\\n");
+                }
+                break;
+                default: {
+                    if (c < 0x20) {
+                        stringBuilder.append(String.format(Locale.US, "\\u%04x", (int) c));
+                    } else {
+                        stringBuilder.append(c);
+                    }
+                }
+            }
+        }
+        stringBuilder.append('"');
+    }
+
+}
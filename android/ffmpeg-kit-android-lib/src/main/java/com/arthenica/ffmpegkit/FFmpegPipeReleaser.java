@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import android.system.ErrnoException;
+import android.system.Os;
+import android.system.OsConstants;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.IOException;
+
+/**
+ * <p>Session complete callback that releases a reader blocked on an <code>FFmpeg</code> pipe.
+ *
+ * <p>Opening a named pipe for reading blocks until a writer opens it. If <code>FFmpeg</code>
+ * completes without opening its output, e.g. when the input can not be opened, the reader would
+ * wait forever. This callback opens and closes the write end in that case, which delivers EOF
+ * to the reader.
+ *
+ * <p>The write end is opened with <code>O_NONBLOCK</code>, so the callback never blocks inside
+ * <code>open</code>. The open fails with <code>ENXIO</code> when the reader has not opened the
+ * pipe yet, e.g. when <code>FFmpeg</code> fails before the reader thread reaches
+ * <code>open</code>. The open is then retried until the reader opens the pipe or is closed.
+ */
+class FFmpegPipeReleaser implements FFmpegSessionCompleteCallback {
+
+    /**
+     * Time to wait between two attempts to open the write end, in milliseconds.
+     */
+    static final long RETRY_INTERVAL = 10;
+
+    private final String pipePath;
+    private final Object lock;
+    private boolean readerClosed;
+
+    FFmpegPipeReleaser(final String pipePath) {
+        this.pipePath = pipePath;
+        this.lock = new Object();
+        this.readerClosed = false;
+    }
+
+    /**
+     * <p>Marks the reader as closed and then closes its stream. Readers must close their pipe
+     * stream with this method, so the write end is never opened after the reader is gone.
+     *
+     * @param reader reader stream, may be null if the pipe could not be opened
+     */
+    void closeReader(final Closeable reader) {
+        synchronized (lock) {
+            readerClosed = true;
+            lock.notifyAll();
+        }
+
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (final IOException e) {
+                android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to close pipe %s.%s", pipePath, Exceptions.getStackTraceString(e)));
+            }
+        }
+    }
+
+    @Override
+    public void apply(final FFmpegSession session) {
+        synchronized (lock) {
+            while (!readerClosed) {
+                try {
+                    openWriteEnd();
+                    return;
+                } catch (final ErrnoException e) {
+                    if (e.errno != OsConstants.ENXIO) {
+                        android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to release pipe %s.%s", pipePath, Exceptions.getStackTraceString(e)));
+                        return;
+                    }
+                }
+
+                // READER HAS NOT OPENED THE PIPE YET, WAIT UNTIL IT OPENS OR CLOSES
+                try {
+                    lock.wait(RETRY_INTERVAL);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    android.util.Log.w(FFmpegKitConfig.TAG, String.format("Interrupted while releasing pipe %s.", pipePath));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens and closes the write end of the pipe without blocking.
+     *
+     * @throws ErrnoException if the write end can not be opened, <code>ENXIO</code> if there is
+     *                        no reader
+     */
+    void openWriteEnd() throws ErrnoException {
+        final FileDescriptor fileDescriptor = Os.open(pipePath, OsConstants.O_WRONLY | OsConstants.O_NONBLOCK, 0);
+        Os.close(fileDescriptor);
+    }
+
+}
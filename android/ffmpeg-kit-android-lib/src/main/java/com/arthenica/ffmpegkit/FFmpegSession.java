@@ -19,7 +19,7 @@
 
 package com.arthenica.ffmpegkit;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -47,6 +47,11 @@ public class FFmpegSession extends AbstractSession implements Session {
      */
     private final Object statisticsLock;
 
+    /**
+     * Progress estimator of this session.
+     */
+    private final ProgressEstimator progressEstimator;
+
     /**
      * Builds a new FFmpeg session.
      *
@@ -121,8 +126,9 @@ public class FFmpegSession extends AbstractSession implements Session {
         this.completeCallback = completeCallback;
         this.statisticsCallback = statisticsCallback;
 
-        this.statistics = new LinkedList<>();
+        this.statistics = new ArrayList<>();
         this.statisticsLock = new Object();
+        this.progressEstimator = ProgressEstimator.create(arguments);
     }
 
     /**
@@ -143,6 +149,15 @@ public class FFmpegSession extends AbstractSession implements Session {
         return completeCallback;
     }
 
+    /**
+     * Returns the progress estimator of this session.
+     *
+     * @return progress estimator
+     */
+    public ProgressEstimator getProgressEstimator() {
+        return progressEstimator;
+    }
+
     /**
      * Returns all statistics entries generated for this session. If there are asynchronous
      * messages that are not delivered yet, this method waits for them until the given timeout.
@@ -184,6 +199,22 @@ public class FFmpegSession extends AbstractSession implements Session {
         }
     }
 
+    /**
+     * Returns statistics entries delivered for this session starting from the given index. Note
+     * that if there are asynchronous messages that are not delivered yet, this method will not
+     * wait for them.
+     *
+     * @param index index of the first statistics entry to return
+     * @param max   maximum number of statistics entries to return, zero or a negative value
+     *              returns all entries after the index
+     * @return list of statistics entries received for this session after the given index
+     */
+    public List<Statistics> getStatisticsSince(final int index, final int max) {
+        synchronized (statisticsLock) {
+            return sublist(statistics, index, max);
+        }
+    }
+
     /**
      * Returns the last received statistics entry.
      *
@@ -212,6 +243,12 @@ public class FFmpegSession extends AbstractSession implements Session {
         }
     }
 
+    @Override
+    void startRunning() {
+        super.startRunning();
+        progressEstimator.start();
+    }
+
     @Override
     public boolean isFFmpeg() {
         return true;
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Callback function that receives frames extracted by {@link FrameExtractor}.
+ */
+@FunctionalInterface
+public interface FrameCallback {
+
+    /**
+     * <p>Called when a frame is extracted.
+     *
+     * <p>Buffer given is owned by the extractor and reused for the next frame. Its content must
+     * be consumed or copied before this method returns.
+     *
+     * @param timestamp timestamp of the frame in milliseconds
+     * @param frame     raw frame data, positioned at zero and limited to the frame size
+     */
+    void apply(final long timestamp, final ByteBuffer frame);
+
+}
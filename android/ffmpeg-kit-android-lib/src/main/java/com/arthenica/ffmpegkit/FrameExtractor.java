@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * <p>Extracts decoded video frames from an input without writing them to disk.
+ *
+ * <p>Each frame is decoded in-process by <code>FFmpeg</code>, scaled and converted to the
+ * {@link FrameFormat} requested and streamed through a named pipe into a direct
+ * {@link ByteBuffer} owned by the extractor. The same buffer is reused for every frame, so no
+ * image encoding, temporary file or Java side decoding takes place.
+ * <pre>
+ * FrameExtractor extractor = FrameExtractor.create(context, "file1.mp4", 320, 180, FrameFormat.RGBA);
+ * Bitmap thumbnail = extractor.extractBitmap(5000);
+ * extractor.close();
+ * </pre>
+ * <p>Input can be a file path, a <code>SAF</code> parameter created using
+ * {@link FFmpegKitConfig#getSafParameterForRead(Context, android.net.Uri)} or any other input
+ * url supported by <code>FFmpeg</code>.
+ *
+ * <p>An extractor is not thread-safe. Frames must be requested from a single thread at a time.
+ */
+public class FrameExtractor {
+
+    private final String input;
+    private final int width;
+    private final int height;
+    private final FrameFormat format;
+    private final String pipePath;
+    private final ByteBuffer frameBuffer;
+    private FFmpegSession lastSession;
+    private boolean closed;
+
+    static {
+        AbiDetect.class.getName();
+        FFmpegKitConfig.class.getName();
+    }
+
+    private FrameExtractor(final String input, final int width, final int height, final FrameFormat format, final String pipePath) {
+        this.input = input;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.pipePath = pipePath;
+        this.frameBuffer = ByteBuffer.allocateDirect(format.getFrameSize(width, height));
+        this.lastSession = null;
+        this.closed = false;
+    }
+
+    /**
+     * <p>Creates a new frame extractor. Frames are scaled to the width and height given.
+     *
+     * @param context application context
+     * @param input   input path, SAF parameter or url
+     * @param width   width of extracted frames
+     * @param height  height of extracted frames
+     * @param format  pixel format of extracted frames
+     * @return a new frame extractor or null if the pipe used to transfer frames can not be created
+     */
+    public static FrameExtractor create(final Context context, final String input, final int width, final int height, final FrameFormat format) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid frame size %dx%d.", width, height));
+        }
+
+        final String pipePath = FFmpegKitConfig.registerNewFFmpegPipe(context);
+        if (pipePath == null) {
+            return null;
+        }
+
+        return new FrameExtractor(input, width, height, format, pipePath);
+    }
+
+    /**
+     * <p>Creates a new frame extractor. Frames are extracted using the dimensions of the first
+     * video stream, which is found by running a media information session on the input.
+     *
+     * @param context application context
+     * @param input   input path, SAF parameter or url
+     * @param format  pixel format of extracted frames
+     * @return a new frame extractor or null if input does not have a video stream with known
+     * dimensions or the pipe used to transfer frames can not be created
+     */
+    public static FrameExtractor create(final Context context, final String input, final FrameFormat format) {
+        final MediaInformation mediaInformation = FFprobeKit.getMediaInformation(input).getMediaInformation();
+        if (mediaInformation != null) {
+            final List<StreamInformation> streams = mediaInformation.getStreams();
+            if (streams != null) {
+                for (StreamInformation stream : streams) {
+                    if ("video".equals(stream.getType()) && stream.getWidth() != null && stream.getHeight() != null) {
+                        return create(context, input, stream.getWidth().intValue(), stream.getHeight().intValue(), format);
+                    }
+                }
+            }
+        }
+
+        android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to find video frame size of %s.", input));
+        return null;
+    }
+
+    /**
+     * <p>Extracts the frame at the timestamp given.
+     *
+     * <p>Returned buffer is owned by this extractor and is overwritten by the next extract call.
+     *
+     * @param timestamp frame timestamp in milliseconds
+     * @return direct buffer positioned at zero and limited to the frame size or null if the frame
+     * could not be extracted
+     */
+    public ByteBuffer extractFrame(final long timestamp) {
+        if (closed) {
+            throw new IllegalStateException("FrameExtractor is closed.");
+        }
+
+        final FFmpegPipeReleaser pipeReleaser = new FFmpegPipeReleaser(pipePath);
+
+        final FFmpegSession session = FFmpegSession.create(buildArguments(timestamp), pipeReleaser, null, null, LogRedirectionStrategy.NEVER_PRINT_LOGS);
+        lastSession = session;
+        FFmpegKitConfig.asyncFFmpegExecute(session);
+
+        frameBuffer.clear();
+
+        FileInputStream inputStream = null;
+        try {
+            inputStream = new FileInputStream(pipePath);
+            final FileChannel channel = inputStream.getChannel();
+            while (frameBuffer.hasRemaining() && channel.read(frameBuffer) >= 0) {
+                // KEEP READING UNTIL FRAME IS COMPLETE OR PIPE IS CLOSED
+            }
+        } catch (final IOException e) {
+            android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to read frame at %d ms of %s.%s", timestamp, input, Exceptions.getStackTraceString(e)));
+        } finally {
+            pipeReleaser.closeReader(inputStream);
+        }
+
+        session.waitForFuture();
+
+        if (frameBuffer.hasRemaining() || !ReturnCode.isSuccess(session.getReturnCode())) {
+            android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to extract frame at %d ms of %s. Session %d completed with rc %s after %d of %d bytes.", timestamp, input, session.getSessionId(), session.getReturnCode(), frameBuffer.position(), frameBuffer.capacity()));
+            return null;
+        }
+
+        frameBuffer.flip();
+        return frameBuffer;
+    }
+
+    /**
+     * <p>Extracts frames at the timestamps given, in order, and passes each one to the callback
+     * provided. Frames that can not be extracted are skipped.
+     *
+     * @param timestamps    frame timestamps in milliseconds
+     * @param frameCallback callback that will receive frames
+     * @return number of frames extracted
+     */
+    public int extractFrames(final long[] timestamps, final FrameCallback frameCallback) {
+        int extracted = 0;
+
+        for (long timestamp : timestamps) {
+            final ByteBuffer frame = extractFrame(timestamp);
+            if (frame != null) {
+                extracted++;
+                try {
+                    frameCallback.apply(timestamp, frame);
+                } catch (final Exception e) {
+                    android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside frame callback.%s", Exceptions.getStackTraceString(e)));
+                }
+            }
+        }
+
+        return extracted;
+    }
+
+    /**
+     * <p>Extracts the frame at the timestamp given into a new <code>ARGB_8888</code> bitmap.
+     *
+     * <p>Only available when frames are extracted in {@link FrameFormat#RGBA} format.
+     *
+     * @param timestamp frame timestamp in milliseconds
+     * @return bitmap or null if the frame could not be extracted
+     */
+    public Bitmap extractBitmap(final long timestamp) {
+        if (format != FrameFormat.RGBA) {
+            throw new IllegalStateException(String.format("Bitmaps can not be created from %s frames.", format));
+        }
+
+        final ByteBuffer frame = extractFrame(timestamp);
+        if (frame == null) {
+            return null;
+        }
+
+        final Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        bitmap.copyPixelsFromBuffer(frame);
+        frame.rewind();
+
+        return bitmap;
+    }
+
+    /**
+     * <p>Closes this extractor and deletes the pipe used to transfer frames.
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            FFmpegKitConfig.closeFFmpegPipe(pipePath);
+        }
+    }
+
+    /**
+     * Returns the width of extracted frames.
+     *
+     * @return frame width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of extracted frames.
+     *
+     * @return frame height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the pixel format of extracted frames.
+     *
+     * @return frame format
+     */
+    public FrameFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the session created for the last extract operation. Can be used to inspect the
+     * logs of a failed extraction.
+     *
+     * @return last FFmpeg session created or null if no frames are extracted yet
+     */
+    public FFmpegSession getLastSession() {
+        return lastSession;
+    }
+
+    String[] buildArguments(final long timestamp) {
+        return new String[]{
+                "-ss", timestamp + "ms",
+                "-i", input,
+                "-an", "-sn", "-dn",
+                "-frames:v", "1",
+                "-vf", String.format("scale=%d:%d", width, height),
+                "-pix_fmt", format.getPixelFormat(),
+                "-f", "rawvideo",
+                "-y", pipePath};
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Lists raw pixel formats supported by {@link FrameExtractor}.
+ */
+public enum FrameFormat {
+
+    /**
+     * Packed 8-bit RGBA, 4 bytes per pixel. Can be copied into an
+     * <code>ARGB_8888</code> <code>Bitmap</code> without conversion.
+     */
+    RGBA("rgba"),
+
+    /**
+     * Planar YUV 4:2:0, a full size Y plane followed by quarter size U and V planes.
+     */
+    YUV420P("yuv420p"),
+
+    /**
+     * Semi-planar YUV 4:2:0, a full size Y plane followed by an interleaved VU plane.
+     */
+    NV21("nv21");
+
+    private final String pixelFormat;
+
+    FrameFormat(final String pixelFormat) {
+        this.pixelFormat = pixelFormat;
+    }
+
+    /**
+     * Returns the <code>FFmpeg</code> pixel format name.
+     *
+     * @return FFmpeg pixel format name
+     */
+    public String getPixelFormat() {
+        return pixelFormat;
+    }
+
+    /**
+     * Returns the number of bytes a single frame occupies in this format.
+     *
+     * @param width  frame width
+     * @param height frame height
+     * @return frame size in bytes
+     */
+    public int getFrameSize(final int width, final int height) {
+        if (this == RGBA) {
+            return width * height * 4;
+        } else {
+            return width * height + 2 * (((width + 1) / 2) * ((height + 1) / 2));
+        }
+    }
+
+}
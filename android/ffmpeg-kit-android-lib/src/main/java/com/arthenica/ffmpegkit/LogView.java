@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Reusable view of a log entry passed to {@link LogViewCallback}.
+ *
+ * <p>The library reuses the same instance and message buffer for every log delivered on a
+ * callback thread. A view and its message are only valid during the callback invocation. Use
+ * {@link #toLog()} or {@link CharSequence#toString()} to keep a copy.
+ */
+public class LogView {
+
+    /**
+     * <code>CharSequence</code> over the reusable message buffer.
+     */
+    private class Message implements CharSequence {
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(String.format("Index %d is out of range [0, %d).", index, length));
+            }
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException(String.format("Range [%d, %d) is out of range [0, %d).", start, end, length));
+            }
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+
+    private long sessionId;
+    private Level level;
+    private char[] chars;
+    private CharBuffer charBuffer;
+    private int length;
+    private final Message message;
+    private final CharsetDecoder decoder;
+
+    LogView() {
+        this.chars = new char[256];
+        this.charBuffer = CharBuffer.wrap(chars);
+        this.length = 0;
+        this.message = new Message();
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Returns the id of the session that generated this log.
+     *
+     * @return session id
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Returns the level of this log.
+     *
+     * @return log level
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * <p>Returns the log message. Calling <code>toString</code> or <code>subSequence</code> on
+     * the returned sequence creates a copy.
+     *
+     * @return log message backed by the reusable buffer
+     */
+    public CharSequence getMessage() {
+        return message;
+    }
+
+    /**
+     * <p>Creates an immutable copy of this view.
+     *
+     * @return log entry holding the same values
+     */
+    public Log toLog() {
+        return new Log(sessionId, level, message.toString());
+    }
+
+    /**
+     * Fills this view with a log received from the native library. The message is decoded as
+     * UTF-8 into the reusable buffer, which grows only when a longer message is received.
+     * Malformed sequences are replaced with U+FFFD, in the same way as
+     * <code>new String(data, StandardCharsets.UTF_8)</code>.
+     *
+     * @param sessionId session id of the log
+     * @param level     log level
+     * @param data      UTF-8 encoded log message
+     */
+    void set(final long sessionId, final Level level, final byte[] data) {
+        this.sessionId = sessionId;
+        this.level = level;
+
+        // A UTF-8 SEQUENCE NEVER PRODUCES MORE CHARS THAN BYTES
+        if (chars.length < data.length) {
+            chars = new char[Math.max(data.length, chars.length * 2)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+
+        charBuffer.clear();
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(data), charBuffer, true);
+        decoder.flush(charBuffer);
+
+        this.length = charBuffer.position();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        stringBuilder.append("LogView{");
+        stringBuilder.append("sessionId=");
+        stringBuilder.append(sessionId);
+        stringBuilder.append(", level=");
+        stringBuilder.append(level);
+        stringBuilder.append(", message=");
+        stringBuilder.append("\'");
+        stringBuilder.append(message);
+        stringBuilder.append('\'');
+        stringBuilder.append('}');
+
+        return stringBuilder.toString();
+    }
+}
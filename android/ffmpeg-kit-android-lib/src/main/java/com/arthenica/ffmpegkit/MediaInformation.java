@@ -19,6 +19,10 @@
 
 package com.arthenica.ffmpegkit;
 
+import com.arthenica.smartexception.java.Exceptions;
+
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.util.List;
@@ -274,4 +278,70 @@ public class MediaInformation {
         return jsonObject;
     }
 
+    /**
+     * Returns the properties selected by the given fields.
+     * <p>A field is a dot separated path like <code>format.duration</code>. When a path element
+     * points to an array, the rest of the path is applied to every element of that array, e.g.
+     * <code>streams.codec_name</code> selects the codec name of all streams. A path that ends on
+     * an object or an array selects all of its content.
+     *
+     * @param fields fields to select
+     * @return selected properties as a new JSONObject or all properties if no fields are given
+     */
+    public JSONObject getProperties(final List<String> fields) {
+        if (fields == null || fields.isEmpty() || jsonObject == null) {
+            return jsonObject;
+        }
+
+        final JSONObject projection = new JSONObject();
+        for (String field : fields) {
+            if (field != null && !field.isEmpty()) {
+                project(jsonObject, projection, field.split("\\."), 0);
+            }
+        }
+
+        return projection;
+    }
+
+    private static void project(final JSONObject source, final JSONObject target, final String[] path, final int index) {
+        final String key = path[index];
+        final Object value = source.opt(key);
+        final Object current = target.opt(key);
+        if (value == null || current == value) {
+            return;
+        }
+
+        try {
+            if (index == path.length - 1) {
+                target.put(key, value);
+            } else if (value instanceof JSONObject) {
+                JSONObject child = target.optJSONObject(key);
+                if (child == null) {
+                    child = new JSONObject();
+                    target.put(key, child);
+                }
+                project((JSONObject) value, child, path, index + 1);
+            } else if (value instanceof JSONArray) {
+                final JSONArray sourceArray = (JSONArray) value;
+                JSONArray targetArray = target.optJSONArray(key);
+                if (targetArray == null) {
+                    targetArray = new JSONArray();
+                    for (int i = 0; i < sourceArray.length(); i++) {
+                        targetArray.put(new JSONObject());
+                    }
+                    target.put(key, targetArray);
+                }
+                for (int i = 0; i < sourceArray.length(); i++) {
+                    final JSONObject element = sourceArray.optJSONObject(i);
+                    final JSONObject targetElement = targetArray.optJSONObject(i);
+                    if (element != null && targetElement != null) {
+                        project(element, targetElement, path, index + 1);
+                    }
+                }
+            }
+        } catch (final JSONException e) {
+            android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to select media information field %s.%s", key, Exceptions.getStackTraceString(e)));
+        }
+    }
+
 }
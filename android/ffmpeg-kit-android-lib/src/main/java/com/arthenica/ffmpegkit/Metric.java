@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Base class for metrics registered in {@link FFmpegKitMetrics}.
+ */
+public abstract class Metric {
+
+    /**
+     * Unique name of the metric.
+     */
+    protected final String name;
+
+    /**
+     * Human readable description of the metric.
+     */
+    protected final String description;
+
+    /**
+     * Creates a new metric.
+     *
+     * @param name        unique name of the metric
+     * @param description human readable description of the metric
+     */
+    protected Metric(final String name, final String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * Returns the name of this metric.
+     *
+     * @return metric name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the description of this metric.
+     *
+     * @return metric description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the type of this metric.
+     *
+     * @return metric type
+     */
+    public abstract MetricType getType();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A monotonically increasing counter.
+ */
+public class MetricsCounter extends Metric {
+    private final LongAdder value;
+
+    /**
+     * Creates a counter starting from zero.
+     *
+     * @param name        unique name of the metric
+     * @param description human readable description of the metric
+     */
+    public MetricsCounter(final String name, final String description) {
+        super(name, description);
+        this.value = new LongAdder();
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Increments the counter by the given amount.
+     *
+     * @param amount amount to add, must not be negative
+     */
+    public void add(final long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * Returns the current value of the counter.
+     *
+     * @return counter value
+     */
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public MetricType getType() {
+        return MetricType.COUNTER;
+    }
+
+}
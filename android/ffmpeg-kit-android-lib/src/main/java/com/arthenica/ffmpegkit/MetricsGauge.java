@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A value that can go up and down. A gauge either tracks its own value through
+ * {@link #increment()} and {@link #decrement()} or reads it from a supplier each time it is
+ * queried.
+ */
+public class MetricsGauge extends Metric {
+    private final LongAdder value;
+    private final LongSupplier supplier;
+
+    /**
+     * Creates a gauge that tracks its own value, starting from zero.
+     *
+     * @param name        unique name of the metric
+     * @param description human readable description of the metric
+     */
+    public MetricsGauge(final String name, final String description) {
+        this(name, description, null);
+    }
+
+    /**
+     * Creates a gauge that reads its value from a supplier.
+     *
+     * @param name        unique name of the metric
+     * @param description human readable description of the metric
+     * @param supplier    supplier called each time the gauge is read, or null to track the value
+     *                    with {@link #increment()} and {@link #decrement()}
+     */
+    public MetricsGauge(final String name, final String description, final LongSupplier supplier) {
+        super(name, description);
+        this.value = new LongAdder();
+        this.supplier = supplier;
+    }
+
+    /**
+     * Increments the gauge by one.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Decrements the gauge by one.
+     */
+    public void decrement() {
+        value.decrement();
+    }
+
+    /**
+     * Returns the current value of the gauge.
+     *
+     * @return gauge value
+     */
+    public long get() {
+        if (supplier != null) {
+            return supplier.getAsLong();
+        }
+
+        return value.sum();
+    }
+
+    @Override
+    public MetricType getType() {
+        return MetricType.GAUGE;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A histogram with fixed bucket boundaries.
+ *
+ * <p>Each bucket counts the values less than or equal to its upper bound and greater than the
+ * bound of the previous bucket. Values greater than the last bound are counted in an extra
+ * overflow bucket.
+ */
+public class MetricsHistogram extends Metric {
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+
+    /**
+     * Creates a new histogram.
+     *
+     * @param name        unique name of the metric
+     * @param description human readable description of the metric
+     * @param bounds      upper bounds of the buckets in ascending order
+     */
+    public MetricsHistogram(final String name, final String description, final long... bounds) {
+        super(name, description);
+        this.bounds = Arrays.copyOf(bounds, bounds.length);
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+    }
+
+    /**
+     * Records a new value.
+     *
+     * @param value value to record
+     */
+    public void record(final long value) {
+        int index = 0;
+        while (index < bounds.length && value > bounds[index]) {
+            index++;
+        }
+
+        buckets[index].increment();
+        count.increment();
+        sum.add(value);
+    }
+
+    /**
+     * Returns the upper bounds of the buckets.
+     *
+     * @return bucket bounds, excluding the overflow bucket
+     */
+    public long[] getBounds() {
+        return Arrays.copyOf(bounds, bounds.length);
+    }
+
+    /**
+     * Returns the number of values recorded in each bucket. The last element is the overflow
+     * bucket.
+     *
+     * @return bucket counts
+     */
+    public long[] getBucketCounts() {
+        final long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+
+        return counts;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return number of values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of values recorded.
+     *
+     * @return sum of values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    public MetricType getType() {
+        return MetricType.HISTOGRAM;
+    }
+
+}
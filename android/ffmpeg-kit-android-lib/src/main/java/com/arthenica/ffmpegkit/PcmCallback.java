@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Callback function that receives PCM audio chunks streamed by {@link AudioStreamer}.
+ */
+@FunctionalInterface
+public interface PcmCallback {
+
+    /**
+     * <p>Called when a chunk of PCM audio is decoded.
+     *
+     * <p>Buffer given is owned by the streamer and reused for the next chunk. Its content must be
+     * consumed or copied before this method returns. All chunks have the same size except the
+     * last one, which may be shorter.
+     *
+     * @param position index of the first sample frame in this chunk, counted from the start of
+     *                 the stream
+     * @param pcm      interleaved little-endian samples, positioned at zero and limited to the
+     *                 chunk size
+     */
+    void apply(final long position, final ByteBuffer pcm);
+
+}
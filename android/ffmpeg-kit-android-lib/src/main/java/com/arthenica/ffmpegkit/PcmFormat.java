@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Lists raw PCM sample formats supported by {@link AudioStreamer}. All formats are
+ * interleaved and little-endian.
+ */
+public enum PcmFormat {
+
+    /**
+     * Signed 16-bit integer samples.
+     */
+    S16LE("s16le", 2),
+
+    /**
+     * Signed 32-bit integer samples.
+     */
+    S32LE("s32le", 4),
+
+    /**
+     * 32-bit floating point samples.
+     */
+    F32LE("f32le", 4);
+
+    private final String muxer;
+    private final int bytesPerSample;
+
+    PcmFormat(final String muxer, final int bytesPerSample) {
+        this.muxer = muxer;
+        this.bytesPerSample = bytesPerSample;
+    }
+
+    /**
+     * Returns the name of the <code>FFmpeg</code> raw muxer that writes this format.
+     *
+     * @return FFmpeg muxer name
+     */
+    public String getMuxer() {
+        return muxer;
+    }
+
+    /**
+     * Returns the size of a single sample of a single channel.
+     *
+     * @return number of bytes per sample
+     */
+    public int getBytesPerSample() {
+        return bytesPerSample;
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Callback function that receives progress updates of a {@link PipeWriter}.
+ */
+@FunctionalInterface
+public interface PipeWriteProgressCallback {
+
+    /**
+     * <p>Called periodically while the input is being written and once more after the last byte
+     * is written.
+     *
+     * @param bytesWritten number of bytes written to the pipe so far
+     * @param totalBytes   size of the input in bytes, -1 if the input is not a regular file
+     */
+    void apply(final long bytesWritten, final long totalBytes);
+
+}
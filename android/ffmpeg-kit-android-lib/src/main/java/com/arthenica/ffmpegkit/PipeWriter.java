@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Copies a file into a named pipe created by {@link FFmpegKitConfig#registerNewFFmpegPipe}.
+ *
+ * <p>Data is copied in-process with {@link FileChannel#transferTo}, which lets the kernel move
+ * bytes between the two descriptors without spawning a shell or copying them through the Java
+ * heap. Input is transferred in chunks of the buffer size given, which limits how much data is
+ * written before cancellation is checked and progress is reported.
+ *
+ * <p>Inputs that are not regular files, e.g. other pipes or devices, do not have a known size.
+ * They are copied through a reused buffer until end of stream. The same copy loop continues a
+ * regular file if <code>transferTo</code> stops making progress.
+ * <pre>
+ * PipeWriter writer = PipeWriter.create(inputPath, pipePath, PipeWriter.DEFAULT_BUFFER_SIZE, (written, total) -&gt; { ... });
+ * long bytesWritten = writer.write();
+ * </pre>
+ */
+public class PipeWriter {
+
+    /**
+     * Default number of bytes transferred in a single chunk.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Minimum time between two progress updates, in milliseconds.
+     */
+    public static final int PROGRESS_INTERVAL = 100;
+
+    private static final AtomicLong writerIdGenerator = new AtomicLong(1);
+
+    private final long writerId;
+    private final String inputPath;
+    private final String pipePath;
+    private final int bufferSize;
+    private final PipeWriteProgressCallback progressCallback;
+    private final AtomicBoolean started;
+    private volatile boolean cancelled;
+    private volatile FileChannel outputChannel;
+    private volatile long bytesWritten;
+    private volatile long totalBytes;
+
+    private PipeWriter(final String inputPath, final String pipePath, final int bufferSize, final PipeWriteProgressCallback progressCallback) {
+        this.writerId = writerIdGenerator.getAndIncrement();
+        this.inputPath = inputPath;
+        this.pipePath = pipePath;
+        this.bufferSize = (bufferSize > 0) ? bufferSize : DEFAULT_BUFFER_SIZE;
+        this.progressCallback = progressCallback;
+        this.started = new AtomicBoolean(false);
+        this.cancelled = false;
+        this.bytesWritten = 0;
+        this.totalBytes = -1;
+    }
+
+    /**
+     * <p>Creates a new pipe writer that uses the default buffer size and does not report progress.
+     *
+     * @param inputPath path of the file to copy
+     * @param pipePath  path of the pipe to write
+     * @return created pipe writer
+     */
+    public static PipeWriter create(final String inputPath, final String pipePath) {
+        return new PipeWriter(inputPath, pipePath, DEFAULT_BUFFER_SIZE, null);
+    }
+
+    /**
+     * <p>Creates a new pipe writer.
+     *
+     * @param inputPath        path of the file to copy
+     * @param pipePath         path of the pipe to write
+     * @param bufferSize       number of bytes transferred in a single chunk, default buffer size
+     *                         is used if it is not positive
+     * @param progressCallback callback that will receive progress updates, may be null
+     * @return created pipe writer
+     */
+    public static PipeWriter create(final String inputPath, final String pipePath, final int bufferSize, final PipeWriteProgressCallback progressCallback) {
+        return new PipeWriter(inputPath, pipePath, bufferSize, progressCallback);
+    }
+
+    /**
+     * <p>Copies the input into the pipe. Blocks until a reader opens the pipe and all bytes are
+     * written. A writer can be started only once.
+     *
+     * @return number of bytes written
+     * @throws IOException           if the input can not be read or the pipe can not be written
+     * @throws CancellationException if the writer is cancelled
+     * @throws IllegalStateException if the writer is already started
+     */
+    public long write() throws IOException {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException(String.format("Pipe writer %d is already started.", writerId));
+        }
+        checkCancelled();
+
+        try (final FileInputStream inputStream = new FileInputStream(inputPath);
+             final FileOutputStream outputStream = new FileOutputStream(pipePath)) {
+            final FileChannel inputChannel = inputStream.getChannel();
+            outputChannel = outputStream.getChannel();
+            checkCancelled();
+
+            final long size = new File(inputPath).isFile() ? inputChannel.size() : -1;
+            totalBytes = size;
+
+            long position = 0;
+            long lastProgressTime = System.currentTimeMillis();
+            while (position < size) {
+                final long transferred = inputChannel.transferTo(position, Math.min(bufferSize, size - position), outputChannel);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                lastProgressTime = updateProgress(position, size, lastProgressTime);
+            }
+
+            if (size < 0 || position < size) {
+
+                // SIZE IS NOT KNOWN OR transferTo STOPPED, COPY UNTIL END OF STREAM
+                if (position > 0) {
+                    inputChannel.position(position);
+                }
+                final ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+                while (inputChannel.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        position += outputChannel.write(buffer);
+                    }
+                    buffer.clear();
+                    lastProgressTime = updateProgress(position, size, lastProgressTime);
+                }
+            }
+
+            if (progressCallback != null) {
+                progressCallback.apply(position, size);
+            }
+
+            return position;
+        } catch (final ClosedChannelException e) {
+            checkCancelled();
+            throw e;
+        } finally {
+            outputChannel = null;
+        }
+    }
+
+    /**
+     * <p>Cancels writing. A write blocked on a full pipe is interrupted by closing the pipe.
+     *
+     * <p>Note that a writer still waiting for a reader to open the pipe is only released when a
+     * reader opens it.
+     */
+    public void cancel() {
+        cancelled = true;
+
+        final FileChannel channel = outputChannel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                android.util.Log.w(FFmpegKitConfig.TAG, String.format("Failed to close pipe %s while cancelling writer %d.%s", pipePath, writerId, Exceptions.getStackTraceString(e)));
+            }
+        }
+    }
+
+    public long getWriterId() {
+        return writerId;
+    }
+
+    public String getInputPath() {
+        return inputPath;
+    }
+
+    public String getPipePath() {
+        return pipePath;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns whether {@link #write()} is already called for this writer.
+     *
+     * @return true if the writer is started, false otherwise
+     */
+    public boolean isStarted() {
+        return started.get();
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the size of the input.
+     *
+     * @return size of the input in bytes or -1 if writing has not started yet or the input is not
+     * a regular file
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private long updateProgress(final long position, final long size, final long lastProgressTime) {
+        bytesWritten = position;
+        checkCancelled();
+
+        final long now = System.currentTimeMillis();
+        if (progressCallback != null && now - lastProgressTime >= PROGRESS_INTERVAL) {
+            progressCallback.apply(position, size);
+            return now;
+        }
+
+        return lastProgressTime;
+    }
+
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException(String.format("Writing %s to pipe %s cancelled.", inputPath, pipePath));
+        }
+    }
+
+}
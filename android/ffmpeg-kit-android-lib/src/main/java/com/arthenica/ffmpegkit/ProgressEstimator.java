@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+
+/**
+ * <p>Estimates the progress and remaining time of an FFmpeg session.
+ *
+ * <p>The expected output duration is calculated from the command arguments. An output
+ * <code>-t</code> or <code>-to</code> option is used directly. Otherwise the duration of each
+ * input is trimmed by its own <code>-ss</code>, <code>-t</code>, <code>-to</code> and
+ * <code>-stream_loop</code> options, and the longest input, or the shortest one when
+ * <code>-shortest</code> is used, defines the output duration.
+ *
+ * <p>Input durations are read once, when the session starts, from media information sessions in
+ * the session history that probed the same file. Inputs that were not probed before are only
+ * probed when auto probing is enabled, see {@link #setAutoProbeEnabled(boolean)}.
+ *
+ * <p>Remaining time is calculated with the speed of the session, smoothed with an exponentially
+ * weighted moving average so a single slow or fast statistics entry does not make it jump.
+ */
+public class ProgressEstimator {
+
+    /**
+     * Weight of the latest speed value in the moving average.
+     */
+    public static final double SPEED_SMOOTHING_FACTOR = 0.3;
+
+    private static volatile boolean autoProbeEnabled = false;
+
+    static class Input {
+        private final String path;
+        private final double start;
+        private final double duration;
+        private final double end;
+        private final int loopCount;
+        private final boolean probeable;
+        private volatile double probedDuration;
+
+        Input(final String path, final double start, final double duration, final double end, final int loopCount, final boolean probeable) {
+            this.path = path;
+            this.start = start;
+            this.duration = duration;
+            this.end = end;
+            this.loopCount = loopCount;
+            this.probeable = probeable;
+            this.probedDuration = -1;
+        }
+
+        /**
+         * Returns the duration this input contributes to the output.
+         *
+         * @return duration in milliseconds or -1 if it is not known
+         */
+        double getEffectiveDuration() {
+            double available = -1;
+            if (probedDuration >= 0 && loopCount >= 0) {
+                available = Math.max(0, probedDuration * (loopCount + 1) - Math.max(0, start));
+            }
+
+            double requested = -1;
+            if (duration >= 0) {
+                requested = duration;
+            } else if (end >= 0) {
+                requested = Math.max(0, end - Math.max(0, start));
+            }
+
+            if (requested >= 0 && available >= 0) {
+                return Math.min(requested, available);
+            }
+            return (requested >= 0) ? requested : available;
+        }
+    }
+
+    private final List<Input> inputs;
+    private final double outputStart;
+    private final double outputDuration;
+    private final double outputEnd;
+    private final boolean shortest;
+    private double smoothedSpeed;
+    private double progress;
+    private long estimatedTimeRemaining;
+
+    ProgressEstimator(final List<Input> inputs, final double outputStart, final double outputDuration, final double outputEnd, final boolean shortest) {
+        this.inputs = inputs;
+        this.outputStart = outputStart;
+        this.outputDuration = outputDuration;
+        this.outputEnd = outputEnd;
+        this.shortest = shortest;
+        this.smoothedSpeed = -1;
+        this.progress = -1;
+        this.estimatedTimeRemaining = -1;
+    }
+
+    /**
+     * <p>Creates an estimator for the given FFmpeg arguments.
+     *
+     * @param arguments FFmpeg command arguments
+     * @return progress estimator
+     */
+    public static ProgressEstimator create(final String[] arguments) {
+        final List<Input> inputs = new ArrayList<>();
+        double start = -1;
+        double duration = -1;
+        double end = -1;
+        int loopCount = 0;
+        String format = null;
+        boolean shortest = false;
+
+        if (arguments != null) {
+            for (int i = 0; i < arguments.length; i++) {
+                final String argument = arguments[i];
+                if ("-shortest".equals(argument)) {
+                    shortest = true;
+                    continue;
+                }
+                if (i + 1 >= arguments.length) {
+                    continue;
+                }
+
+                final String value = arguments[i + 1];
+                switch (argument) {
+                    case "-i":
+                        inputs.add(new Input(value, start, duration, end, loopCount, isProbeable(value, format)));
+                        start = -1;
+                        duration = -1;
+                        end = -1;
+                        loopCount = 0;
+                        format = null;
+                        i++;
+                        break;
+                    case "-ss":
+                        start = parseTime(value);
+                        i++;
+                        break;
+                    case "-t":
+                        duration = parseTime(value);
+                        i++;
+                        break;
+                    case "-to":
+                        end = parseTime(value);
+                        i++;
+                        break;
+                    case "-stream_loop":
+                        try {
+                            loopCount = Integer.parseInt(value);
+                        } catch (final NumberFormatException e) {
+                            loopCount = 0;
+                        }
+                        i++;
+                        break;
+                    case "-f":
+                        format = value;
+                        i++;
+                        break;
+                }
+            }
+        }
+
+        /* OPTIONS AFTER THE LAST INPUT ARE OUTPUT OPTIONS */
+        return new ProgressEstimator(inputs, start, duration, end, shortest);
+    }
+
+    /**
+     * Returns whether inputs with unknown durations are probed when a session starts.
+     *
+     * @return true if auto probing is enabled
+     */
+    public static boolean isAutoProbeEnabled() {
+        return autoProbeEnabled;
+    }
+
+    /**
+     * <p>Sets whether inputs with unknown durations are probed when a session starts. Auto
+     * probing is disabled by default.
+     *
+     * <p>Each probe is a regular {@link MediaInformationSession}. It is added to the session
+     * history, its logs are delivered to the global log callback and it runs on the async
+     * executor, taking a slot of the async concurrency limit.
+     *
+     * @param autoProbeEnabled true to probe inputs automatically
+     */
+    public static void setAutoProbeEnabled(final boolean autoProbeEnabled) {
+        ProgressEstimator.autoProbeEnabled = autoProbeEnabled;
+    }
+
+    /**
+     * Returns the expected duration of the output.
+     *
+     * @return expected duration in milliseconds, zero if it is not known
+     */
+    public long getExpectedDuration() {
+        final double argumentDuration = getArgumentDuration();
+        double inputDuration = -1;
+        for (Input input : inputs) {
+            final double effectiveDuration = input.getEffectiveDuration();
+            if (effectiveDuration >= 0) {
+                if (inputDuration < 0) {
+                    inputDuration = effectiveDuration;
+                } else {
+                    inputDuration = shortest ? Math.min(inputDuration, effectiveDuration) : Math.max(inputDuration, effectiveDuration);
+                }
+            }
+        }
+        if (inputDuration >= 0) {
+            inputDuration = Math.max(0, inputDuration - Math.max(0, outputStart));
+        }
+
+        if (argumentDuration >= 0 && inputDuration >= 0) {
+            return (long) Math.min(argumentDuration, inputDuration);
+        }
+        return (long) Math.max(0, Math.max(argumentDuration, inputDuration));
+    }
+
+    /**
+     * Returns the progress calculated with the last statistics entry.
+     *
+     * @return progress between 0 and 1, or -1 if it can not be estimated
+     */
+    public synchronized double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Returns the remaining time calculated with the last statistics entry.
+     *
+     * @return remaining time in milliseconds, or -1 if it can not be estimated
+     */
+    public synchronized long getEstimatedTimeRemaining() {
+        return estimatedTimeRemaining;
+    }
+
+    /**
+     * Returns the smoothed processing speed.
+     *
+     * @return smoothed speed or -1 if no positive speed was received
+     */
+    public synchronized double getSmoothedSpeed() {
+        return smoothedSpeed;
+    }
+
+    /**
+     * Resolves input durations from the session history and starts probing the remaining
+     * inputs if auto probing is enabled.
+     */
+    void start() {
+        if (!resolveInputDurations() && autoProbeEnabled && getArgumentDuration() < 0) {
+            for (Input input : inputs) {
+                if (input.probeable && input.probedDuration < 0) {
+                    FFprobeKit.getMediaInformationAsync(input.path, session -> {
+                        final MediaInformation mediaInformation = session.getMediaInformation();
+                        if (mediaInformation != null) {
+                            input.probedDuration = parseDuration(mediaInformation);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the estimation with a new statistics entry. The given entry is not modified, the
+     * estimation is returned in a copy of it.
+     *
+     * @param statistics statistics entry
+     * @return copy of the statistics entry that includes progress and remaining time
+     */
+    Statistics update(final Statistics statistics) {
+        final long expectedDuration = getExpectedDuration();
+
+        synchronized (this) {
+            if (statistics.getSpeed() > 0) {
+                if (smoothedSpeed < 0) {
+                    smoothedSpeed = statistics.getSpeed();
+                } else {
+                    smoothedSpeed = SPEED_SMOOTHING_FACTOR * statistics.getSpeed() + (1 - SPEED_SMOOTHING_FACTOR) * smoothedSpeed;
+                }
+            }
+
+            if (expectedDuration > 0) {
+                final double remaining = Math.max(0, expectedDuration - statistics.getTime());
+                progress = Math.min(1, Math.max(0, statistics.getTime() / expectedDuration));
+                estimatedTimeRemaining = (smoothedSpeed > 0) ? (long) (remaining / smoothedSpeed) : -1;
+            } else {
+                progress = -1;
+                estimatedTimeRemaining = -1;
+            }
+
+            return new Statistics(statistics.getSessionId(), statistics.getVideoFrameNumber(), statistics.getVideoFps(), statistics.getVideoQuality(), statistics.getSize(), statistics.getTime(), statistics.getBitrate(), statistics.getSpeed(), progress, estimatedTimeRemaining);
+        }
+    }
+
+    /**
+     * Fills unknown input durations from media information sessions in the session history.
+     *
+     * @return true if all inputs that can be probed have a known duration
+     */
+    boolean resolveInputDurations() {
+        boolean resolved = true;
+        List<MediaInformationSession> mediaInformationSessions = null;
+
+        for (Input input : inputs) {
+            if (!input.probeable || input.probedDuration >= 0) {
+                continue;
+            }
+            if (mediaInformationSessions == null) {
+                mediaInformationSessions = FFmpegKitConfig.getMediaInformationSessions();
+            }
+
+            final ListIterator<MediaInformationSession> iterator = mediaInformationSessions.listIterator(mediaInformationSessions.size());
+            while (iterator.hasPrevious() && input.probedDuration < 0) {
+                final MediaInformation mediaInformation = iterator.previous().getMediaInformation();
+                if (mediaInformation != null && input.path.equals(mediaInformation.getFilename())) {
+                    input.probedDuration = parseDuration(mediaInformation);
+                }
+            }
+            resolved &= (input.probedDuration >= 0);
+        }
+
+        return resolved;
+    }
+
+    private double getArgumentDuration() {
+        if (outputDuration >= 0) {
+            return outputDuration;
+        } else if (outputEnd >= 0) {
+            return Math.max(0, outputEnd - Math.max(0, outputStart));
+        } else {
+            return -1;
+        }
+    }
+
+    private static boolean isProbeable(final String path, final String format) {
+        return !"lavfi".equals(format) && !"-".equals(path) && !path.startsWith("pipe:") && !path.startsWith("fd:");
+    }
+
+    private static double parseDuration(final MediaInformation mediaInformation) {
+        final String duration = mediaInformation.getDuration();
+        if (duration != null) {
+            try {
+                return Double.parseDouble(duration) * 1000;
+            } catch (final NumberFormatException e) {
+                android.util.Log.w(FFmpegKitConfig.TAG, String.format("Invalid duration %s for %s.%s", duration, mediaInformation.getFilename(), Exceptions.getStackTraceString(e)));
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * <p>Parses an FFmpeg time duration, either <code>[-][HH:]MM:SS[.m...]</code> or
+     * <code>[-]S+[.m...][s|ms|us]</code>.
+     *
+     * @param value time duration
+     * @return duration in milliseconds or -1 if it can not be parsed
+     */
+    static double parseTime(final String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+
+        try {
+            if (value.contains(":")) {
+                final String[] parts = value.split(":");
+                if (parts.length > 3) {
+                    return -1;
+                }
+                double seconds = 0;
+                for (String part : parts) {
+                    seconds = seconds * 60 + Double.parseDouble(part);
+                }
+                return seconds * 1000;
+            } else if (value.endsWith("ms")) {
+                return Double.parseDouble(value.substring(0, value.length() - 2));
+            } else if (value.endsWith("us")) {
+                return Double.parseDouble(value.substring(0, value.length() - 2)) / 1000;
+            } else if (value.endsWith("s")) {
+                return Double.parseDouble(value.substring(0, value.length() - 1)) * 1000;
+            } else {
+                return Double.parseDouble(value) * 1000;
+            }
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "ProgressEstimator{expectedDuration=%d, progress=%s, estimatedTimeRemaining=%d, smoothedSpeed=%s}", getExpectedDuration(), getProgress(), getEstimatedTimeRemaining(), getSmoothedSpeed());
+    }
+
+}
@@ -111,6 +111,36 @@ public interface Session {
      */
     List<Log> getLogs();
 
+    /**
+     * Returns log entries delivered for this session starting from the given index. Allows
+     * clients polling a running session to fetch only new entries by passing the number of
+     * entries they already received as the index. Note that if there are asynchronous log
+     * messages that are not delivered yet, this method will not wait for them.
+     *
+     * <p>The default implementation selects the entries from {@link #getLogs()}.
+     *
+     * @param index index of the first log entry to return
+     * @param max   maximum number of log entries to return, zero or a negative value returns all
+     *              entries after the index
+     * @return list of log entries received for this session after the given index
+     */
+    default List<Log> getLogsSince(final int index, final int max) {
+        return AbstractSession.sublist(getLogs(), index, max);
+    }
+
+    /**
+     * Returns the number of log entries delivered for this session. Matches the size of the list
+     * returned by {@link #getLogs()}, so it can be used as the index of the next
+     * {@link #getLogsSince(int, int)} call.
+     *
+     * <p>The default implementation counts the entries of {@link #getLogs()}.
+     *
+     * @return number of log entries received for this session
+     */
+    default int getLogCount() {
+        return getLogs().size();
+    }
+
     /**
      * Returns all log entries generated for this session as a concatenated string. If there are
      * asynchronous messages that are not delivered yet, this method waits for them until
@@ -206,6 +236,18 @@ public interface Session {
      */
     Future<?> getFuture();
 
+    /**
+     * Returns the performance metrics collected for this session.
+     *
+     * <p>Metrics are only collected for sessions created by the library. The default
+     * implementation returns empty metrics.
+     *
+     * @return session metrics
+     */
+    default SessionMetrics getMetrics() {
+        return new SessionMetrics();
+    }
+
     /**
      * Returns whether it is an <code>FFmpeg</code> session or not.
      *
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>Serial executor that runs the log and statistics callbacks of a single session in
+ * submission order on a shared thread pool.
+ *
+ * <p>Pending callbacks are bounded by {@link FFmpegKitConfig#getCallbackBacklogLimit()} and
+ * {@link FFmpegKitConfig#getCallbackOverflowPolicy()} decides what happens when the limit is
+ * reached.
+ */
+class SessionCallbackExecutor implements Executor {
+
+    private static class Task {
+        final Runnable runnable;
+        final long enqueueNanos;
+
+        Task(final Runnable runnable, final long enqueueNanos) {
+            this.runnable = runnable;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+
+    private final SessionMetrics metrics;
+    private final ArrayDeque<Task> tasks;
+    private final Object lock;
+    private boolean scheduled;
+
+    SessionCallbackExecutor(final SessionMetrics metrics) {
+        this.metrics = metrics;
+        this.tasks = new ArrayDeque<>();
+        this.lock = new Object();
+        this.scheduled = false;
+    }
+
+    @Override
+    public void execute(final Runnable runnable) {
+        final Task task = new Task(runnable, System.nanoTime());
+        final int backlogLimit = FFmpegKitConfig.getCallbackBacklogLimit();
+        boolean schedule = false;
+
+        synchronized (lock) {
+            if (tasks.size() >= backlogLimit) {
+                switch (FFmpegKitConfig.getCallbackOverflowPolicy()) {
+                    case DROP_NEWEST: {
+                        dropped();
+                        return;
+                    }
+                    case DROP_OLDEST: {
+                        tasks.poll();
+                        dropped();
+                    }
+                    break;
+                    case BLOCK:
+                    default: {
+                        try {
+                            while (tasks.size() >= backlogLimit) {
+                                lock.wait();
+                            }
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            dropped();
+                            return;
+                        }
+                    }
+                    break;
+                }
+            }
+
+            tasks.add(task);
+            if (!scheduled) {
+                scheduled = true;
+                schedule = true;
+            }
+        }
+
+        if (schedule) {
+            try {
+                FFmpegKitConfig.getCallbackExecutorService().execute(this::drain);
+            } catch (final RejectedExecutionException e) {
+                android.util.Log.w(FFmpegKitConfig.TAG, String.format("Callback executor rejected the callbacks, running them on the calling thread.%s", Exceptions.getStackTraceString(e)));
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of callbacks waiting to be executed.
+     *
+     * @return number of pending callbacks
+     */
+    int getBacklog() {
+        synchronized (lock) {
+            return tasks.size();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Task task;
+            synchronized (lock) {
+                task = tasks.poll();
+                if (task == null) {
+                    scheduled = false;
+                    return;
+                }
+                lock.notifyAll();
+            }
+
+            try {
+                task.runnable.run();
+            } catch (final RuntimeException e) {
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session callback executor.%s", Exceptions.getStackTraceString(e)));
+            }
+            metrics.recordCallbackLatency(System.nanoTime() - task.enqueueNanos);
+        }
+    }
+
+    private void dropped() {
+        metrics.recordDroppedCallback();
+        metrics.recordDroppedMessage();
+        FFmpegKitMetrics.messageDropped();
+    }
+
+}
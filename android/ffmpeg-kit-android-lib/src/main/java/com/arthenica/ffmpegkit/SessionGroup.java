@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import com.arthenica.smartexception.java.Exceptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A group of related <code>FFmpeg</code> sessions scheduled together.
+ *
+ * <p>Provides group level completion, cancellation and aggregated statistics. Groups are
+ * created using {@link FFmpegKit#executeBatchAsync(List, SessionGroupCompleteCallback)}.
+ */
+public class SessionGroup {
+
+    /**
+     * Session id used in aggregated statistics. Real session ids are always positive.
+     */
+    public static final long AGGREGATED_SESSION_ID = -1;
+
+    /**
+     * Generates ids for session groups.
+     */
+    private static final AtomicLong groupIdGenerator = new AtomicLong(1);
+
+    private final long groupId;
+    private final List<FFmpegSession> sessions;
+    private final SessionGroupCompleteCallback completeCallback;
+    private final Set<Long> endedSessionIds;
+    private final Object lock;
+    private final ExecutorService executorService;
+    private boolean cancelled;
+
+    private SessionGroup(final SessionGroupCompleteCallback completeCallback, final ExecutorService executorService) {
+        this.groupId = groupIdGenerator.getAndIncrement();
+        this.sessions = new ArrayList<>();
+        this.completeCallback = completeCallback;
+        this.endedSessionIds = new HashSet<>();
+        this.lock = new Object();
+        this.executorService = executorService;
+        this.cancelled = false;
+    }
+
+    /**
+     * <p>Creates the sessions of a new group and starts executing them asynchronously.
+     *
+     * @param argumentsList      FFmpeg command options/arguments of each session
+     * @param completeCallback   callback that will be called when all sessions end
+     * @param logCallback        callback that will receive logs of all sessions
+     * @param statisticsCallback callback that will receive statistics of all sessions
+     * @param executorService    executor service that will be used to run sessions or null to use
+     *                           the default executor
+     * @return session group created
+     */
+    static SessionGroup executeAsync(final List<String[]> argumentsList,
+                                     final SessionGroupCompleteCallback completeCallback,
+                                     final LogCallback logCallback,
+                                     final StatisticsCallback statisticsCallback,
+                                     final ExecutorService executorService) {
+        final SessionGroup group = new SessionGroup(completeCallback, executorService);
+        final FFmpegSessionCompleteCallback sessionCompleteCallback = group::sessionEnded;
+
+        for (String[] arguments : argumentsList) {
+            group.sessions.add(FFmpegSession.create(arguments, sessionCompleteCallback, logCallback, statisticsCallback));
+        }
+
+        if (group.sessions.isEmpty()) {
+            group.notifyComplete();
+        }
+
+        for (FFmpegSession session : group.sessions) {
+            if (executorService == null) {
+                FFmpegKitConfig.asyncFFmpegExecute(session);
+            } else {
+                FFmpegKitConfig.asyncFFmpegExecute(session, executorService);
+            }
+        }
+
+        return group;
+    }
+
+    /**
+     * <p>Builds a single <code>FFmpeg</code> command that reads inputs once and writes multiple
+     * outputs. Input streams are decoded once and frames are shared by encoders of all outputs.
+     *
+     * @param inputArguments      input options and inputs, e.g. <code>-i input.mp4</code>
+     * @param outputArgumentsList options and path of each output, e.g.
+     *                            <code>-c:v mpeg4 -b:v 1M output_1m.mp4</code>
+     * @return arguments of the multi output command
+     */
+    public static String[] buildMultiOutputArguments(final String[] inputArguments, final List<String[]> outputArgumentsList) {
+        final List<String> arguments = new ArrayList<>();
+
+        Collections.addAll(arguments, inputArguments);
+        for (String[] outputArguments : outputArgumentsList) {
+            Collections.addAll(arguments, outputArguments);
+        }
+
+        return arguments.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the group id.
+     *
+     * @return group id
+     */
+    public long getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * Returns sessions of this group, in the order they are created.
+     *
+     * @return sessions of this group
+     */
+    public List<FFmpegSession> getSessions() {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    /**
+     * Returns the group complete callback.
+     *
+     * @return group complete callback
+     */
+    public SessionGroupCompleteCallback getCompleteCallback() {
+        return completeCallback;
+    }
+
+    /**
+     * Returns whether all sessions of this group ended.
+     *
+     * @return true if all sessions ended, false otherwise
+     */
+    public boolean isDone() {
+        synchronized (lock) {
+            return endedSessionIds.size() == sessions.size();
+        }
+    }
+
+    /**
+     * Returns whether this group is cancelled.
+     *
+     * @return true if {@link #cancel()} is called, false otherwise
+     */
+    public boolean isCancelled() {
+        synchronized (lock) {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Returns whether all sessions of this group completed successfully.
+     *
+     * @return true if all sessions completed with a success return code, false otherwise
+     */
+    public boolean isSuccess() {
+        for (FFmpegSession session : sessions) {
+            if (!ReturnCode.isSuccess(session.getReturnCode())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>Cancels all sessions of this group.
+     *
+     * <p>Sessions waiting in the executor queue are removed from the queue and completed with
+     * {@link ReturnCode#CANCEL}. Running sessions, and queued sessions that can not be removed
+     * from the queue of a custom executor, are cancelled in the same way as
+     * {@link FFmpegKit#cancel(long)}. This method does not wait for termination to complete and
+     * returns immediately.
+     */
+    public void cancel() {
+        synchronized (lock) {
+            cancelled = true;
+        }
+
+        for (FFmpegSession session : sessions) {
+            final Future<?> future = session.getFuture();
+            if (future != null && session.getState() == SessionState.CREATED && FFmpegKitConfig.removeQueuedTask(executorService, future)) {
+                future.cancel(false);
+
+                // SESSION NEVER STARTED, ITS COMPLETE CALLBACK WILL NOT BE CALLED
+                session.complete(new ReturnCode(ReturnCode.CANCEL));
+                sessionEnded(session);
+            } else {
+                session.cancel();
+            }
+        }
+    }
+
+    /**
+     * <p>Returns statistics aggregated from the last statistics received by each session.
+     *
+     * <p>Frame numbers, frame rates, sizes and bitrates are summed. Time and speed are taken from
+     * the slowest session, so they describe the progress of the group as a whole. Video quality is
+     * averaged.
+     *
+     * <p>Aggregated statistics do not belong to a single session, their session id is
+     * {@link #AGGREGATED_SESSION_ID}. Use {@link #getGroupId()} to identify the group.
+     *
+     * @return aggregated statistics or null if no statistics are received yet
+     */
+    public Statistics getAggregatedStatistics() {
+        int videoFrameNumber = 0;
+        float videoFps = 0;
+        float videoQuality = 0;
+        long size = 0;
+        double time = Double.MAX_VALUE;
+        double bitrate = 0;
+        double speed = Double.MAX_VALUE;
+        int count = 0;
+
+        for (FFmpegSession session : sessions) {
+            final Statistics statistics = session.getLastReceivedStatistics();
+            if (statistics != null) {
+                videoFrameNumber += statistics.getVideoFrameNumber();
+                videoFps += statistics.getVideoFps();
+                videoQuality += statistics.getVideoQuality();
+                size += statistics.getSize();
+                time = Math.min(time, statistics.getTime());
+                bitrate += statistics.getBitrate();
+                speed = Math.min(speed, statistics.getSpeed());
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return null;
+        }
+
+        return new Statistics(AGGREGATED_SESSION_ID, videoFrameNumber, videoFps, videoQuality / count, size, time, bitrate, speed);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionGroup{" +
+                "groupId=" + groupId +
+                ", sessions=" + sessions.size() +
+                ", ended=" + endedSessionIds.size() +
+                ", cancelled=" + cancelled +
+                '}';
+    }
+
+    private void sessionEnded(final FFmpegSession session) {
+        final boolean groupEnded;
+
+        synchronized (lock) {
+            groupEnded = endedSessionIds.add(session.getSessionId()) && endedSessionIds.size() == sessions.size();
+        }
+
+        if (groupEnded) {
+            notifyComplete();
+        }
+    }
+
+    private void notifyComplete() {
+        if (completeCallback != null) {
+            try {
+                completeCallback.apply(this);
+            } catch (final Exception e) {
+                android.util.Log.e(FFmpegKitConfig.TAG, String.format("Exception thrown inside session group complete callback.%s", Exceptions.getStackTraceString(e)));
+            }
+        }
+    }
+
+}
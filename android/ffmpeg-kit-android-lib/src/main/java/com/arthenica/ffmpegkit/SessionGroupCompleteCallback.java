@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Callback function that is invoked when all sessions of a {@link SessionGroup} end.
+ */
+@FunctionalInterface
+public interface SessionGroupCompleteCallback {
+
+    /**
+     * <p>Called when the last session of the group ends, either by completing, failing or being
+     * cancelled.
+     *
+     * @param sessionGroup session group
+     */
+    void apply(final SessionGroup sessionGroup);
+
+}
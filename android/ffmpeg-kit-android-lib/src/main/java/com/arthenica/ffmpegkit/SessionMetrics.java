@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Performance metrics collected for a single session.
+ *
+ * <p>All durations are measured with {@link System#nanoTime()} and returned in nanoseconds.
+ * Values are updated while the session runs, so a snapshot taken before the session ends
+ * reflects the progress made so far.
+ */
+public class SessionMetrics {
+
+    /**
+     * Number of bytes a single statistics entry occupies when it is passed through JNI.
+     */
+    static final int STATISTICS_ENTRY_SIZE = 52;
+
+    private final long createNanos;
+    private volatile long submitNanos;
+    private volatile long startNanos;
+    private volatile long firstStatisticsNanos;
+    private volatile long endNanos;
+
+    private final AtomicLong logCallbackNanos;
+    private final AtomicLong statisticsCallbackNanos;
+    private final AtomicLong logCount;
+    private final AtomicLong logBytes;
+    private final AtomicLong statisticsCount;
+    private final AtomicLong droppedMessages;
+    private final AtomicLong callbackLatencyNanos;
+    private final AtomicLong callbackCount;
+    private final AtomicLong droppedCallbacks;
+    private volatile long maxCallbackLatencyNanos;
+    private volatile long argumentBytes;
+    private volatile double peakSpeed;
+
+    /**
+     * Creates a new metrics instance. Creation time is recorded as the reference point.
+     */
+    SessionMetrics() {
+        this.createNanos = System.nanoTime();
+        this.logCallbackNanos = new AtomicLong();
+        this.statisticsCallbackNanos = new AtomicLong();
+        this.logCount = new AtomicLong();
+        this.logBytes = new AtomicLong();
+        this.statisticsCount = new AtomicLong();
+        this.droppedMessages = new AtomicLong();
+        this.callbackLatencyNanos = new AtomicLong();
+        this.callbackCount = new AtomicLong();
+        this.droppedCallbacks = new AtomicLong();
+    }
+
+    /**
+     * Returns the time the session waited in the executor queue before it started running.
+     *
+     * @return queue wait time in nanoseconds, zero for sessions executed synchronously
+     */
+    public long getQueueWaitTime() {
+        final long submit = submitNanos;
+        final long start = startNanos;
+        if (submit == 0 || start == 0) {
+            return 0;
+        }
+
+        return start - submit;
+    }
+
+    /**
+     * Returns the time spent in native code before the first statistics entry was received.
+     * This covers argument unpacking, opening inputs and outputs and initialising codecs.
+     *
+     * @return native initialisation time in nanoseconds, zero if no statistics are received
+     */
+    public long getNativeInitTime() {
+        final long start = startNanos;
+        final long firstStatistics = firstStatisticsNanos;
+        if (start == 0 || firstStatistics == 0) {
+            return 0;
+        }
+
+        return firstStatistics - start;
+    }
+
+    /**
+     * Returns the time spent transcoding, measured from the first statistics entry until the
+     * session ended. Sessions that do not generate statistics report their whole run time.
+     *
+     * @return transcode time in nanoseconds, zero if the session is not over yet
+     */
+    public long getTranscodeTime() {
+        final long end = endNanos;
+        if (end == 0) {
+            return 0;
+        }
+
+        final long firstStatistics = firstStatisticsNanos;
+        if (firstStatistics != 0) {
+            return end - firstStatistics;
+        }
+
+        final long start = startNanos;
+        return (start == 0) ? 0 : end - start;
+    }
+
+    /**
+     * Returns the time between the start and the end of the session.
+     *
+     * @return run time in nanoseconds, zero if the session is not over yet
+     */
+    public long getRunTime() {
+        final long start = startNanos;
+        final long end = endNanos;
+        if (start == 0 || end == 0) {
+            return 0;
+        }
+
+        return end - start;
+    }
+
+    /**
+     * Returns the total time between the creation of the session and its end.
+     *
+     * @return total time in nanoseconds, zero if the session is not over yet
+     */
+    public long getTotalTime() {
+        final long end = endNanos;
+        return (end == 0) ? 0 : end - createNanos;
+    }
+
+    /**
+     * Returns the time spent dispatching log entries, including session and global log
+     * callbacks.
+     *
+     * @return log callback time in nanoseconds
+     */
+    public long getLogCallbackTime() {
+        return logCallbackNanos.get();
+    }
+
+    /**
+     * Returns the time spent dispatching statistics entries, including session and global
+     * statistics callbacks.
+     *
+     * @return statistics callback time in nanoseconds
+     */
+    public long getStatisticsCallbackTime() {
+        return statisticsCallbackNanos.get();
+    }
+
+    /**
+     * Returns the number of log lines received from the native library.
+     *
+     * @return number of log lines
+     */
+    public long getLogCount() {
+        return logCount.get();
+    }
+
+    /**
+     * Returns the size of log messages received from the native library.
+     *
+     * @return log size in bytes
+     */
+    public long getLogBytes() {
+        return logBytes.get();
+    }
+
+    /**
+     * Returns the number of statistics entries received from the native library.
+     *
+     * @return number of statistics entries
+     */
+    public long getStatisticsCount() {
+        return statisticsCount.get();
+    }
+
+    /**
+     * Returns the size of the packed command arguments passed to the native library.
+     *
+     * @return argument size in bytes
+     */
+    public long getArgumentBytes() {
+        return argumentBytes;
+    }
+
+    /**
+     * Returns the total number of bytes transferred over JNI for this session, including
+     * arguments, log messages and statistics entries.
+     *
+     * @return transferred bytes
+     */
+    public long getTransferredBytes() {
+        return argumentBytes + logBytes.get() + statisticsCount.get() * STATISTICS_ENTRY_SIZE;
+    }
+
+    /**
+     * Returns the highest speed reported by statistics entries.
+     *
+     * @return peak speed, zero if no statistics are received
+     */
+    public double getPeakSpeed() {
+        return peakSpeed;
+    }
+
+    /**
+     * Returns the number of messages that were received from the native library but not
+     * delivered, e.g. because the callback queue of the session was full. Logs filtered by the
+     * active log level are not counted.
+     *
+     * @return number of dropped messages
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Returns the average time between receiving a log or statistics entry from the native
+     * library and completing its callbacks. In {@link CallbackDispatchMode#SESSION_EXECUTOR} mode
+     * this includes the time spent waiting in the session's callback backlog.
+     *
+     * @return average callback latency in nanoseconds, zero if no callbacks are executed
+     */
+    public long getAverageCallbackLatency() {
+        final long count = callbackCount.get();
+        return (count == 0) ? 0 : callbackLatencyNanos.get() / count;
+    }
+
+    /**
+     * Returns the highest latency observed between receiving a log or statistics entry and
+     * completing its callbacks.
+     *
+     * @return maximum callback latency in nanoseconds
+     */
+    public long getMaxCallbackLatency() {
+        return maxCallbackLatencyNanos;
+    }
+
+    /**
+     * Returns the number of callbacks dropped because the session's callback backlog was full.
+     *
+     * @return number of dropped callbacks
+     */
+    public long getDroppedCallbacks() {
+        return droppedCallbacks.get();
+    }
+
+    boolean isSubmitted() {
+        return submitNanos != 0;
+    }
+
+    boolean isStarted() {
+        return startNanos != 0;
+    }
+
+    void markSubmitted() {
+        submitNanos = System.nanoTime();
+    }
+
+    void markStarted() {
+        startNanos = System.nanoTime();
+    }
+
+    void markEnded() {
+        endNanos = System.nanoTime();
+    }
+
+    void setArgumentBytes(final long argumentBytes) {
+        this.argumentBytes = argumentBytes;
+    }
+
+    void recordLog(final int size, final long callbackNanos) {
+        logCount.incrementAndGet();
+        logBytes.addAndGet(size);
+        logCallbackNanos.addAndGet(callbackNanos);
+    }
+
+    void recordStatistics(final double speed, final long callbackNanos, final long receiveNanos) {
+        if (firstStatisticsNanos == 0) {
+            firstStatisticsNanos = receiveNanos;
+        }
+        statisticsCount.incrementAndGet();
+        statisticsCallbackNanos.addAndGet(callbackNanos);
+
+        // statistics of a session are delivered by a single thread
+        if (speed > peakSpeed) {
+            peakSpeed = speed;
+        }
+    }
+
+    void recordDroppedMessage() {
+        droppedMessages.incrementAndGet();
+    }
+
+    void recordCallbackLatency(final long latencyNanos) {
+        callbackCount.incrementAndGet();
+        callbackLatencyNanos.addAndGet(latencyNanos);
+
+        // callbacks of a session are executed by a single thread at a time
+        if (latencyNanos > maxCallbackLatencyNanos) {
+            maxCallbackLatencyNanos = latencyNanos;
+        }
+    }
+
+    void recordDroppedCallback() {
+        droppedCallbacks.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "SessionMetrics{queueWaitTime=%d, nativeInitTime=%d, transcodeTime=%d, runTime=%d, totalTime=%d, logCallbackTime=%d, statisticsCallbackTime=%d, logCount=%d, logBytes=%d, statisticsCount=%d, argumentBytes=%d, transferredBytes=%d, peakSpeed=%s, droppedMessages=%d, averageCallbackLatency=%d, maxCallbackLatency=%d, droppedCallbacks=%d}",
+                getQueueWaitTime(),
+                getNativeInitTime(),
+                getTranscodeTime(),
+                getRunTime(),
+                getTotalTime(),
+                getLogCallbackTime(),
+                getStatisticsCallbackTime(),
+                getLogCount(),
+                getLogBytes(),
+                getStatisticsCount(),
+                getArgumentBytes(),
+                getTransferredBytes(),
+                getPeakSpeed(),
+                getDroppedMessages(),
+                getAverageCallbackLatency(),
+                getMaxCallbackLatency(),
+                getDroppedCallbacks());
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * <p>Point in time view of a session, combining the values apps otherwise read with separate
+ * calls.
+ *
+ * <p>Completion and remaining time of FFmpeg sessions are taken from their
+ * {@link ProgressEstimator}.
+ */
+public class SessionSnapshot {
+    private final long sessionId;
+    private final SessionState state;
+    private final long elapsed;
+    private final Statistics lastStatistics;
+    private final long logCount;
+    private final long expectedDuration;
+    private final double completion;
+    private final long estimatedTimeRemaining;
+
+    SessionSnapshot(final long sessionId, final SessionState state, final long elapsed, final Statistics lastStatistics, final long logCount, final long expectedDuration, final double completion, final long estimatedTimeRemaining) {
+        this.sessionId = sessionId;
+        this.state = state;
+        this.elapsed = elapsed;
+        this.lastStatistics = lastStatistics;
+        this.logCount = logCount;
+        this.expectedDuration = expectedDuration;
+        this.completion = completion;
+        this.estimatedTimeRemaining = estimatedTimeRemaining;
+    }
+
+    /**
+     * <p>Takes a snapshot of the given session.
+     *
+     * @param session session
+     * @return snapshot of the session
+     */
+    public static SessionSnapshot create(final Session session) {
+        final Date startTime = session.getStartTime();
+        final long elapsed;
+        if (startTime == null) {
+            elapsed = 0;
+        } else if (session.getEndTime() != null) {
+            elapsed = session.getDuration();
+        } else {
+            elapsed = System.currentTimeMillis() - startTime.getTime();
+        }
+
+        Statistics lastStatistics = null;
+        long expectedDuration = 0;
+        double completion = -1;
+        long estimatedTimeRemaining = -1;
+
+        if (session.isFFmpeg()) {
+            final ProgressEstimator progressEstimator = ((FFmpegSession) session).getProgressEstimator();
+            lastStatistics = ((FFmpegSession) session).getLastReceivedStatistics();
+            expectedDuration = progressEstimator.getExpectedDuration();
+            if (lastStatistics != null && expectedDuration > 0) {
+                completion = Math.min(1, Math.max(0, lastStatistics.getTime() / expectedDuration));
+                estimatedTimeRemaining = progressEstimator.getEstimatedTimeRemaining();
+            }
+        }
+
+        if (session.getState() == SessionState.COMPLETED) {
+            completion = 1;
+            estimatedTimeRemaining = 0;
+        }
+
+        return new SessionSnapshot(session.getSessionId(), session.getState(), elapsed, lastStatistics, session.getLogCount(), expectedDuration, completion, estimatedTimeRemaining);
+    }
+
+    /**
+     * Returns the id of the session.
+     *
+     * @return session id
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Returns the state of the session at the time of the snapshot.
+     *
+     * @return session state
+     */
+    public SessionState getState() {
+        return state;
+    }
+
+    /**
+     * Returns the time passed since the session started, or the total duration if it has ended.
+     *
+     * @return elapsed time in milliseconds, zero if the session has not started
+     */
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the last statistics entry received.
+     *
+     * @return last statistics entry or null if none was received or the session is not an FFmpeg
+     * session
+     */
+    public Statistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    /**
+     * Returns the number of logs stored in the session. Logs are stored when they are received,
+     * so in {@link CallbackDispatchMode#SESSION_EXECUTOR} mode this count may include logs whose
+     * callbacks have not run yet.
+     *
+     * @return number of logs received
+     */
+    public long getLogCount() {
+        return logCount;
+    }
+
+    /**
+     * Returns the expected output duration used to estimate completion.
+     *
+     * @return expected duration in milliseconds, zero if it is not known
+     */
+    public long getExpectedDuration() {
+        return expectedDuration;
+    }
+
+    /**
+     * Returns the estimated completion.
+     *
+     * @return completion between 0 and 1, or -1 if it can not be estimated
+     */
+    public double getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Returns the estimated remaining time.
+     *
+     * @return remaining time in milliseconds, or -1 if it can not be estimated
+     */
+    public long getEstimatedTimeRemaining() {
+        return estimatedTimeRemaining;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "SessionSnapshot{sessionId=%d, state=%s, elapsed=%d, logCount=%d, expectedDuration=%d, completion=%s, estimatedTimeRemaining=%d}", sessionId, state, elapsed, logCount, expectedDuration, completion, estimatedTimeRemaining);
+    }
+
+}
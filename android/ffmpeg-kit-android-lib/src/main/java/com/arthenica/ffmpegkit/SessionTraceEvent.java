@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Lifecycle and native processing phases reported to a {@link SessionTracer}.
+ *
+ * <p>Native phases are only reported for <code>FFmpeg</code> sessions.
+ */
+public enum SessionTraceEvent {
+
+    /**
+     * Session is submitted to an executor for asynchronous execution.
+     */
+    QUEUED(-1),
+
+    /**
+     * Session started running.
+     */
+    STARTED(-1),
+
+    /**
+     * All input files are opened and probed.
+     */
+    INPUTS_OPENED(0),
+
+    /**
+     * A filtergraph is configured. Reported again each time a filtergraph is reconfigured.
+     */
+    FILTERGRAPH_CONFIGURED(1),
+
+    /**
+     * First packet is read from an input file.
+     */
+    FIRST_PACKET(2),
+
+    /**
+     * First packet is received from an encoder.
+     */
+    FIRST_ENCODED_FRAME(3),
+
+    /**
+     * Trailers of all output files are written.
+     */
+    TRAILER_WRITTEN(4),
+
+    /**
+     * Session completed with a return code.
+     */
+    COMPLETED(-1),
+
+    /**
+     * Session ended with an exception.
+     */
+    FAILED(-1);
+
+    private final int value;
+
+    /**
+     * <p>Returns the native phase enumeration defined by provided value.
+     *
+     * @param value native event value
+     * @return enumeration defined by value or null if value does not belong to a native phase
+     */
+    public static SessionTraceEvent from(final int value) {
+        if (value == INPUTS_OPENED.getValue()) {
+            return INPUTS_OPENED;
+        } else if (value == FILTERGRAPH_CONFIGURED.getValue()) {
+            return FILTERGRAPH_CONFIGURED;
+        } else if (value == FIRST_PACKET.getValue()) {
+            return FIRST_PACKET;
+        } else if (value == FIRST_ENCODED_FRAME.getValue()) {
+            return FIRST_ENCODED_FRAME;
+        } else if (value == TRAILER_WRITTEN.getValue()) {
+            return TRAILER_WRITTEN;
+        } else {
+            return null;
+        }
+    }
+
+    SessionTraceEvent(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * <p>Returns the value used by the native library for this event.
+     *
+     * @return native event value, -1 for events generated by the Java library
+     */
+    public int getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Receives session lifecycle and native processing phase events.
+ *
+ * <p>Lifecycle events are reported from the thread that submits, starts or ends the session.
+ * Native phase events are reported synchronously from the thread running the session, so
+ * implementations must return quickly.
+ *
+ * @see FFmpegKitConfig#setSessionTracer(SessionTracer)
+ */
+@FunctionalInterface
+public interface SessionTracer {
+
+    /**
+     * <p>Called when a session reaches a new phase.
+     *
+     * @param sessionId      id of the session
+     * @param event          phase reached
+     * @param timestampNanos time of the event in nanoseconds, on the same time base as
+     *                       {@link System#nanoTime()}
+     */
+    void trace(final long sessionId, final SessionTraceEvent event, final long timestampNanos);
+
+}
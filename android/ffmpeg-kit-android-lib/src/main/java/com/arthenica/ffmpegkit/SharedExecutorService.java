@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>View of an executor owned by the library that can be used to submit tasks but can not be
+ * shut down.
+ *
+ * <p>Tasks are passed to the underlying executor, so they share its concurrency limit and queue.
+ * Shutdown methods throw {@link UnsupportedOperationException}.
+ */
+final class SharedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService executorService;
+
+    SharedExecutorService(final ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        executorService.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        throw new UnsupportedOperationException("Shared executor can not be shut down.");
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        throw new UnsupportedOperationException("Shared executor can not be shut down.");
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, unit);
+    }
+
+}
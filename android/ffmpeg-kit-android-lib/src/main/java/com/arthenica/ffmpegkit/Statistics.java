@@ -31,8 +31,14 @@ public class Statistics {
     private double time;
     private double bitrate;
     private double speed;
+    private double progress;
+    private long estimatedTimeRemaining;
 
     public Statistics(final long sessionId, final int videoFrameNumber, final float videoFps, final float videoQuality, final long size, final double time, final double bitrate, final double speed) {
+        this(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed, -1, -1);
+    }
+
+    public Statistics(final long sessionId, final int videoFrameNumber, final float videoFps, final float videoQuality, final long size, final double time, final double bitrate, final double speed, final double progress, final long estimatedTimeRemaining) {
         this.sessionId = sessionId;
         this.videoFrameNumber = videoFrameNumber;
         this.videoFps = videoFps;
@@ -41,6 +47,8 @@ public class Statistics {
         this.time = time;
         this.bitrate = bitrate;
         this.speed = speed;
+        this.progress = progress;
+        this.estimatedTimeRemaining = estimatedTimeRemaining;
     }
 
     public long getSessionId() {
@@ -107,6 +115,45 @@ public class Statistics {
         this.speed = speed;
     }
 
+    /**
+     * Returns the progress of the session estimated by its {@link ProgressEstimator}.
+     *
+     * @return progress between 0 and 1, or -1 if it can not be estimated
+     */
+    public double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Sets the estimated progress of the session. Entries created by the library already carry
+     * their estimation when they are delivered to callbacks.
+     *
+     * @param progress progress between 0 and 1, or -1 if it can not be estimated
+     */
+    public void setProgress(double progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Returns the remaining time of the session estimated by its {@link ProgressEstimator}.
+     *
+     * @return remaining time in milliseconds, or -1 if it can not be estimated
+     */
+    public long getEstimatedTimeRemaining() {
+        return estimatedTimeRemaining;
+    }
+
+    /**
+     * Sets the estimated remaining time of the session. Entries created by the library already
+     * carry their estimation when they are delivered to callbacks.
+     *
+     * @param estimatedTimeRemaining remaining time in milliseconds, or -1 if it can not be
+     *                               estimated
+     */
+    public void setEstimatedTimeRemaining(long estimatedTimeRemaining) {
+        this.estimatedTimeRemaining = estimatedTimeRemaining;
+    }
+
     @Override
     public String toString() {
         final StringBuilder stringBuilder = new StringBuilder();
@@ -128,6 +175,10 @@ public class Statistics {
         stringBuilder.append(bitrate);
         stringBuilder.append(", speed=");
         stringBuilder.append(speed);
+        stringBuilder.append(", progress=");
+        stringBuilder.append(progress);
+        stringBuilder.append(", estimatedTimeRemaining=");
+        stringBuilder.append(estimatedTimeRemaining);
         stringBuilder.append('}');
 
         return stringBuilder.toString();
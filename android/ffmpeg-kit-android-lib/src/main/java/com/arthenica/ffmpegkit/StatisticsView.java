@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.arthenica.ffmpegkit;
+
+/**
+ * <p>Reusable view of a statistics entry passed to {@link StatisticsViewCallback}.
+ *
+ * <p>The library reuses the same instance for every statistics entry delivered on a callback
+ * thread. A view is only valid during the callback invocation. Use {@link #toStatistics()} to
+ * keep a copy.
+ */
+public class StatisticsView {
+    private long sessionId;
+    private int videoFrameNumber;
+    private float videoFps;
+    private float videoQuality;
+    private long size;
+    private double time;
+    private double bitrate;
+    private double speed;
+
+    StatisticsView() {
+    }
+
+    /**
+     * Returns the id of the session that generated this statistics entry.
+     *
+     * @return session id
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Returns the number of the last processed video frame.
+     *
+     * @return video frame number
+     */
+    public int getVideoFrameNumber() {
+        return videoFrameNumber;
+    }
+
+    /**
+     * Returns the video frames processed per second.
+     *
+     * @return video frames per second
+     */
+    public float getVideoFps() {
+        return videoFps;
+    }
+
+    /**
+     * Returns the quality of the video stream.
+     *
+     * @return video quality
+     */
+    public float getVideoQuality() {
+        return videoQuality;
+    }
+
+    /**
+     * Returns the size of the output in bytes.
+     *
+     * @return output size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the processed media time in milliseconds.
+     *
+     * @return processed time
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the output bitrate in kbits/s.
+     *
+     * @return bitrate
+     */
+    public double getBitrate() {
+        return bitrate;
+    }
+
+    /**
+     * Returns the processing speed, relative to real time.
+     *
+     * @return processing speed
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * <p>Creates an immutable copy of this view.
+     *
+     * @return statistics entry holding the same values
+     */
+    public Statistics toStatistics() {
+        return new Statistics(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed);
+    }
+
+    void set(final long sessionId, final int videoFrameNumber, final float videoFps, final float videoQuality, final long size, final double time, final double bitrate, final double speed) {
+        this.sessionId = sessionId;
+        this.videoFrameNumber = videoFrameNumber;
+        this.videoFps = videoFps;
+        this.videoQuality = videoQuality;
+        this.size = size;
+        this.time = time;
+        this.bitrate = bitrate;
+        this.speed = speed;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        stringBuilder.append("StatisticsView{");
+        stringBuilder.append("sessionId=");
+        stringBuilder.append(sessionId);
+        stringBuilder.append(", videoFrameNumber=");
+        stringBuilder.append(videoFrameNumber);
+        stringBuilder.append(", videoFps=");
+        stringBuilder.append(videoFps);
+        stringBuilder.append(", videoQuality=");
+        stringBuilder.append(videoQuality);
+        stringBuilder.append(", size=");
+        stringBuilder.append(size);
+        stringBuilder.append(", time=");
+        stringBuilder.append(time);
+        stringBuilder.append(", bitrate=");
+        stringBuilder.append(bitrate);
+        stringBuilder.append(", speed=");
+        stringBuilder.append(speed);
+        stringBuilder.append('}');
+
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks the log and statistics redirection methods called by the native library.
+ *
+ * <p>A new session is created for each invocation so session log and statistics lists do not
+ * grow during measurement. Run with
+ * <code>./gradlew :ffmpeg-kit-android-lib:jmh -PjmhInclude=CallbackDispatchBenchmark</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackDispatchBenchmark {
+
+    static final int MESSAGES_PER_INVOCATION = 1000;
+
+    private static final MethodHandle LOG;
+    private static final MethodHandle STATISTICS;
+
+    static {
+        try {
+            final Method log = FFmpegKitConfig.class.getDeclaredMethod("log", long.class, int.class, byte[].class);
+            log.setAccessible(true);
+            LOG = MethodHandles.lookup().unreflect(log);
+
+            final Method statistics = FFmpegKitConfig.class.getDeclaredMethod("statistics", long.class, int.class, float.class, float.class, long.class, double.class, double.class, double.class);
+            statistics.setAccessible(true);
+            STATISTICS = MethodHandles.lookup().unreflect(statistics);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"NONE", "SESSION", "GLOBAL", "BOTH", "VIEW"})
+    public String callbacks;
+
+    private byte[] logMessage;
+    private LogCallback logCallback;
+    private StatisticsCallback statisticsCallback;
+    private FFmpegSession session;
+
+    @Setup(Level.Trial)
+    public void setupTrial(final Blackhole blackhole) {
+        logMessage = "frame=  120 fps= 30 q=28.0 size=     512kB time=00:00:04.00 bitrate=1048.6kbits/s speed=1.00x\n".getBytes(StandardCharsets.UTF_8);
+        logCallback = blackhole::consume;
+        statisticsCallback = blackhole::consume;
+
+        FFmpegKitConfig.setLogRedirectionStrategy(LogRedirectionStrategy.NEVER_PRINT_LOGS);
+        final boolean global = "GLOBAL".equals(callbacks) || "BOTH".equals(callbacks);
+        FFmpegKitConfig.enableLogCallback(global ? logCallback : null);
+        FFmpegKitConfig.enableStatisticsCallback(global ? statisticsCallback : null);
+
+        final boolean view = "VIEW".equals(callbacks);
+        FFmpegKitConfig.enableLogViewCallback(view ? blackhole::consume : null);
+        FFmpegKitConfig.enableStatisticsViewCallback(view ? blackhole::consume : null);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        final boolean local = "SESSION".equals(callbacks) || "BOTH".equals(callbacks);
+        session = FFmpegSession.create(new String[]{"-version"}, null, local ? logCallback : null, local ? statisticsCallback : null, LogRedirectionStrategy.NEVER_PRINT_LOGS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        FFmpegKitConfig.enableLogCallback(null);
+        FFmpegKitConfig.enableStatisticsCallback(null);
+        FFmpegKitConfig.enableLogViewCallback(null);
+        FFmpegKitConfig.enableStatisticsViewCallback(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public void log() throws Throwable {
+        final long sessionId = session.getSessionId();
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            LOG.invokeExact(sessionId, com.arthenica.ffmpegkit.Level.AV_LOG_INFO.getValue(), logMessage);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+    public void statistics() throws Throwable {
+        final long sessionId = session.getSessionId();
+        for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+            STATISTICS.invokeExact(sessionId, i, 30.0f, 28.0f, 524288L, (double) i * 33, 1048.6, 1.0);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>Tests for {@link CommandTemplate} class.
+ */
+public class CommandTemplateTest {
+
+    @Test
+    public void substitutePlaceholders() {
+        CommandTemplate template = CommandTemplate.create("-i ${input} -vf \"scale=${width}:-2\" -c:v mpeg4 ${output}");
+
+        Assert.assertEquals(Arrays.asList("input", "width", "output"), template.getPlaceholders());
+
+        Map<String, String> values = new HashMap<>();
+        values.put("input", "file one.mp4");
+        values.put("width", "640");
+        values.put("output", "file one.avi");
+
+        Assert.assertArrayEquals(new String[]{"-i", "file one.mp4", "-vf", "scale=640:-2", "-c:v", "mpeg4", "file one.avi"}, template.toArguments(values));
+    }
+
+    @Test
+    public void literalArgumentsAreShared() {
+        CommandTemplate template = CommandTemplate.create(new String[]{"-i", "${input}", "output.mp4"});
+
+        Map<String, String> values = new HashMap<>();
+        values.put("input", "input1.mp4");
+        String[] first = template.toArguments(values);
+        values.put("input", "input2.mp4");
+        String[] second = template.toArguments(values);
+
+        Assert.assertEquals("input1.mp4", first[1]);
+        Assert.assertEquals("input2.mp4", second[1]);
+        Assert.assertSame(first[2], second[2]);
+    }
+
+    @Test
+    public void multiplePlaceholdersInOneArgument() {
+        Assert.assertArrayEquals(new String[]{"a", "b", "-", "c", ""}, CommandTemplate.split("a${b}-${c}"));
+        Assert.assertNull(CommandTemplate.split("$b-{c}"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unclosedPlaceholder() {
+        CommandTemplate.create("-i ${input output.mp4");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPlaceholderName() {
+        CommandTemplate.create("-i ${in-put} output.mp4");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingValue() {
+        CommandTemplate.create("-i ${input} output.mp4").toArguments(new HashMap<>());
+    }
+
+}
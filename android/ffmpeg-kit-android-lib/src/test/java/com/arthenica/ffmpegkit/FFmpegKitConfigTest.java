@@ -24,10 +24,19 @@ import static com.arthenica.ffmpegkit.FFmpegSessionTest.TEST_ARGUMENTS;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Tests for {@link FFmpegKitConfig} class.
@@ -187,6 +196,153 @@ public class FFmpegKitConfigTest {
         }
     }
 
+    @Test
+    public void getSessionsWithFilters() {
+        FFmpegKitConfig.setSessionHistorySize(20);
+        FFmpegKitConfig.clearSessions();
+
+        final FFmpegSession first = FFmpegSession.create(TEST_ARGUMENTS);
+        final FFprobeSession probe = FFprobeSession.create(TEST_ARGUMENTS);
+        final FFmpegSession second = FFmpegSession.create(TEST_ARGUMENTS);
+        final FFmpegSession third = FFmpegSession.create(TEST_ARGUMENTS);
+
+        List<Session> sessions = FFmpegKitConfig.getSessions(null, null, null, null, 0, 0);
+        Assert.assertEquals(4, sessions.size());
+        Assert.assertSame(third, sessions.get(0));
+        Assert.assertSame(first, sessions.get(3));
+
+        sessions = FFmpegKitConfig.getSessions(FFmpegSession.class, SessionState.CREATED, null, null, 1, 1);
+        Assert.assertEquals(1, sessions.size());
+        Assert.assertSame(second, sessions.get(0));
+
+        sessions = FFmpegKitConfig.getSessions(FFprobeSession.class, null, null, null, 0, 10);
+        Assert.assertEquals(1, sessions.size());
+        Assert.assertSame(probe, sessions.get(0));
+
+        Assert.assertEquals(0, FFmpegKitConfig.getSessions(null, SessionState.COMPLETED, null, null, 0, 0).size());
+        Assert.assertEquals(0, FFmpegKitConfig.getSessions(null, null, null, first.getCreateTime(), 0, 0).size());
+        Assert.assertEquals(4, FFmpegKitConfig.getSessions(null, null, first.getCreateTime(), null, 0, 0).size());
+    }
+
+    @Test
+    public void setAsyncConcurrencyLimit() throws Exception {
+        final ExecutorService executorService = FFmpegKitConfig.getAsyncExecutorService();
+        try {
+            FFmpegKitConfig.setAsyncConcurrencyLimit(1);
+            Assert.assertSame(executorService, FFmpegKitConfig.getAsyncExecutorService());
+            Assert.assertEquals(1, FFmpegKitConfig.getAsyncExecutorStatistics().getConcurrencyLimit());
+            Assert.assertThrows(UnsupportedOperationException.class, executorService::shutdown);
+            Assert.assertThrows(UnsupportedOperationException.class, executorService::shutdownNow);
+
+            // THREADS ABOVE THE NEW LIMIT EXIT ASYNCHRONOUSLY, WAIT UNTIL THEY ARE GONE
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (FFmpegKitConfig.getAsyncExecutorPoolSize() > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(FFmpegKitConfig.getAsyncExecutorPoolSize() <= 1);
+
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch latch = new CountDownLatch(1);
+            final Future<?> first = executorService.submit(() -> {
+                started.countDown();
+                latch.await();
+                return null;
+            });
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final Future<?> second = executorService.submit(() -> {
+            });
+            Assert.assertEquals(1, FFmpegKitConfig.getAsyncExecutorStatistics().getQueuedCount());
+
+            FFmpegKitConfig.setAsyncConcurrencyLimit(2);
+            second.get(5, TimeUnit.SECONDS);
+            latch.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(0, FFmpegKitConfig.getAsyncExecutorStatistics().getQueuedCount());
+
+            FFmpegKitConfig.setAsyncConcurrencyLimit(0);
+            Assert.assertEquals(2, FFmpegKitConfig.getAsyncConcurrencyLimit());
+        } finally {
+            FFmpegKitConfig.setAsyncConcurrencyLimit(10);
+        }
+    }
+
+    @Test
+    public void removeQueuedTask() throws Exception {
+        final ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch latch = new CountDownLatch(1);
+            final Future<?> running = executorService.submit(() -> {
+                started.countDown();
+                latch.await();
+                return null;
+            });
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final Future<?> queued = executorService.submit(() -> {
+            });
+
+            // A RUNNING TASK STAYS IN STATE NEW, SO ONLY THE QUEUE TELLS IT APART FROM A QUEUED ONE
+            Assert.assertFalse(FFmpegKitConfig.removeQueuedTask(executorService, running));
+            Assert.assertTrue(FFmpegKitConfig.removeQueuedTask(executorService, queued));
+            Assert.assertEquals(0, executorService.getQueue().size());
+
+            latch.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            Assert.assertFalse(queued.isDone());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void sessionSnapshot() throws Exception {
+        FFmpegKitConfig.clearSessions();
+
+        final MediaInformationSession mediaInformationSession = MediaInformationSession.create(new String[]{"-i", "input.mp4"});
+        mediaInformationSession.setMediaInformation(MediaInformationJsonParser.from("{\"format\":{\"filename\":\"input.mp4\",\"duration\":\"10.000000\"}}"));
+
+        final FFmpegSession ffmpegSession = FFmpegSession.create(new String[]{"-i", "input.mp4", "output.mp4"});
+        Assert.assertEquals(-1, SessionSnapshot.create(ffmpegSession).getCompletion(), 0);
+
+        ffmpegSession.startRunning();
+        ffmpegSession.addStatistics(new Statistics(ffmpegSession.getSessionId(), 100, 25, 0, 1000, 2500, 0, 1));
+        ffmpegSession.addLog(new Log(ffmpegSession.getSessionId(), Level.AV_LOG_INFO, "frame=100"));
+
+        final List<SessionSnapshot> snapshots = new ArrayList<>();
+        FFmpegKitConfig.takeSessionSnapshots(snapshots::addAll);
+        Assert.assertEquals(1, snapshots.size());
+
+        final SessionSnapshot snapshot = snapshots.get(0);
+        Assert.assertEquals(ffmpegSession.getSessionId(), snapshot.getSessionId());
+        Assert.assertEquals(SessionState.RUNNING, snapshot.getState());
+        Assert.assertEquals(10000, snapshot.getExpectedDuration());
+        Assert.assertEquals(1, snapshot.getLogCount());
+        Assert.assertEquals(0.25, snapshot.getCompletion(), 0.0001);
+        Assert.assertEquals(100, snapshot.getLastStatistics().getVideoFrameNumber());
+
+        ffmpegSession.complete(new ReturnCode(ReturnCode.SUCCESS));
+        Assert.assertEquals(1, SessionSnapshot.create(ffmpegSession).getCompletion(), 0);
+
+        snapshots.clear();
+        FFmpegKitConfig.takeSessionSnapshots(snapshots::addAll);
+        Assert.assertTrue(snapshots.isEmpty());
+    }
+
+    @Test
+    public void packArguments() {
+        Assert.assertArrayEquals(new byte[0], FFmpegKitConfig.packArguments(new String[0]));
+        Assert.assertArrayEquals("-i\0input.mp4\0\0".getBytes(StandardCharsets.UTF_8), FFmpegKitConfig.packArguments(new String[]{"-i", "input.mp4", null}));
+
+        final String[] arguments = new String[]{"-i", "f\u00efle \u20ac.mp4", "", "\ud83d\ude00", "-metadata", "title=\u00e7"};
+        final StringBuilder expected = new StringBuilder();
+        for (String argument : arguments) {
+            expected.append(argument).append('\0');
+        }
+        Assert.assertArrayEquals(expected.toString().getBytes(StandardCharsets.UTF_8), FFmpegKitConfig.packArguments(arguments));
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> FFmpegKitConfig.packArguments(new String[]{"-i", "input\0.mp4"}));
+    }
+
     private String listToPackageName(final List<String> externalLibraryList) {
         boolean speex = externalLibraryList.contains("speex");
         boolean fribidi = externalLibraryList.contains("fribidi");
@@ -218,4 +374,78 @@ public class FFmpegKitConfigTest {
         }
     }
 
+    @Test
+    public void logViewTest() throws Exception {
+        final String[] messages = new String[]{"", "plain ascii\n", "çalışma ünü", "漢字 \uD83C\uDFAC"};
+        final LogView logView = new LogView();
+
+        for (String message : messages) {
+            final byte[] data = message.getBytes(StandardCharsets.UTF_8);
+            logView.set(7, Level.AV_LOG_INFO, data);
+            Assert.assertEquals(message, logView.getMessage().toString());
+            Assert.assertEquals(message.length(), logView.getMessage().length());
+        }
+
+        // INVALID AND TRUNCATED SEQUENCES
+        final byte[] invalid = new byte[]{'a', (byte) 0xff, 'b', (byte) 0xe6, (byte) 0xbc};
+        logView.set(7, Level.AV_LOG_INFO, invalid);
+        Assert.assertEquals(new String(invalid, StandardCharsets.UTF_8), logView.getMessage().toString());
+
+        final List<LogView> received = new ArrayList<>();
+        final List<String> texts = new ArrayList<>();
+        final java.lang.reflect.Method log = FFmpegKitConfig.class.getDeclaredMethod("log", long.class, int.class, byte[].class);
+        log.setAccessible(true);
+
+        FFmpegKitConfig.enableLogViewCallback(view -> {
+            received.add(view);
+            texts.add(view.getMessage().toString());
+        });
+        try {
+            log.invoke(null, 0L, Level.AV_LOG_ERROR.getValue(), "first".getBytes(StandardCharsets.UTF_8));
+            log.invoke(null, 0L, Level.AV_LOG_ERROR.getValue(), "second".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            FFmpegKitConfig.enableLogViewCallback(null);
+        }
+
+        Assert.assertEquals(Arrays.asList("first", "second"), texts);
+        Assert.assertSame(received.get(0), received.get(1));
+        Assert.assertEquals("second", received.get(1).toLog().getMessage());
+    }
+
+    @Test
+    public void pipeWriterTest() throws Exception {
+        final File input = File.createTempFile("ffmpeg-kit-input", ".bin");
+        final File output = File.createTempFile("ffmpeg-kit-pipe", ".bin");
+        try {
+            final byte[] data = new byte[100000];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) i;
+            }
+            Files.write(input.toPath(), data);
+
+            final List<Long> progress = new ArrayList<>();
+            final PipeWriter writer = PipeWriter.create(input.getAbsolutePath(), output.getAbsolutePath(), 4096, (written, total) -> {
+                Assert.assertEquals(data.length, total);
+                progress.add(written);
+            });
+
+            Assert.assertEquals(data.length, writer.write());
+            Assert.assertEquals(data.length, writer.getBytesWritten());
+            Assert.assertEquals(Long.valueOf(data.length), progress.get(progress.size() - 1));
+            Assert.assertArrayEquals(data, Files.readAllBytes(output.toPath()));
+
+            final PipeWriter cancelledWriter = PipeWriter.create(input.getAbsolutePath(), output.getAbsolutePath());
+            cancelledWriter.cancel();
+            try {
+                cancelledWriter.write();
+                Assert.fail("Cancelled writer wrote data.");
+            } catch (final java.util.concurrent.CancellationException e) {
+                Assert.assertTrue(cancelledWriter.isCancelled());
+            }
+        } finally {
+            input.delete();
+            output.delete();
+        }
+    }
+
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FFmpegKitMetricsTest {
+
+    @Test
+    public void histogramTest() {
+        MetricsHistogram histogram = new MetricsHistogram("test_histogram", "Test histogram", 10, 100);
+
+        histogram.record(5);
+        histogram.record(10);
+        histogram.record(50);
+        histogram.record(500);
+
+        Assert.assertArrayEquals(new long[]{10, 100}, histogram.getBounds());
+        Assert.assertArrayEquals(new long[]{2, 1, 1}, histogram.getBucketCounts());
+        Assert.assertEquals(4, histogram.getCount());
+        Assert.assertEquals(565, histogram.getSum());
+    }
+
+    @Test
+    public void sessionLifecycleTest() {
+        long submitted = FFmpegKitMetrics.sessionsSubmitted.get();
+        long queued = FFmpegKitMetrics.sessionsQueued.get();
+        long running = FFmpegKitMetrics.sessionsRunning.get();
+        long completed = FFmpegKitMetrics.sessionsCompleted.get();
+
+        FFmpegSession session = FFmpegSession.create(new String[]{"-version"});
+        session.getMetrics().markSubmitted();
+        FFmpegKitMetrics.sessionSubmitted();
+
+        Assert.assertEquals(submitted + 1, FFmpegKitMetrics.sessionsSubmitted.get());
+        Assert.assertEquals(queued + 1, FFmpegKitMetrics.sessionsQueued.get());
+
+        session.startRunning();
+        Assert.assertEquals(queued, FFmpegKitMetrics.sessionsQueued.get());
+        Assert.assertEquals(running + 1, FFmpegKitMetrics.sessionsRunning.get());
+
+        session.complete(new ReturnCode(ReturnCode.SUCCESS));
+        Assert.assertEquals(running, FFmpegKitMetrics.sessionsRunning.get());
+        Assert.assertEquals(completed + 1, FFmpegKitMetrics.sessionsCompleted.get());
+    }
+
+    @Test
+    public void exportTest() {
+        MetricsCounter counter = new MetricsCounter("test_export_counter", "Test \"counter\"");
+        counter.add(3);
+        Assert.assertTrue(FFmpegKitMetrics.register(counter));
+        Assert.assertFalse(FFmpegKitMetrics.register(new MetricsCounter("test_export_counter", "Duplicate")));
+        Assert.assertSame(counter, FFmpegKitMetrics.getMetric("test_export_counter"));
+
+        final List<List<Metric>> exported = new ArrayList<>();
+        MetricsExporter exporter = exported::add;
+        FFmpegKitMetrics.addExporter(exporter);
+        FFmpegKitMetrics.export();
+        FFmpegKitMetrics.removeExporter(exporter);
+        FFmpegKitMetrics.export();
+
+        Assert.assertEquals(1, exported.size());
+        Assert.assertTrue(FFmpegKitMetrics.toText().contains("ffmpegkit_callback_backlog "));
+        Assert.assertTrue(exported.get(0).contains(counter));
+
+        List<Metric> metrics = Arrays.asList(counter, new MetricsHistogram("test_export_histogram", "Test histogram", 1));
+        Assert.assertEquals("test_export_counter 3\n" +
+                "test_export_histogram_bucket{le=\"1\"} 0\n" +
+                "test_export_histogram_bucket{le=\"+Inf\"} 0\n" +
+                "test_export_histogram_count 0\n" +
+                "test_export_histogram_sum 0\n", FFmpegKitMetrics.toText(metrics));
+        Assert.assertEquals("{\"test_export_counter\":{\"type\":\"counter\",\"description\":\"Test \\\"counter\\\"\",\"value\":3}," +
+                "\"test_export_histogram\":{\"type\":\"histogram\",\"description\":\"Test histogram\",\"count\":0,\"sum\":0,\"bounds\":[1],\"buckets\":[0,0]}}", FFmpegKitMetrics.toJson(metrics));
+    }
+
+}
@@ -24,6 +24,8 @@ import org.json.JSONObject;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 /**
  * <p>Tests for {@link FFmpegKit} class.
  */
@@ -590,6 +592,29 @@ public class FFmpegKitTest {
         assertStreamTag(mediaInformation.getStreams().get(0), "handler_name", "VideoHandler");
     }
 
+    @Test
+    public void mediaInformationProjection() throws JSONException {
+        MediaInformation mediaInformation = MediaInformationJsonParser.from(MEDIA_INFORMATION_MP4);
+        Assert.assertNotNull(mediaInformation);
+
+        Assert.assertSame(mediaInformation.getAllProperties(), mediaInformation.getProperties(null));
+
+        JSONObject properties = mediaInformation.getProperties(Arrays.asList("format.duration", "streams.width", "streams.height", "streams.codec_name", "missing.key"));
+        Assert.assertEquals(2, properties.length());
+        Assert.assertEquals(1, properties.getJSONObject("format").length());
+        Assert.assertEquals("14.000000", properties.getJSONObject("format").getString("duration"));
+        Assert.assertEquals(1, properties.getJSONArray("streams").length());
+
+        JSONObject stream = properties.getJSONArray("streams").getJSONObject(0);
+        Assert.assertEquals(3, stream.length());
+        Assert.assertEquals(1280, stream.getInt("width"));
+        Assert.assertEquals(720, stream.getInt("height"));
+        Assert.assertEquals("h264", stream.getString("codec_name"));
+
+        properties = mediaInformation.getProperties(Arrays.asList("format.tags", "format"));
+        Assert.assertSame(mediaInformation.getFormatProperties(), properties.getJSONObject("format"));
+    }
+
     @Test
     public void mediaInformationPng() {
         MediaInformation mediaInformation = MediaInformationJsonParser.from(MEDIA_INFORMATION_PNG);
@@ -741,6 +766,28 @@ public class FFmpegKitTest {
         Assert.assertEquals("-i input.mp4 -vf filter -c:v mpeg4 output.mp4", argumentsToString(new String[]{"-i", "input.mp4", "-vf", "filter", "-c:v", "mpeg4", "output.mp4"}));
     }
 
+    @Test
+    public void buildMultiOutputArguments() {
+        String[] argumentArray = SessionGroup.buildMultiOutputArguments(new String[]{"-i", "input.mp4"}, Arrays.asList(new String[]{"-c:v", "mpeg4", "output1.mp4"}, new String[]{"-s", "640x360", "output2.mp4"}));
+
+        Assert.assertEquals("-i input.mp4 -c:v mpeg4 output1.mp4 -s 640x360 output2.mp4", argumentsToString(argumentArray));
+    }
+
+    @Test
+    public void streamAudioWithInvalidArguments() {
+        final PcmCallback pcmCallback = (position, pcm) -> Assert.fail("No chunks must be delivered.");
+        final int sessionCount = FFmpegKitConfig.getSessions().size();
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> AudioStreamer.stream(null, "input.mp4", 44100, 1, PcmFormat.S16LE, 0, pcmCallback));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AudioStreamer.stream(null, "input.mp4", 44100, 0, PcmFormat.S16LE, 1024, pcmCallback));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AudioStreamer.streamAsync(null, "input.mp4", 44100, 2, PcmFormat.S16LE, -1, pcmCallback, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AudioStreamer.streamAsync(null, "input.mp4", 0, 2, PcmFormat.F32LE, 1024, pcmCallback, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AudioStreamer.stream(null, "input.mp4", 44100, 8, PcmFormat.S32LE, Integer.MAX_VALUE / 16, pcmCallback));
+
+        // NO SESSION IS STARTED FOR INVALID ARGUMENTS
+        Assert.assertEquals(sessionCount, FFmpegKitConfig.getSessions().size());
+    }
+
     public String argumentsToString(final String[] arguments) {
         return FFmpegKitConfig.argumentsToString(arguments);
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import android.system.ErrnoException;
+import android.system.OsConstants;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Tests for {@link FFmpegPipeReleaser} class.
+ */
+public class FFmpegPipeReleaserTest {
+
+    /**
+     * Releaser whose write end can only be opened after the reader opened the pipe.
+     */
+    static class ScriptedPipeReleaser extends FFmpegPipeReleaser {
+        final AtomicBoolean readerOpened = new AtomicBoolean(false);
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger releases = new AtomicInteger();
+
+        ScriptedPipeReleaser() {
+            super("pipe");
+        }
+
+        @Override
+        void openWriteEnd() throws ErrnoException {
+            attempts.incrementAndGet();
+            if (!readerOpened.get()) {
+                throw new ErrnoException("open", OsConstants.ENXIO);
+            }
+            releases.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void releaseReaderOpenedAfterSessionFailed() throws Exception {
+        final ScriptedPipeReleaser pipeReleaser = new ScriptedPipeReleaser();
+        final FFmpegSession session = FFmpegSession.create(new String[]{"-i", "missing.mp4", "pipe"}, pipeReleaser);
+
+        // SESSION FAILS BEFORE THE READER REACHES OPEN
+        session.fail(new Exception("Input can not be opened."));
+        final Thread completeThread = new Thread(() -> pipeReleaser.apply(session));
+        completeThread.start();
+
+        completeThread.join(10 * FFmpegPipeReleaser.RETRY_INTERVAL);
+        Assert.assertTrue(completeThread.isAlive());
+        Assert.assertEquals(0, pipeReleaser.releases.get());
+        Assert.assertTrue(pipeReleaser.attempts.get() > 1);
+
+        pipeReleaser.readerOpened.set(true);
+        completeThread.join(5000);
+        Assert.assertFalse(completeThread.isAlive());
+        Assert.assertEquals(1, pipeReleaser.releases.get());
+    }
+
+    @Test
+    public void stopReleasingWhenReaderIsClosed() throws Exception {
+        final ScriptedPipeReleaser pipeReleaser = new ScriptedPipeReleaser();
+        final FFmpegSession session = FFmpegSession.create(new String[]{"-i", "missing.mp4", "pipe"}, pipeReleaser);
+
+        session.fail(new Exception("Input can not be opened."));
+        final Thread completeThread = new Thread(() -> pipeReleaser.apply(session));
+        completeThread.start();
+
+        pipeReleaser.closeReader(null);
+        completeThread.join(5000);
+        Assert.assertFalse(completeThread.isAlive());
+        Assert.assertEquals(0, pipeReleaser.releases.get());
+
+        // WRITE END IS NEVER OPENED AFTER THE READER IS GONE
+        final int attempts = pipeReleaser.attempts.get();
+        pipeReleaser.apply(session);
+        Assert.assertEquals(attempts, pipeReleaser.attempts.get());
+    }
+
+}
@@ -22,7 +22,12 @@ package com.arthenica.ffmpegkit;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class FFmpegSessionTest {
 
@@ -277,6 +282,30 @@ public class FFmpegSessionTest {
         Assert.assertEquals(3, logs.size());
     }
 
+    @Test
+    public void getLogsSinceTest() {
+        final FFmpegSession ffmpegSession = FFmpegSession.create(TEST_ARGUMENTS);
+
+        ffmpegSession.addLog(new Log(ffmpegSession.getSessionId(), Level.AV_LOG_INFO, "one"));
+        ffmpegSession.addLog(new Log(ffmpegSession.getSessionId(), Level.AV_LOG_INFO, "two"));
+        ffmpegSession.addLog(new Log(ffmpegSession.getSessionId(), Level.AV_LOG_INFO, "three"));
+
+        Assert.assertEquals(3, ffmpegSession.getLogsSince(0, 0).size());
+        Assert.assertEquals(0, ffmpegSession.getLogsSince(3, 10).size());
+        Assert.assertEquals(0, ffmpegSession.getLogsSince(5, 10).size());
+
+        final List<Log> logs = ffmpegSession.getLogsSince(1, 1);
+        Assert.assertEquals(1, logs.size());
+        Assert.assertEquals("two", logs.get(0).getMessage());
+
+        ffmpegSession.addStatistics(new Statistics(ffmpegSession.getSessionId(), 1, 0, 0, 0, 0, 0, 0));
+        ffmpegSession.addStatistics(new Statistics(ffmpegSession.getSessionId(), 2, 0, 0, 0, 0, 0, 0));
+
+        final List<Statistics> statistics = ffmpegSession.getStatisticsSince(1, 0);
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(2, statistics.get(0).getVideoFrameNumber());
+    }
+
     @Test
     public void getLogsAsStringTest() {
         final FFmpegSession ffmpegSession = FFmpegSession.create(TEST_ARGUMENTS);
@@ -343,4 +372,143 @@ public class FFmpegSessionTest {
         Assert.assertNotNull(ffmpegSession.getFailStackTrace());
     }
 
+    @Test
+    public void metricsTest() {
+        FFmpegSession ffmpegSession = FFmpegSession.create(TEST_ARGUMENTS);
+        SessionMetrics metrics = ffmpegSession.getMetrics();
+
+        Assert.assertEquals(0, metrics.getQueueWaitTime());
+        Assert.assertEquals(0, metrics.getTranscodeTime());
+
+        metrics.markSubmitted();
+        ffmpegSession.startRunning();
+        metrics.setArgumentBytes(20);
+        metrics.recordLog(10, 5);
+        metrics.recordLog(30, 5);
+        metrics.recordStatistics(1.5, 7, System.nanoTime());
+        metrics.recordStatistics(0.5, 7, System.nanoTime());
+        metrics.recordDroppedMessage();
+        ffmpegSession.complete(new ReturnCode(0));
+
+        Assert.assertTrue(metrics.getQueueWaitTime() >= 0);
+        Assert.assertTrue(metrics.getNativeInitTime() >= 0);
+        Assert.assertTrue(metrics.getTranscodeTime() >= 0);
+        Assert.assertTrue(metrics.getTotalTime() >= metrics.getTranscodeTime());
+        Assert.assertEquals(2, metrics.getLogCount());
+        Assert.assertEquals(40, metrics.getLogBytes());
+        Assert.assertEquals(10, metrics.getLogCallbackTime());
+        Assert.assertEquals(2, metrics.getStatisticsCount());
+        Assert.assertEquals(14, metrics.getStatisticsCallbackTime());
+        Assert.assertEquals(1.5, metrics.getPeakSpeed(), 0.0);
+        Assert.assertEquals(1, metrics.getDroppedMessages());
+        Assert.assertEquals(20 + 40 + 2 * SessionMetrics.STATISTICS_ENTRY_SIZE, metrics.getTransferredBytes());
+    }
+
+    @Test
+    public void traceTest() {
+        final List<SessionTraceEvent> events = new ArrayList<>();
+        final List<Long> timestamps = new ArrayList<>();
+        final SessionTracer previousTracer = FFmpegKitConfig.getSessionTracer();
+        FFmpegSession ffmpegSession = FFmpegSession.create(TEST_ARGUMENTS);
+
+        FFmpegKitConfig.setSessionTracer((sessionId, event, timestampNanos) -> {
+            if (sessionId == ffmpegSession.getSessionId()) {
+                events.add(event);
+                timestamps.add(timestampNanos);
+            }
+        });
+        try {
+            ffmpegSession.startRunning();
+            ffmpegSession.complete(new ReturnCode(0));
+        } finally {
+            FFmpegKitConfig.setSessionTracer(previousTracer);
+        }
+
+        Assert.assertEquals(Arrays.asList(SessionTraceEvent.STARTED, SessionTraceEvent.COMPLETED), events);
+        Assert.assertTrue(timestamps.get(1) >= timestamps.get(0));
+        Assert.assertEquals(SessionTraceEvent.FIRST_PACKET, SessionTraceEvent.from(2));
+        Assert.assertNull(SessionTraceEvent.from(-1));
+    }
+
+    @Test
+    public void callbackExecutorTest() throws InterruptedException {
+        final CallbackOverflowPolicy previousPolicy = FFmpegKitConfig.getCallbackOverflowPolicy();
+        final int previousLimit = FFmpegKitConfig.getCallbackBacklogLimit();
+        final List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch allExecuted = new CountDownLatch(3);
+        FFmpegSession ffmpegSession = FFmpegSession.create(TEST_ARGUMENTS);
+        SessionCallbackExecutor executor = ffmpegSession.getCallbackExecutor();
+
+        FFmpegKitConfig.setCallbackOverflowPolicy(CallbackOverflowPolicy.DROP_NEWEST);
+        FFmpegKitConfig.setCallbackBacklogLimit(2);
+        try {
+            executor.execute(() -> {
+                firstStarted.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                executed.add(1);
+                allExecuted.countDown();
+            });
+            Assert.assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 2; i <= 4; i++) {
+                final int value = i;
+                executor.execute(() -> {
+                    executed.add(value);
+                    allExecuted.countDown();
+                });
+            }
+            Assert.assertEquals(2, executor.getBacklog());
+
+            release.countDown();
+            Assert.assertTrue(allExecuted.await(5, TimeUnit.SECONDS));
+        } finally {
+            FFmpegKitConfig.setCallbackOverflowPolicy(previousPolicy);
+            FFmpegKitConfig.setCallbackBacklogLimit(previousLimit);
+        }
+
+        Assert.assertEquals(Arrays.asList(1, 2, 3), executed);
+        Assert.assertEquals(1, ffmpegSession.getMetrics().getDroppedCallbacks());
+        Assert.assertTrue(ffmpegSession.getMetrics().getMaxCallbackLatency() > 0);
+    }
+
+    @Test
+    public void progressEstimatorTest() {
+        FFmpegKitConfig.clearSessions();
+        Assert.assertFalse(ProgressEstimator.isAutoProbeEnabled());
+
+        final MediaInformationSession mediaInformationSession = MediaInformationSession.create(new String[]{"-i", "input.mp4"});
+        mediaInformationSession.setMediaInformation(MediaInformationJsonParser.from("{\"format\":{\"filename\":\"input.mp4\",\"duration\":\"20.000000\"}}"));
+
+        final FFmpegSession ffmpegSession = FFmpegSession.create(new String[]{"-ss", "5", "-t", "00:00:10", "-i", "input.mp4", "-i", "audio.m4a", "output.mp4"});
+        ffmpegSession.startRunning();
+        Assert.assertEquals(10000, ffmpegSession.getProgressEstimator().getExpectedDuration());
+        Assert.assertEquals(2, FFmpegKitConfig.getSessions().size());
+
+        final Statistics received = new Statistics(ffmpegSession.getSessionId(), 50, 25, 0, 1000, 2000, 0, 2);
+        final Statistics first = ffmpegSession.getProgressEstimator().update(received);
+        Assert.assertEquals(-1, received.getProgress(), 0);
+        Assert.assertEquals(-1, received.getEstimatedTimeRemaining());
+        Assert.assertEquals(50, first.getVideoFrameNumber());
+        Assert.assertEquals(0.2, first.getProgress(), 0.0001);
+        Assert.assertEquals(4000, first.getEstimatedTimeRemaining());
+
+        final Statistics second = ffmpegSession.getProgressEstimator().update(new Statistics(ffmpegSession.getSessionId(), 100, 25, 0, 2000, 4000, 0, 1));
+        Assert.assertEquals(1.7, ffmpegSession.getProgressEstimator().getSmoothedSpeed(), 0.0001);
+        Assert.assertEquals(0.4, second.getProgress(), 0.0001);
+        Assert.assertEquals(3529, second.getEstimatedTimeRemaining());
+        Assert.assertEquals(3529, ffmpegSession.getProgressEstimator().getEstimatedTimeRemaining());
+
+        Assert.assertEquals(1500, ProgressEstimator.create(new String[]{"-i", "pipe:0", "-t", "1.5", "output.mp4"}).getExpectedDuration());
+        Assert.assertEquals(90500, ProgressEstimator.parseTime("01:30.5"), 0.0001);
+        Assert.assertEquals(250, ProgressEstimator.parseTime("250ms"), 0.0001);
+        Assert.assertEquals(-1, ProgressEstimator.parseTime("invalid"), 0.0001);
+        Assert.assertEquals(-1, ProgressEstimator.create(new String[]{"-i", "pipe:0", "output.mp4"}).getProgress(), 0);
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks parsing FFprobe json outputs into {@link MediaInformation}.
+ *
+ * <p>The small output describes a file with one video and one audio stream. The large output
+ * describes a file with 32 streams and 200 chapters, each with tags.
+ *
+ * <p>Run with <code>./gradlew :ffmpeg-kit-android-lib:jmh -PjmhInclude=MediaInformationParserBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediaInformationParserBenchmark {
+
+    @Param({"SMALL", "LARGE"})
+    public String outputSize;
+
+    private String ffprobeJsonOutput;
+
+    @Setup
+    public void setup() {
+        if ("SMALL".equals(outputSize)) {
+            ffprobeJsonOutput = ffprobeJsonOutput(2, 0);
+        } else {
+            ffprobeJsonOutput = ffprobeJsonOutput(32, 200);
+        }
+    }
+
+    @Benchmark
+    public MediaInformation from() {
+        return MediaInformationJsonParser.from(ffprobeJsonOutput);
+    }
+
+    static String ffprobeJsonOutput(final int streamCount, final int chapterCount) {
+        final StringBuilder json = new StringBuilder("{\n    \"streams\": [\n");
+
+        for (int i = 0; i < streamCount; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            if (i % 2 == 0) {
+                json.append("        {\n")
+                        .append("            \"index\": ").append(i).append(",\n")
+                        .append("            \"codec_name\": \"h264\",\n")
+                        .append("            \"codec_long_name\": \"H.264 / AVC / MPEG-4 AVC / MPEG-4 part 10\",\n")
+                        .append("            \"profile\": \"High\",\n")
+                        .append("            \"codec_type\": \"video\",\n")
+                        .append("            \"codec_tag_string\": \"avc1\",\n")
+                        .append("            \"codec_tag\": \"0x31637661\",\n")
+                        .append("            \"width\": 1920,\n")
+                        .append("            \"height\": 1080,\n")
+                        .append("            \"has_b_frames\": 2,\n")
+                        .append("            \"sample_aspect_ratio\": \"1:1\",\n")
+                        .append("            \"display_aspect_ratio\": \"16:9\",\n")
+                        .append("            \"pix_fmt\": \"yuv420p\",\n")
+                        .append("            \"level\": 40,\n")
+                        .append("            \"r_frame_rate\": \"30/1\",\n")
+                        .append("            \"avg_frame_rate\": \"30/1\",\n")
+                        .append("            \"time_base\": \"1/15360\",\n")
+                        .append("            \"duration\": \"120.000000\",\n")
+                        .append("            \"bit_rate\": \"4000000\",\n")
+                        .append("            \"disposition\": {\n")
+                        .append("                \"default\": 1,\n")
+                        .append("                \"dub\": 0,\n")
+                        .append("                \"original\": 0\n")
+                        .append("            },\n")
+                        .append("            \"tags\": {\n")
+                        .append("                \"language\": \"und\",\n")
+                        .append("                \"handler_name\": \"VideoHandler\"\n")
+                        .append("            }\n")
+                        .append("        }");
+            } else {
+                json.append("        {\n")
+                        .append("            \"index\": ").append(i).append(",\n")
+                        .append("            \"codec_name\": \"aac\",\n")
+                        .append("            \"codec_long_name\": \"AAC (Advanced Audio Coding)\",\n")
+                        .append("            \"profile\": \"LC\",\n")
+                        .append("            \"codec_type\": \"audio\",\n")
+                        .append("            \"sample_fmt\": \"fltp\",\n")
+                        .append("            \"sample_rate\": \"48000\",\n")
+                        .append("            \"channels\": 2,\n")
+                        .append("            \"channel_layout\": \"stereo\",\n")
+                        .append("            \"time_base\": \"1/48000\",\n")
+                        .append("            \"duration\": \"120.000000\",\n")
+                        .append("            \"bit_rate\": \"128000\",\n")
+                        .append("            \"tags\": {\n")
+                        .append("                \"language\": \"eng\",\n")
+                        .append("                \"handler_name\": \"SoundHandler\"\n")
+                        .append("            }\n")
+                        .append("        }");
+            }
+        }
+
+        json.append("\n    ],\n    \"chapters\": [\n");
+
+        for (int i = 0; i < chapterCount; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("        {\n")
+                    .append("            \"id\": ").append(i).append(",\n")
+                    .append("            \"time_base\": \"1/1000\",\n")
+                    .append("            \"start\": ").append(i * 600).append(",\n")
+                    .append("            \"start_time\": \"").append(i * 0.6).append("\",\n")
+                    .append("            \"end\": ").append((i + 1) * 600).append(",\n")
+                    .append("            \"end_time\": \"").append((i + 1) * 0.6).append("\",\n")
+                    .append("            \"tags\": {\n")
+                    .append("                \"title\": \"Chapter ").append(i).append("\"\n")
+                    .append("            }\n")
+                    .append("        }");
+        }
+
+        json.append("\n    ],\n    \"format\": {\n")
+                .append("        \"filename\": \"input.mp4\",\n")
+                .append("        \"nb_streams\": ").append(streamCount).append(",\n")
+                .append("        \"nb_programs\": 0,\n")
+                .append("        \"format_name\": \"mov,mp4,m4a,3gp,3g2,mj2\",\n")
+                .append("        \"format_long_name\": \"QuickTime / MOV\",\n")
+                .append("        \"start_time\": \"0.000000\",\n")
+                .append("        \"duration\": \"120.000000\",\n")
+                .append("        \"size\": \"62914560\",\n")
+                .append("        \"bit_rate\": \"4194304\",\n")
+                .append("        \"probe_score\": 100,\n")
+                .append("        \"tags\": {\n")
+                .append("            \"major_brand\": \"isom\",\n")
+                .append("            \"minor_version\": \"512\",\n")
+                .append("            \"compatible_brands\": \"isomiso2avc1mp41\",\n")
+                .append("            \"encoder\": \"Lavf58.76.100\"\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        return json.toString();
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks command parsing, argument formatting and template substitution.
+ *
+ * <p>Run with <code>./gradlew :ffmpeg-kit-android-lib:jmh -PjmhInclude=ParseArgumentsBenchmark</code>
+ * and <code>-prof gc</code> to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseArgumentsBenchmark {
+
+    @Param({"SIMPLE", "SINGLE_QUOTES", "DOUBLE_QUOTES", "NESTED_QUOTES", "ESCAPED_QUOTES", "REPEATED_SPACES", "LONG_FILTER_GRAPH"})
+    public String commandType;
+
+    private String command;
+    private String[] arguments;
+    private CommandTemplate template;
+    private Map<String, String> values;
+
+    @Setup
+    public void setup() {
+        switch (commandType) {
+            case "SIMPLE":
+                command = "-i input.mp4 -c:v mpeg4 -b:v 2M -c:a aac output.mp4";
+                break;
+            case "SINGLE_QUOTES":
+                command = "-loop 1 -i 'file one.jpg' -filter_complex '[0:v]setpts=PTS-STARTPTS[video]' -map [video] video.mp4";
+                break;
+            case "DOUBLE_QUOTES":
+                command = "-loop 1 -i \"file one.jpg\" -filter_complex \"[0:v]setpts=PTS-STARTPTS[video]\" -map [video] video.mp4";
+                break;
+            case "NESTED_QUOTES":
+                command = "-i input.mp4 -vf \"subtitles=subtitles.srt:force_style='FontSize=16,PrimaryColour=&HFFFFFF&'\" -c:a copy video.mp4";
+                break;
+            case "ESCAPED_QUOTES":
+                command = "-i input.mp4 -vf drawtext=text=\\'quoted\\':fontsize=24 -metadata title=\\\"title\\\" video.mp4";
+                break;
+            case "REPEATED_SPACES":
+                command = "   -i     input.mp4    -c:v    mpeg4     -b:v   2M     output.mp4     ";
+                break;
+            case "LONG_FILTER_GRAPH":
+            default:
+                command = longFilterGraphCommand();
+                break;
+        }
+
+        arguments = FFmpegKitConfig.parseArguments(command);
+        template = CommandTemplate.create(command.replace("input.mp4", "${input}"));
+        values = new HashMap<>();
+        values.put("input", "other input.mp4");
+    }
+
+    @Benchmark
+    public String[] parseArguments() {
+        return FFmpegKitConfig.parseArguments(command);
+    }
+
+    @Benchmark
+    public String[] legacyParseArguments() {
+        return legacyParseArguments(command);
+    }
+
+    @Benchmark
+    public String argumentsToString() {
+        return FFmpegKitConfig.argumentsToString(arguments);
+    }
+
+    @Benchmark
+    public String[] templateToArguments() {
+        return template.toArguments(values);
+    }
+
+    private static String longFilterGraphCommand() {
+        final StringBuilder inputs = new StringBuilder();
+        final StringBuilder filter = new StringBuilder();
+
+        for (int i = 0; i < 32; i++) {
+            inputs.append("-i 'input ").append(i).append(".mp4' ");
+            filter.append('[').append(i).append(":v]scale=320:180,setpts=PTS-STARTPTS[v").append(i).append("];");
+        }
+        for (int i = 0; i < 32; i++) {
+            filter.append("[v").append(i).append(']');
+        }
+        filter.append("xstack=inputs=32:layout=0_0|w0_0|w0+w1_0|w0+w1+w2_0[out]");
+
+        return inputs + "-filter_complex \"" + filter + "\" -map [out] -c:v mpeg4 output.mp4";
+    }
+
+    /**
+     * Implementation used before parseArguments stopped boxing the previous character and
+     * creating a new builder per argument. Kept as the baseline of this benchmark.
+     */
+    private static String[] legacyParseArguments(final String command) {
+        final List<String> argumentList = new ArrayList<>();
+        StringBuilder currentArgument = new StringBuilder();
+
+        boolean singleQuoteStarted = false;
+        boolean doubleQuoteStarted = false;
+
+        for (int i = 0; i < command.length(); i++) {
+            final Character previousChar;
+            if (i > 0) {
+                previousChar = command.charAt(i - 1);
+            } else {
+                previousChar = null;
+            }
+            final char currentChar = command.charAt(i);
+
+            if (currentChar == ' ') {
+                if (singleQuoteStarted || doubleQuoteStarted) {
+                    currentArgument.append(currentChar);
+                } else if (currentArgument.length() > 0) {
+                    argumentList.add(currentArgument.toString());
+                    currentArgument = new StringBuilder();
+                }
+            } else if (currentChar == '\'' && (previousChar == null || previousChar != '\\')) {
+                if (singleQuoteStarted) {
+                    singleQuoteStarted = false;
+                } else if (doubleQuoteStarted) {
+                    currentArgument.append(currentChar);
+                } else {
+                    singleQuoteStarted = true;
+                }
+            } else if (currentChar == '\"' && (previousChar == null || previousChar != '\\')) {
+                if (doubleQuoteStarted) {
+                    doubleQuoteStarted = false;
+                } else if (singleQuoteStarted) {
+                    currentArgument.append(currentChar);
+                } else {
+                    doubleQuoteStarted = true;
+                }
+            } else {
+                currentArgument.append(currentChar);
+            }
+        }
+
+        if (currentArgument.length() > 0) {
+            argumentList.add(currentArgument.toString());
+        }
+
+        return argumentList.toArray(new String[0]);
+    }
+
+}
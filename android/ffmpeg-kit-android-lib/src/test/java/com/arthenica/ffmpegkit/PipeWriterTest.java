@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * <p>Tests for {@link PipeWriter} class.
+ */
+public class PipeWriterTest {
+
+    @Test
+    public void writeRegularFileTest() throws Exception {
+        final byte[] data = new byte[100 * 1024 + 7];
+        new Random(1).nextBytes(data);
+
+        final File input = File.createTempFile("pipe-writer-input", ".bin");
+        final File output = File.createTempFile("pipe-writer-output", ".bin");
+        try {
+            Files.write(input.toPath(), data);
+
+            final long[] lastProgress = new long[2];
+            final PipeWriter writer = PipeWriter.create(input.getAbsolutePath(), output.getAbsolutePath(), 4096, (bytesWritten, totalBytes) -> {
+                lastProgress[0] = bytesWritten;
+                lastProgress[1] = totalBytes;
+            });
+
+            Assert.assertEquals(data.length, writer.write());
+            Assert.assertArrayEquals(data, Files.readAllBytes(output.toPath()));
+            Assert.assertEquals(data.length, writer.getTotalBytes());
+            Assert.assertEquals(data.length, lastProgress[0]);
+            Assert.assertEquals(data.length, lastProgress[1]);
+            Assert.assertTrue(writer.isStarted());
+
+            Assert.assertThrows(IllegalStateException.class, writer::write);
+        } finally {
+            input.delete();
+            output.delete();
+        }
+    }
+
+    @Test
+    public void writeStreamTest() throws Exception {
+        final File input = new File("/dev/null");
+        Assume.assumeTrue(input.exists());
+
+        final File output = File.createTempFile("pipe-writer-output", ".bin");
+        try {
+            final PipeWriter writer = PipeWriter.create(input.getAbsolutePath(), output.getAbsolutePath());
+
+            Assert.assertEquals(0, writer.write());
+            Assert.assertEquals(-1, writer.getTotalBytes());
+        } finally {
+            output.delete();
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks session history operations while sessions are created, looked up and listed
+ * from different threads. Creating a session adds it to the history and evicts the oldest one
+ * when the history is full.
+ *
+ * <p>Run with <code>./gradlew :ffmpeg-kit-android-lib:jmh -PjmhInclude=SessionHistoryBenchmark</code>.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionHistoryBenchmark {
+
+    private static final String[] ARGUMENTS = new String[]{"-version"};
+
+    @Param({"10", "100", "999"})
+    public int sessionHistorySize;
+
+    @Setup
+    public void setup() {
+        FFmpegKitConfig.setSessionHistorySize(sessionHistorySize);
+        for (int i = 0; i < sessionHistorySize; i++) {
+            FFmpegSession.create(ARGUMENTS);
+        }
+    }
+
+    @Benchmark
+    @Group("uncontended")
+    @GroupThreads(1)
+    public FFmpegSession createAlone() {
+        return FFmpegSession.create(ARGUMENTS);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public FFmpegSession create() {
+        return FFmpegSession.create(ARGUMENTS);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public Session lookup() {
+        final Session lastSession = FFmpegKitConfig.getLastSession();
+        if (lastSession == null) {
+            return null;
+        }
+
+        final long offset = ThreadLocalRandom.current().nextInt(sessionHistorySize);
+        return FFmpegKitConfig.getSession(lastSession.getSessionId() - offset);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public List<Session> list() {
+        return FFmpegKitConfig.getSessions();
+    }
+
+}
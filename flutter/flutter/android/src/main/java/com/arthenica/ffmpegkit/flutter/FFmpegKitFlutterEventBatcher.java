@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit.flutter;
+
+import static com.arthenica.ffmpegkit.flutter.FFmpegKitFlutterPlugin.EVENT_BATCH_CALLBACK_EVENT;
+import static com.arthenica.ffmpegkit.flutter.FFmpegKitFlutterPlugin.EVENT_STATISTICS_CALLBACK_EVENT;
+import static com.arthenica.ffmpegkit.flutter.FFmpegKitFlutterPlugin.LIBRARY_NAME;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.arthenica.ffmpegkit.Statistics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * <p>Coalesces events sent to the Flutter <code>EventChannel</code>.
+ * <p>Events received within a batch window are delivered to the main thread by a single task,
+ * inside one {@link FFmpegKitFlutterPlugin#EVENT_BATCH_CALLBACK_EVENT} event that carries the list
+ * of individual events in arrival order. Only the latest statistics entry of each session is kept
+ * inside a window, at the position where that latest entry was received.
+ * <p>When binary statistics are enabled, statistics are not put into the batch. They are encoded
+ * into a single little-endian buffer of {@link #STATISTICS_ENTRY_SIZE} byte entries and sent over
+ * a <code>BasicMessageChannel</code> instead, which skips <code>StandardMessageCodec</code> map
+ * encoding. Since they travel on a separate channel, binary statistics of a window are sent before
+ * the batch of the same window.
+ */
+public class FFmpegKitFlutterEventBatcher {
+
+    /**
+     * Defines the default batch window in milliseconds, one frame at 60 Hz.
+     */
+    public static final int DEFAULT_BATCH_WINDOW = 16;
+
+    /**
+     * Size of a binary statistics entry in bytes.
+     * <p>Layout: sessionId (int64), videoFrameNumber (int32), videoFps (float32),
+     * videoQuality (float32), size (int64), time (float64), bitrate (float64), speed (float64).
+     */
+    public static final int STATISTICS_ENTRY_SIZE = 52;
+
+    private final FFmpegKitFlutterPlugin plugin;
+    private final Handler handler;
+    private final Runnable flushTask;
+    private List<Object> events;
+    private Map<Long, Integer> statisticsIndex;
+    private boolean flushScheduled;
+    private volatile int batchWindow;
+    private volatile boolean binaryStatistics;
+    private volatile BasicMessageChannel<ByteBuffer> statisticsChannel;
+
+    FFmpegKitFlutterEventBatcher(final FFmpegKitFlutterPlugin plugin) {
+        this.plugin = plugin;
+        this.handler = new Handler(Looper.getMainLooper());
+        this.flushTask = this::flush;
+        this.events = new ArrayList<>();
+        this.statisticsIndex = new HashMap<>();
+        this.batchWindow = DEFAULT_BATCH_WINDOW;
+    }
+
+    void setBatchWindow(final int batchWindow) {
+        this.batchWindow = Math.max(1, batchWindow);
+    }
+
+    void setBinaryStatistics(final boolean binaryStatistics) {
+        this.binaryStatistics = binaryStatistics;
+    }
+
+    void setStatisticsChannel(final BasicMessageChannel<ByteBuffer> statisticsChannel) {
+        this.statisticsChannel = statisticsChannel;
+    }
+
+    void add(final String eventName, final Map<String, Object> event) {
+        final HashMap<String, Object> eventMap = new HashMap<>();
+        eventMap.put(eventName, event);
+
+        synchronized (this) {
+            events.add(eventMap);
+            scheduleFlush();
+        }
+    }
+
+    void add(final Statistics statistics) {
+        synchronized (this) {
+
+            // THE PREVIOUS ENTRY OF THE SESSION IS REPLACED BY A GAP, THE NEW ONE KEEPS ARRIVAL ORDER
+            final Integer previousIndex = statisticsIndex.put(statistics.getSessionId(), events.size());
+            if (previousIndex != null) {
+                events.set(previousIndex, null);
+            }
+            events.add(statistics);
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Schedules delivery of pending events without waiting for the batch window to expire.
+     */
+    void flushAsync() {
+        handler.post(flushTask);
+    }
+
+    /**
+     * Delivers pending events. Must be called on the main thread.
+     */
+    void flush() {
+        final List<Object> pendingEvents;
+
+        synchronized (this) {
+            flushScheduled = false;
+            pendingEvents = events;
+            events = new ArrayList<>();
+            statisticsIndex = new HashMap<>();
+        }
+
+        final BasicMessageChannel<ByteBuffer> channel = statisticsChannel;
+        final boolean binary = binaryStatistics && channel != null;
+        final List<Object> batch = new ArrayList<>(pendingEvents.size());
+        final List<Statistics> binaryStatisticsList = new ArrayList<>();
+        for (Object event : pendingEvents) {
+            if (event instanceof Statistics) {
+                if (binary) {
+                    binaryStatisticsList.add((Statistics) event);
+                } else {
+                    final HashMap<String, Object> statisticsMap = new HashMap<>();
+                    statisticsMap.put(EVENT_STATISTICS_CALLBACK_EVENT, FFmpegKitFlutterPlugin.toMap((Statistics) event));
+                    batch.add(statisticsMap);
+                }
+            } else if (event != null) {
+                batch.add(event);
+            }
+        }
+
+        if (!binaryStatisticsList.isEmpty()) {
+            channel.send(encode(binaryStatisticsList));
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final EventChannel.EventSink eventSink = plugin.getEventSink();
+        if (eventSink != null) {
+            final HashMap<String, Object> batchMap = new HashMap<>();
+            batchMap.put(EVENT_BATCH_CALLBACK_EVENT, batch);
+            eventSink.success(batchMap);
+        } else {
+            Log.w(LIBRARY_NAME, String.format("EventBatcher can not send %d events on a null event sink.", batch.size()));
+        }
+    }
+
+    static ByteBuffer encode(final Collection<Statistics> statisticsList) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(statisticsList.size() * STATISTICS_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (Statistics entry : statisticsList) {
+            buffer.putLong(entry.getSessionId());
+            buffer.putInt(entry.getVideoFrameNumber());
+            buffer.putFloat(entry.getVideoFps());
+            buffer.putFloat(entry.getVideoQuality());
+            buffer.putLong(entry.getSize());
+            buffer.putDouble(entry.getTime());
+            buffer.putDouble(entry.getBitrate());
+            buffer.putDouble(entry.getSpeed());
+        }
+
+        return buffer;
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            handler.postDelayed(flushTask, batchWindow);
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import androidx.annotation.Nullable;
 
 import com.arthenica.ffmpegkit.AbiDetect;
 import com.arthenica.ffmpegkit.AbstractSession;
+import com.arthenica.ffmpegkit.AsyncExecutorStatistics;
 import com.arthenica.ffmpegkit.FFmpegKit;
 import com.arthenica.ffmpegkit.FFmpegKitConfig;
 import com.arthenica.ffmpegkit.FFmpegSession;
@@ -42,8 +43,10 @@ import com.arthenica.ffmpegkit.MediaInformation;
 import com.arthenica.ffmpegkit.MediaInformationJsonParser;
 import com.arthenica.ffmpegkit.MediaInformationSession;
 import com.arthenica.ffmpegkit.Packages;
+import com.arthenica.ffmpegkit.PipeWriter;
 import com.arthenica.ffmpegkit.ReturnCode;
 import com.arthenica.ffmpegkit.Session;
+import com.arthenica.ffmpegkit.SessionSnapshot;
 import com.arthenica.ffmpegkit.SessionState;
 import com.arthenica.ffmpegkit.Signal;
 import com.arthenica.ffmpegkit.Statistics;
@@ -60,6 +63,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -67,6 +71,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryCodec;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
@@ -80,6 +86,7 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
 
     private static final String METHOD_CHANNEL = "flutter.arthenica.com/ffmpeg_kit";
     private static final String EVENT_CHANNEL = "flutter.arthenica.com/ffmpeg_kit_event";
+    private static final String STATISTICS_CHANNEL = "flutter.arthenica.com/ffmpeg_kit_statistics";
 
     // LOG CLASS
     public static final String KEY_LOG_SESSION_ID = "sessionId";
@@ -113,6 +120,30 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
     public static final String EVENT_LOG_CALLBACK_EVENT = "FFmpegKitLogCallbackEvent";
     public static final String EVENT_STATISTICS_CALLBACK_EVENT = "FFmpegKitStatisticsCallbackEvent";
     public static final String EVENT_COMPLETE_CALLBACK_EVENT = "FFmpegKitCompleteCallbackEvent";
+    public static final String EVENT_BATCH_CALLBACK_EVENT = "FFmpegKitBatchCallbackEvent";
+    public static final String EVENT_PIPE_WRITE_PROGRESS_EVENT = "FFmpegKitPipeWriteProgressEvent";
+    public static final String EVENT_SESSION_SNAPSHOT_EVENT = "FFmpegKitSessionSnapshotEvent";
+
+    // PIPE WRITE PROGRESS
+    public static final String KEY_PIPE_WRITER_ID = "writerId";
+    public static final String KEY_PIPE_BYTES_WRITTEN = "bytesWritten";
+    public static final String KEY_PIPE_TOTAL_BYTES = "totalBytes";
+
+    // SESSION SNAPSHOT
+    public static final String KEY_SNAPSHOT_SESSION_ID = "sessionId";
+    public static final String KEY_SNAPSHOT_STATE = "state";
+    public static final String KEY_SNAPSHOT_ELAPSED = "elapsed";
+    public static final String KEY_SNAPSHOT_LAST_STATISTICS = "lastStatistics";
+    public static final String KEY_SNAPSHOT_LOG_COUNT = "logCount";
+    public static final String KEY_SNAPSHOT_EXPECTED_DURATION = "expectedDuration";
+    public static final String KEY_SNAPSHOT_COMPLETION = "completion";
+    public static final String KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING = "estimatedTimeRemaining";
+
+    // ASYNC EXECUTOR STATISTICS
+    public static final String KEY_EXECUTOR_CONCURRENCY_LIMIT = "concurrencyLimit";
+    public static final String KEY_EXECUTOR_ACTIVE_COUNT = "activeCount";
+    public static final String KEY_EXECUTOR_QUEUED_COUNT = "queuedCount";
+    public static final String KEY_EXECUTOR_COMPLETED_COUNT = "completedCount";
 
     // REQUEST CODES
     public static final int READABLE_REQUEST_CODE = 10000;
@@ -124,12 +155,29 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
     public static final String ARGUMENT_ARGUMENTS = "arguments";
     public static final String ARGUMENT_FFPROBE_JSON_OUTPUT = "ffprobeJsonOutput";
     public static final String ARGUMENT_WRITABLE = "writable";
+    public static final String ARGUMENT_BATCH_WINDOW = "batchWindow";
+    public static final String ARGUMENT_INDEX = "index";
+    public static final String ARGUMENT_WRITER_ID = "writerId";
+    public static final String ARGUMENT_BUFFER_SIZE = "bufferSize";
+    public static final String ARGUMENT_MAX = "max";
+    public static final String ARGUMENT_BINARY_STATISTICS = "binaryStatistics";
+    public static final String ARGUMENT_PROJECTION = "projection";
+    public static final String ARGUMENT_TYPE = "type";
+    public static final String ARGUMENT_STATE = "state";
+    public static final String ARGUMENT_CREATED_AFTER = "createdAfter";
+    public static final String ARGUMENT_CREATED_BEFORE = "createdBefore";
+    public static final String ARGUMENT_OFFSET = "offset";
+    public static final String ARGUMENT_LIMIT = "limit";
+    public static final String ARGUMENT_ASYNC_CONCURRENCY_LIMIT = "asyncConcurrencyLimit";
+    public static final String ARGUMENT_PERIOD = "period";
 
-    private static final int asyncConcurrencyLimit = 10;
+    protected static final MediaInformationMapCache mediaInformationMapCache = new MediaInformationMapCache();
 
     private final AtomicBoolean logsEnabled;
     private final AtomicBoolean statisticsEnabled;
+    private final AtomicBoolean batchingEnabled;
     private final ExecutorService asyncExecutorService;
+    private final ExecutorService pipeExecutorService;
 
     private MethodChannel methodChannel;
     private EventChannel eventChannel;
@@ -141,12 +189,18 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
 
     private EventChannel.EventSink eventSink;
     private final FFmpegKitFlutterMethodResultHandler resultHandler;
+    private final FFmpegKitFlutterEventBatcher eventBatcher;
+    private final Map<Long, PipeWriter> pipeWriters;
 
     public FFmpegKitFlutterPlugin() {
         this.logsEnabled = new AtomicBoolean(false);
         this.statisticsEnabled = new AtomicBoolean(false);
-        this.asyncExecutorService = Executors.newFixedThreadPool(asyncConcurrencyLimit);
+        this.batchingEnabled = new AtomicBoolean(false);
+        this.asyncExecutorService = FFmpegKitConfig.getAsyncExecutorService();
+        this.pipeExecutorService = Executors.newCachedThreadPool();
         this.resultHandler = new FFmpegKitFlutterMethodResultHandler();
+        this.eventBatcher = new FFmpegKitFlutterEventBatcher(this);
+        this.pipeWriters = new ConcurrentHashMap<>();
 
         Log.d(LIBRARY_NAME, String.format("FFmpegKitFlutterPlugin created %s.", this));
     }
@@ -183,11 +237,13 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
     @Override
     public void onAttachedToEngine(@NonNull final FlutterPlugin.FlutterPluginBinding flutterPluginBinding) {
         this.flutterPluginBinding = flutterPluginBinding;
+        this.eventBatcher.setStatisticsChannel(new BasicMessageChannel<>(flutterPluginBinding.getBinaryMessenger(), STATISTICS_CHANNEL, BinaryCodec.INSTANCE_DIRECT));
     }
 
     @Override
     public void onDetachedFromEngine(@NonNull final FlutterPlugin.FlutterPluginBinding binding) {
         this.flutterPluginBinding = null;
+        this.eventBatcher.setStatisticsChannel(null);
     }
 
     @Override
@@ -288,6 +344,13 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
                     resultHandler.errorAsync(result, "INVALID_SESSION", "Invalid session id.");
                 }
                 break;
+            case "abstractSessionGetLogsSince":
+                if (sessionId != null) {
+                    abstractSessionGetLogsSince(sessionId, call.argument(ARGUMENT_INDEX), call.argument(ARGUMENT_MAX), result);
+                } else {
+                    resultHandler.errorAsync(result, "INVALID_SESSION", "Invalid session id.");
+                }
+                break;
             case "abstractSessionGetAllLogsAsString":
                 if (sessionId != null) {
                     abstractSessionGetAllLogsAsString(sessionId, waitTimeout, result);
@@ -347,6 +410,13 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
                     resultHandler.errorAsync(result, "INVALID_SESSION", "Invalid session id.");
                 }
                 break;
+            case "ffmpegSessionGetStatisticsSince":
+                if (sessionId != null) {
+                    ffmpegSessionGetStatisticsSince(sessionId, call.argument(ARGUMENT_INDEX), call.argument(ARGUMENT_MAX), result);
+                } else {
+                    resultHandler.errorAsync(result, "INVALID_SESSION", "Invalid session id.");
+                }
+                break;
             case "ffprobeSession":
                 if (arguments != null) {
                     ffprobeSession(arguments, result);
@@ -363,7 +433,7 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
                 break;
             case "getMediaInformation":
                 if (sessionId != null) {
-                    getMediaInformation(sessionId, result);
+                    getMediaInformation(sessionId, call.argument(ARGUMENT_PROJECTION), result);
                 } else {
                     resultHandler.errorAsync(result, "INVALID_SESSION", "Invalid session id.");
                 }
@@ -400,6 +470,26 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
             case "disableStatistics":
                 disableStatistics(result);
                 break;
+            case "enableEventBatching":
+                final Integer batchWindow = call.argument(ARGUMENT_BATCH_WINDOW);
+                final Boolean binaryStatistics = call.argument(ARGUMENT_BINARY_STATISTICS);
+                enableEventBatching(batchWindow, binaryStatistics, result);
+                break;
+            case "disableEventBatching":
+                disableEventBatching(result);
+                break;
+            case "enableSessionSnapshots":
+                final Integer period = call.argument(ARGUMENT_PERIOD);
+                if (period != null && period > 0) {
+                    enableSessionSnapshots(period, result);
+                } else {
+                    resultHandler.errorAsync(result, "INVALID_PERIOD", "Invalid session snapshot period value.");
+                }
+                break;
+            case "disableSessionSnapshots":
+                FFmpegKitConfig.disableSessionSnapshots();
+                resultHandler.successAsync(result, null);
+                break;
             case "setFontconfigConfigurationPath":
                 final String path = call.argument("path");
                 if (path != null) {
@@ -531,6 +621,24 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
                     resultHandler.errorAsync(result, "INVALID_SIZE", "Invalid session history size value.");
                 }
                 break;
+            case "getAsyncConcurrencyLimit":
+                resultHandler.successAsync(result, FFmpegKitConfig.getAsyncConcurrencyLimit());
+                break;
+            case "setAsyncConcurrencyLimit":
+                final Integer asyncConcurrencyLimit = call.argument(ARGUMENT_ASYNC_CONCURRENCY_LIMIT);
+                if (asyncConcurrencyLimit != null && asyncConcurrencyLimit > 0) {
+                    FFmpegKitConfig.setAsyncConcurrencyLimit(asyncConcurrencyLimit);
+                    resultHandler.successAsync(result, null);
+                } else {
+                    resultHandler.errorAsync(result, "INVALID_LIMIT", "Invalid async concurrency limit value.");
+                }
+                break;
+            case "getAsyncExecutorStatistics":
+                resultHandler.successAsync(result, toMap(FFmpegKitConfig.getAsyncExecutorStatistics()));
+                break;
+            case "setMediaInformationProjection":
+                setMediaInformationProjection(call.argument(ARGUMENT_PROJECTION), result);
+                break;
             case "getSession":
                 if (sessionId != null) {
                     getSession(sessionId, result);
@@ -549,6 +657,10 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
                 break;
             case "clearSessions":
                 clearSessions(result);
+                mediaInformationMapCache.clear();
+                break;
+            case "querySessions":
+                querySessions(call.argument(ARGUMENT_TYPE), call.argument(ARGUMENT_STATE), call.argument(ARGUMENT_CREATED_AFTER), call.argument(ARGUMENT_CREATED_BEFORE), call.argument(ARGUMENT_OFFSET), call.argument(ARGUMENT_LIMIT), result);
                 break;
             case "getSessionsByState":
                 final Integer state = call.argument("state");
@@ -590,6 +702,28 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
                     resultHandler.errorAsync(result, "INVALID_PIPE", "Invalid pipe value.");
                 }
                 break;
+            case "pipeWriterCreate":
+                final String writerInput = call.argument("input");
+                final String writerPipe = call.argument("pipe");
+                final Integer bufferSize = call.argument(ARGUMENT_BUFFER_SIZE);
+                if (writerInput != null && writerPipe != null) {
+                    pipeWriterCreate(writerInput, writerPipe, bufferSize, result);
+                } else if (writerPipe != null) {
+                    resultHandler.errorAsync(result, "INVALID_INPUT", "Invalid input value.");
+                } else {
+                    resultHandler.errorAsync(result, "INVALID_PIPE", "Invalid pipe value.");
+                }
+                break;
+            case "pipeWriterStart": {
+                final Number writerId = call.argument(ARGUMENT_WRITER_ID);
+                pipeWriterStart(writerId == null ? null : writerId.longValue(), result);
+                break;
+            }
+            case "pipeWriterCancel": {
+                final Number writerId = call.argument(ARGUMENT_WRITER_ID);
+                pipeWriterCancel(writerId == null ? null : writerId.longValue(), result);
+                break;
+            }
             case "selectDocument":
                 final String title = call.argument("title");
                 final String type = call.argument("type");
@@ -643,9 +777,193 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
         }
     }
 
+    protected void ffmpegSessionExecute(@NonNull final Integer sessionId, @NonNull final MethodChannel.Result result) {
+        final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+        if (session == null) {
+            resultHandler.errorAsync(result, "SESSION_NOT_FOUND", "Session not found.");
+        } else {
+            if (session.isFFmpeg()) {
+                final FFmpegSessionExecuteTask ffmpegSessionExecuteTask = new FFmpegSessionExecuteTask((FFmpegSession) session, resultHandler, result);
+                asyncExecutorService.submit(ffmpegSessionExecuteTask);
+            } else {
+                resultHandler.errorAsync(result, "NOT_FFMPEG_SESSION", "A session is found but it does not have the correct type.");
+            }
+        }
+    }
+
+    protected void ffprobeSessionExecute(@NonNull final Integer sessionId, @NonNull final MethodChannel.Result result) {
+        final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+        if (session == null) {
+            resultHandler.errorAsync(result, "SESSION_NOT_FOUND", "Session not found.");
+        } else {
+            if (session.isFFprobe()) {
+                final FFprobeSessionExecuteTask ffprobeSessionExecuteTask = new FFprobeSessionExecuteTask((FFprobeSession) session, resultHandler, result);
+                asyncExecutorService.submit(ffprobeSessionExecuteTask);
+            } else {
+                resultHandler.errorAsync(result, "NOT_FFPROBE_SESSION", "A session is found but it does not have the correct type.");
+            }
+        }
+    }
+
+    protected void mediaInformationSessionExecute(@NonNull final Integer sessionId, @Nullable final Integer waitTimeout, @NonNull final MethodChannel.Result result) {
+        final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+        if (session == null) {
+            resultHandler.errorAsync(result, "SESSION_NOT_FOUND", "Session not found.");
+        } else {
+            if (session.isMediaInformation()) {
+                final int timeout;
+                if (waitTimeout != null && waitTimeout > 0) {
+                    timeout = waitTimeout;
+                } else {
+                    timeout = AbstractSession.DEFAULT_TIMEOUT_FOR_ASYNCHRONOUS_MESSAGES_IN_TRANSMIT;
+                }
+                final MediaInformationSessionExecuteTask mediaInformationSessionExecuteTask = new MediaInformationSessionExecuteTask((MediaInformationSession) session, timeout, resultHandler, result);
+                asyncExecutorService.submit(mediaInformationSessionExecuteTask);
+            } else {
+                resultHandler.errorAsync(result, "NOT_MEDIA_INFORMATION_SESSION", "A session is found but it does not have the correct type.");
+            }
+        }
+    }
+
+    protected void abstractSessionGetLogsSince(@NonNull final Integer sessionId, @Nullable final Integer index, @Nullable final Integer max, @NonNull final MethodChannel.Result result) {
+        final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+        if (session == null) {
+            resultHandler.errorAsync(result, "SESSION_NOT_FOUND", "Session not found.");
+        } else {
+            final List<com.arthenica.ffmpegkit.Log> logs = session.getLogsSince(index == null ? 0 : index, max == null ? 0 : max);
+            resultHandler.successAsync(result, toLogMapList(logs));
+        }
+    }
+
+    protected void ffmpegSessionGetStatisticsSince(@NonNull final Integer sessionId, @Nullable final Integer index, @Nullable final Integer max, @NonNull final MethodChannel.Result result) {
+        final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+        if (session == null) {
+            resultHandler.errorAsync(result, "SESSION_NOT_FOUND", "Session not found.");
+        } else {
+            if (session.isFFmpeg()) {
+                final List<Statistics> statistics = ((FFmpegSession) session).getStatisticsSince(index == null ? 0 : index, max == null ? 0 : max);
+                resultHandler.successAsync(result, toStatisticsMapList(statistics));
+            } else {
+                resultHandler.errorAsync(result, "NOT_FFMPEG_SESSION", "A session is found but it does not have the correct type.");
+            }
+        }
+    }
+
+    protected void pipeWriterCreate(@NonNull final String inputPath, @NonNull final String namedPipePath, @Nullable final Integer bufferSize, @NonNull final MethodChannel.Result result) {
+        final long[] writerId = new long[1];
+
+        final PipeWriter pipeWriter = PipeWriter.create(inputPath, namedPipePath, bufferSize == null ? 0 : bufferSize, (bytesWritten, totalBytes) -> {
+            final HashMap<String, Object> progressMap = new HashMap<>();
+            progressMap.put(KEY_PIPE_WRITER_ID, writerId[0]);
+            progressMap.put(KEY_PIPE_BYTES_WRITTEN, bytesWritten);
+            progressMap.put(KEY_PIPE_TOTAL_BYTES, totalBytes);
+
+            final HashMap<String, Object> eventMap = new HashMap<>();
+            eventMap.put(EVENT_PIPE_WRITE_PROGRESS_EVENT, progressMap);
+            resultHandler.successAsync(eventSink, eventMap);
+        });
+        writerId[0] = pipeWriter.getWriterId();
+        pipeWriters.put(pipeWriter.getWriterId(), pipeWriter);
+
+        resultHandler.successAsync(result, pipeWriter.getWriterId());
+    }
+
+    protected void pipeWriterStart(@Nullable final Long writerId, @NonNull final MethodChannel.Result result) {
+        final PipeWriter pipeWriter = (writerId == null) ? null : pipeWriters.get(writerId);
+        if (pipeWriter == null) {
+            resultHandler.errorAsync(result, "WRITER_NOT_FOUND", "Pipe writer not found.");
+        } else if (pipeWriter.isStarted()) {
+            resultHandler.errorAsync(result, "WRITER_ALREADY_STARTED", "Pipe writer is already started.");
+        } else {
+            final WriteToPipeTask asyncTask = new WriteToPipeTask(pipeWriter, resultHandler, result, true);
+            pipeExecutorService.submit(() -> {
+                try {
+                    asyncTask.run();
+                } finally {
+                    pipeWriters.remove(pipeWriter.getWriterId());
+                }
+            });
+        }
+    }
+
+    protected void pipeWriterCancel(@Nullable final Long writerId, @NonNull final MethodChannel.Result result) {
+        final PipeWriter pipeWriter = (writerId == null) ? null : pipeWriters.remove(writerId);
+        if (pipeWriter != null) {
+            pipeWriter.cancel();
+        }
+
+        resultHandler.successAsync(result, null);
+    }
+
+    protected void getMediaInformation(@NonNull final Integer sessionId, @Nullable final List<String> projection, @NonNull final MethodChannel.Result result) {
+        final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+        if (session == null) {
+            resultHandler.errorAsync(result, "SESSION_NOT_FOUND", "Session not found.");
+        } else {
+            if (session.isMediaInformation()) {
+                final MediaInformation mediaInformation = ((MediaInformationSession) session).getMediaInformation();
+                resultHandler.successAsync(result, mediaInformationMapCache.get(session.getSessionId(), mediaInformation, projection));
+            } else {
+                resultHandler.errorAsync(result, "NOT_MEDIA_INFORMATION_SESSION", "A session is found but it does not have the correct type.");
+            }
+        }
+    }
+
+    protected void querySessions(@Nullable final Integer sessionType, @Nullable final Integer sessionState, @Nullable final Number createdAfter, @Nullable final Number createdBefore, @Nullable final Number offset, @Nullable final Number limit, @NonNull final MethodChannel.Result result) {
+        final Class<? extends Session> type = (sessionType == null) ? null : toSessionClass(sessionType);
+        final SessionState state = (sessionState == null) ? null : toSessionState(sessionState);
+        final Date after = (createdAfter == null) ? null : new Date(createdAfter.longValue());
+        final Date before = (createdBefore == null) ? null : new Date(createdBefore.longValue());
+
+        resultHandler.successAsync(result, toSessionArray(FFmpegKitConfig.getSessions(type, state, after, before, offset == null ? 0 : offset.intValue(), limit == null ? 0 : limit.intValue())));
+    }
+
+    protected void setMediaInformationProjection(@Nullable final List<String> projection, @NonNull final MethodChannel.Result result) {
+        mediaInformationMapCache.setDefaultProjection(projection);
+
+        resultHandler.successAsync(result, null);
+    }
+
+    protected void enableEventBatching(@Nullable final Integer batchWindow, @Nullable final Boolean binaryStatistics, @NonNull final MethodChannel.Result result) {
+        if (batchWindow != null && batchWindow > 0) {
+            eventBatcher.setBatchWindow(batchWindow);
+        }
+        eventBatcher.setBinaryStatistics(binaryStatistics != null && binaryStatistics);
+        batchingEnabled.compareAndSet(false, true);
+
+        resultHandler.successAsync(result, null);
+    }
+
+    protected void disableEventBatching(@NonNull final MethodChannel.Result result) {
+        batchingEnabled.compareAndSet(true, false);
+        eventBatcher.flushAsync();
+
+        resultHandler.successAsync(result, null);
+    }
+
+    protected void enableSessionSnapshots(@NonNull final Integer period, @NonNull final MethodChannel.Result result) {
+        FFmpegKitConfig.enableSessionSnapshots(period, snapshots -> {
+            final List<Map<String, Object>> snapshotList = new ArrayList<>(snapshots.size());
+            for (SessionSnapshot snapshot : snapshots) {
+                snapshotList.add(toMap(snapshot));
+            }
+
+            final HashMap<String, Object> eventMap = new HashMap<>();
+            eventMap.put(EVENT_SESSION_SNAPSHOT_EVENT, snapshotList);
+            resultHandler.successAsync(eventSink, eventMap);
+        });
+
+        resultHandler.successAsync(result, null);
+    }
+
+    EventChannel.EventSink getEventSink() {
+        return eventSink;
+    }
+
     protected void uninit() {
         uninitMethodChannel();
         uninitEventChannel();
+        FFmpegKitConfig.disableSessionSnapshots();
 
         if (this.activityPluginBinding != null) {
             this.activityPluginBinding.removeActivityResultListener(this);
@@ -678,6 +996,19 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
 
     // --- The rest of the helper methods (toMap, toList, etc.) remain unchanged ---
 
+    protected static Class<? extends Session> toSessionClass(final int value) {
+        switch (value) {
+            case SESSION_TYPE_FFMPEG:
+                return FFmpegSession.class;
+            case SESSION_TYPE_FFPROBE:
+                return FFprobeSession.class;
+            case SESSION_TYPE_MEDIA_INFORMATION:
+                return MediaInformationSession.class;
+            default:
+                return Session.class;
+        }
+    }
+
     protected static long toLong(final Date date) {
         return (date != null) ? date.getTime() : 0;
     }
@@ -703,7 +1034,7 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
             final MediaInformationSession mediaInformationSession = (MediaInformationSession) session;
             final MediaInformation mediaInformation = mediaInformationSession.getMediaInformation();
             if (mediaInformation != null) {
-                sessionMap.put(KEY_SESSION_MEDIA_INFORMATION, toMap(mediaInformation));
+                sessionMap.put(KEY_SESSION_MEDIA_INFORMATION, mediaInformationMapCache.get(session.getSessionId(), mediaInformation, null));
             }
             sessionMap.put(KEY_SESSION_TYPE, SESSION_TYPE_MEDIA_INFORMATION);
         }
@@ -712,19 +1043,57 @@ public class FFmpegKitFlutterPlugin implements FlutterPlugin, ActivityAware, Met
 
     // ... (Other helper methods such as toMap for Log, Statistics, JSON objects, etc.)
 
+    protected static Map<String, Object> toMap(final SessionSnapshot snapshot) {
+        final Map<String, Object> snapshotMap = new HashMap<>();
+
+        snapshotMap.put(KEY_SNAPSHOT_SESSION_ID, snapshot.getSessionId());
+        snapshotMap.put(KEY_SNAPSHOT_STATE, snapshot.getState().ordinal());
+        snapshotMap.put(KEY_SNAPSHOT_ELAPSED, snapshot.getElapsed());
+        snapshotMap.put(KEY_SNAPSHOT_LAST_STATISTICS, snapshot.getLastStatistics() == null ? null : toMap(snapshot.getLastStatistics()));
+        snapshotMap.put(KEY_SNAPSHOT_LOG_COUNT, snapshot.getLogCount());
+        snapshotMap.put(KEY_SNAPSHOT_EXPECTED_DURATION, snapshot.getExpectedDuration());
+        snapshotMap.put(KEY_SNAPSHOT_COMPLETION, snapshot.getCompletion());
+        snapshotMap.put(KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING, snapshot.getEstimatedTimeRemaining());
+
+        return snapshotMap;
+    }
+
+    protected static Map<String, Object> toMap(final AsyncExecutorStatistics asyncExecutorStatistics) {
+        final Map<String, Object> statisticsMap = new HashMap<>();
+
+        statisticsMap.put(KEY_EXECUTOR_CONCURRENCY_LIMIT, asyncExecutorStatistics.getConcurrencyLimit());
+        statisticsMap.put(KEY_EXECUTOR_ACTIVE_COUNT, asyncExecutorStatistics.getActiveCount());
+        statisticsMap.put(KEY_EXECUTOR_QUEUED_COUNT, asyncExecutorStatistics.getQueuedCount());
+        statisticsMap.put(KEY_EXECUTOR_COMPLETED_COUNT, asyncExecutorStatistics.getCompletedCount());
+
+        return statisticsMap;
+    }
+
     protected void emitLog(final com.arthenica.ffmpegkit.Log log) {
+        if (batchingEnabled.get()) {
+            eventBatcher.add(EVENT_LOG_CALLBACK_EVENT, toMap(log));
+            return;
+        }
         final HashMap<String, Object> logMap = new HashMap<>();
         logMap.put(EVENT_LOG_CALLBACK_EVENT, toMap(log));
         resultHandler.successAsync(eventSink, logMap);
     }
 
     protected void emitStatistics(final Statistics statistics) {
+        if (batchingEnabled.get()) {
+            eventBatcher.add(statistics);
+            return;
+        }
         final HashMap<String, Object> statisticsMap = new HashMap<>();
         statisticsMap.put(EVENT_STATISTICS_CALLBACK_EVENT, toMap(statistics));
         resultHandler.successAsync(eventSink, statisticsMap);
     }
 
     protected void emitSession(final Session session) {
+        if (batchingEnabled.get()) {
+            eventBatcher.add(EVENT_COMPLETE_CALLBACK_EVENT, toMap(session));
+            return;
+        }
         final HashMap<String, Object> sessionMap = new HashMap<>();
         sessionMap.put(EVENT_COMPLETE_CALLBACK_EVENT, toMap(session));
         resultHandler.successAsync(eventSink, sessionMap);
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit.flutter;
+
+import com.arthenica.ffmpegkit.FFmpegKitConfig;
+import com.arthenica.ffmpegkit.MediaInformation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Caches media information maps sent to Dart.
+ * <p>Converting all properties of a media information into a map walks every stream, tag and side
+ * data entry, so converted maps are cached per session and per projection. A projection is a list
+ * of dot separated field paths, see {@link MediaInformation#getProperties(List)}. The cache keeps
+ * entries for the last {@link FFmpegKitConfig#getSessionHistorySize()} sessions. It is cleared
+ * together with the session history when sessions are cleared.
+ */
+public class MediaInformationMapCache {
+    private final Map<Long, Map<String, Map<String, Object>>> cache;
+    private volatile List<String> defaultProjection;
+
+    public MediaInformationMapCache() {
+        this.cache = new LinkedHashMap<Long, Map<String, Map<String, Object>>>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Map<String, Map<String, Object>>> eldest) {
+                return (this.size() > FFmpegKitConfig.getSessionHistorySize());
+            }
+        };
+    }
+
+    public List<String> getDefaultProjection() {
+        return defaultProjection;
+    }
+
+    /**
+     * Sets the projection used when a media information map is requested without a projection.
+     *
+     * @param defaultProjection field paths to send or null to send all properties
+     */
+    public void setDefaultProjection(final List<String> defaultProjection) {
+        this.defaultProjection = (defaultProjection == null || defaultProjection.isEmpty()) ? null : defaultProjection;
+        clear();
+    }
+
+    /**
+     * Returns the map of the given media information. Returned maps are shared and must not be
+     * modified.
+     *
+     * @param sessionId        id of the session that created the media information
+     * @param mediaInformation media information
+     * @param projection       field paths to send, null to use the default projection
+     * @return map that contains the selected properties or null if media information is null
+     */
+    public Map<String, Object> get(final long sessionId, final MediaInformation mediaInformation, final List<String> projection) {
+        if (mediaInformation == null) {
+            return null;
+        }
+
+        final List<String> fields = (projection != null) ? projection : defaultProjection;
+        final String key = (fields == null) ? "" : fields.toString();
+
+        synchronized (cache) {
+            final Map<String, Map<String, Object>> sessionMaps = cache.get(sessionId);
+            if (sessionMaps != null && sessionMaps.containsKey(key)) {
+                return sessionMaps.get(key);
+            }
+        }
+
+        final Map<String, Object> map = FFmpegKitFlutterPlugin.toMap(mediaInformation.getProperties(fields));
+
+        synchronized (cache) {
+            Map<String, Map<String, Object>> sessionMaps = cache.get(sessionId);
+            if (sessionMaps == null) {
+                sessionMaps = new HashMap<>();
+                cache.put(sessionId, sessionMaps);
+            }
+            sessionMaps.put(key, map);
+        }
+
+        return map;
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+}
@@ -25,45 +25,60 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 
+import com.arthenica.ffmpegkit.PipeWriter;
+
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
 
 import io.flutter.plugin.common.MethodChannel;
 
 public class WriteToPipeTask implements Runnable {
-    private final String inputPath;
-    private final String namedPipePath;
+    private final PipeWriter pipeWriter;
     private final FFmpegKitFlutterMethodResultHandler resultHandler;
     private final MethodChannel.Result result;
+    private final boolean returnBytesWritten;
 
     public WriteToPipeTask(@NonNull final String inputPath, @NonNull final String namedPipePath, @NonNull final FFmpegKitFlutterMethodResultHandler resultHandler, @NonNull final MethodChannel.Result result) {
-        this.inputPath = inputPath;
-        this.namedPipePath = namedPipePath;
+        this(PipeWriter.create(inputPath, namedPipePath), resultHandler, result, false);
+    }
+
+    public WriteToPipeTask(@NonNull final PipeWriter pipeWriter, @NonNull final FFmpegKitFlutterMethodResultHandler resultHandler, @NonNull final MethodChannel.Result result, final boolean returnBytesWritten) {
+        this.pipeWriter = pipeWriter;
         this.resultHandler = resultHandler;
         this.result = result;
+        this.returnBytesWritten = returnBytesWritten;
     }
 
     @Override
     public void run() {
-        final int rc;
+        final String inputPath = pipeWriter.getInputPath();
+        final String namedPipePath = pipeWriter.getPipePath();
 
         try {
-            final String asyncCommand = "cat " + inputPath + " > " + namedPipePath;
             Log.d(LIBRARY_NAME, String.format("Starting copy %s to pipe %s operation.", inputPath, namedPipePath));
 
             final long startTime = System.currentTimeMillis();
 
-            final Process process = Runtime.getRuntime().exec(new String[]{"sh", "-c", asyncCommand});
-            rc = process.waitFor();
+            final long bytesWritten = pipeWriter.write();
 
             final long endTime = System.currentTimeMillis();
 
-            Log.d(LIBRARY_NAME, String.format("Copying %s to pipe %s operation completed with rc %d in %d seconds.", inputPath, namedPipePath, rc, (endTime - startTime) / 1000));
+            Log.d(LIBRARY_NAME, String.format("Copying %s to pipe %s operation completed with %d bytes in %d seconds.", inputPath, namedPipePath, bytesWritten, (endTime - startTime) / 1000));
 
-            resultHandler.successAsync(result, rc);
+            if (returnBytesWritten) {
+                resultHandler.successAsync(result, bytesWritten);
+            } else {
+                resultHandler.successAsync(result, 0);
+            }
 
-        } catch (final IOException | InterruptedException e) {
+        } catch (final CancellationException e) {
+            Log.d(LIBRARY_NAME, String.format("Copy %s to pipe %s cancelled.", inputPath, namedPipePath));
+            resultHandler.errorAsync(result, "WRITE_CANCELLED", e.getMessage());
+        } catch (final IOException e) {
             Log.e(LIBRARY_NAME, String.format("Copy %s to pipe %s failed with error.", inputPath, namedPipePath), e);
             resultHandler.errorAsync(result, "WRITE_TO_PIPE_FAILED", e.getMessage());
+        } catch (final IllegalStateException e) {
+            resultHandler.errorAsync(result, "WRITER_ALREADY_STARTED", e.getMessage());
         }
     }
 
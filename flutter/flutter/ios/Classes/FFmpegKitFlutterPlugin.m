@@ -58,20 +58,47 @@ static int const SESSION_TYPE_MEDIA_INFORMATION = 3;
 static NSString *const EVENT_LOG_CALLBACK_EVENT = @"FFmpegKitLogCallbackEvent";
 static NSString *const EVENT_STATISTICS_CALLBACK_EVENT = @"FFmpegKitStatisticsCallbackEvent";
 static NSString *const EVENT_COMPLETE_CALLBACK_EVENT = @"FFmpegKitCompleteCallbackEvent";
+static NSString *const EVENT_BATCH_CALLBACK_EVENT = @"FFmpegKitBatchCallbackEvent";
+static NSString *const EVENT_SESSION_SNAPSHOT_EVENT = @"FFmpegKitSessionSnapshotEvent";
+
+// SESSION SNAPSHOT
+static NSString *const KEY_SNAPSHOT_SESSION_ID = @"sessionId";
+static NSString *const KEY_SNAPSHOT_STATE = @"state";
+static NSString *const KEY_SNAPSHOT_ELAPSED = @"elapsed";
+static NSString *const KEY_SNAPSHOT_LAST_STATISTICS = @"lastStatistics";
+static NSString *const KEY_SNAPSHOT_LOG_COUNT = @"logCount";
+static NSString *const KEY_SNAPSHOT_EXPECTED_DURATION = @"expectedDuration";
+static NSString *const KEY_SNAPSHOT_COMPLETION = @"completion";
+static NSString *const KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING = @"estimatedTimeRemaining";
 
 // ARGUMENT NAMES
 static NSString *const ARGUMENT_SESSION_ID = @"sessionId";
 static NSString *const ARGUMENT_WAIT_TIMEOUT = @"waitTimeout";
 static NSString *const ARGUMENT_ARGUMENTS = @"arguments";
 static NSString *const ARGUMENT_FFPROBE_JSON_OUTPUT = @"ffprobeJsonOutput";
+static NSString *const ARGUMENT_BATCH_WINDOW = @"batchWindow";
+
+// EVENT BATCHING
+static int const DEFAULT_BATCH_WINDOW = 16;
 
 extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
 
+static NSArray *mediaInformationProjection = nil;
+
 @implementation FFmpegKitFlutterPlugin {
   FlutterEventSink _eventSink;
   BOOL logsEnabled;
   BOOL statisticsEnabled;
   dispatch_queue_t asyncDispatchQueue;
+  dispatch_source_t sessionSnapshotTimer;
+
+  // EVENT BATCHING, GUARDED BY batchLock
+  BOOL batchingEnabled;
+  BOOL flushScheduled;
+  int batchWindow;
+  NSMutableArray *pendingEvents;
+  NSMutableDictionary *pendingStatisticsIndex;
+  NSObject *batchLock;
 }
 
 - (instancetype)init {
@@ -80,6 +107,12 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     logsEnabled = false;
     statisticsEnabled = false;
     asyncDispatchQueue = dispatch_get_global_queue(DISPATCH_QUEUE_PRIORITY_DEFAULT, 0);
+    batchingEnabled = false;
+    flushScheduled = false;
+    batchWindow = DEFAULT_BATCH_WINDOW;
+    pendingEvents = [[NSMutableArray alloc] init];
+    pendingStatisticsIndex = [[NSMutableDictionary alloc] init];
+    batchLock = [[NSObject alloc] init];
 
     NSLog(@"FFmpegKitFlutterPlugin %p created.\n", self);
   }
@@ -112,6 +145,9 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
 - (void)registerGlobalCallbacks {
   [FFmpegKitConfig enableFFmpegSessionCompleteCallback:^(FFmpegSession* session){
     NSDictionary *dictionary = [FFmpegKitFlutterPlugin toSessionDictionary:session];
+    if ([self addBatchedEvent:EVENT_COMPLETE_CALLBACK_EVENT withDictionary:dictionary]) {
+      return;
+    }
     dispatch_async(dispatch_get_main_queue(), ^() {
       self->_eventSink([FFmpegKitFlutterPlugin toStringDictionary:EVENT_COMPLETE_CALLBACK_EVENT withDictionary:dictionary]);
     });
@@ -119,6 +155,9 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
 
   [FFmpegKitConfig enableFFprobeSessionCompleteCallback:^(FFprobeSession* session){
     NSDictionary *dictionary = [FFmpegKitFlutterPlugin toSessionDictionary:session];
+    if ([self addBatchedEvent:EVENT_COMPLETE_CALLBACK_EVENT withDictionary:dictionary]) {
+      return;
+    }
     dispatch_async(dispatch_get_main_queue(), ^() {
       self->_eventSink([FFmpegKitFlutterPlugin toStringDictionary:EVENT_COMPLETE_CALLBACK_EVENT withDictionary:dictionary]);
     });
@@ -126,6 +165,9 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
 
   [FFmpegKitConfig enableMediaInformationSessionCompleteCallback:^(MediaInformationSession* session){
     NSDictionary *dictionary = [FFmpegKitFlutterPlugin toSessionDictionary:session];
+    if ([self addBatchedEvent:EVENT_COMPLETE_CALLBACK_EVENT withDictionary:dictionary]) {
+      return;
+    }
     dispatch_async(dispatch_get_main_queue(), ^() {
       self->_eventSink([FFmpegKitFlutterPlugin toStringDictionary:EVENT_COMPLETE_CALLBACK_EVENT withDictionary:dictionary]);
     });
@@ -134,6 +176,9 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   [FFmpegKitConfig enableLogCallback: ^(Log* log){
     if (self->logsEnabled) {
       NSDictionary *dictionary = [FFmpegKitFlutterPlugin toLogDictionary:log];
+      if ([self addBatchedEvent:EVENT_LOG_CALLBACK_EVENT withDictionary:dictionary]) {
+        return;
+      }
       dispatch_async(dispatch_get_main_queue(), ^() {
         self->_eventSink([FFmpegKitFlutterPlugin toStringDictionary:EVENT_LOG_CALLBACK_EVENT withDictionary:dictionary]);
       });
@@ -143,6 +188,9 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   [FFmpegKitConfig enableStatisticsCallback:^(Statistics* statistics){
     if (self->statisticsEnabled) {
       NSDictionary *dictionary = [FFmpegKitFlutterPlugin toStatisticsDictionary:statistics];
+      if ([self addBatchedStatistics:dictionary forSession:[statistics getSessionId]]) {
+        return;
+      }
       dispatch_async(dispatch_get_main_queue(), ^() {
         self->_eventSink([FFmpegKitFlutterPlugin toStringDictionary:EVENT_STATISTICS_CALLBACK_EVENT withDictionary:dictionary]);
       });
@@ -150,6 +198,91 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   }];
 }
 
+// EVENT BATCHING
+
+/**
+ * Appends an event to the pending batch if event batching is enabled.
+ *
+ * @return YES if the event is batched, NO if it must be sent now
+ */
+- (BOOL)addBatchedEvent:(NSString*)eventName withDictionary:(NSDictionary*)dictionary {
+  @synchronized (batchLock) {
+    if (!batchingEnabled) {
+      return false;
+    }
+    [pendingEvents addObject:[FFmpegKitFlutterPlugin toStringDictionary:eventName withDictionary:dictionary]];
+    [self scheduleBatchFlush];
+  }
+
+  return true;
+}
+
+/**
+ * Appends a statistics event to the pending batch if event batching is enabled. The previous
+ * pending entry of the same session is removed, so only the latest entry is sent at the position
+ * where it was received.
+ *
+ * @return YES if the event is batched, NO if it must be sent now
+ */
+- (BOOL)addBatchedStatistics:(NSDictionary*)dictionary forSession:(long)sessionId {
+  @synchronized (batchLock) {
+    if (!batchingEnabled) {
+      return false;
+    }
+    NSNumber *key = [NSNumber numberWithLong:sessionId];
+    NSNumber *previousIndex = pendingStatisticsIndex[key];
+    if (previousIndex != nil) {
+      [pendingEvents replaceObjectAtIndex:[previousIndex unsignedIntegerValue] withObject:[NSNull null]];
+    }
+    pendingStatisticsIndex[key] = [NSNumber numberWithUnsignedInteger:[pendingEvents count]];
+    [pendingEvents addObject:[FFmpegKitFlutterPlugin toStringDictionary:EVENT_STATISTICS_CALLBACK_EVENT withDictionary:dictionary]];
+    [self scheduleBatchFlush];
+  }
+
+  return true;
+}
+
+/**
+ * Sends pending events in arrival order inside a single batch event. Must be called on the main
+ * queue.
+ */
+- (void)flushBatchedEvents {
+  NSArray *events;
+
+  @synchronized (batchLock) {
+    flushScheduled = false;
+    events = pendingEvents;
+    pendingEvents = [[NSMutableArray alloc] init];
+    pendingStatisticsIndex = [[NSMutableDictionary alloc] init];
+  }
+
+  NSMutableArray *batch = [[NSMutableArray alloc] init];
+  for (int i = 0; i < [events count]; i++) {
+    id event = [events objectAtIndex:i];
+    if (event != [NSNull null]) {
+      [batch addObject:event];
+    }
+  }
+
+  if ([batch count] > 0) {
+    if (_eventSink != nil) {
+      _eventSink(@{EVENT_BATCH_CALLBACK_EVENT: batch});
+    } else {
+      NSLog(@"FFmpegKitFlutterPlugin can not send %lu events on a nil event sink.\n", (unsigned long)[batch count]);
+    }
+  }
+}
+
+// MUST BE CALLED WITH batchLock HELD
+- (void)scheduleBatchFlush {
+  if (!flushScheduled) {
+    flushScheduled = true;
+    dispatch_after(dispatch_time(DISPATCH_TIME_NOW, (int64_t)batchWindow * NSEC_PER_MSEC), dispatch_get_main_queue(), ^{
+      [self flushBatchedEvents];
+    });
+  }
+}
+
 - (void)handleMethodCall:(FlutterMethodCall*)call result:(FlutterResult)result {
   NSNumber* sessionId = call.arguments[ARGUMENT_SESSION_ID];
   NSNumber* waitTimeout = call.arguments[ARGUMENT_WAIT_TIMEOUT];
@@ -180,6 +313,12 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     } else {
       result([FlutterError errorWithCode:@"INVALID_SESSION" message:@"Invalid session id." details:nil]);
     }
+  } else if ([@"abstractSessionGetLogsSince" isEqualToString:call.method]) {
+    if (sessionId != nil) {
+      [self abstractSessionGetLogsSince:sessionId index:call.arguments[@"index"] max:call.arguments[@"max"] result:result];
+    } else {
+      result([FlutterError errorWithCode:@"INVALID_SESSION" message:@"Invalid session id." details:nil]);
+    }
   } else if ([@"abstractSessionGetAllLogsAsString" isEqualToString:call.method]) {
     if (sessionId != nil) {
       [self abstractSessionGetAllLogsAsString:sessionId timeout:(NSNumber*)waitTimeout result:result];
@@ -230,6 +369,12 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     } else {
       result([FlutterError errorWithCode:@"INVALID_SESSION" message:@"Invalid session id." details:nil]);
     }
+  } else if ([@"ffmpegSessionGetStatisticsSince" isEqualToString:call.method]) {
+    if (sessionId != nil) {
+      [self ffmpegSessionGetStatisticsSince:sessionId index:call.arguments[@"index"] max:call.arguments[@"max"] result:result];
+    } else {
+      result([FlutterError errorWithCode:@"INVALID_SESSION" message:@"Invalid session id." details:nil]);
+    }
   } else if ([@"ffprobeSession" isEqualToString:call.method]) {
     if (arguments != nil) {
       [self ffprobeSession:arguments result:result];
@@ -244,7 +389,7 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     }
   } else if ([@"getMediaInformation" isEqualToString:call.method]) {
     if (sessionId != nil) {
-      [self getMediaInformation:sessionId result:result];
+      [self getMediaInformation:sessionId projection:[FFmpegKitFlutterPlugin toProjection:call.arguments[@"projection"]] result:result];
     } else {
       result([FlutterError errorWithCode:@"INVALID_SESSION" message:@"Invalid session id." details:nil]);
     }
@@ -272,6 +417,21 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     [self enableStatistics:result];
   } else if ([@"disableStatistics" isEqualToString:call.method]) {
     [self disableStatistics:result];
+  } else if ([@"enableEventBatching" isEqualToString:call.method]) {
+    NSNumber* window = call.arguments[ARGUMENT_BATCH_WINDOW];
+    [self enableEventBatching:window result:result];
+  } else if ([@"disableEventBatching" isEqualToString:call.method]) {
+    [self disableEventBatching:result];
+  } else if ([@"enableSessionSnapshots" isEqualToString:call.method]) {
+    NSNumber* period = [FFmpegKitFlutterPlugin toNumber:call.arguments[@"period"]];
+    if (period != nil && [period intValue] > 0) {
+      [self enableSessionSnapshots:[period intValue] result:result];
+    } else {
+      result([FlutterError errorWithCode:@"INVALID_PERIOD" message:@"Invalid session snapshot period value." details:nil]);
+    }
+  } else if ([@"disableSessionSnapshots" isEqualToString:call.method]) {
+    [self cancelSessionSnapshotTimer];
+    result(nil);
   } else if ([@"setFontconfigConfigurationPath" isEqualToString:call.method]) {
     NSString* path = call.arguments[@"path"];
     if (path != nil) {
@@ -374,6 +534,10 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     }
   } else if ([@"getSessionHistorySize" isEqualToString:call.method]) {
     [self getSessionHistorySize:result];
+  } else if ([@"getAsyncConcurrencyLimit" isEqualToString:call.method] || [@"setAsyncConcurrencyLimit" isEqualToString:call.method] || [@"getAsyncExecutorStatistics" isEqualToString:call.method]) {
+    result([FlutterError errorWithCode:@"NOT_SUPPORTED" message:@"Not supported on iOS platform." details:nil]);
+  } else if ([@"setMediaInformationProjection" isEqualToString:call.method]) {
+    [self setMediaInformationProjection:[FFmpegKitFlutterPlugin toProjection:call.arguments[@"projection"]] result:result];
   } else if ([@"setSessionHistorySize" isEqualToString:call.method]) {
     NSNumber* sessionHistorySize = call.arguments[@"sessionHistorySize"];
     if (sessionHistorySize != nil) {
@@ -395,6 +559,8 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     [self getSessions:result];
   } else if ([@"clearSessions" isEqualToString:call.method]) {
     [self clearSessions:result];
+  } else if ([@"querySessions" isEqualToString:call.method]) {
+    [self querySessions:call.arguments result:result];
   } else if ([@"getSessionsByState" isEqualToString:call.method]) {
     NSNumber* stateIndex = call.arguments[@"state"];
     if (stateIndex != nil) {
@@ -429,6 +595,8 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
     } else {
       result([FlutterError errorWithCode:@"INVALID_PIPE" message:@"Invalid pipe value." details:nil]);
     }
+  } else if ([@"pipeWriterCreate" isEqualToString:call.method] || [@"pipeWriterStart" isEqualToString:call.method] || [@"pipeWriterCancel" isEqualToString:call.method]) {
+    result([FlutterError errorWithCode:@"NOT_SUPPORTED" message:@"Not supported on iOS platform." details:nil]);
   } else if ([@"selectDocument" isEqualToString:call.method]) {
     [self selectDocument:result];
   } else if ([@"getSafParameter" isEqualToString:call.method]) {
@@ -507,6 +675,16 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   }
 }
 
+- (void)abstractSessionGetLogsSince:(NSNumber*)sessionId index:(NSNumber*)index max:(NSNumber*)max result:(FlutterResult)result {
+  AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:[sessionId longValue]];
+  if (session == nil) {
+    result([FlutterError errorWithCode:@"SESSION_NOT_FOUND" message:@"Session not found." details:nil]);
+  } else {
+    NSArray* logs = [FFmpegKitFlutterPlugin subarray:[session getLogs] fromIndex:index max:max];
+    result([FFmpegKitFlutterPlugin toLogArray:logs]);
+  }
+}
+
 - (void)abstractSessionGetAllLogsAsString:(NSNumber*)sessionId timeout:(NSNumber*)waitTimeout result:(FlutterResult)result {
   AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:[sessionId longValue]];
   if (session == nil) {
@@ -611,6 +789,20 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   }
 }
 
+- (void)ffmpegSessionGetStatisticsSince:(NSNumber*)sessionId index:(NSNumber*)index max:(NSNumber*)max result:(FlutterResult)result {
+  AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:[sessionId longValue]];
+  if (session == nil) {
+    result([FlutterError errorWithCode:@"SESSION_NOT_FOUND" message:@"Session not found." details:nil]);
+  } else {
+    if ([session isFFmpeg]) {
+      NSArray* statistics = [FFmpegKitFlutterPlugin subarray:[(FFmpegSession*)session getStatistics] fromIndex:index max:max];
+      result([FFmpegKitFlutterPlugin toStatisticsArray:statistics]);
+    } else {
+      result([FlutterError errorWithCode:@"NOT_FFMPEG_SESSION" message:@"A session is found but it does not have the correct type." details:nil]);
+    }
+  }
+}
+
 // FFprobeSession
 
 - (void)ffprobeSession:(NSArray*)arguments result:(FlutterResult)result {
@@ -625,14 +817,14 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   result([FFmpegKitFlutterPlugin toSessionDictionary:session]);
 }
 
-- (void)getMediaInformation:(NSNumber*)sessionId result:(FlutterResult)result {
+- (void)getMediaInformation:(NSNumber*)sessionId projection:(NSArray*)projection result:(FlutterResult)result {
   AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:[sessionId longValue]];
   if (session == nil) {
     result([FlutterError errorWithCode:@"SESSION_NOT_FOUND" message:@"Session not found." details:nil]);
   } else {
     if ([session isMediaInformation]) {
         MediaInformationSession *mediaInformationSession = (MediaInformationSession*)session;
-        result([FFmpegKitFlutterPlugin toMediaInformationDictionary:[mediaInformationSession getMediaInformation]]);
+        result([FFmpegKitFlutterPlugin toMediaInformationDictionary:[mediaInformationSession getMediaInformation] projection:projection]);
     } else {
         result([FlutterError errorWithCode:@"NOT_MEDIA_INFORMATION_SESSION" message:@"A session is found but it does not have the correct type." details:nil]);
     }
@@ -701,6 +893,55 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   result(nil);
 }
 
+- (void)enableEventBatching:(NSNumber*)window result:(FlutterResult)result {
+  @synchronized (batchLock) {
+    if (window != nil && [window intValue] > 0) {
+      batchWindow = [window intValue];
+    }
+    batchingEnabled = true;
+  }
+  result(nil);
+}
+
+- (void)disableEventBatching:(FlutterResult)result {
+  @synchronized (batchLock) {
+    batchingEnabled = false;
+  }
+  dispatch_async(dispatch_get_main_queue(), ^() {
+    [self flushBatchedEvents];
+  });
+  result(nil);
+}
+
+- (void)enableSessionSnapshots:(int)period result:(FlutterResult)result {
+  [self cancelSessionSnapshotTimer];
+
+  __weak FFmpegKitFlutterPlugin *weakSelf = self;
+  sessionSnapshotTimer = dispatch_source_create(DISPATCH_SOURCE_TYPE_TIMER, 0, 0, asyncDispatchQueue);
+  dispatch_source_set_timer(sessionSnapshotTimer, dispatch_time(DISPATCH_TIME_NOW, (int64_t)period * NSEC_PER_MSEC), (uint64_t)period * NSEC_PER_MSEC, (uint64_t)period * NSEC_PER_MSEC / 10);
+  dispatch_source_set_event_handler(sessionSnapshotTimer, ^{
+    NSArray *snapshots = [FFmpegKitFlutterPlugin toSessionSnapshotArray:[FFmpegKitConfig getSessionsByState:SessionStateRunning]];
+    if ([snapshots count] > 0) {
+      dispatch_async(dispatch_get_main_queue(), ^() {
+        FFmpegKitFlutterPlugin *strongSelf = weakSelf;
+        if (strongSelf != nil && strongSelf->_eventSink != nil) {
+          strongSelf->_eventSink(@{EVENT_SESSION_SNAPSHOT_EVENT: snapshots});
+        }
+      });
+    }
+  });
+  dispatch_resume(sessionSnapshotTimer);
+
+  result(nil);
+}
+
+- (void)cancelSessionSnapshotTimer {
+  if (sessionSnapshotTimer != nil) {
+    dispatch_source_cancel(sessionSnapshotTimer);
+    sessionSnapshotTimer = nil;
+  }
+}
+
 - (void)setFontconfigConfigurationPath:(NSString*)path result:(FlutterResult)result {
   [FFmpegKitConfig setFontconfigConfigurationPath:path];
 
@@ -822,6 +1063,11 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   }
 }
 
+- (void)setMediaInformationProjection:(NSArray*)projection result:(FlutterResult)result {
+  mediaInformationProjection = ([projection count] > 0) ? projection : nil;
+  result(nil);
+}
+
 - (void)asyncFFmpegSessionExecute:(NSNumber*)sessionId result:(FlutterResult)result {
   AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:[sessionId longValue]];
   if (session == nil) {
@@ -932,6 +1178,46 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   }
 }
 
+- (void)querySessions:(NSDictionary*)arguments result:(FlutterResult)result {
+  NSNumber* type = [FFmpegKitFlutterPlugin toNumber:arguments[@"type"]];
+  NSNumber* state = [FFmpegKitFlutterPlugin toNumber:arguments[@"state"]];
+  NSNumber* createdAfter = [FFmpegKitFlutterPlugin toNumber:arguments[@"createdAfter"]];
+  NSNumber* createdBefore = [FFmpegKitFlutterPlugin toNumber:arguments[@"createdBefore"]];
+  int offset = [[FFmpegKitFlutterPlugin toNumber:arguments[@"offset"]] intValue];
+  int limit = [[FFmpegKitFlutterPlugin toNumber:arguments[@"limit"]] intValue];
+
+  NSMutableArray *sessions = [[NSMutableArray alloc] init];
+  int skipped = 0;
+  for (id<Session> session in [[FFmpegKitConfig getSessions] reverseObjectEnumerator]) {
+    if (limit > 0 && [sessions count] >= limit) {
+      break;
+    }
+    if (type != nil) {
+      int sessionType = [type intValue];
+      if ((sessionType == SESSION_TYPE_FFMPEG && ![session isFFmpeg]) || (sessionType == SESSION_TYPE_FFPROBE && ![session isFFprobe]) || (sessionType == SESSION_TYPE_MEDIA_INFORMATION && ![session isMediaInformation])) {
+        continue;
+      }
+    }
+    if (state != nil && [session getState] != [state intValue]) {
+      continue;
+    }
+    double createTime = [[session getCreateTime] timeIntervalSince1970]*1000;
+    if (createdAfter != nil && createTime < [createdAfter doubleValue]) {
+      continue;
+    }
+    if (createdBefore != nil && createTime >= [createdBefore doubleValue]) {
+      continue;
+    }
+    if (skipped < offset) {
+      skipped++;
+      continue;
+    }
+    [sessions addObject:session];
+  }
+
+  result([FFmpegKitFlutterPlugin toSessionArray:sessions]);
+}
+
 - (void)getLogRedirectionStrategy:(FlutterResult)result {
   result([FFmpegKitFlutterPlugin logRedirectionStrategyToNumber:[FFmpegKitConfig getLogRedirectionStrategy]]);
 }
@@ -1095,7 +1381,7 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
       dictionary[KEY_SESSION_TYPE] = [NSNumber numberWithInt:SESSION_TYPE_FFPROBE];
     } else if ([session isMediaInformation]) {
       MediaInformationSession *mediaInformationSession = (MediaInformationSession*)session;
-      dictionary[KEY_SESSION_MEDIA_INFORMATION] = [FFmpegKitFlutterPlugin toMediaInformationDictionary:[mediaInformationSession getMediaInformation]];
+      dictionary[KEY_SESSION_MEDIA_INFORMATION] = [FFmpegKitFlutterPlugin toMediaInformationDictionary:[mediaInformationSession getMediaInformation] projection:nil];
       dictionary[KEY_SESSION_TYPE] = [NSNumber numberWithInt:SESSION_TYPE_MEDIA_INFORMATION];
     }
 
@@ -1155,6 +1441,142 @@ extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
   }
 }
 
++ (NSDictionary*)toMediaInformationDictionary:(MediaInformation*)mediaInformation projection:(NSArray*)projection {
+  NSArray* fields = (projection != nil) ? projection : mediaInformationProjection;
+  NSDictionary* allProperties = [mediaInformation getAllProperties];
+  if ([fields count] == 0 || allProperties == nil) {
+    return [FFmpegKitFlutterPlugin toMediaInformationDictionary:mediaInformation];
+  }
+
+  NSMutableDictionary *dictionary = [[NSMutableDictionary alloc] init];
+  for (NSString *field in fields) {
+    if ([field length] > 0) {
+      [FFmpegKitFlutterPlugin project:allProperties into:dictionary path:[field componentsSeparatedByString:@"."] index:0];
+    }
+  }
+
+  return dictionary;
+}
+
++ (void)project:(NSDictionary*)source into:(NSMutableDictionary*)target path:(NSArray*)path index:(NSUInteger)index {
+  NSString* key = path[index];
+  id value = source[key];
+  if (value == nil || target[key] == value) {
+    return;
+  }
+
+  if (index == [path count] - 1) {
+    target[key] = value;
+  } else if ([value isKindOfClass:[NSDictionary class]]) {
+    NSMutableDictionary* child = target[key];
+    if (child == nil) {
+      child = [[NSMutableDictionary alloc] init];
+      target[key] = child;
+    }
+    [FFmpegKitFlutterPlugin project:value into:child path:path index:index + 1];
+  } else if ([value isKindOfClass:[NSArray class]]) {
+    NSArray* sourceArray = value;
+    NSMutableArray* targetArray = target[key];
+    if (targetArray == nil) {
+      targetArray = [[NSMutableArray alloc] init];
+      for (NSUInteger i = 0; i < [sourceArray count]; i++) {
+        [targetArray addObject:[[NSMutableDictionary alloc] init]];
+      }
+      target[key] = targetArray;
+    }
+    for (NSUInteger i = 0; i < [sourceArray count]; i++) {
+      if ([sourceArray[i] isKindOfClass:[NSDictionary class]]) {
+        [FFmpegKitFlutterPlugin project:sourceArray[i] into:targetArray[i] path:path index:index + 1];
+      }
+    }
+  }
+}
+
++ (NSArray*)toSessionSnapshotArray:(NSArray*)sessions {
+  NSMutableArray *array = [[NSMutableArray alloc] init];
+
+  for (int i = 0; i < [sessions count]; i++) {
+    [array addObject:[FFmpegKitFlutterPlugin toSessionSnapshotDictionary:[sessions objectAtIndex:i]]];
+  }
+
+  return array;
+}
+
++ (NSDictionary*)toSessionSnapshotDictionary:(id<Session>)session {
+  NSMutableDictionary *dictionary = [[NSMutableDictionary alloc] init];
+
+  long elapsed = 0;
+  if ([session getStartTime] != nil) {
+    if ([session getEndTime] != nil) {
+      elapsed = [session getDuration];
+    } else {
+      elapsed = (long)([[NSDate date] timeIntervalSinceDate:[session getStartTime]] * 1000);
+    }
+  }
+
+  Statistics *lastStatistics = [session isFFmpeg] ? [(FFmpegSession*)session getLastReceivedStatistics] : nil;
+  long expectedDuration = [session isFFmpeg] ? [FFmpegKitFlutterPlugin findInputDuration:[session getArguments]] : 0;
+
+  double completion = -1;
+  if ([session getState] == SessionStateCompleted) {
+    completion = 1;
+  } else if (lastStatistics != nil && expectedDuration > 0) {
+    completion = MIN(1, MAX(0, [lastStatistics getTime] / expectedDuration));
+  }
+
+  dictionary[KEY_SNAPSHOT_SESSION_ID] = [NSNumber numberWithLong: [session getSessionId]];
+  dictionary[KEY_SNAPSHOT_STATE] = [FFmpegKitFlutterPlugin sessionStateToNumber:[session getState]];
+  dictionary[KEY_SNAPSHOT_ELAPSED] = [NSNumber numberWithLong: elapsed];
+  dictionary[KEY_SNAPSHOT_LAST_STATISTICS] = (lastStatistics != nil) ? [FFmpegKitFlutterPlugin toStatisticsDictionary:lastStatistics] : [NSNull null];
+  dictionary[KEY_SNAPSHOT_LOG_COUNT] = [NSNumber numberWithUnsignedInteger: [[session getLogs] count]];
+  dictionary[KEY_SNAPSHOT_EXPECTED_DURATION] = [NSNumber numberWithLong: expectedDuration];
+  dictionary[KEY_SNAPSHOT_COMPLETION] = [NSNumber numberWithDouble: completion];
+  dictionary[KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING] = [NSNumber numberWithLong: ([session getState] == SessionStateCompleted) ? 0 : -1];
+
+  return dictionary;
+}
+
++ (long)findInputDuration:(NSArray*)arguments {
+  NSArray *mediaInformationSessions = [FFmpegKitConfig getMediaInformationSessions];
+
+  for (int i = 0; i + 1 < [arguments count]; i++) {
+    if ([@"-i" isEqualToString:[arguments objectAtIndex:i]]) {
+      NSString *input = [arguments objectAtIndex:i + 1];
+      for (MediaInformationSession *mediaInformationSession in [mediaInformationSessions reverseObjectEnumerator]) {
+        MediaInformation *mediaInformation = [mediaInformationSession getMediaInformation];
+        if (mediaInformation != nil && [input isEqualToString:[mediaInformation getFilename]] && [mediaInformation getDuration] != nil) {
+          long duration = (long)([[mediaInformation getDuration] doubleValue] * 1000);
+          if (duration > 0) {
+            return duration;
+          }
+        }
+      }
+    }
+  }
+
+  return 0;
+}
+
++ (NSNumber*)toNumber:(id)value {
+  return [value isKindOfClass:[NSNumber class]] ? value : nil;
+}
+
++ (NSArray*)toProjection:(id)projection {
+  return [projection isKindOfClass:[NSArray class]] ? projection : nil;
+}
+
++ (NSArray*)subarray:(NSArray*)array fromIndex:(NSNumber*)index max:(NSNumber*)max {
+  NSUInteger count = [array count];
+  NSInteger start = (index == nil || [index isEqual:[NSNull null]]) ? 0 : [index integerValue];
+  NSUInteger fromIndex = (start < 0) ? 0 : MIN((NSUInteger)start, count);
+  NSUInteger length = count - fromIndex;
+  if (max != nil && ![max isEqual:[NSNull null]] && [max integerValue] > 0) {
+    length = MIN(length, (NSUInteger)[max integerValue]);
+  }
+
+  return [array subarrayWithRange:NSMakeRange(fromIndex, length)];
+}
+
 + (NSArray*)toLogArray:(NSArray*)logs {
   NSMutableArray *array = [[NSMutableArray alloc] init];
 
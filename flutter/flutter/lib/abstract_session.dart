@@ -310,6 +310,31 @@ abstract class AbstractSession extends Session {
     }
   }
 
+  /// Returns log entries delivered for this session starting from [index].
+  /// Pass the number of entries already received as [index] to fetch only new
+  /// entries. At most [max] entries are returned, all remaining entries are
+  /// returned if [max] is not set. Note that if there are asynchronous logs
+  /// that are not delivered yet, this method will not wait for them.
+  Future<List<Log>> getLogsSince(int index, [int? max = null]) async {
+    try {
+      return _platform
+          .abstractSessionGetLogsSince(this.getSessionId(), index, max)
+          .then((logs) {
+        if (logs == null) {
+          return List.empty();
+        } else {
+          return logs
+              .map((dynamic logObject) =>
+                  FFmpegKitFactory.mapToLog(logObject as Map<dynamic, dynamic>))
+              .toList();
+        }
+      });
+    } on PlatformException catch (e, stack) {
+      print("Plugin getLogsSince error: ${e.message}");
+      return Future.error("getLogsSince failed.", stack);
+    }
+  }
+
   /// Returns all log entries generated for this session as a concatenated
   /// string. If there are asynchronous logs that are not delivered yet,
   /// this method waits for them until [waitTimeout].
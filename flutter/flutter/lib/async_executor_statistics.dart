@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/// Snapshot of the native executor that runs sessions.
+class AsyncExecutorStatistics {
+  final int _concurrencyLimit;
+  final int _activeCount;
+  final int _queuedCount;
+  final int _completedCount;
+
+  AsyncExecutorStatistics(this._concurrencyLimit, this._activeCount,
+      this._queuedCount, this._completedCount);
+
+  /// Returns the maximum number of sessions executed in parallel.
+  int getConcurrencyLimit() => this._concurrencyLimit;
+
+  /// Returns the number of sessions running at the time of the snapshot.
+  int getActiveCount() => this._activeCount;
+
+  /// Returns the number of sessions waiting for a free thread at the time of
+  /// the snapshot.
+  int getQueuedCount() => this._queuedCount;
+
+  /// Returns the number of tasks completed since the plugin was loaded.
+  int getCompletedCount() => this._completedCount;
+}
@@ -20,6 +20,7 @@
 import 'package:ffmpeg_kit_flutter_platform_interface/ffmpeg_kit_flutter_platform_interface.dart';
 import 'package:flutter/services.dart';
 
+import 'async_executor_statistics.dart';
 import 'ffmpeg_session.dart';
 import 'ffmpeg_session_complete_callback.dart';
 import 'ffprobe_session.dart';
@@ -29,7 +30,10 @@ import 'log_callback.dart';
 import 'log_redirection_strategy.dart';
 import 'media_information_session.dart';
 import 'media_information_session_complete_callback.dart';
+import 'pipe_write_progress_callback.dart';
+import 'pipe_writer.dart';
 import 'session.dart';
+import 'session_snapshot_callback.dart';
 import 'session_state.dart';
 import 'signal.dart';
 import 'src/ffmpeg_kit_factory.dart';
@@ -437,6 +441,78 @@ class FFmpegKitConfig {
     }
   }
 
+  /// Returns the maximum number of sessions executed in parallel on the
+  /// native platform. Supported on Android only.
+  static Future<int?> getAsyncConcurrencyLimit() async {
+    try {
+      await init();
+      return _platform.ffmpegKitConfigGetAsyncConcurrencyLimit();
+    } on PlatformException catch (e, stack) {
+      print("Plugin getAsyncConcurrencyLimit error: ${e.message}");
+      return Future.error("getAsyncConcurrencyLimit failed.", stack);
+    }
+  }
+
+  /// Sets the maximum number of sessions executed in parallel on the native
+  /// platform. If more sessions are started those will be queued.
+  ///
+  /// The limit applies to both execute and executeAsync methods, since they
+  /// share the same native executor. Supported on Android only.
+  static Future<void> setAsyncConcurrencyLimit(
+      int asyncConcurrencyLimit) async {
+    try {
+      await init();
+      return _platform
+          .ffmpegKitConfigSetAsyncConcurrencyLimit(asyncConcurrencyLimit);
+    } on PlatformException catch (e, stack) {
+      print("Plugin setAsyncConcurrencyLimit error: ${e.message}");
+      return Future.error("setAsyncConcurrencyLimit failed.", stack);
+    }
+  }
+
+  /// Returns a snapshot of the native session executor, including the number
+  /// of running and queued sessions. Supported on Android only.
+  static Future<AsyncExecutorStatistics?> getAsyncExecutorStatistics() async {
+    try {
+      await init();
+      return _platform
+          .ffmpegKitConfigGetAsyncExecutorStatistics()
+          .then((statisticsMap) {
+        if (statisticsMap == null) {
+          return null;
+        }
+        return AsyncExecutorStatistics(
+            statisticsMap["concurrencyLimit"],
+            statisticsMap["activeCount"],
+            statisticsMap["queuedCount"],
+            statisticsMap["completedCount"]);
+      });
+    } on PlatformException catch (e, stack) {
+      print("Plugin getAsyncExecutorStatistics error: ${e.message}");
+      return Future.error("getAsyncExecutorStatistics failed.", stack);
+    }
+  }
+
+  /// Sets the media information fields sent from the native platform by
+  /// default.
+  ///
+  /// A field is a dot separated path like "format.duration". When a path
+  /// element points to an array, the rest of the path is applied to every
+  /// element of that array, e.g. "streams.codec_name" selects the codec name
+  /// of all streams. Media information of complete events, session queries and
+  /// [FFprobeKit] media information methods include only these fields. Passing
+  /// null restores sending all fields.
+  static Future<void> setMediaInformationProjection(
+      [List<String>? projection = null]) async {
+    try {
+      await init();
+      return _platform.ffmpegKitConfigSetMediaInformationProjection(projection);
+    } on PlatformException catch (e, stack) {
+      print("Plugin setMediaInformationProjection error: ${e.message}");
+      return Future.error("setMediaInformationProjection failed.", stack);
+    }
+  }
+
   /// Returns the session specified with "sessionId" from the session history.
   static Future<Session?> getSession(int sessionId) async {
     try {
@@ -597,6 +673,48 @@ class FFmpegKitConfig {
     }
   }
 
+  /// Returns a page of sessions that match the given filters, starting from
+  /// the newest session in the session history.
+  ///
+  /// Filters that are not set are not applied. [type] is one of 1 (FFmpeg),
+  /// 2 (FFprobe) or 3 (MediaInformation). A session matches the time range if
+  /// its create time is not before [createdAfter] and is before
+  /// [createdBefore]. [offset] matching sessions are skipped and at most
+  /// [limit] sessions are returned, all remaining sessions are returned if
+  /// [limit] is zero.
+  static Future<List<Session>> querySessions(
+      [int? type = null,
+      SessionState? state = null,
+      DateTime? createdAfter = null,
+      DateTime? createdBefore = null,
+      int offset = 0,
+      int limit = 0]) async {
+    try {
+      await init();
+      return _platform
+          .ffmpegKitConfigQuerySessions(
+              type,
+              state?.index,
+              createdAfter?.millisecondsSinceEpoch,
+              createdBefore?.millisecondsSinceEpoch,
+              offset,
+              limit)
+          .then((sessions) {
+        if (sessions == null) {
+          return List.empty();
+        } else {
+          return sessions
+              .map((dynamic sessionObject) => FFmpegKitFactory.mapToSession(
+                  sessionObject as Map<dynamic, dynamic>))
+              .toList();
+        }
+      });
+    } on PlatformException catch (e, stack) {
+      print("Plugin querySessions error: ${e.message}");
+      return Future.error("querySessions failed.", stack);
+    }
+  }
+
   /// Returns the active log redirection strategy.
   static LogRedirectionStrategy getLogRedirectionStrategy() =>
       _globalLogRedirectionStrategy;
@@ -754,6 +872,70 @@ class FFmpegKitConfig {
     }
   }
 
+  /// Enables batching of events sent from the native platform.
+  ///
+  /// When enabled, logs, statistics and complete events received within
+  /// [batchWindow] milliseconds are delivered together in a single event, in
+  /// the order they were received. Only the latest statistics entry of each
+  /// session is delivered in a window. If [binaryStatistics] is true,
+  /// statistics are sent in a binary encoded message instead of a map on
+  /// Android; other platforms keep sending them as maps inside the batch.
+  /// Callbacks still receive one entry at a time.
+  static Future<void> enableEventBatching(
+      [int? batchWindow = null, bool binaryStatistics = false]) async {
+    try {
+      await init();
+      return _platform.ffmpegKitConfigEnableEventBatching(
+          batchWindow, binaryStatistics);
+    } on PlatformException catch (e, stack) {
+      print("Plugin enableEventBatching error: ${e.message}");
+      return Future.error("enableEventBatching failed.", stack);
+    }
+  }
+
+  /// Disables batching of events sent from the native platform.
+  static Future<void> disableEventBatching() async {
+    try {
+      await init();
+      return _platform.ffmpegKitConfigDisableEventBatching();
+    } on PlatformException catch (e, stack) {
+      print("Plugin disableEventBatching error: ${e.message}");
+      return Future.error("disableEventBatching failed.", stack);
+    }
+  }
+
+  /// Enables periodic snapshots of running sessions.
+  ///
+  /// Every [period] milliseconds the native platform takes a snapshot of each
+  /// running session and delivers all of them to [sessionSnapshotCallback] in
+  /// a single event. A snapshot includes the state, elapsed time, last
+  /// statistics entry, log count and estimated completion, replacing separate
+  /// calls to read them.
+  static Future<void> enableSessionSnapshots(
+      SessionSnapshotCallback sessionSnapshotCallback,
+      [int period = 1000]) async {
+    try {
+      await init();
+      FFmpegKitFactory.setSessionSnapshotCallback(sessionSnapshotCallback);
+      return _platform.ffmpegKitConfigEnableSessionSnapshots(period);
+    } on PlatformException catch (e, stack) {
+      print("Plugin enableSessionSnapshots error: ${e.message}");
+      return Future.error("enableSessionSnapshots failed.", stack);
+    }
+  }
+
+  /// Disables periodic snapshots of running sessions.
+  static Future<void> disableSessionSnapshots() async {
+    try {
+      await init();
+      await _platform.ffmpegKitConfigDisableSessionSnapshots();
+      FFmpegKitFactory.setSessionSnapshotCallback(null);
+    } on PlatformException catch (e, stack) {
+      print("Plugin disableSessionSnapshots error: ${e.message}");
+      return Future.error("disableSessionSnapshots failed.", stack);
+    }
+  }
+
   /// Returns the platform name the library is loaded on.
   static Future<String?> getPlatform() async {
     try {
@@ -776,6 +958,33 @@ class FFmpegKitConfig {
     }
   }
 
+  /// Creates a [PipeWriter] that copies [inputPath] to [pipePath] inside the
+  /// native process. Writing starts when [PipeWriter.write] is called.
+  ///
+  /// [progressCallback] is notified periodically with the number of bytes
+  /// written. [bufferSize] defines the number of bytes transferred in each
+  /// chunk, the native default is used when it is not set.
+  ///
+  /// Note that this method is Android only. It will fail if called on other
+  /// platforms.
+  static Future<PipeWriter> createPipeWriter(String inputPath, String pipePath,
+      [PipeWriteProgressCallback? progressCallback = null,
+      int? bufferSize = null]) async {
+    try {
+      await init();
+      final int? writerId =
+          await _platform.pipeWriterCreate(inputPath, pipePath, bufferSize);
+      if (writerId == null) {
+        return Future.error("createPipeWriter failed.");
+      }
+      FFmpegKitFactory.setPipeWriteProgressCallback(writerId, progressCallback);
+      return new PipeWriter(writerId);
+    } on PlatformException catch (e, stack) {
+      print("Plugin createPipeWriter error: ${e.message}");
+      return Future.error("createPipeWriter failed.", stack);
+    }
+  }
+
   /// Displays the native file dialog to select a file in read mode. If a file
   /// is selected then this method returns the Structured Access Framework Uri
   /// ("content:…") for that file.
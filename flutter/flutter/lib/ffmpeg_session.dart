@@ -107,6 +107,34 @@ class FFmpegSession extends AbstractSession {
     }
   }
 
+  /// Returns statistics entries delivered for this session starting from
+  /// [index]. At most [max] entries are returned, all remaining entries are
+  /// returned if [max] is not set. Note that if there are asynchronous
+  /// statistics that are not delivered yet, this method will not wait for
+  /// them.
+  Future<List<Statistics>> getStatisticsSince(int index,
+      [int? max = null]) async {
+    try {
+      await FFmpegKitConfig.init();
+      return FFmpegKitPlatform.instance
+          .ffmpegSessionGetStatisticsSince(this.getSessionId(), index, max)
+          .then((statistics) {
+        if (statistics == null) {
+          return List.empty();
+        } else {
+          return statistics
+              .map((dynamic statisticsObject) =>
+                  FFmpegKitFactory.mapToStatistics(
+                      statisticsObject as Map<dynamic, dynamic>))
+              .toList();
+        }
+      });
+    } on PlatformException catch (e, stack) {
+      print("Plugin getStatisticsSince error: ${e.message}");
+      return Future.error("getStatisticsSince failed.", stack);
+    }
+  }
+
   /// Returns the last received statistics entry.
   Future<Statistics?> getLastReceivedStatistics() async =>
       this.getStatistics().then((statistics) {
@@ -79,8 +79,12 @@ class FFprobeKit {
   }
 
   /// Extracts media information for the file specified with path.
+  ///
+  /// If [projection] is given, only those media information fields are sent
+  /// from the native platform. See
+  /// [FFmpegKitConfig.setMediaInformationProjection] for the field format.
   static Future<MediaInformationSession> getMediaInformation(String path,
-      [int? waitTimeout = null]) async {
+      [int? waitTimeout = null, List<String>? projection = null]) async {
     final commandArguments = [
       "-v",
       "error",
@@ -94,7 +98,7 @@ class FFprobeKit {
       path
     ];
     return FFprobeKit.getMediaInformationFromCommandArguments(
-        commandArguments, waitTimeout);
+        commandArguments, waitTimeout, projection);
   }
 
   /// Extracts media information using the command provided. The command
@@ -102,23 +106,25 @@ class FFprobeKit {
   /// successfully extract media information from it.
   static Future<MediaInformationSession> getMediaInformationFromCommand(
           String command,
-          [int? waitTimeout = null]) async =>
+          [int? waitTimeout = null,
+          List<String>? projection = null]) async =>
       FFprobeKit.getMediaInformationFromCommandArguments(
-          FFmpegKitConfig.parseArguments(command), waitTimeout);
+          FFmpegKitConfig.parseArguments(command), waitTimeout, projection);
 
   /// Extracts media information using the command arguments provided. The
   /// command passed to this method must generate the output in JSON format in
   /// order to successfully extract media information from it.
   static Future<MediaInformationSession>
       getMediaInformationFromCommandArguments(List<String> commandArguments,
-          [int? waitTimeout = null]) async {
+          [int? waitTimeout = null, List<String>? projection = null]) async {
     final session =
         await MediaInformationSession.create(commandArguments, null, null);
 
     await FFmpegKitConfig.getMediaInformationExecute(session, waitTimeout);
 
     final mediaInformation = await _platform
-        .mediaInformationSessionGetMediaInformation(session.getSessionId())
+        .mediaInformationSessionGetMediaInformation(
+            session.getSessionId(), projection)
         .then(FFmpegKitFactory.mapToNullableMediaInformation);
     if (mediaInformation != null) {
       session.setMediaInformation(mediaInformation);
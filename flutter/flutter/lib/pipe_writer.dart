@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import 'package:ffmpeg_kit_flutter_platform_interface/ffmpeg_kit_flutter_platform_interface.dart';
+import 'package:flutter/services.dart';
+
+import 'ffmpeg_kit_config.dart';
+import 'src/ffmpeg_kit_factory.dart';
+
+/// Copies a file into a named pipe on the native platform without starting an
+/// external process.
+///
+/// Writers are created using [FFmpegKitConfig.createPipeWriter].
+class PipeWriter {
+  static FFmpegKitPlatform _platform = FFmpegKitPlatform.instance;
+
+  final int _writerId;
+
+  PipeWriter(this._writerId);
+
+  /// Returns the writer id.
+  int getWriterId() => this._writerId;
+
+  /// Starts writing and returns the number of bytes written when the copy
+  /// completes. Fails if the writer is cancelled.
+  Future<int?> write() async {
+    try {
+      await FFmpegKitConfig.init();
+      return _platform.pipeWriterStart(this._writerId);
+    } on PlatformException catch (e, stack) {
+      print("Plugin pipeWriterStart error: ${e.message}");
+      return Future.error("pipeWriterStart failed.", stack);
+    } finally {
+      FFmpegKitFactory.removePipeWriteProgressCallback(this._writerId);
+    }
+  }
+
+  /// Cancels this writer and closes the pipe.
+  Future<void> cancel() async {
+    try {
+      await FFmpegKitConfig.init();
+      return _platform.pipeWriterCancel(this._writerId);
+    } on PlatformException catch (e, stack) {
+      print("Plugin pipeWriterCancel error: ${e.message}");
+      return Future.error("pipeWriterCancel failed.", stack);
+    } finally {
+      FFmpegKitFactory.removePipeWriteProgressCallback(this._writerId);
+    }
+  }
+}
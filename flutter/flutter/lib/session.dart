@@ -60,6 +60,11 @@ abstract class Session {
   /// will not wait for them and will return immediately.
   Future<List<Log>> getLogs();
 
+  /// Returns log entries delivered for this session starting from [index],
+  /// at most [max] entries. Note that if there are asynchronous logs that are
+  /// not delivered yet, this method will not wait for them.
+  Future<List<Log>> getLogsSince(int index, [int? max = null]);
+
   /// Returns all log entries generated for this session as a concatenated
   /// string. If there are asynchronous logs that are not delivered yet,
   /// this method waits for them until [waitTimeout].
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import 'session_state.dart';
+import 'statistics.dart';
+
+/// Point in time view of a running session, delivered periodically by
+/// [FFmpegKitConfig.enableSessionSnapshots].
+class SessionSnapshot {
+  final int _sessionId;
+  final SessionState _state;
+  final int _elapsed;
+  final Statistics? _lastStatistics;
+  final int _logCount;
+  final int _expectedDuration;
+  final double _completion;
+  final int _estimatedTimeRemaining;
+
+  SessionSnapshot(this._sessionId, this._state, this._elapsed,
+      this._lastStatistics, this._logCount, this._expectedDuration,
+      this._completion, this._estimatedTimeRemaining);
+
+  /// Returns the id of the session.
+  int getSessionId() => this._sessionId;
+
+  /// Returns the state of the session at the time of the snapshot.
+  SessionState getState() => this._state;
+
+  /// Returns the time passed since the session started in milliseconds.
+  int getElapsed() => this._elapsed;
+
+  /// Returns the last statistics entry received or null if there is none.
+  Statistics? getLastStatistics() => this._lastStatistics;
+
+  /// Returns the number of logs stored in the session. Logs are stored when
+  /// they are received, so this count may include logs whose callbacks have
+  /// not run yet.
+  int getLogCount() => this._logCount;
+
+  /// Returns the expected output duration in milliseconds used to estimate
+  /// completion, zero if it is not known. On Android it is calculated by the
+  /// native progress estimator. On other platforms it is the duration of the
+  /// first input, read from media information sessions that probed the same
+  /// file.
+  int getExpectedDuration() => this._expectedDuration;
+
+  /// Returns the estimated completion between 0 and 1, or -1 if it can not be
+  /// estimated.
+  double getCompletion() => this._completion;
+
+  /// Returns the estimated remaining time in milliseconds, or -1 if it can not
+  /// be estimated. Remaining time is only estimated on Android.
+  int getEstimatedTimeRemaining() => this._estimatedTimeRemaining;
+}
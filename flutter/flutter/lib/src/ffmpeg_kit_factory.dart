@@ -25,7 +25,11 @@ import '../log_callback.dart';
 import '../log_redirection_strategy.dart';
 import '../media_information.dart';
 import '../media_information_session_complete_callback.dart';
+import '../pipe_write_progress_callback.dart';
 import '../session.dart';
+import '../session_snapshot.dart';
+import '../session_snapshot_callback.dart';
+import '../session_state.dart';
 import '../statistics.dart';
 import '../statistics_callback.dart';
 
@@ -38,10 +42,12 @@ final mediaInformationSessionCompleteCallbackMap =
 final logCallbackMap = new Map<int, LogCallback>();
 final statisticsCallbackMap = new Map<int, StatisticsCallback>();
 final logRedirectionStrategyMap = new Map<int, LogRedirectionStrategy>();
+final pipeWriteProgressCallbackMap = new Map<int, PipeWriteProgressCallback>();
 
 class FFmpegKitFactory {
   static LogCallback? _logCallback;
   static StatisticsCallback? _statisticsCallback;
+  static SessionSnapshotCallback? _sessionSnapshotCallback;
   static FFmpegSessionCompleteCallback? _ffmpegSessionCompleteCallback;
   static FFprobeSessionCompleteCallback? _ffprobeSessionCompleteCallback;
   static MediaInformationSessionCompleteCallback?
@@ -120,6 +126,21 @@ class FFmpegKitFactory {
     }
   }
 
+  static PipeWriteProgressCallback? getPipeWriteProgressCallback(
+          int? writerId) =>
+      pipeWriteProgressCallbackMap[writerId];
+
+  static void setPipeWriteProgressCallback(
+      int? writerId, PipeWriteProgressCallback? progressCallback) {
+    if (writerId != null && progressCallback != null) {
+      pipeWriteProgressCallbackMap[writerId] = progressCallback;
+    }
+  }
+
+  static void removePipeWriteProgressCallback(int? writerId) {
+    pipeWriteProgressCallbackMap.remove(writerId);
+  }
+
   static LogCallback? getGlobalLogCallback() => _logCallback;
 
   static void setGlobalLogCallback(LogCallback? logCallback) {
@@ -136,6 +157,28 @@ class FFmpegKitFactory {
     }
   }
 
+  static SessionSnapshot mapToSessionSnapshot(
+      Map<dynamic, dynamic> snapshotMap) {
+    final Map<dynamic, dynamic>? lastStatistics = snapshotMap["lastStatistics"];
+    return new SessionSnapshot(
+        snapshotMap["sessionId"],
+        SessionState.values[snapshotMap["state"]],
+        snapshotMap["elapsed"],
+        lastStatistics == null ? null : mapToStatistics(lastStatistics),
+        snapshotMap["logCount"],
+        snapshotMap["expectedDuration"],
+        snapshotMap["completion"].toDouble(),
+        snapshotMap["estimatedTimeRemaining"] ?? -1);
+  }
+
+  static SessionSnapshotCallback? getSessionSnapshotCallback() =>
+      _sessionSnapshotCallback;
+
+  static void setSessionSnapshotCallback(
+      SessionSnapshotCallback? sessionSnapshotCallback) {
+    _sessionSnapshotCallback = sessionSnapshotCallback;
+  }
+
   static StatisticsCallback? getGlobalStatisticsCallback() =>
       _statisticsCallback;
 
@@ -18,6 +18,7 @@
  */
 
 import 'dart:io';
+import 'dart:typed_data';
 
 import 'package:ffmpeg_kit_flutter_platform_interface/ffmpeg_kit_flutter_platform_interface.dart';
 import 'package:flutter/services.dart';
@@ -43,6 +44,12 @@ class FFmpegKitInitializer {
   static FFmpegKitPlatform _platform = FFmpegKitPlatform.instance;
   static const EventChannel _eventChannel =
       const EventChannel('flutter.arthenica.com/ffmpeg_kit_event');
+  static const BasicMessageChannel<ByteData> _statisticsChannel =
+      const BasicMessageChannel<ByteData>(
+          'flutter.arthenica.com/ffmpeg_kit_statistics', BinaryCodec());
+
+  /// Size of a binary statistics entry sent on the statistics channel.
+  static const int _statisticsEntrySize = 52;
 
   static FFmpegKitInitializer _instance = new FFmpegKitInitializer();
 
@@ -65,6 +72,15 @@ class FFmpegKitInitializer {
           eventMap['FFmpegKitStatisticsCallbackEvent'];
       final Map<dynamic, dynamic>? completeEvent =
           eventMap['FFmpegKitCompleteCallbackEvent'];
+      final List<dynamic>? batchEvent = eventMap['FFmpegKitBatchCallbackEvent'];
+      final Map<dynamic, dynamic>? pipeWriteProgressEvent =
+          eventMap['FFmpegKitPipeWriteProgressEvent'];
+      final List<dynamic>? sessionSnapshotEvent =
+          eventMap['FFmpegKitSessionSnapshotEvent'];
+
+      if (batchEvent != null) {
+        batchEvent.forEach(_onEvent);
+      }
 
       if (logEvent != null) {
         _processLogCallbackEvent(logEvent);
@@ -77,6 +93,66 @@ class FFmpegKitInitializer {
       if (completeEvent != null) {
         _processCompleteCallbackEvent(completeEvent);
       }
+
+      if (pipeWriteProgressEvent != null) {
+        _processPipeWriteProgressEvent(pipeWriteProgressEvent);
+      }
+
+      if (sessionSnapshotEvent != null) {
+        _processSessionSnapshotEvent(sessionSnapshotEvent);
+      }
+    }
+  }
+
+  Future<ByteData?> _onStatisticsMessage(ByteData? message) async {
+    if (message != null) {
+      for (var offset = 0;
+          offset + _statisticsEntrySize <= message.lengthInBytes;
+          offset += _statisticsEntrySize) {
+        _notifyStatisticsCallbacks(new Statistics(
+            message.getInt64(offset, Endian.little),
+            message.getInt32(offset + 8, Endian.little),
+            message.getFloat32(offset + 12, Endian.little),
+            message.getFloat32(offset + 16, Endian.little),
+            message.getInt64(offset + 20, Endian.little),
+            message.getFloat64(offset + 28, Endian.little),
+            message.getFloat64(offset + 36, Endian.little),
+            message.getFloat64(offset + 44, Endian.little)));
+      }
+    }
+    return null;
+  }
+
+  void _processPipeWriteProgressEvent(Map<dynamic, dynamic> event) {
+    final int writerId = event["writerId"];
+    final progressCallback =
+        FFmpegKitFactory.getPipeWriteProgressCallback(writerId);
+
+    if (progressCallback != null) {
+      try {
+        // NOTIFY WRITER CALLBACK DEFINED
+        progressCallback(event["bytesWritten"], event["totalBytes"]);
+      } on Exception catch (e, stack) {
+        print("Exception thrown inside pipe write progress callback. $e");
+        print(stack);
+      }
+    }
+  }
+
+  void _processSessionSnapshotEvent(List<dynamic> event) {
+    final sessionSnapshotCallback =
+        FFmpegKitFactory.getSessionSnapshotCallback();
+
+    if (sessionSnapshotCallback != null) {
+      try {
+        sessionSnapshotCallback(event
+            .map((snapshotMap) =>
+                FFmpegKitFactory.mapToSessionSnapshot(snapshotMap))
+            .toList());
+      } on Exception catch (e, stack) {
+        print("Exception thrown inside session snapshot callback. $e");
+        print(stack);
+      }
     }
   }
 
@@ -179,8 +255,11 @@ class FFmpegKitInitializer {
   }
 
   void _processStatisticsCallbackEvent(Map<dynamic, dynamic> event) {
-    final Statistics statistics = FFmpegKitFactory.mapToStatistics(event);
-    final int sessionId = event["sessionId"];
+    _notifyStatisticsCallbacks(FFmpegKitFactory.mapToStatistics(event));
+  }
+
+  void _notifyStatisticsCallbacks(Statistics statistics) {
+    final int sessionId = statistics.getSessionId();
 
     final StatisticsCallback? statisticsCallback =
         FFmpegKitFactory.getStatisticsCallback(sessionId);
@@ -309,6 +388,7 @@ class FFmpegKitInitializer {
     print("Loading ffmpeg-kit-flutter.");
 
     _eventChannel.receiveBroadcastStream().listen(_onEvent, onError: _onError);
+    _statisticsChannel.setMessageHandler(_onStatisticsMessage);
 
     final logLevel = await _getLogLevel();
     if (logLevel != null) {
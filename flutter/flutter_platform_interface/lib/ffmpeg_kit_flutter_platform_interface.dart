@@ -86,6 +86,12 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
         'abstractSessionGetLogs() has not been implemented!');
   }
 
+  Future<List<dynamic>?> abstractSessionGetLogsSince(
+      int? sessionId, int index, int? max) async {
+    throw UnimplementedError(
+        'abstractSessionGetLogsSince() has not been implemented!');
+  }
+
   Future<String?> abstractSessionGetAllLogsAsString(
       int? sessionId, int? waitTimeout) async {
     throw UnimplementedError(
@@ -244,6 +250,29 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
         'ffmpegKitConfigGetSessionHistorySize() has not been implemented!');
   }
 
+  Future<int?> ffmpegKitConfigGetAsyncConcurrencyLimit() async {
+    throw UnimplementedError(
+        'ffmpegKitConfigGetAsyncConcurrencyLimit() has not been implemented!');
+  }
+
+  Future<void> ffmpegKitConfigSetAsyncConcurrencyLimit(
+      int asyncConcurrencyLimit) async {
+    throw UnimplementedError(
+        'ffmpegKitConfigSetAsyncConcurrencyLimit() has not been implemented!');
+  }
+
+  Future<Map<dynamic, dynamic>?>
+      ffmpegKitConfigGetAsyncExecutorStatistics() async {
+    throw UnimplementedError('ffmpegKitConfigGetAsyncExecutorStatistics() '
+        'has not been implemented!');
+  }
+
+  Future<void> ffmpegKitConfigSetMediaInformationProjection(
+      List<String>? projection) async {
+    throw UnimplementedError('ffmpegKitConfigSetMediaInformationProjection() '
+        'has not been implemented!');
+  }
+
   Future<void> ffmpegKitConfigSetSessionHistorySize(
       int sessionHistorySize) async {
     throw UnimplementedError(
@@ -282,6 +311,17 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
         'ffmpegKitConfigGetSessionsByState() has not been implemented!');
   }
 
+  Future<List<dynamic>?> ffmpegKitConfigQuerySessions(
+      int? type,
+      int? state,
+      int? createdAfter,
+      int? createdBefore,
+      int offset,
+      int limit) async {
+    throw UnimplementedError(
+        'ffmpegKitConfigQuerySessions() has not been implemented!');
+  }
+
   Future<int?> ffmpegKitConfigMessagesInTransmit(int sessionId) async {
     throw UnimplementedError(
         'ffmpegKitConfigMessagesInTransmit() has not been implemented!');
@@ -307,6 +347,27 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
         'ffmpegKitConfigDisableStatistics() has not been implemented!');
   }
 
+  Future<void> ffmpegKitConfigEnableEventBatching(
+      int? batchWindow, bool binaryStatistics) async {
+    throw UnimplementedError(
+        'ffmpegKitConfigEnableEventBatching() has not been implemented!');
+  }
+
+  Future<void> ffmpegKitConfigDisableEventBatching() async {
+    throw UnimplementedError(
+        'ffmpegKitConfigDisableEventBatching() has not been implemented!');
+  }
+
+  Future<void> ffmpegKitConfigEnableSessionSnapshots(int period) async {
+    throw UnimplementedError(
+        'ffmpegKitConfigEnableSessionSnapshots() has not been implemented!');
+  }
+
+  Future<void> ffmpegKitConfigDisableSessionSnapshots() async {
+    throw UnimplementedError(
+        'ffmpegKitConfigDisableSessionSnapshots() has not been implemented!');
+  }
+
   Future<String?> ffmpegKitConfigGetPlatform() async {
     throw UnimplementedError(
         'ffmpegKitConfigGetPlatform() has not been implemented!');
@@ -318,6 +379,19 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
         'ffmpegKitConfigWriteToPipe() has not been implemented!');
   }
 
+  Future<int?> pipeWriterCreate(
+      String inputPath, String pipePath, int? bufferSize) async {
+    throw UnimplementedError('pipeWriterCreate() has not been implemented!');
+  }
+
+  Future<int?> pipeWriterStart(int writerId) async {
+    throw UnimplementedError('pipeWriterStart() has not been implemented!');
+  }
+
+  Future<void> pipeWriterCancel(int writerId) async {
+    throw UnimplementedError('pipeWriterCancel() has not been implemented!');
+  }
+
   Future<String?> ffmpegKitConfigSelectDocumentForRead(
       String? type, List<String>? extraTypes) async {
     throw UnimplementedError(
@@ -356,6 +430,12 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
         'ffmpegSessionGetStatistics() has not been implemented!');
   }
 
+  Future<List<dynamic>?> ffmpegSessionGetStatisticsSince(
+      int? sessionId, int index, int? max) async {
+    throw UnimplementedError(
+        'ffmpegSessionGetStatisticsSince() has not been implemented!');
+  }
+
   // FFprobeKit
 
   Future<List<dynamic>?> ffprobeKitListFFprobeSessions() async {
@@ -383,7 +463,8 @@ abstract class FFmpegKitPlatform extends PlatformInterface {
   }
 
   Future<Map<dynamic, dynamic>?> mediaInformationSessionGetMediaInformation(
-      int? sessionId) async {
+      int? sessionId,
+      [List<String>? projection = null]) async {
     throw UnimplementedError('mediaInformationSessionGetMediaInformation() '
         'has not been implemented!');
   }
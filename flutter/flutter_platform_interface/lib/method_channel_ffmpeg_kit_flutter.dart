@@ -74,6 +74,12 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
       _channel.invokeMethod<List<dynamic>>(
           'abstractSessionGetLogs', {'sessionId': sessionId});
 
+  @override
+  Future<List<dynamic>?> abstractSessionGetLogsSince(
+          int? sessionId, int index, int? max) async =>
+      _channel.invokeMethod<List<dynamic>>('abstractSessionGetLogsSince',
+          {'sessionId': sessionId, 'index': index, 'max': max});
+
   @override
   Future<String?> abstractSessionGetAllLogsAsString(
           int? sessionId, int? waitTimeout) async =>
@@ -218,6 +224,28 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
   Future<int?> ffmpegKitConfigGetSessionHistorySize() async =>
       _channel.invokeMethod<int>('getSessionHistorySize');
 
+  @override
+  Future<int?> ffmpegKitConfigGetAsyncConcurrencyLimit() async =>
+      _channel.invokeMethod<int>('getAsyncConcurrencyLimit');
+
+  @override
+  Future<void> ffmpegKitConfigSetAsyncConcurrencyLimit(
+          int asyncConcurrencyLimit) async =>
+      _channel.invokeMethod<void>('setAsyncConcurrencyLimit',
+          {'asyncConcurrencyLimit': asyncConcurrencyLimit});
+
+  @override
+  Future<Map<dynamic, dynamic>?>
+      ffmpegKitConfigGetAsyncExecutorStatistics() async =>
+          _channel.invokeMethod<Map<dynamic, dynamic>>(
+              'getAsyncExecutorStatistics');
+
+  @override
+  Future<void> ffmpegKitConfigSetMediaInformationProjection(
+          List<String>? projection) async =>
+      _channel.invokeMethod<void>(
+          'setMediaInformationProjection', {'projection': projection});
+
   @override
   Future<void> ffmpegKitConfigSetSessionHistorySize(
           int sessionHistorySize) async =>
@@ -253,6 +281,23 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
       _channel.invokeMethod<List<dynamic>>(
           'getSessionsByState', {'state': sessionState});
 
+  @override
+  Future<List<dynamic>?> ffmpegKitConfigQuerySessions(
+          int? type,
+          int? state,
+          int? createdAfter,
+          int? createdBefore,
+          int offset,
+          int limit) async =>
+      _channel.invokeMethod<List<dynamic>>('querySessions', {
+        'type': type,
+        'state': state,
+        'createdAfter': createdAfter,
+        'createdBefore': createdBefore,
+        'offset': offset,
+        'limit': limit
+      });
+
   @override
   Future<int?> ffmpegKitConfigMessagesInTransmit(int sessionId) async =>
       _channel
@@ -274,6 +319,26 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
   Future<void> ffmpegKitConfigDisableStatistics() async =>
       _channel.invokeMethod<void>('disableStatistics');
 
+  @override
+  Future<void> ffmpegKitConfigEnableEventBatching(
+          int? batchWindow, bool binaryStatistics) async =>
+      _channel.invokeMethod<void>('enableEventBatching', {
+        'batchWindow': batchWindow,
+        'binaryStatistics': binaryStatistics
+      });
+
+  @override
+  Future<void> ffmpegKitConfigDisableEventBatching() async =>
+      _channel.invokeMethod<void>('disableEventBatching');
+
+  @override
+  Future<void> ffmpegKitConfigEnableSessionSnapshots(int period) async =>
+      _channel.invokeMethod<void>('enableSessionSnapshots', {'period': period});
+
+  @override
+  Future<void> ffmpegKitConfigDisableSessionSnapshots() async =>
+      _channel.invokeMethod<void>('disableSessionSnapshots');
+
   @override
   Future<String?> ffmpegKitConfigGetPlatform() async =>
       _channel.invokeMethod<String>('getPlatform');
@@ -284,6 +349,20 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
       _channel.invokeMethod<int>(
           'writeToPipe', {'input': inputPath, 'pipe': pipePath});
 
+  @override
+  Future<int?> pipeWriterCreate(
+          String inputPath, String pipePath, int? bufferSize) async =>
+      _channel.invokeMethod<int>('pipeWriterCreate',
+          {'input': inputPath, 'pipe': pipePath, 'bufferSize': bufferSize});
+
+  @override
+  Future<int?> pipeWriterStart(int writerId) async =>
+      _channel.invokeMethod<int>('pipeWriterStart', {'writerId': writerId});
+
+  @override
+  Future<void> pipeWriterCancel(int writerId) async =>
+      _channel.invokeMethod<void>('pipeWriterCancel', {'writerId': writerId});
+
   @override
   Future<String?> ffmpegKitConfigSelectDocumentForRead(
           String? type, List<String>? extraTypes) async =>
@@ -324,6 +403,12 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
       _channel.invokeMethod<List<dynamic>>(
           'ffmpegSessionGetStatistics', {'sessionId': sessionId});
 
+  @override
+  Future<List<dynamic>?> ffmpegSessionGetStatisticsSince(
+          int? sessionId, int index, int? max) async =>
+      _channel.invokeMethod<List<dynamic>>('ffmpegSessionGetStatisticsSince',
+          {'sessionId': sessionId, 'index': index, 'max': max});
+
   // FFprobeKit
 
   @override
@@ -354,9 +439,10 @@ class MethodChannelFFmpegKit extends FFmpegKitPlatform {
 
   @override
   Future<Map<dynamic, dynamic>?> mediaInformationSessionGetMediaInformation(
-          int? sessionId) async =>
-      _channel.invokeMethod<Map<dynamic, dynamic>>(
-          'getMediaInformation', {'sessionId': sessionId});
+          int? sessionId,
+          [List<String>? projection = null]) async =>
+      _channel.invokeMethod<Map<dynamic, dynamic>>('getMediaInformation',
+          {'sessionId': sessionId, 'projection': projection});
 
   @override
   Future<String?> getPackageName() async =>
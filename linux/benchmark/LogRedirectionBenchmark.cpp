@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General License
+ *  along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/*
+ * Measures the log redirection pipeline of the Linux library.
+ *
+ * Producer threads emit av_log messages at a controlled rate. Each message carries the time it
+ * was sent. The global LogCallback reads that time when the message is delivered by the async
+ * callback thread, so the difference is the end to end latency of the pipeline:
+ *
+ *   av_log -> ffmpegkit_log_callback_function -> logCallbackDataAdd -> callbackThreadFunction
+ *          -> process_log -> LogCallback
+ *
+ * The time producers spend inside av_log is reported separately as the enqueue cost.
+ */
+
+extern "C" {
+    #include "libavutil/log.h"
+}
+#include "FFmpegKitConfig.h"
+#include <algorithm>
+#include <atomic>
+#include <chrono>
+#include <cstdio>
+#include <cstdlib>
+#include <iostream>
+#include <string>
+#include <thread>
+#include <unistd.h>
+#include <vector>
+
+namespace {
+
+    struct BenchmarkOptions {
+        int producers = 4;
+        long rate = 10000;
+        long messages = 100000;
+        int messageSize = 128;
+        int timeout = 60;
+    };
+
+    std::vector<long long> latencies;
+    std::atomic<long> nextLatencyIndex(0);
+    std::atomic<long> receivedCount(0);
+
+    long long nowInNanoseconds() {
+        return std::chrono::duration_cast<std::chrono::nanoseconds>(std::chrono::steady_clock::now().time_since_epoch()).count();
+    }
+
+    void printUsage(const char* name) {
+        std::cout << "Usage: " << name << " [-p producers] [-r messages per second per producer, 0 = unlimited] [-n messages per producer] [-s message size] [-t timeout in seconds]" << std::endl;
+    }
+
+    bool parseOptions(int argc, char** argv, BenchmarkOptions& options) {
+        int option;
+
+        while ((option = getopt(argc, argv, "p:r:n:s:t:h")) != -1) {
+            switch (option) {
+                case 'p':
+                    options.producers = atoi(optarg);
+                    break;
+                case 'r':
+                    options.rate = atol(optarg);
+                    break;
+                case 'n':
+                    options.messages = atol(optarg);
+                    break;
+                case 's':
+                    options.messageSize = atoi(optarg);
+                    break;
+                case 't':
+                    options.timeout = atoi(optarg);
+                    break;
+                default:
+                    return false;
+            }
+        }
+
+        return options.producers > 0 && options.rate >= 0 && options.messages > 0 && options.messageSize > 0 && options.timeout > 0;
+    }
+
+    void produce(const int producerIndex, const BenchmarkOptions& options, const long long startTime, std::vector<long long>& enqueueCosts) {
+        const long long interval = (options.rate > 0) ? (1000000000LL / options.rate) : 0;
+        const std::string padding(options.messageSize, 'x');
+
+        for (long i = 0; i < options.messages; i++) {
+            if (interval > 0) {
+                const long long scheduledTime = startTime + i * interval;
+                const long long waitTime = scheduledTime - nowInNanoseconds();
+                if (waitTime > 0) {
+                    std::this_thread::sleep_for(std::chrono::nanoseconds(waitTime));
+                }
+            }
+
+            const long long sendTime = nowInNanoseconds();
+            av_log(NULL, AV_LOG_INFO, "bench %d %ld %lld %s\n", producerIndex, i, sendTime, padding.c_str());
+            enqueueCosts.push_back(nowInNanoseconds() - sendTime);
+        }
+    }
+
+    long long percentile(const std::vector<long long>& sortedValues, const double percentile) {
+        if (sortedValues.empty()) {
+            return 0;
+        }
+
+        size_t index = static_cast<size_t>(percentile / 100.0 * (sortedValues.size() - 1) + 0.5);
+        return sortedValues[std::min(index, sortedValues.size() - 1)];
+    }
+
+    void printPercentiles(const char* name, std::vector<long long>& values, const long long divisor, const char* unit) {
+        std::sort(values.begin(), values.end());
+
+        printf("%-8s %s: p50=%lld p90=%lld p99=%lld p99.9=%lld max=%lld\n",
+               name,
+               unit,
+               percentile(values, 50) / divisor,
+               percentile(values, 90) / divisor,
+               percentile(values, 99) / divisor,
+               percentile(values, 99.9) / divisor,
+               values.empty() ? 0 : values.back() / divisor);
+    }
+
+}
+
+int main(int argc, char** argv) {
+    BenchmarkOptions options;
+
+    if (!parseOptions(argc, argv, options)) {
+        printUsage(argv[0]);
+        return 1;
+    }
+
+    const long total = options.producers * options.messages;
+    latencies.resize(total);
+
+    ffmpegkit::FFmpegKitConfig::setLogLevel(ffmpegkit::LevelAVLogInfo);
+    ffmpegkit::FFmpegKitConfig::setLogRedirectionStrategy(ffmpegkit::LogRedirectionStrategyNeverPrintLogs);
+    ffmpegkit::FFmpegKitConfig::enableLogCallback([](const std::shared_ptr<ffmpegkit::Log> log) {
+        const long long receiveTime = nowInNanoseconds();
+        int producerIndex;
+        long sequence;
+        long long sendTime;
+
+        if (sscanf(log->getMessage().c_str(), "bench %d %ld %lld", &producerIndex, &sequence, &sendTime) == 3) {
+            const long index = nextLatencyIndex.fetch_add(1);
+            if (index < static_cast<long>(latencies.size())) {
+                latencies[index] = receiveTime - sendTime;
+            }
+            receivedCount.fetch_add(1);
+        }
+    });
+
+    std::vector<std::vector<long long>> enqueueCosts(options.producers);
+    std::vector<std::thread> producers;
+    const long long startTime = nowInNanoseconds();
+
+    for (int i = 0; i < options.producers; i++) {
+        enqueueCosts[i].reserve(options.messages);
+        producers.emplace_back(produce, i, std::cref(options), startTime, std::ref(enqueueCosts[i]));
+    }
+    for (auto& producer : producers) {
+        producer.join();
+    }
+    const long long sendEndTime = nowInNanoseconds();
+
+    const long long deadline = sendEndTime + options.timeout * 1000000000LL;
+    while (receivedCount.load() < total && nowInNanoseconds() < deadline) {
+        std::this_thread::sleep_for(std::chrono::milliseconds(1));
+    }
+    const long long receiveEndTime = nowInNanoseconds();
+
+    ffmpegkit::FFmpegKitConfig::enableLogCallback(nullptr);
+
+    const long received = std::min(receivedCount.load(), total);
+    latencies.resize(received);
+
+    std::vector<long long> allEnqueueCosts;
+    allEnqueueCosts.reserve(total);
+    for (auto& costs : enqueueCosts) {
+        allEnqueueCosts.insert(allEnqueueCosts.end(), costs.begin(), costs.end());
+    }
+
+    const double sendSeconds = (sendEndTime - startTime) / 1e9;
+    const double receiveSeconds = (receiveEndTime - startTime) / 1e9;
+
+    printf("producers=%d rate=%ld/s messages=%ld size=%d\n", options.producers, options.rate, options.messages, options.messageSize);
+    printf("sent=%ld received=%ld lost=%ld\n", total, received, total - received);
+    printf("send throughput=%.0f msg/s delivery throughput=%.0f msg/s\n", total / sendSeconds, received / receiveSeconds);
+    printPercentiles("enqueue", allEnqueueCosts, 1, "ns");
+    printPercentiles("latency", latencies, 1000, "us");
+    fflush(stdout);
+
+    return (received == total) ? 0 : 2;
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General License
+ *  along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/*
+ * Measures end to end transcode throughput of the Linux library.
+ *
+ * Synthetic inputs are generated with the lavfi testsrc2 and sine sources. Then a matrix of
+ * representative commands is executed through FFmpegKit at 1..N concurrent sessions. Wall time,
+ * CPU time, peak RSS and per session statistics are written into a JSON report, so reports of
+ * two runs can be diffed.
+ */
+
+extern "C" {
+    #include "libavcodec/avcodec.h"
+}
+#include "FFmpegKit.h"
+#include "FFmpegKitConfig.h"
+#include "rapidjson/prettywriter.h"
+#include "rapidjson/stringbuffer.h"
+#include <algorithm>
+#include <chrono>
+#include <condition_variable>
+#include <cstdio>
+#include <cstdlib>
+#include <fstream>
+#include <iostream>
+#include <list>
+#include <mutex>
+#include <string>
+#include <sys/resource.h>
+#include <sys/stat.h>
+#include <unistd.h>
+#include <vector>
+
+namespace {
+
+    struct BenchmarkOptions {
+        int maxConcurrency = 4;
+        int inputDuration = 10;
+        std::string workDirectory = "/tmp/ffmpegkit-benchmark";
+        std::string reportPath = "transcode_benchmark.json";
+        std::string filter;
+    };
+
+    struct Scenario {
+        std::string name;
+        std::string input;
+        std::list<std::string> arguments;
+        std::string outputExtension;
+    };
+
+    struct SessionResult {
+        long sessionId;
+        int returnCode;
+        long duration;
+        int frames;
+        double time;
+        double lastSpeed;
+        double averageSpeed;
+        int statisticsCount;
+    };
+
+    struct RunResult {
+        int concurrency;
+        double wallTime;
+        double cpuTime;
+        long peakRss;
+        int failed;
+        double framesPerSecond;
+        std::vector<SessionResult> sessions;
+    };
+
+    double nowInSeconds() {
+        return std::chrono::duration<double>(std::chrono::steady_clock::now().time_since_epoch()).count();
+    }
+
+    double cpuTimeInSeconds() {
+        struct rusage usage;
+        getrusage(RUSAGE_SELF, &usage);
+
+        return usage.ru_utime.tv_sec + usage.ru_utime.tv_usec / 1e6 + usage.ru_stime.tv_sec + usage.ru_stime.tv_usec / 1e6;
+    }
+
+    /**
+     * Resets the peak resident set size of this process, supported on Linux 4.0 and later.
+     */
+    void resetPeakRss() {
+        std::ofstream clearRefs("/proc/self/clear_refs");
+        if (clearRefs.is_open()) {
+            clearRefs << "5";
+        }
+    }
+
+    /**
+     * Returns the peak resident set size of this process in kilobytes.
+     */
+    long readPeakRss() {
+        std::ifstream status("/proc/self/status");
+        std::string line;
+
+        while (std::getline(status, line)) {
+            if (line.compare(0, 6, "VmHWM:") == 0) {
+                return atol(line.c_str() + 6);
+            }
+        }
+
+        struct rusage usage;
+        getrusage(RUSAGE_SELF, &usage);
+        return usage.ru_maxrss;
+    }
+
+    void printUsage(const char* name) {
+        std::cout << "Usage: " << name << " [-c max concurrent sessions] [-d input duration in seconds] [-w work directory] [-o report path] [-f scenario name filter]" << std::endl;
+    }
+
+    bool parseOptions(int argc, char** argv, BenchmarkOptions& options) {
+        int option;
+
+        while ((option = getopt(argc, argv, "c:d:w:o:f:h")) != -1) {
+            switch (option) {
+                case 'c':
+                    options.maxConcurrency = atoi(optarg);
+                    break;
+                case 'd':
+                    options.inputDuration = atoi(optarg);
+                    break;
+                case 'w':
+                    options.workDirectory = optarg;
+                    break;
+                case 'o':
+                    options.reportPath = optarg;
+                    break;
+                case 'f':
+                    options.filter = optarg;
+                    break;
+                default:
+                    return false;
+            }
+        }
+
+        return options.maxConcurrency > 0 && options.inputDuration > 0;
+    }
+
+    bool generateInputs(const BenchmarkOptions& options, const std::string& videoInput, const std::string& audioInput) {
+        const std::string duration = std::to_string(options.inputDuration);
+
+        auto videoSession = ffmpegkit::FFmpegKit::executeWithArguments({
+            "-f", "lavfi", "-i", "testsrc2=size=1280x720:rate=30:duration=" + duration,
+            "-f", "lavfi", "-i", "sine=frequency=440:sample_rate=48000:duration=" + duration,
+            "-c:v", "mpeg4", "-q:v", "2", "-c:a", "aac", "-shortest", "-y", videoInput});
+        if (!ffmpegkit::ReturnCode::isSuccess(videoSession->getReturnCode())) {
+            std::cout << "Failed to generate video input." << std::endl << videoSession->getOutput() << std::endl;
+            return false;
+        }
+
+        auto audioSession = ffmpegkit::FFmpegKit::executeWithArguments({
+            "-f", "lavfi", "-i", "sine=frequency=1000:sample_rate=44100:duration=" + duration,
+            "-c:a", "pcm_s16le", "-y", audioInput});
+        if (!ffmpegkit::ReturnCode::isSuccess(audioSession->getReturnCode())) {
+            std::cout << "Failed to generate audio input." << std::endl << audioSession->getOutput() << std::endl;
+            return false;
+        }
+
+        return true;
+    }
+
+    std::string findH264Encoder() {
+        const char* encoders[] = {"libx264", "libopenh264"};
+
+        for (const char* encoder : encoders) {
+            if (avcodec_find_encoder_by_name(encoder) != NULL) {
+                return encoder;
+            }
+        }
+
+        return "";
+    }
+
+    std::vector<Scenario> createScenarios(const std::string& videoInput, const std::string& audioInput) {
+        std::vector<Scenario> scenarios;
+
+        scenarios.push_back({"remux", videoInput, {"-c", "copy"}, "mp4"});
+
+        const std::string h264Encoder = findH264Encoder();
+        if (h264Encoder.empty()) {
+            std::cout << "Skipping h264_encode, no H.264 encoder is enabled." << std::endl;
+        } else {
+            scenarios.push_back({"h264_encode", videoInput, {"-an", "-c:v", h264Encoder, "-b:v", "2M"}, "mp4"});
+        }
+
+        scenarios.push_back({"scale", videoInput, {"-an", "-vf", "scale=640:360", "-c:v", "mpeg4", "-q:v", "4"}, "mp4"});
+        scenarios.push_back({"audio_resample", audioInput, {"-af", "aresample=48000", "-ar", "48000", "-c:a", "pcm_s16le"}, "wav"});
+        scenarios.push_back({"thumbnail", videoInput, {"-an", "-vf", "thumbnail,scale=320:-1", "-frames:v", "1"}, "jpg"});
+
+        return scenarios;
+    }
+
+    RunResult runScenario(const BenchmarkOptions& options, const Scenario& scenario, const int concurrency) {
+        std::mutex mutex;
+        std::condition_variable condition;
+        int completed = 0;
+        std::vector<std::shared_ptr<ffmpegkit::FFmpegSession>> sessions;
+        RunResult result;
+
+        resetPeakRss();
+        const double cpuStart = cpuTimeInSeconds();
+        const double wallStart = nowInSeconds();
+
+        for (int i = 0; i < concurrency; i++) {
+            std::list<std::string> arguments{"-i", scenario.input};
+            arguments.insert(arguments.end(), scenario.arguments.begin(), scenario.arguments.end());
+            arguments.push_back("-y");
+            arguments.push_back(options.workDirectory + "/" + scenario.name + "_" + std::to_string(i) + "." + scenario.outputExtension);
+
+            sessions.push_back(ffmpegkit::FFmpegKit::executeWithArgumentsAsync(arguments, [&mutex, &condition, &completed](const std::shared_ptr<ffmpegkit::FFmpegSession>) {
+                std::lock_guard<std::mutex> lock(mutex);
+                completed++;
+                condition.notify_all();
+            }));
+        }
+
+        {
+            std::unique_lock<std::mutex> lock(mutex);
+            condition.wait(lock, [&completed, concurrency] { return completed == concurrency; });
+        }
+
+        result.concurrency = concurrency;
+        result.wallTime = nowInSeconds() - wallStart;
+        result.cpuTime = cpuTimeInSeconds() - cpuStart;
+        result.peakRss = readPeakRss();
+        result.failed = 0;
+
+        long totalFrames = 0;
+        for (auto& session : sessions) {
+            SessionResult sessionResult{session->getSessionId(), -1, session->getDuration(), 0, 0, 0, 0, 0};
+            auto returnCode = session->getReturnCode();
+            if (returnCode != nullptr) {
+                sessionResult.returnCode = returnCode->getValue();
+            }
+            if (!ffmpegkit::ReturnCode::isSuccess(returnCode)) {
+                result.failed++;
+            }
+
+            auto statistics = session->getAllStatistics();
+            double speedSum = 0;
+            for (auto& entry : *statistics) {
+                speedSum += entry->getSpeed();
+            }
+            if (!statistics->empty()) {
+                auto last = statistics->back();
+                sessionResult.frames = last->getVideoFrameNumber();
+                sessionResult.time = last->getTime();
+                sessionResult.lastSpeed = last->getSpeed();
+                sessionResult.averageSpeed = speedSum / statistics->size();
+                sessionResult.statisticsCount = static_cast<int>(statistics->size());
+            }
+
+            totalFrames += sessionResult.frames;
+            result.sessions.push_back(sessionResult);
+        }
+        result.framesPerSecond = (result.wallTime > 0) ? totalFrames / result.wallTime : 0;
+
+        return result;
+    }
+
+    void writeRun(rapidjson::PrettyWriter<rapidjson::StringBuffer>& writer, const RunResult& run) {
+        writer.StartObject();
+        writer.Key("concurrency");
+        writer.Int(run.concurrency);
+        writer.Key("wall_time_s");
+        writer.Double(run.wallTime);
+        writer.Key("cpu_time_s");
+        writer.Double(run.cpuTime);
+        writer.Key("peak_rss_kb");
+        writer.Int64(run.peakRss);
+        writer.Key("failed_sessions");
+        writer.Int(run.failed);
+        writer.Key("frames_per_second");
+        writer.Double(run.framesPerSecond);
+        writer.Key("sessions");
+        writer.StartArray();
+        for (auto& session : run.sessions) {
+            writer.StartObject();
+            writer.Key("session_id");
+            writer.Int64(session.sessionId);
+            writer.Key("return_code");
+            writer.Int(session.returnCode);
+            writer.Key("duration_ms");
+            writer.Int64(session.duration);
+            writer.Key("frames");
+            writer.Int(session.frames);
+            writer.Key("time_ms");
+            writer.Double(session.time);
+            writer.Key("last_speed");
+            writer.Double(session.lastSpeed);
+            writer.Key("average_speed");
+            writer.Double(session.averageSpeed);
+            writer.Key("statistics_count");
+            writer.Int(session.statisticsCount);
+            writer.EndObject();
+        }
+        writer.EndArray();
+        writer.EndObject();
+    }
+
+}
+
+int main(int argc, char** argv) {
+    BenchmarkOptions options;
+
+    if (!parseOptions(argc, argv, options)) {
+        printUsage(argv[0]);
+        return 1;
+    }
+
+    mkdir(options.workDirectory.c_str(), 0755);
+
+    ffmpegkit::FFmpegKitConfig::setLogLevel(ffmpegkit::LevelAVLogError);
+    ffmpegkit::FFmpegKitConfig::setLogRedirectionStrategy(ffmpegkit::LogRedirectionStrategyNeverPrintLogs);
+    ffmpegkit::FFmpegKitConfig::setAsyncConcurrencyLimit(std::max(options.maxConcurrency, ffmpegkit::FFmpegKitConfig::getAsyncConcurrencyLimit()));
+
+    // SESSIONS MUST STAY IN THE HISTORY UNTIL THEIR STATISTICS ARE DELIVERED
+    ffmpegkit::FFmpegKitConfig::setSessionHistorySize(std::min(999, std::max(2 * options.maxConcurrency, ffmpegkit::FFmpegKitConfig::getSessionHistorySize())));
+
+    const std::string videoInput = options.workDirectory + "/input.mp4";
+    const std::string audioInput = options.workDirectory + "/input.wav";
+    if (!generateInputs(options, videoInput, audioInput)) {
+        return 1;
+    }
+
+    rapidjson::StringBuffer buffer;
+    rapidjson::PrettyWriter<rapidjson::StringBuffer> writer(buffer);
+    int failedSessions = 0;
+
+    writer.StartObject();
+    writer.Key("version");
+    writer.String(ffmpegkit::FFmpegKitConfig::getVersion().c_str());
+    writer.Key("ffmpeg_version");
+    writer.String(ffmpegkit::FFmpegKitConfig::getFFmpegVersion().c_str());
+    writer.Key("cpu_count");
+    writer.Int64(sysconf(_SC_NPROCESSORS_ONLN));
+    writer.Key("input_duration_s");
+    writer.Int(options.inputDuration);
+    writer.Key("scenarios");
+    writer.StartArray();
+
+    for (auto& scenario : createScenarios(videoInput, audioInput)) {
+        if (!options.filter.empty() && scenario.name.find(options.filter) == std::string::npos) {
+            continue;
+        }
+
+        writer.StartObject();
+        writer.Key("name");
+        writer.String(scenario.name.c_str());
+        writer.Key("runs");
+        writer.StartArray();
+
+        for (int concurrency = 1; concurrency <= options.maxConcurrency; concurrency++) {
+            RunResult run = runScenario(options, scenario, concurrency);
+            failedSessions += run.failed;
+
+            printf("%-16s concurrency=%-3d wall=%.3fs cpu=%.3fs rss=%ldkB fps=%.1f failed=%d\n",
+                   scenario.name.c_str(), concurrency, run.wallTime, run.cpuTime, run.peakRss, run.framesPerSecond, run.failed);
+            fflush(stdout);
+
+            writeRun(writer, run);
+        }
+
+        writer.EndArray();
+        writer.EndObject();
+    }
+
+    writer.EndArray();
+    writer.EndObject();
+
+    std::ofstream report(options.reportPath);
+    report << buffer.GetString() << std::endl;
+    report.close();
+
+    std::cout << "Report written to " << options.reportPath << "." << std::endl;
+
+    return (failedSessions == 0) ? 0 : 2;
+}
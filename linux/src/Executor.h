@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General License
+ *  along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+#ifndef FFMPEG_KIT_EXECUTOR_H
+#define FFMPEG_KIT_EXECUTOR_H
+
+#include <functional>
+
+namespace ffmpegkit {
+
+    /**
+     * <p>Runs tasks submitted by asynchronous FFmpegKit methods.
+     *
+     * <p>Implement this interface to run asynchronous sessions on an application thread pool.
+     * Tasks must be run exactly once; session complete callbacks are invoked inside the task.
+     */
+    class Executor {
+        public:
+            virtual ~Executor() = default;
+
+            /**
+             * <p>Submits a task for execution. Implementations must not block until the task completes.
+             *
+             * @param task task to run
+             */
+            virtual void execute(std::function<void()> task) = 0;
+    };
+
+}
+
+#endif // FFMPEG_KIT_EXECUTOR_H
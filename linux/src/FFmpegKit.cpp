@@ -48,6 +48,12 @@ std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegkit::FFmpegKit::executeWithArgum
     return session;
 }
 
+std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegkit::FFmpegKit::executeWithArgumentsAsync(const std::list<std::string>& arguments, FFmpegSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    auto session = ffmpegkit::FFmpegSession::create(arguments, completeCallback);
+    ffmpegkit::FFmpegKitConfig::asyncFFmpegExecute(session, executor);
+    return session;
+}
+
 std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegkit::FFmpegKit::execute(const std::string command) {
     auto session = ffmpegkit::FFmpegSession::create(FFmpegKitConfig::parseArguments(command.c_str()));
     ffmpegkit::FFmpegKitConfig::ffmpegExecute(session);
@@ -66,6 +72,12 @@ std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegkit::FFmpegKit::executeAsync(con
     return session;
 }
 
+std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegkit::FFmpegKit::executeAsync(const std::string command, FFmpegSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    auto session = ffmpegkit::FFmpegSession::create(FFmpegKitConfig::parseArguments(command.c_str()), completeCallback);
+    ffmpegkit::FFmpegKitConfig::asyncFFmpegExecute(session, executor);
+    return session;
+}
+
 void ffmpegkit::FFmpegKit::cancel() {
 
     /*
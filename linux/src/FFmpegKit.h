@@ -22,6 +22,7 @@
 
 #include <string.h>
 #include <stdlib.h>
+#include "Executor.h"
 #include "LogCallback.h"
 #include "FFmpegSession.h"
 #include "StatisticsCallback.h"
@@ -78,6 +79,19 @@ namespace ffmpegkit {
              */
             static std::shared_ptr<ffmpegkit::FFmpegSession> executeWithArgumentsAsync(const std::list<std::string>& arguments, FFmpegSessionCompleteCallback completeCallback, ffmpegkit::LogCallback logCallback, ffmpegkit::StatisticsCallback statisticsCallback);
 
+            /**
+             * <p>Starts an asynchronous FFmpeg execution with arguments provided.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete.
+             * You must use an FFmpegSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param arguments        FFmpeg command options/arguments as string list
+             * @param completeCallback callback that will be called when the execution has completed
+             * @param executor         executor that will be used to run this asynchronous operation
+             * @return FFmpeg session created for this execution
+             */
+            static std::shared_ptr<ffmpegkit::FFmpegSession> executeWithArgumentsAsync(const std::list<std::string>& arguments, FFmpegSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor);
+
             /**
              * <p>Synchronously executes FFmpeg command provided. Space character is used to split command
              * into arguments. You can use single or double quote characters to specify arguments inside
@@ -116,6 +130,20 @@ namespace ffmpegkit {
              */
             static std::shared_ptr<ffmpegkit::FFmpegSession> executeAsync(const std::string command, FFmpegSessionCompleteCallback completeCallback, ffmpegkit::LogCallback logCallback, ffmpegkit::StatisticsCallback statisticsCallback);
 
+            /**
+             * <p>Starts an asynchronous FFmpeg execution for the given command. Space character is used to split the command
+             * into arguments. You can use single or double quote characters to specify arguments inside your command.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete. You must use an
+             * FFmpegSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param command          FFmpeg command
+             * @param completeCallback callback that will be called when the execution has completed
+             * @param executor         executor that will be used to run this asynchronous operation
+             * @return FFmpeg session created for this execution
+             */
+            static std::shared_ptr<ffmpegkit::FFmpegSession> executeAsync(const std::string command, FFmpegSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor);
+
             /**
              * <p>Cancels all running sessions.
              *
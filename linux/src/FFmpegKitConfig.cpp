@@ -36,6 +36,7 @@ extern "C" {
 #include "MediaInformationSession.h"
 #include "Packages.h"
 #include "SessionState.h"
+#include "WorkStealingExecutor.h"
 #include <atomic>
 #include <mutex>
 #include <future>
@@ -78,13 +79,36 @@ static ffmpegkit::MediaInformationSessionCompleteCallback mediaInformationSessio
 
 static ffmpegkit::LogRedirectionStrategy globalLogRedirectionStrategy;
 
+/** Executor that runs asynchronous sessions */
+static int asyncConcurrencyLimit = 10;
+static std::shared_ptr<ffmpegkit::WorkStealingExecutor> asyncExecutor;
+static std::mutex asyncExecutorMutex;
+
 /** Redirection control variables */
 static int redirectionEnabled;
 static std::recursive_mutex callbackDataMutex;
-static std::mutex callbackMutex;
-static std::condition_variable callbackMonitor;
 class CallbackData;
-static std::list<CallbackData*> callbackDataList;
+
+/** Callback data list consumed by a single callback thread */
+class CallbackQueue {
+    public:
+        std::mutex dataMutex;
+        std::mutex monitorMutex;
+        std::condition_variable monitor;
+        std::list<CallbackData*> dataList;
+        pthread_t thread;
+
+        /* guarded by monitorMutex, active is cleared to stop the thread, running is cleared by the thread when it exits */
+        bool active = false;
+        bool running = false;
+};
+
+/** Callback queues, messages of a session are always added to the same queue */
+static CallbackQueue callbackQueues[ffmpegkit::FFmpegKitConfig::MaxCallbackThreadCount];
+static std::atomic<int> callbackThreadCount(1);
+
+/** Number of sessions in the session map, guarded by callbackDataMutex */
+static int activeSessionCount = 0;
 
 /** Fields that control the handling of SIGNALs */
 volatile int handleSIGQUIT = 1;
@@ -116,7 +140,6 @@ void ffmpegkit_log_callback_function(void *ptr, int level, const char* format, v
 #endif
 
 static std::once_flag ffmpegKitInitializerFlag;
-static pthread_t callbackThread;
 
 void* ffmpegKitInitialize();
 
@@ -273,20 +296,33 @@ class CallbackData {
 };
 
 /**
- * Waits on the callback semaphore for the given time.
+ * Waits on the callback semaphore of a callback queue for the given time.
  *
+ * @param queue callback queue
  * @param milliSeconds wait time in milliseconds
  */
-static void callbackWait(int milliSeconds) {
-    std::unique_lock<std::mutex> callbackLock{callbackMutex};
-    callbackMonitor.wait_for(callbackLock, std::chrono::milliseconds(milliSeconds));
+static void callbackWait(CallbackQueue* queue, int milliSeconds) {
+    std::unique_lock<std::mutex> callbackLock{queue->monitorMutex};
+    queue->monitor.wait_for(callbackLock, std::chrono::milliseconds(milliSeconds));
+}
+
+/**
+ * Notifies the thread waiting on the callback semaphore of a callback queue.
+ *
+ * @param queue callback queue
+ */
+static void callbackNotify(CallbackQueue* queue) {
+    queue->monitor.notify_one();
 }
 
 /**
- * Notifies threads waiting on callback semaphore.
+ * Returns the callback queue that delivers messages of the given session.
+ *
+ * @param sessionId session id
+ * @return callback queue of the session
  */
-static void callbackNotify() {
-    callbackMonitor.notify_one();
+static CallbackQueue* callbackQueueForSession(long sessionId) {
+    return &callbackQueues[sessionId % callbackThreadCount.load()];
 }
 
 static const char *avutil_log_get_level_str(int level) {
@@ -355,51 +391,55 @@ static void avutil_log_sanitize(char *line) {
 }
 
 /**
- * Adds log data to the end of callback data list.
+ * Adds callback data to the end of the callback data list of its session.
  *
- * @param level log level
- * @param data log data
+ * @param callbackData callback data
  */
-static void logCallbackDataAdd(int level, AVBPrint *data) {
-    std::unique_lock<std::recursive_mutex> lock(callbackDataMutex, std::defer_lock);
-    CallbackData* callbackData = new CallbackData(globalSessionId, level, data);
+static void callbackDataAdd(CallbackData* callbackData) {
+    const long sessionId = callbackData->getSessionId();
+    CallbackQueue* queue = callbackQueueForSession(sessionId);
+    std::unique_lock<std::mutex> lock(queue->dataMutex, std::defer_lock);
+
+    // COUNT THE MESSAGE BEFORE IT BECOMES VISIBLE TO THE CALLBACK THREAD
+    std::atomic_fetch_add(&sessionInTransitMessageCountMap[sessionId % SESSION_MAP_SIZE], 1);
 
     lock.lock();
-    callbackDataList.push_back(callbackData);
+    queue->dataList.push_back(callbackData);
     lock.unlock();
 
-    callbackNotify();
+    callbackNotify(queue);
+}
 
-    std::atomic_fetch_add(&sessionInTransitMessageCountMap[globalSessionId % SESSION_MAP_SIZE], 1);
+/**
+ * Adds log data to the end of callback data list.
+ *
+ * @param level log level
+ * @param data log data
+ */
+static void logCallbackDataAdd(int level, AVBPrint *data) {
+    callbackDataAdd(new CallbackData(globalSessionId, level, data));
 }
 
 /**
  * Adds statistics data to the end of callback data list.
  */
 static void statisticsCallbackDataAdd(int frameNumber, float fps, float quality, int64_t size, int time, double bitrate, double speed) {
-    std::unique_lock<std::recursive_mutex> lock(callbackDataMutex, std::defer_lock);
-    CallbackData* callbackData = new CallbackData(globalSessionId, frameNumber, fps, quality, size, time, bitrate, speed);
-
-    lock.lock();
-    callbackDataList.push_back(callbackData);
-    lock.unlock();
-
-    callbackNotify();
-    
-    std::atomic_fetch_add(&sessionInTransitMessageCountMap[globalSessionId % SESSION_MAP_SIZE], 1);
+    callbackDataAdd(new CallbackData(globalSessionId, frameNumber, fps, quality, size, time, bitrate, speed));
 }
 
 /**
  * Removes head of callback data list.
+ *
+ * @param queue callback queue
  */
-static CallbackData *callbackDataRemove() {
-    std::unique_lock<std::recursive_mutex> lock(callbackDataMutex, std::defer_lock);
+static CallbackData *callbackDataRemove(CallbackQueue* queue) {
+    std::unique_lock<std::mutex> lock(queue->dataMutex, std::defer_lock);
     CallbackData* newData = nullptr;
 
     lock.lock();
-    if (callbackDataList.size() > 0) {
-        newData = callbackDataList.front();
-        callbackDataList.pop_front();
+    if (queue->dataList.size() > 0) {
+        newData = queue->dataList.front();
+        queue->dataList.pop_front();
     }
     lock.unlock();
 
@@ -412,7 +452,9 @@ static CallbackData *callbackDataRemove() {
  * @param sessionId session id
  */
 static void registerSessionId(long sessionId) {
+    std::unique_lock<std::recursive_mutex> lock(callbackDataMutex);
     std::atomic_store(&sessionMap[sessionId % SESSION_MAP_SIZE], (short)1);
+    activeSessionCount++;
 }
 
 /**
@@ -421,7 +463,9 @@ static void registerSessionId(long sessionId) {
  * @param sessionId session id
  */
 static void removeSession(long sessionId) {
+    std::unique_lock<std::recursive_mutex> lock(callbackDataMutex);
     std::atomic_store(&sessionMap[sessionId % SESSION_MAP_SIZE], (short)0);
+    activeSessionCount--;
 }
 
 #ifdef __cplusplus
@@ -638,17 +682,35 @@ void process_statistics(long sessionId, int videoFrameNumber, float videoFps, fl
 }
 
 /**
- * Forwards asynchronous messages to Callbacks.
+ * Returns whether the callback thread of a callback queue must keep running. When it must not, marks the thread as
+ * exited in the same critical section, so a new thread is only started for the queue after this one stops consuming it.
+ *
+ * @param queue callback queue
+ * @return true if the thread must keep running, false otherwise
+ */
+static bool callbackThreadContinue(CallbackQueue* queue) {
+    std::unique_lock<std::mutex> callbackLock{queue->monitorMutex};
+    if (!queue->active) {
+        queue->running = false;
+    }
+    return queue->active;
+}
+
+/**
+ * Forwards asynchronous messages of a callback queue to Callbacks.
+ *
+ * @param pointer callback queue consumed by this thread
  */
 void *callbackThreadFunction(void *pointer) {
+    CallbackQueue* queue = static_cast<CallbackQueue*>(pointer);
     int activeLogLevel = av_log_get_level();
     if ((activeLogLevel != ffmpegkit::LevelAVLogQuiet) && (ffmpegkit::LevelAVLogDebug <= activeLogLevel)) {
         std::cout << "Async callback block started." << std::endl;
     }
 
-    while(redirectionEnabled) {
+    while(callbackThreadContinue(queue)) {
         try {
-            CallbackData* callbackData = callbackDataRemove();
+            CallbackData* callbackData = callbackDataRemove(queue);
 
             if (callbackData != nullptr) {
 
@@ -669,7 +731,7 @@ void *callbackThreadFunction(void *pointer) {
                 std::atomic_fetch_sub(&sessionInTransitMessageCountMap[callbackData->getSessionId() % SESSION_MAP_SIZE], 1);
 
             } else {
-                callbackWait(100);
+                callbackWait(queue, 100);
             }
 
         } catch(const std::exception& exception) {
@@ -797,6 +859,65 @@ void* ffmpegKitInitialize() {
     return NULL;
 }
 
+/**
+ * Activates callback queues up to the configured callback thread count. A new thread is created only for queues whose
+ * previous thread has exited; a thread that is still running keeps consuming its queue, so a queue never has two
+ * consumers. Must be called while holding the callback data lock.
+ */
+static void startCallbackThreads() {
+    const int count = callbackThreadCount.load();
+
+    for (int i = 0; i < count; i++) {
+        CallbackQueue* queue = &callbackQueues[i];
+        std::unique_lock<std::mutex> callbackLock{queue->monitorMutex};
+
+        queue->active = true;
+        if (!queue->running) {
+            int rc = pthread_create(&queue->thread, NULL, callbackThreadFunction, queue);
+            if (rc == 0) {
+                pthread_detach(queue->thread);
+                queue->running = true;
+            } else {
+                av_log(NULL, AV_LOG_ERROR, "Failed to create async callback block %d: %d\n", i, rc);
+            }
+        }
+    }
+}
+
+/**
+ * Deactivates all callback queues. Callback threads exit after the message they are delivering. Must be called while
+ * holding the callback data lock.
+ */
+static void stopCallbackThreads() {
+    for (int i = 0; i < ffmpegkit::FFmpegKitConfig::MaxCallbackThreadCount; i++) {
+        CallbackQueue* queue = &callbackQueues[i];
+        {
+            std::unique_lock<std::mutex> callbackLock{queue->monitorMutex};
+            queue->active = false;
+        }
+        callbackNotify(queue);
+    }
+}
+
+/**
+ * Returns whether any session is running or has messages that are not delivered yet. Must be called while holding the
+ * callback data lock.
+ *
+ * @return true if there are active sessions, false otherwise
+ */
+static bool thereAreActiveSessions() {
+    if (activeSessionCount > 0) {
+        return true;
+    }
+    for (int i = 0; i < SESSION_MAP_SIZE; i++) {
+        if (std::atomic_load(&sessionInTransitMessageCountMap[i]) > 0) {
+            return true;
+        }
+    }
+
+    return false;
+}
+
 void ffmpegkit::FFmpegKitConfig::enableRedirection() {
     std::unique_lock<std::recursive_mutex> lock(callbackDataMutex, std::defer_lock);
     lock.lock();
@@ -807,14 +928,9 @@ void ffmpegkit::FFmpegKitConfig::enableRedirection() {
     }
     redirectionEnabled = 1;
 
-    lock.unlock();
+    startCallbackThreads();
 
-    int rc = pthread_create(&callbackThread, NULL, callbackThreadFunction, NULL);
-    if (rc != 0) {
-        std::cout << "Failed to create async callback block: %d" << rc << std::endl;
-        lock.unlock();
-        return;
-    }
+    lock.unlock();
 
     av_log_set_callback(ffmpegkit_log_callback_function);
     set_report_callback(ffmpegkit_statistics_callback_function);
@@ -831,11 +947,10 @@ void ffmpegkit::FFmpegKitConfig::disableRedirection() {
     }
     redirectionEnabled = 0;
 
-    lock.unlock();
+    // ALL CALLBACK THREADS EXIT, THEY ARE STARTED AGAIN WHEN REDIRECTION IS ENABLED
+    stopCallbackThreads();
 
-    callbackNotify();
-
-    pthread_detach(callbackThread);
+    lock.unlock();
 
     av_log_set_callback(av_log_default_callback);
     set_report_callback(NULL);
@@ -1058,7 +1173,11 @@ void ffmpegkit::FFmpegKitConfig::getMediaInformationExecute(const std::shared_pt
 }
 
 void ffmpegkit::FFmpegKitConfig::asyncFFmpegExecute(const std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegSession) {
-    auto thread = std::thread([ffmpegSession]() {
+    asyncFFmpegExecute(ffmpegSession, getAsyncExecutor());
+}
+
+void ffmpegkit::FFmpegKitConfig::asyncFFmpegExecute(const std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegSession, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    executor->execute([ffmpegSession]() {
         ffmpegkit::FFmpegKitConfig::ffmpegExecute(ffmpegSession);
 
         ffmpegkit::FFmpegSessionCompleteCallback completeCallback = ffmpegSession->getCompleteCallback();
@@ -1081,12 +1200,14 @@ void ffmpegkit::FFmpegKitConfig::asyncFFmpegExecute(const std::shared_ptr<ffmpeg
             }
         }
     });
-
-    thread.detach();
 }
 
 void ffmpegkit::FFmpegKitConfig::asyncFFprobeExecute(const std::shared_ptr<ffmpegkit::FFprobeSession> ffprobeSession) {
-    auto thread = std::thread([ffprobeSession]() {
+    asyncFFprobeExecute(ffprobeSession, getAsyncExecutor());
+}
+
+void ffmpegkit::FFmpegKitConfig::asyncFFprobeExecute(const std::shared_ptr<ffmpegkit::FFprobeSession> ffprobeSession, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    executor->execute([ffprobeSession]() {
         ffmpegkit::FFmpegKitConfig::ffprobeExecute(ffprobeSession);
 
         ffmpegkit::FFprobeSessionCompleteCallback completeCallback = ffprobeSession->getCompleteCallback();
@@ -1109,12 +1230,14 @@ void ffmpegkit::FFmpegKitConfig::asyncFFprobeExecute(const std::shared_ptr<ffmpe
             }
         }
     });
-
-    thread.detach();
 }
 
 void ffmpegkit::FFmpegKitConfig::asyncGetMediaInformationExecute(const std::shared_ptr<ffmpegkit::MediaInformationSession> mediaInformationSession, const int waitTimeout) {
-    auto thread = std::thread([mediaInformationSession,waitTimeout]() {
+    asyncGetMediaInformationExecute(mediaInformationSession, waitTimeout, getAsyncExecutor());
+}
+
+void ffmpegkit::FFmpegKitConfig::asyncGetMediaInformationExecute(const std::shared_ptr<ffmpegkit::MediaInformationSession> mediaInformationSession, const int waitTimeout, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    executor->execute([mediaInformationSession,waitTimeout]() {
         ffmpegkit::FFmpegKitConfig::getMediaInformationExecute(mediaInformationSession, waitTimeout);
 
         ffmpegkit::MediaInformationSessionCompleteCallback completeCallback = mediaInformationSession->getCompleteCallback();
@@ -1137,8 +1260,68 @@ void ffmpegkit::FFmpegKitConfig::asyncGetMediaInformationExecute(const std::shar
             }
         }
     });
+}
+
+int ffmpegkit::FFmpegKitConfig::getAsyncConcurrencyLimit() {
+    std::unique_lock<std::mutex> lock(asyncExecutorMutex);
+    return asyncConcurrencyLimit;
+}
+
+void ffmpegkit::FFmpegKitConfig::setAsyncConcurrencyLimit(const int limit) {
+    if (limit > 0) {
+        std::unique_lock<std::mutex> lock(asyncExecutorMutex);
+
+        /* SET THE NEW LIMIT */
+        asyncConcurrencyLimit = limit;
+        auto oldAsyncExecutor = asyncExecutor;
+
+        /* CREATE THE NEW ASYNC EXECUTOR */
+        asyncExecutor = std::make_shared<ffmpegkit::WorkStealingExecutor>(limit);
+
+        /* STOP THE OLD ASYNC EXECUTOR, QUEUED SESSIONS ARE STILL EXECUTED */
+        if (oldAsyncExecutor != nullptr) {
+            oldAsyncExecutor->shutdown();
+        }
+    }
+}
+
+int ffmpegkit::FFmpegKitConfig::getAsyncQueueDepth() {
+    std::unique_lock<std::mutex> lock(asyncExecutorMutex);
+    return (asyncExecutor == nullptr) ? 0 : asyncExecutor->getQueueDepth();
+}
+
+std::shared_ptr<ffmpegkit::Executor> ffmpegkit::FFmpegKitConfig::getAsyncExecutor() {
+    std::unique_lock<std::mutex> lock(asyncExecutorMutex);
+    if (asyncExecutor == nullptr) {
+        asyncExecutor = std::make_shared<ffmpegkit::WorkStealingExecutor>(asyncConcurrencyLimit);
+    }
+    return asyncExecutor;
+}
+
+int ffmpegkit::FFmpegKitConfig::getCallbackThreadCount() {
+    return callbackThreadCount.load();
+}
+
+bool ffmpegkit::FFmpegKitConfig::setCallbackThreadCount(const int count) {
+    if (count > 0) {
+        std::unique_lock<std::recursive_mutex> lock(callbackDataMutex);
+
+        // MESSAGES OF AN ACTIVE SESSION WOULD MOVE TO ANOTHER QUEUE
+        if (thereAreActiveSessions()) {
+            return false;
+        }
 
-    thread.detach();
+        callbackThreadCount = std::min(count, ffmpegkit::FFmpegKitConfig::MaxCallbackThreadCount);
+
+        // THREADS ABOVE THE NEW COUNT DRAIN THEIR QUEUES AND STAY IDLE UNTIL REDIRECTION IS DISABLED
+        if (redirectionEnabled) {
+            startCallbackThreads();
+        }
+
+        return true;
+    }
+
+    return false;
 }
 
 void ffmpegkit::FFmpegKitConfig::enableLogCallback(const ffmpegkit::LogCallback callback) {
@@ -25,6 +25,7 @@
 #include <unistd.h>
 #include "FFmpegSession.h"
 #include "FFprobeSession.h"
+#include "Executor.h"
 #include "Level.h"
 #include "LogCallback.h"
 #include "MediaInformationSession.h"
@@ -49,6 +50,11 @@ namespace ffmpegkit {
              */
             static constexpr const char* FFmpegKitNamedPipePrefix = "fk_pipe_";
 
+            /**
+             * Maximum number of callback threads.
+             */
+            static constexpr int MaxCallbackThreadCount = 16;
+
             /**
              * <p>Enables log and statistics redirection.
              *
@@ -198,6 +204,17 @@ namespace ffmpegkit {
              */
             static void asyncFFmpegExecute(const std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegSession);
 
+            /**
+             * <p>Starts an asynchronous FFmpeg execution for the given session using the executor provided.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete.
+             * You must use an FFmpegSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param ffmpegSession FFmpeg session which includes command options/arguments
+             * @param executor      executor that will be used to run this asynchronous operation
+             */
+            static void asyncFFmpegExecute(const std::shared_ptr<ffmpegkit::FFmpegSession> ffmpegSession, const std::shared_ptr<ffmpegkit::Executor> executor);
+
             /**
              * <p>Starts an asynchronous FFprobe execution for the given session.
              *
@@ -208,6 +225,17 @@ namespace ffmpegkit {
              */
             static void asyncFFprobeExecute(const std::shared_ptr<ffmpegkit::FFprobeSession> ffprobeSession);
 
+            /**
+             * <p>Starts an asynchronous FFprobe execution for the given session using the executor provided.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete.
+             * You must use an FFprobeSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param ffprobeSession FFprobe session which includes command options/arguments
+             * @param executor       executor that will be used to run this asynchronous operation
+             */
+            static void asyncFFprobeExecute(const std::shared_ptr<ffmpegkit::FFprobeSession> ffprobeSession, const std::shared_ptr<ffmpegkit::Executor> executor);
+
             /**
              * <p>Starts an asynchronous FFprobe execution for the given media information session.
              *
@@ -219,6 +247,68 @@ namespace ffmpegkit {
              */
             static void asyncGetMediaInformationExecute(const std::shared_ptr<ffmpegkit::MediaInformationSession> mediaInformationSession, int waitTimeout);
 
+            /**
+             * <p>Starts an asynchronous FFprobe execution for the given media information session using the executor provided.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete.
+             * You must use an MediaInformationSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param mediaInformationSession media information session which includes command options/arguments
+             * @param waitTimeout             max time to wait until media information is transmitted
+             * @param executor                executor that will be used to run this asynchronous operation
+             */
+            static void asyncGetMediaInformationExecute(const std::shared_ptr<ffmpegkit::MediaInformationSession> mediaInformationSession, int waitTimeout, const std::shared_ptr<ffmpegkit::Executor> executor);
+
+            /**
+             * <p>Returns the maximum number of async sessions that will be executed in parallel.
+             *
+             * @return maximum number of async sessions that will be executed in parallel
+             */
+            static int getAsyncConcurrencyLimit();
+
+            /**
+             * <p>Sets the maximum number of async sessions that will be executed in parallel. If more
+             * sessions are submitted those will be queued.
+             *
+             * @param asyncConcurrencyLimit new async concurrency limit
+             */
+            static void setAsyncConcurrencyLimit(const int asyncConcurrencyLimit);
+
+            /**
+             * <p>Returns the number of async sessions waiting for a free thread in the default executor.
+             *
+             * @return number of queued async sessions
+             */
+            static int getAsyncQueueDepth();
+
+            /**
+             * <p>Returns the executor used to run async sessions when an executor is not specified.
+             *
+             * @return default async executor
+             */
+            static std::shared_ptr<ffmpegkit::Executor> getAsyncExecutor();
+
+            /**
+             * <p>Returns the number of threads that deliver logs and statistics to callbacks.
+             *
+             * @return number of callback threads
+             */
+            static int getCallbackThreadCount();
+
+            /**
+             * <p>Sets the number of threads that deliver logs and statistics to callbacks. Default value is 1,
+             * maximum value is MaxCallbackThreadCount.
+             *
+             * <p>Sessions are assigned to threads by session id, so messages of a session are still delivered in
+             * order. Using more threads helps when many sessions with verbose logs run concurrently. The thread
+             * count can only be changed when no session is running and all messages are delivered, otherwise the
+             * messages of a session would be split between two threads.
+             *
+             * @param callbackThreadCount new number of callback threads
+             * @return true if the thread count is changed, false if it is not valid or sessions are active
+             */
+            static bool setCallbackThreadCount(const int callbackThreadCount);
+
             /**
              * <p>Sets a global log callback to redirect FFmpeg/FFprobe logs.
              *
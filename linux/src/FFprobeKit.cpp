@@ -47,6 +47,12 @@ std::shared_ptr<ffmpegkit::FFprobeSession> ffmpegkit::FFprobeKit::executeWithArg
     return session;
 }
 
+std::shared_ptr<ffmpegkit::FFprobeSession> ffmpegkit::FFprobeKit::executeWithArgumentsAsync(const std::list<std::string>& arguments, FFprobeSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    auto session = ffmpegkit::FFprobeSession::create(arguments, completeCallback);
+    ffmpegkit::FFmpegKitConfig::asyncFFprobeExecute(session, executor);
+    return session;
+}
+
 std::shared_ptr<ffmpegkit::FFprobeSession> ffmpegkit::FFprobeKit::execute(const std::string command) {
     auto session = ffmpegkit::FFprobeSession::create(FFmpegKitConfig::parseArguments(command.c_str()));
     ffmpegkit::FFmpegKitConfig::ffprobeExecute(session);
@@ -86,6 +92,13 @@ std::shared_ptr<ffmpegkit::MediaInformationSession> ffmpegkit::FFprobeKit::getMe
     return session;
 }
 
+std::shared_ptr<ffmpegkit::MediaInformationSession> ffmpegkit::FFprobeKit::getMediaInformationAsync(const std::string path, MediaInformationSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor) {
+    auto arguments = defaultGetMediaInformationCommandArguments(path);
+    auto session = ffmpegkit::MediaInformationSession::create(arguments, completeCallback);
+    ffmpegkit::FFmpegKitConfig::asyncGetMediaInformationExecute(session, ffmpegkit::AbstractSession::DefaultTimeoutForAsynchronousMessagesInTransmit, executor);
+    return session;
+}
+
 std::shared_ptr<ffmpegkit::MediaInformationSession> ffmpegkit::FFprobeKit::getMediaInformationAsync(const std::string path, MediaInformationSessionCompleteCallback completeCallback, ffmpegkit::LogCallback logCallback, const int waitTimeout) {
     auto arguments = defaultGetMediaInformationCommandArguments(path);
     auto session = ffmpegkit::MediaInformationSession::create(arguments, completeCallback, logCallback);
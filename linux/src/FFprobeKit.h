@@ -22,6 +22,7 @@
 
 #include <string.h>
 #include <stdlib.h>
+#include "Executor.h"
 #include "FFprobeSession.h"
 #include "MediaInformationJsonParser.h"
 #include "MediaInformationSession.h"
@@ -81,6 +82,19 @@ namespace ffmpegkit {
              */
             static std::shared_ptr<ffmpegkit::FFprobeSession> executeWithArgumentsAsync(const std::list<std::string>& arguments, FFprobeSessionCompleteCallback completeCallback, ffmpegkit::LogCallback logCallback);
 
+            /**
+             * <p>Starts an asynchronous FFprobe execution with arguments provided.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete.
+             * You must use an FFprobeSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param arguments        FFprobe command options/arguments as string list
+             * @param completeCallback callback that will be called when the execution has completed
+             * @param executor         executor that will be used to run this asynchronous operation
+             * @return FFprobe session created for this execution
+             */
+            static std::shared_ptr<ffmpegkit::FFprobeSession> executeWithArgumentsAsync(const std::list<std::string>& arguments, FFprobeSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor);
+
             /**
              * <p>Synchronously executes FFprobe command provided. Space character is used to split command
              * into arguments. You can use single or double quote characters to specify arguments inside
@@ -147,6 +161,19 @@ namespace ffmpegkit {
              */
             static std::shared_ptr<ffmpegkit::MediaInformationSession> getMediaInformationAsync(const std::string path, MediaInformationSessionCompleteCallback completeCallback);
 
+            /**
+             * <p>Starts an asynchronous FFprobe execution to extract the media information for the specified file.
+             *
+             * <p>Note that this method returns immediately and does not wait the execution to complete. You must use an
+             * MediaInformationSessionCompleteCallback if you want to be notified about the result.
+             *
+             * @param path             path or uri of a media file
+             * @param completeCallback callback that will be called when the execution has completed
+             * @param executor         executor that will be used to run this asynchronous operation
+             * @return media information session created for this execution
+             */
+            static std::shared_ptr<ffmpegkit::MediaInformationSession> getMediaInformationAsync(const std::string path, MediaInformationSessionCompleteCallback completeCallback, const std::shared_ptr<ffmpegkit::Executor> executor);
+
             /**
              * <p>Starts an asynchronous FFprobe execution to extract the media information for the specified file.
              *
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General License
+ *  along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+#include "WorkStealingExecutor.h"
+#include <atomic>
+#include <condition_variable>
+#include <deque>
+#include <iostream>
+#include <mutex>
+#include <thread>
+#include <vector>
+
+namespace ffmpegkit {
+
+    class WorkStealingExecutorQueue {
+        public:
+            std::mutex mutex;
+            std::deque<std::function<void()>> tasks;
+    };
+
+    class WorkStealingExecutorState {
+        public:
+            WorkStealingExecutorState(const int size) : queues(size), pending{0}, active{0}, next{0}, running{true} {
+                for (int i = 0; i < size; i++) {
+                    queues[i] = std::unique_ptr<WorkStealingExecutorQueue>(new WorkStealingExecutorQueue());
+                }
+            }
+
+            std::vector<std::unique_ptr<WorkStealingExecutorQueue>> queues;
+            std::mutex monitorMutex;
+            std::condition_variable monitor;
+            std::atomic<int> pending;
+            std::atomic<int> active;
+            std::atomic<unsigned int> next;
+            bool running;
+    };
+
+}
+
+/** Identifies the executor and the queue owned by the current worker thread */
+static thread_local const ffmpegkit::WorkStealingExecutorState* currentWorkerState = nullptr;
+static thread_local int currentWorkerIndex = -1;
+
+static bool pollTask(const std::shared_ptr<ffmpegkit::WorkStealingExecutorState>& state, const int index, std::function<void()>& task) {
+    const int size = static_cast<int>(state->queues.size());
+
+    // OWN QUEUE IS CONSUMED IN SUBMISSION ORDER, OTHER QUEUES ARE STOLEN FROM THE BACK
+    for (int i = 0; i < size; i++) {
+        auto& queue = state->queues[(index + i) % size];
+        std::unique_lock<std::mutex> lock(queue->mutex);
+        if (!queue->tasks.empty()) {
+            if (i == 0) {
+                task = std::move(queue->tasks.front());
+                queue->tasks.pop_front();
+            } else {
+                task = std::move(queue->tasks.back());
+                queue->tasks.pop_back();
+            }
+            return true;
+        }
+    }
+
+    return false;
+}
+
+static void runTask(const std::function<void()>& task) {
+    try {
+        task();
+    } catch(const std::exception& exception) {
+        std::cout << "Exception thrown inside executor task. " << exception.what() << std::endl;
+    }
+}
+
+static void runWorker(const std::shared_ptr<ffmpegkit::WorkStealingExecutorState> state, const int index) {
+    currentWorkerState = state.get();
+    currentWorkerIndex = index;
+
+    while (true) {
+        std::function<void()> task;
+
+        if (pollTask(state, index, task)) {
+            state->pending--;
+            state->active++;
+            runTask(task);
+            state->active--;
+            continue;
+        }
+
+        std::unique_lock<std::mutex> lock(state->monitorMutex);
+        state->monitor.wait(lock, [&]{ return state->pending > 0 || !state->running; });
+        if (!state->running && state->pending == 0) {
+            return;
+        }
+    }
+}
+
+ffmpegkit::WorkStealingExecutor::WorkStealingExecutor(const int size) : _state{std::make_shared<ffmpegkit::WorkStealingExecutorState>(size < 1 ? 1 : size)} {
+    for (int i = 0; i < getSize(); i++) {
+        std::thread(runWorker, _state, i).detach();
+    }
+}
+
+ffmpegkit::WorkStealingExecutor::~WorkStealingExecutor() {
+    shutdown();
+}
+
+void ffmpegkit::WorkStealingExecutor::execute(std::function<void()> task) {
+    bool accepted;
+    {
+        std::unique_lock<std::mutex> lock(_state->monitorMutex);
+        accepted = _state->running;
+        if (accepted) {
+            _state->pending++;
+        }
+    }
+
+    if (!accepted) {
+
+        /* A SESSION MAY BE SUBMITTED WHILE ITS EXECUTOR IS REPLACED, IT MUST STILL RUN EXACTLY ONCE */
+        std::thread(runTask, std::move(task)).detach();
+        return;
+    }
+
+    int index;
+    if (currentWorkerState == _state.get()) {
+        index = currentWorkerIndex;
+    } else {
+        index = static_cast<int>(_state->next++ % _state->queues.size());
+    }
+
+    {
+        auto& queue = _state->queues[index];
+        std::unique_lock<std::mutex> lock(queue->mutex);
+        queue->tasks.push_back(std::move(task));
+    }
+
+    _state->monitor.notify_one();
+}
+
+int ffmpegkit::WorkStealingExecutor::getSize() const {
+    return static_cast<int>(_state->queues.size());
+}
+
+int ffmpegkit::WorkStealingExecutor::getQueueDepth() const {
+    return _state->pending;
+}
+
+int ffmpegkit::WorkStealingExecutor::getActiveCount() const {
+    return _state->active;
+}
+
+void ffmpegkit::WorkStealingExecutor::shutdown() {
+    {
+        std::unique_lock<std::mutex> lock(_state->monitorMutex);
+        _state->running = false;
+    }
+    _state->monitor.notify_all();
+}
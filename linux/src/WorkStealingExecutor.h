@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General License
+ *  along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+#ifndef FFMPEG_KIT_WORK_STEALING_EXECUTOR_H
+#define FFMPEG_KIT_WORK_STEALING_EXECUTOR_H
+
+#include <memory>
+#include "Executor.h"
+
+namespace ffmpegkit {
+
+    class WorkStealingExecutorState;
+
+    /**
+     * <p>Executor that runs tasks on a fixed number of worker threads.
+     *
+     * <p>Each worker owns a task queue. Tasks submitted from outside the executor are distributed
+     * to worker queues in round-robin order, tasks submitted by a worker go to its own queue. A
+     * worker runs tasks from its own queue in submission order and steals the most recently
+     * submitted task of another worker when its own queue is empty.
+     *
+     * <p>Destroying an executor does not block. Workers finish queued tasks and then exit.
+     */
+    class WorkStealingExecutor : public Executor {
+        public:
+
+            /**
+             * <p>Creates an executor and starts its worker threads.
+             *
+             * @param size number of worker threads, values smaller than 1 are treated as 1
+             */
+            WorkStealingExecutor(const int size);
+
+            ~WorkStealingExecutor();
+
+            void execute(std::function<void()> task) override;
+
+            /**
+             * <p>Returns the number of worker threads.
+             *
+             * @return number of worker threads
+             */
+            int getSize() const;
+
+            /**
+             * <p>Returns the number of tasks waiting in worker queues.
+             *
+             * @return number of queued tasks
+             */
+            int getQueueDepth() const;
+
+            /**
+             * <p>Returns the number of tasks being run.
+             *
+             * @return number of running tasks
+             */
+            int getActiveCount() const;
+
+            /**
+             * <p>Stops accepting new tasks. Queued tasks are still run. Tasks submitted after this call are not
+             * dropped, each one runs on its own detached thread. This method returns immediately.
+             */
+            void shutdown();
+
+        private:
+            std::shared_ptr<WorkStealingExecutorState> _state;
+    };
+
+}
+
+#endif // FFMPEG_KIT_WORK_STEALING_EXECUTOR_H
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit.reactnative;
+
+import static com.arthenica.ffmpegkit.reactnative.FFmpegKitReactNativeModule.EVENT_LOG_BATCH_CALLBACK_EVENT;
+import static com.arthenica.ffmpegkit.reactnative.FFmpegKitReactNativeModule.EVENT_STATISTICS_BATCH_CALLBACK_EVENT;
+import static com.arthenica.ffmpegkit.reactnative.FFmpegKitReactNativeModule.EVENT_STATISTICS_BINARY_CALLBACK_EVENT;
+import static com.arthenica.ffmpegkit.reactnative.FFmpegKitReactNativeModule.LIBRARY_NAME;
+
+import android.util.Log;
+
+import com.arthenica.ffmpegkit.Statistics;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Coalesces logs and statistics into array events before sending them to JavaScript.
+ * <p>Logs are accumulated per session and emitted in a single
+ * {@link FFmpegKitReactNativeModule#EVENT_LOG_BATCH_CALLBACK_EVENT} event when the batch window
+ * expires or when the number of pending logs reaches the batch size limit. Only the latest
+ * statistics entry of each session is kept inside a window, intermediate entries are dropped so a
+ * slow JavaScript thread receives at most one statistics entry per session per window. Replacing
+ * an entry inside its window is expected and is not counted. An entry is counted as dropped only
+ * when it is replaced after its window has expired, i.e. when emitting falls behind the batch
+ * window.
+ * <p>When binary statistics are enabled, statistics entries of a window are sent in a single
+ * {@link FFmpegKitReactNativeModule#EVENT_STATISTICS_BINARY_CALLBACK_EVENT} event encoded by
+ * {@link BinaryStatistics}.
+ * <p>After {@link #shutdown()} pending events are flushed once and new events are dropped.
+ */
+public class BatchingEventEmitter {
+
+  /**
+   * Defines the default batch window in milliseconds.
+   */
+  public static final int DEFAULT_BATCH_WINDOW = 50;
+
+  /**
+   * Defines the default maximum number of logs emitted in a single batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 200;
+
+  private static class SessionBatch {
+    private final List<com.arthenica.ffmpegkit.Log> logs = new ArrayList<>();
+    private Statistics statistics;
+  }
+
+  private final ReactApplicationContext reactContext;
+  private final ScheduledExecutorService scheduler;
+  private final Object emitLock;
+  private Map<Long, SessionBatch> batches;
+  private int pendingLogCount;
+  private boolean flushScheduled;
+  private long flushDeadline;
+  private boolean shutdown;
+  private volatile int batchWindow;
+  private volatile int batchSize;
+  private volatile boolean binaryStatistics;
+  private long droppedStatistics;
+
+  public BatchingEventEmitter(final ReactApplicationContext reactContext) {
+    this.reactContext = reactContext;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    this.emitLock = new Object();
+    this.batches = new LinkedHashMap<>();
+    this.batchWindow = DEFAULT_BATCH_WINDOW;
+    this.batchSize = DEFAULT_BATCH_SIZE;
+  }
+
+  public int getBatchWindow() {
+    return batchWindow;
+  }
+
+  public void setBatchWindow(final int batchWindow) {
+    this.batchWindow = Math.max(1, batchWindow);
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(final int batchSize) {
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  public void setBinaryStatistics(final boolean binaryStatistics) {
+    this.binaryStatistics = binaryStatistics;
+  }
+
+  /**
+   * Returns the number of statistics entries dropped because emitting fell behind the batch window.
+   *
+   * @return number of statistics entries replaced by a newer entry after their window expired
+   */
+  public synchronized long getDroppedStatistics() {
+    return droppedStatistics;
+  }
+
+  public void add(final com.arthenica.ffmpegkit.Log log) {
+    boolean flushNow = false;
+
+    synchronized (this) {
+      if (shutdown) {
+        return;
+      }
+      batchFor(log.getSessionId()).logs.add(log);
+      pendingLogCount++;
+      if (pendingLogCount >= batchSize) {
+        flushNow = true;
+      } else {
+        scheduleFlush();
+      }
+    }
+
+    if (flushNow) {
+      submitFlush();
+    }
+  }
+
+  public void add(final Statistics statistics) {
+    synchronized (this) {
+      if (shutdown) {
+        return;
+      }
+      final SessionBatch batch = batchFor(statistics.getSessionId());
+      if (batch.statistics != null && System.nanoTime() - flushDeadline > 0) {
+        droppedStatistics++;
+      }
+      batch.statistics = statistics;
+      scheduleFlush();
+    }
+  }
+
+  /**
+   * Emits all pending logs and statistics synchronously on the calling thread.
+   */
+  public void flush() {
+    synchronized (emitLock) {
+      final Map<Long, SessionBatch> pending;
+
+      synchronized (this) {
+        if (batches.isEmpty()) {
+          return;
+        }
+        pending = batches;
+        batches = new LinkedHashMap<>();
+        pendingLogCount = 0;
+      }
+
+      final boolean binary = binaryStatistics;
+      final WritableArray logArray = Arguments.createArray();
+      final WritableArray statisticsArray = Arguments.createArray();
+      final List<Statistics> statisticsList = new ArrayList<>();
+      for (SessionBatch batch : pending.values()) {
+        for (com.arthenica.ffmpegkit.Log log : batch.logs) {
+          logArray.pushMap(FFmpegKitReactNativeModule.toMap(log));
+        }
+        if (batch.statistics != null) {
+          if (binary) {
+            statisticsList.add(batch.statistics);
+          } else {
+            statisticsArray.pushMap(FFmpegKitReactNativeModule.toMap(batch.statistics));
+          }
+        }
+      }
+
+      final DeviceEventManagerModule.RCTDeviceEventEmitter jsModule = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
+      if (logArray.size() > 0) {
+        jsModule.emit(EVENT_LOG_BATCH_CALLBACK_EVENT, logArray);
+      }
+      if (statisticsArray.size() > 0) {
+        jsModule.emit(EVENT_STATISTICS_BATCH_CALLBACK_EVENT, statisticsArray);
+      }
+      if (!statisticsList.isEmpty()) {
+        jsModule.emit(EVENT_STATISTICS_BINARY_CALLBACK_EVENT, BinaryStatistics.encode(statisticsList));
+      }
+    }
+  }
+
+  /**
+   * Stops scheduling flushes and emits pending events. Events added afterwards are dropped.
+   */
+  public void shutdown() {
+    synchronized (this) {
+      shutdown = true;
+    }
+    scheduler.shutdown();
+    flush();
+  }
+
+  private SessionBatch batchFor(final long sessionId) {
+    if (batches.isEmpty()) {
+
+      // THE FIRST PENDING EVENT OPENS A NEW WINDOW
+      flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindow);
+    }
+
+    SessionBatch batch = batches.get(sessionId);
+    if (batch == null) {
+      batch = new SessionBatch();
+      batches.put(sessionId, batch);
+    }
+    return batch;
+  }
+
+  private void scheduleFlush() {
+    if (!flushScheduled && !scheduler.isShutdown()) {
+      flushScheduled = true;
+      scheduler.schedule(this::scheduledFlush, batchWindow, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void submitFlush() {
+    if (!scheduler.isShutdown()) {
+      scheduler.execute(this::flush);
+    }
+  }
+
+  private void scheduledFlush() {
+    synchronized (this) {
+      flushScheduled = false;
+    }
+    try {
+      flush();
+    } catch (final Exception e) {
+      Log.w(LIBRARY_NAME, "Exception thrown while emitting batched events.", e);
+    }
+  }
+
+}
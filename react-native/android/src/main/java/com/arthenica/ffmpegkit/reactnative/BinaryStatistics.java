@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit.reactnative;
+
+import android.util.Base64;
+
+import com.arthenica.ffmpegkit.Statistics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+
+/**
+ * <p>Encodes statistics into the fixed binary layout read by JavaScript.
+ * <p>Each statistics entry takes {@link #STATISTICS_ENTRY_SIZE} bytes in little-endian order:
+ * sessionId (int64), videoFrameNumber (int32), videoFps (float32), videoQuality (float32),
+ * size (int64), time (float64), bitrate (float64), speed (float64), progress (float32),
+ * estimatedTimeRemaining (int64).
+ * <p>The bridge can not carry binary data, so encoded entries are sent as a single base64 string.
+ * JavaScript decodes that string into an <code>ArrayBuffer</code> and reads fields using a
+ * <code>DataView</code>, without creating a map for each update.
+ */
+public class BinaryStatistics {
+
+  /**
+   * Size of a binary statistics entry in bytes.
+   */
+  public static final int STATISTICS_ENTRY_SIZE = 64;
+
+  private BinaryStatistics() {
+  }
+
+  public static String encode(final Collection<Statistics> statisticsList) {
+    final ByteBuffer buffer = ByteBuffer.allocate(statisticsList.size() * STATISTICS_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    for (Statistics statistics : statisticsList) {
+      buffer.putLong(statistics.getSessionId());
+      buffer.putInt(statistics.getVideoFrameNumber());
+      buffer.putFloat(statistics.getVideoFps());
+      buffer.putFloat(statistics.getVideoQuality());
+      buffer.putLong(statistics.getSize());
+      buffer.putDouble(statistics.getTime());
+      buffer.putDouble(statistics.getBitrate());
+      buffer.putDouble(statistics.getSpeed());
+      buffer.putFloat((float) statistics.getProgress());
+      buffer.putLong(statistics.getEstimatedTimeRemaining());
+    }
+
+    return Base64.encodeToString(buffer.array(), Base64.NO_WRAP);
+  }
+
+}
@@ -29,6 +29,7 @@ import androidx.annotation.Nullable;
 
 import com.arthenica.ffmpegkit.AbiDetect;
 import com.arthenica.ffmpegkit.AbstractSession;
+import com.arthenica.ffmpegkit.AsyncExecutorStatistics;
 import com.arthenica.ffmpegkit.FFmpegKit;
 import com.arthenica.ffmpegkit.FFmpegKitConfig;
 import com.arthenica.ffmpegkit.FFmpegSession;
@@ -40,8 +41,10 @@ import com.arthenica.ffmpegkit.MediaInformation;
 import com.arthenica.ffmpegkit.MediaInformationJsonParser;
 import com.arthenica.ffmpegkit.MediaInformationSession;
 import com.arthenica.ffmpegkit.Packages;
+import com.arthenica.ffmpegkit.PipeWriter;
 import com.arthenica.ffmpegkit.ReturnCode;
 import com.arthenica.ffmpegkit.Session;
+import com.arthenica.ffmpegkit.SessionSnapshot;
 import com.arthenica.ffmpegkit.SessionState;
 import com.arthenica.ffmpegkit.Signal;
 import com.arthenica.ffmpegkit.Statistics;
@@ -65,11 +68,13 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -93,6 +98,8 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
   public static final String KEY_STATISTICS_TIME = "time";
   public static final String KEY_STATISTICS_BITRATE = "bitrate";
   public static final String KEY_STATISTICS_SPEED = "speed";
+  public static final String KEY_STATISTICS_PROGRESS = "progress";
+  public static final String KEY_STATISTICS_ESTIMATED_TIME_REMAINING = "estimatedTimeRemaining";
 
   // SESSION CLASS
   public static final String KEY_SESSION_ID = "sessionId";
@@ -111,23 +118,55 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
   public static final String EVENT_LOG_CALLBACK_EVENT = "FFmpegKitLogCallbackEvent";
   public static final String EVENT_STATISTICS_CALLBACK_EVENT = "FFmpegKitStatisticsCallbackEvent";
   public static final String EVENT_COMPLETE_CALLBACK_EVENT = "FFmpegKitCompleteCallbackEvent";
+  public static final String EVENT_LOG_BATCH_CALLBACK_EVENT = "FFmpegKitLogBatchCallbackEvent";
+  public static final String EVENT_STATISTICS_BATCH_CALLBACK_EVENT = "FFmpegKitStatisticsBatchCallbackEvent";
+  public static final String EVENT_STATISTICS_BINARY_CALLBACK_EVENT = "FFmpegKitStatisticsBinaryCallbackEvent";
+  public static final String EVENT_PIPE_WRITE_PROGRESS_EVENT = "FFmpegKitPipeWriteProgressEvent";
+  public static final String EVENT_SESSION_SNAPSHOT_EVENT = "FFmpegKitSessionSnapshotEvent";
+
+  // PIPE WRITE PROGRESS
+  public static final String KEY_PIPE_WRITER_ID = "writerId";
+  public static final String KEY_PIPE_BYTES_WRITTEN = "bytesWritten";
+  public static final String KEY_PIPE_TOTAL_BYTES = "totalBytes";
+  public static final String KEY_SNAPSHOT_SESSION_ID = "sessionId";
+  public static final String KEY_SNAPSHOT_STATE = "state";
+  public static final String KEY_SNAPSHOT_ELAPSED = "elapsed";
+  public static final String KEY_SNAPSHOT_LAST_STATISTICS = "lastStatistics";
+  public static final String KEY_SNAPSHOT_LOG_COUNT = "logCount";
+  public static final String KEY_SNAPSHOT_EXPECTED_DURATION = "expectedDuration";
+  public static final String KEY_SNAPSHOT_COMPLETION = "completion";
+  public static final String KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING = "estimatedTimeRemaining";
+  public static final String KEY_EXECUTOR_CONCURRENCY_LIMIT = "concurrencyLimit";
+  public static final String KEY_EXECUTOR_ACTIVE_COUNT = "activeCount";
+  public static final String KEY_EXECUTOR_QUEUED_COUNT = "queuedCount";
+  public static final String KEY_EXECUTOR_COMPLETED_COUNT = "completedCount";
 
   // REQUEST CODES
   public static final int READABLE_REQUEST_CODE = 10000;
   public static final int WRITABLE_REQUEST_CODE = 20000;
 
-  private static final int asyncWriteToPipeConcurrencyLimit = 10;
+  protected static final MediaInformationMapCache mediaInformationMapCache = new MediaInformationMapCache();
 
   private final AtomicBoolean logsEnabled;
   private final AtomicBoolean statisticsEnabled;
+  private final AtomicBoolean batchingEnabled;
+  private final AtomicBoolean binaryStatisticsEnabled;
   private final ExecutorService asyncExecutorService;
+  private final ExecutorService pipeExecutorService;
+  private final BatchingEventEmitter batchingEventEmitter;
+  private final Map<Long, PipeWriter> pipeWriters;
 
   public FFmpegKitReactNativeModule(@Nullable ReactApplicationContext reactContext) {
     super(reactContext);
 
     this.logsEnabled = new AtomicBoolean(false);
     this.statisticsEnabled = new AtomicBoolean(false);
-    this.asyncExecutorService = Executors.newFixedThreadPool(asyncWriteToPipeConcurrencyLimit);
+    this.batchingEnabled = new AtomicBoolean(false);
+    this.binaryStatisticsEnabled = new AtomicBoolean(false);
+    this.asyncExecutorService = FFmpegKitConfig.getAsyncExecutorService();
+    this.pipeExecutorService = Executors.newCachedThreadPool();
+    this.batchingEventEmitter = new BatchingEventEmitter(reactContext);
+    this.pipeWriters = new ConcurrentHashMap<>();
 
     if (reactContext != null) {
       registerGlobalCallbacks(reactContext);
@@ -151,22 +190,29 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
 
   protected void registerGlobalCallbacks(final ReactApplicationContext reactContext) {
     FFmpegKitConfig.enableFFmpegSessionCompleteCallback(session -> {
+      batchingEventEmitter.flush();
       final DeviceEventManagerModule.RCTDeviceEventEmitter jsModule = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
       jsModule.emit(EVENT_COMPLETE_CALLBACK_EVENT, toMap(session));
     });
 
     FFmpegKitConfig.enableFFprobeSessionCompleteCallback(session -> {
+      batchingEventEmitter.flush();
       final DeviceEventManagerModule.RCTDeviceEventEmitter jsModule = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
       jsModule.emit(EVENT_COMPLETE_CALLBACK_EVENT, toMap(session));
     });
 
     FFmpegKitConfig.enableMediaInformationSessionCompleteCallback(session -> {
+      batchingEventEmitter.flush();
       final DeviceEventManagerModule.RCTDeviceEventEmitter jsModule = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
       jsModule.emit(EVENT_COMPLETE_CALLBACK_EVENT, toMap(session));
     });
 
     FFmpegKitConfig.enableLogCallback(log -> {
       if (logsEnabled.get()) {
+        if (batchingEnabled.get()) {
+          batchingEventEmitter.add(log);
+          return;
+        }
         final DeviceEventManagerModule.RCTDeviceEventEmitter jsModule = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
         jsModule.emit(EVENT_LOG_CALLBACK_EVENT, toMap(log));
       }
@@ -174,8 +220,16 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
 
     FFmpegKitConfig.enableStatisticsCallback(statistics -> {
       if (statisticsEnabled.get()) {
+        if (batchingEnabled.get()) {
+          batchingEventEmitter.add(statistics);
+          return;
+        }
         final DeviceEventManagerModule.RCTDeviceEventEmitter jsModule = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
-        jsModule.emit(EVENT_STATISTICS_CALLBACK_EVENT, toMap(statistics));
+        if (binaryStatisticsEnabled.get()) {
+          jsModule.emit(EVENT_STATISTICS_BINARY_CALLBACK_EVENT, BinaryStatistics.encode(Collections.singletonList(statistics)));
+        } else {
+          jsModule.emit(EVENT_STATISTICS_CALLBACK_EVENT, toMap(statistics));
+        }
       }
     });
   }
@@ -251,6 +305,21 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     }
   }
 
+  @ReactMethod
+  public void abstractSessionGetLogsSince(final Double sessionId, final Double index, final Double max, final Promise promise) {
+    if (sessionId != null) {
+      Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+      if (session == null) {
+        promise.reject("SESSION_NOT_FOUND", "Session not found.");
+      } else {
+        final List<com.arthenica.ffmpegkit.Log> logs = session.getLogsSince(toInt(index), toInt(max));
+        promise.resolve(toLogArray(logs));
+      }
+    } else {
+      promise.reject("INVALID_SESSION", "Invalid session id.");
+    }
+  }
+
   @ReactMethod
   public void abstractSessionGetAllLogsAsString(final Double sessionId, final Double waitTimeout, final Promise promise) {
     if (sessionId != null) {
@@ -391,6 +460,25 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     }
   }
 
+  @ReactMethod
+  public void ffmpegSessionGetStatisticsSince(final Double sessionId, final Double index, final Double max, final Promise promise) {
+    if (sessionId != null) {
+      Session session = FFmpegKitConfig.getSession(sessionId.longValue());
+      if (session == null) {
+        promise.reject("SESSION_NOT_FOUND", "Session not found.");
+      } else {
+        if (session.isFFmpeg()) {
+          final List<Statistics> statistics = ((FFmpegSession) session).getStatisticsSince(toInt(index), toInt(max));
+          promise.resolve(toStatisticsArray(statistics));
+        } else {
+          promise.reject("NOT_FFMPEG_SESSION", "A session is found but it does not have the correct type.");
+        }
+      }
+    } else {
+      promise.reject("INVALID_SESSION", "Invalid session id.");
+    }
+  }
+
   // FFprobeSession
 
   @ReactMethod
@@ -475,6 +563,72 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     promise.resolve(null);
   }
 
+  @ReactMethod
+  public void enableEventBatching(final Double batchWindow, final Double batchSize, final Promise promise) {
+    if (isValidPositiveNumber(batchWindow)) {
+      batchingEventEmitter.setBatchWindow(batchWindow.intValue());
+    }
+    if (isValidPositiveNumber(batchSize)) {
+      batchingEventEmitter.setBatchSize(batchSize.intValue());
+    }
+    batchingEnabled.compareAndSet(false, true);
+
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void disableEventBatching(final Promise promise) {
+    batchingEnabled.compareAndSet(true, false);
+    batchingEventEmitter.flush();
+
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void enableBinaryStatistics(final Promise promise) {
+    binaryStatisticsEnabled.compareAndSet(false, true);
+    batchingEventEmitter.setBinaryStatistics(true);
+
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void disableBinaryStatistics(final Promise promise) {
+    binaryStatisticsEnabled.compareAndSet(true, false);
+    batchingEventEmitter.setBinaryStatistics(false);
+
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void enableSessionSnapshots(final Double period, final Promise promise) {
+    if (period != null && period.longValue() > 0) {
+      final ReactApplicationContext reactContext = getReactApplicationContext();
+      FFmpegKitConfig.enableSessionSnapshots(period.longValue(), snapshots -> {
+        final WritableArray snapshotArray = Arguments.createArray();
+        for (SessionSnapshot snapshot : snapshots) {
+          snapshotArray.pushMap(toMap(snapshot));
+        }
+        reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit(EVENT_SESSION_SNAPSHOT_EVENT, snapshotArray);
+      });
+      promise.resolve(null);
+    } else {
+      promise.reject("INVALID_PERIOD", "Invalid session snapshot period value.");
+    }
+  }
+
+  @ReactMethod
+  public void disableSessionSnapshots(final Promise promise) {
+    FFmpegKitConfig.disableSessionSnapshots();
+
+    promise.resolve(null);
+  }
+
+  @ReactMethod
+  public void getEventBatchingDroppedStatistics(final Promise promise) {
+    promise.resolve((double) batchingEventEmitter.getDroppedStatistics());
+  }
+
   @ReactMethod
   public void setFontconfigConfigurationPath(final String path, final Promise promise) {
     FFmpegKitConfig.setFontconfigConfigurationPath(path);
@@ -724,6 +878,26 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     }
   }
 
+  @ReactMethod
+  public void getAsyncConcurrencyLimit(final Promise promise) {
+    promise.resolve(FFmpegKitConfig.getAsyncConcurrencyLimit());
+  }
+
+  @ReactMethod
+  public void setAsyncConcurrencyLimit(final Double asyncConcurrencyLimit, final Promise promise) {
+    if (asyncConcurrencyLimit != null && asyncConcurrencyLimit.intValue() > 0) {
+      FFmpegKitConfig.setAsyncConcurrencyLimit(asyncConcurrencyLimit.intValue());
+      promise.resolve(null);
+    } else {
+      promise.reject("INVALID_LIMIT", "Invalid async concurrency limit value.");
+    }
+  }
+
+  @ReactMethod
+  public void getAsyncExecutorStatistics(final Promise promise) {
+    promise.resolve(toMap(FFmpegKitConfig.getAsyncExecutorStatistics()));
+  }
+
   @ReactMethod
   public void getSession(final Double sessionId, final Promise promise) {
     if (sessionId != null) {
@@ -758,6 +932,7 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void clearSessions(final Promise promise) {
     FFmpegKitConfig.clearSessions();
+    mediaInformationMapCache.clear();
     promise.resolve(null);
   }
 
@@ -770,6 +945,16 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     }
   }
 
+  @ReactMethod
+  public void querySessions(final Double sessionType, final Double sessionState, final Double createdAfter, final Double createdBefore, final Double offset, final Double limit, final Promise promise) {
+    final Class<? extends Session> type = (sessionType == null) ? null : toSessionClass(sessionType.intValue());
+    final SessionState state = (sessionState == null) ? null : toSessionState(sessionState.intValue());
+    final Date after = (createdAfter == null) ? null : new Date(createdAfter.longValue());
+    final Date before = (createdBefore == null) ? null : new Date(createdBefore.longValue());
+
+    promise.resolve(toSessionArray(FFmpegKitConfig.getSessions(type, state, after, before, toInt(offset), toInt(limit))));
+  }
+
   @ReactMethod
   public void getLogRedirectionStrategy(final Promise promise) {
     promise.resolve(toInt(FFmpegKitConfig.getLogRedirectionStrategy()));
@@ -802,7 +987,54 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
   @ReactMethod
   public void writeToPipe(final String inputPath, final String namedPipePath, final Promise promise) {
     final WriteToPipeTask asyncTask = new WriteToPipeTask(inputPath, namedPipePath, promise);
-    asyncExecutorService.submit(asyncTask);
+    pipeExecutorService.submit(asyncTask);
+  }
+
+  @ReactMethod
+  public void pipeWriterCreate(final String inputPath, final String namedPipePath, final Double bufferSize, final Promise promise) {
+    final ReactApplicationContext reactContext = getReactApplicationContext();
+    final long[] writerId = new long[1];
+
+    final PipeWriter pipeWriter = PipeWriter.create(inputPath, namedPipePath, toInt(bufferSize), (bytesWritten, totalBytes) -> {
+      final WritableMap progressMap = Arguments.createMap();
+      progressMap.putDouble(KEY_PIPE_WRITER_ID, writerId[0]);
+      progressMap.putDouble(KEY_PIPE_BYTES_WRITTEN, bytesWritten);
+      progressMap.putDouble(KEY_PIPE_TOTAL_BYTES, totalBytes);
+      reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class).emit(EVENT_PIPE_WRITE_PROGRESS_EVENT, progressMap);
+    });
+    writerId[0] = pipeWriter.getWriterId();
+    pipeWriters.put(pipeWriter.getWriterId(), pipeWriter);
+
+    promise.resolve((double) pipeWriter.getWriterId());
+  }
+
+  @ReactMethod
+  public void pipeWriterStart(final Double writerId, final Promise promise) {
+    final PipeWriter pipeWriter = (writerId == null) ? null : pipeWriters.get(writerId.longValue());
+    if (pipeWriter == null) {
+      promise.reject("WRITER_NOT_FOUND", "Pipe writer not found.");
+    } else if (pipeWriter.isStarted()) {
+      promise.reject("WRITER_ALREADY_STARTED", "Pipe writer is already started.");
+    } else {
+      final WriteToPipeTask asyncTask = new WriteToPipeTask(pipeWriter, promise, true);
+      pipeExecutorService.submit(() -> {
+        try {
+          asyncTask.run();
+        } finally {
+          pipeWriters.remove(pipeWriter.getWriterId());
+        }
+      });
+    }
+  }
+
+  @ReactMethod
+  public void pipeWriterCancel(final Double writerId, final Promise promise) {
+    final PipeWriter pipeWriter = (writerId == null) ? null : pipeWriters.remove(writerId.longValue());
+    if (pipeWriter != null) {
+      pipeWriter.cancel();
+    }
+
+    promise.resolve(null);
   }
 
   @ReactMethod
@@ -934,7 +1166,7 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
   // MediaInformationSession
 
   @ReactMethod
-  public void getMediaInformation(final Double sessionId, final Promise promise) {
+  public void getMediaInformation(final Double sessionId, final ReadableArray projection, final Promise promise) {
     if (sessionId != null) {
       final Session session = FFmpegKitConfig.getSession(sessionId.longValue());
       if (session == null) {
@@ -944,7 +1176,7 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
           final MediaInformationSession mediaInformationSession = (MediaInformationSession) session;
           final MediaInformation mediaInformation = mediaInformationSession.getMediaInformation();
           if (mediaInformation != null) {
-            promise.resolve(toMap(mediaInformation));
+            promise.resolve(mediaInformationMapCache.get(session.getSessionId(), mediaInformation, toProjection(projection)));
           } else {
             promise.resolve(null);
           }
@@ -957,6 +1189,13 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     }
   }
 
+  @ReactMethod
+  public void setMediaInformationProjection(final ReadableArray projection, final Promise promise) {
+    mediaInformationMapCache.setDefaultProjection(toProjection(projection));
+
+    promise.resolve(null);
+  }
+
   // Packages
 
   @ReactMethod
@@ -971,7 +1210,9 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
 
   @ReactMethod
   public void uninit(final Promise promise) {
-    this.asyncExecutorService.shutdown();
+    this.pipeExecutorService.shutdown();
+    this.batchingEventEmitter.shutdown();
+    FFmpegKitConfig.disableSessionSnapshots();
     promise.resolve(null);
   }
 
@@ -991,6 +1232,10 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     statisticsEnabled.compareAndSet(true, false);
   }
 
+  protected static int toInt(final Double value) {
+    return (value == null) ? 0 : value.intValue();
+  }
+
   protected static int toInt(final Level level) {
     return (level == null) ? Level.AV_LOG_TRACE.getValue() : level.getValue();
   }
@@ -1015,7 +1260,7 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
       final MediaInformationSession mediaInformationSession = (MediaInformationSession) session;
       final MediaInformation mediaInformation = mediaInformationSession.getMediaInformation();
       if (mediaInformation != null) {
-        sessionMap.putMap(KEY_SESSION_MEDIA_INFORMATION, toMap(mediaInformation));
+        sessionMap.putMap(KEY_SESSION_MEDIA_INFORMATION, mediaInformationMapCache.get(session.getSessionId(), mediaInformation, null));
       }
       sessionMap.putDouble(KEY_SESSION_TYPE, SESSION_TYPE_MEDIA_INFORMATION);
     }
@@ -1063,6 +1308,19 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     }
   }
 
+  protected static Class<? extends Session> toSessionClass(final int value) {
+    switch (value) {
+      case SESSION_TYPE_FFMPEG:
+        return FFmpegSession.class;
+      case SESSION_TYPE_FFPROBE:
+        return FFprobeSession.class;
+      case SESSION_TYPE_MEDIA_INFORMATION:
+        return MediaInformationSession.class;
+      default:
+        return Session.class;
+    }
+  }
+
   protected static SessionState toSessionState(final int value) {
     switch (value) {
       case 0:
@@ -1129,11 +1387,43 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
       statisticsMap.putDouble(KEY_STATISTICS_TIME, statistics.getTime());
       statisticsMap.putDouble(KEY_STATISTICS_BITRATE, statistics.getBitrate());
       statisticsMap.putDouble(KEY_STATISTICS_SPEED, statistics.getSpeed());
+      statisticsMap.putDouble(KEY_STATISTICS_PROGRESS, statistics.getProgress());
+      statisticsMap.putDouble(KEY_STATISTICS_ESTIMATED_TIME_REMAINING, statistics.getEstimatedTimeRemaining());
     }
 
     return statisticsMap;
   }
 
+  protected static WritableMap toMap(final SessionSnapshot snapshot) {
+    final WritableMap snapshotMap = Arguments.createMap();
+
+    snapshotMap.putDouble(KEY_SNAPSHOT_SESSION_ID, snapshot.getSessionId());
+    snapshotMap.putDouble(KEY_SNAPSHOT_STATE, snapshot.getState().ordinal());
+    snapshotMap.putDouble(KEY_SNAPSHOT_ELAPSED, snapshot.getElapsed());
+    snapshotMap.putDouble(KEY_SNAPSHOT_LOG_COUNT, snapshot.getLogCount());
+    snapshotMap.putDouble(KEY_SNAPSHOT_EXPECTED_DURATION, snapshot.getExpectedDuration());
+    snapshotMap.putDouble(KEY_SNAPSHOT_COMPLETION, snapshot.getCompletion());
+    snapshotMap.putDouble(KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING, snapshot.getEstimatedTimeRemaining());
+    if (snapshot.getLastStatistics() != null) {
+      snapshotMap.putMap(KEY_SNAPSHOT_LAST_STATISTICS, toMap(snapshot.getLastStatistics()));
+    } else {
+      snapshotMap.putNull(KEY_SNAPSHOT_LAST_STATISTICS);
+    }
+
+    return snapshotMap;
+  }
+
+  protected static WritableMap toMap(final AsyncExecutorStatistics asyncExecutorStatistics) {
+    final WritableMap statisticsMap = Arguments.createMap();
+
+    statisticsMap.putDouble(KEY_EXECUTOR_CONCURRENCY_LIMIT, asyncExecutorStatistics.getConcurrencyLimit());
+    statisticsMap.putDouble(KEY_EXECUTOR_ACTIVE_COUNT, asyncExecutorStatistics.getActiveCount());
+    statisticsMap.putDouble(KEY_EXECUTOR_QUEUED_COUNT, asyncExecutorStatistics.getQueuedCount());
+    statisticsMap.putDouble(KEY_EXECUTOR_COMPLETED_COUNT, asyncExecutorStatistics.getCompletedCount());
+
+    return statisticsMap;
+  }
+
   protected static WritableMap toMap(final MediaInformation mediaInformation) {
     if (mediaInformation != null) {
       WritableMap map = Arguments.createMap();
@@ -1224,6 +1514,14 @@ public class FFmpegKitReactNativeModule extends ReactContextBaseJavaModule {
     return arguments.toArray(new String[0]);
   }
 
+  protected static List<String> toProjection(final ReadableArray readableArray) {
+    if (readableArray == null) {
+      return null;
+    }
+
+    return Arrays.asList(toArgumentsArray(readableArray));
+  }
+
   protected static WritableArray toSessionArray(final List<? extends Session> sessionList) {
     final WritableArray sessionArray = Arguments.createArray();
 
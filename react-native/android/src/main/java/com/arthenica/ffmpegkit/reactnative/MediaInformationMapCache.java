@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Taner Sener
+ *
+ * This file is part of FFmpegKit.
+ *
+ * FFmpegKit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * FFmpegKit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with FFmpegKit.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.arthenica.ffmpegkit.reactnative;
+
+import com.arthenica.ffmpegkit.FFmpegKitConfig;
+import com.arthenica.ffmpegkit.MediaInformation;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Caches media information maps sent to JavaScript.
+ * <p>Converting all properties of a media information into a <code>WritableMap</code> walks every
+ * stream, tag and side data entry, so converted maps are cached per session and per projection.
+ * A projection is a list of dot separated field paths, see
+ * {@link MediaInformation#getProperties(List)}. The cache keeps entries for the last
+ * {@link FFmpegKitConfig#getSessionHistorySize()} sessions. It is cleared together with the
+ * session history when sessions are cleared.
+ * <p>Since a <code>WritableMap</code> can be sent to JavaScript only once, cached maps are never
+ * sent directly. A copy is returned instead.
+ */
+public class MediaInformationMapCache {
+  private final Map<Long, Map<String, WritableMap>> cache;
+  private volatile List<String> defaultProjection;
+
+  public MediaInformationMapCache() {
+    this.cache = new LinkedHashMap<Long, Map<String, WritableMap>>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Map<String, WritableMap>> eldest) {
+        return (this.size() > FFmpegKitConfig.getSessionHistorySize());
+      }
+    };
+  }
+
+  public List<String> getDefaultProjection() {
+    return defaultProjection;
+  }
+
+  /**
+   * Sets the projection used when a media information map is requested without a projection.
+   *
+   * @param defaultProjection field paths to send or null to send all properties
+   */
+  public void setDefaultProjection(final List<String> defaultProjection) {
+    this.defaultProjection = (defaultProjection == null || defaultProjection.isEmpty()) ? null : defaultProjection;
+    clear();
+  }
+
+  /**
+   * Returns the map of the given media information.
+   *
+   * @param sessionId        id of the session that created the media information
+   * @param mediaInformation media information
+   * @param projection       field paths to send, null to use the default projection
+   * @return a new map that contains the selected properties or null if media information is null
+   */
+  public WritableMap get(final long sessionId, final MediaInformation mediaInformation, final List<String> projection) {
+    if (mediaInformation == null) {
+      return null;
+    }
+
+    final List<String> fields = (projection != null) ? projection : defaultProjection;
+    final String key = (fields == null) ? "" : fields.toString();
+
+    WritableMap map;
+    synchronized (cache) {
+      final Map<String, WritableMap> sessionMaps = cache.get(sessionId);
+      map = (sessionMaps == null) ? null : sessionMaps.get(key);
+    }
+
+    if (map == null) {
+      map = FFmpegKitReactNativeModule.toMap(mediaInformation.getProperties(fields));
+      synchronized (cache) {
+        Map<String, WritableMap> sessionMaps = cache.get(sessionId);
+        if (sessionMaps == null) {
+          sessionMaps = new HashMap<>();
+          cache.put(sessionId, sessionMaps);
+        }
+        sessionMaps.put(key, map);
+      }
+    }
+
+    return map.copy();
+  }
+
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+}
@@ -23,43 +23,57 @@ import static com.arthenica.ffmpegkit.reactnative.FFmpegKitReactNativeModule.LIB
 
 import android.util.Log;
 
+import com.arthenica.ffmpegkit.PipeWriter;
 import com.facebook.react.bridge.Promise;
 
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
 
 public class WriteToPipeTask implements Runnable {
-  private final String inputPath;
-  private final String namedPipePath;
+  private final PipeWriter pipeWriter;
   private final Promise promise;
+  private final boolean resolveBytesWritten;
 
   public WriteToPipeTask(final String inputPath, final String namedPipePath, final Promise promise) {
-    this.inputPath = inputPath;
-    this.namedPipePath = namedPipePath;
+    this(PipeWriter.create(inputPath, namedPipePath), promise, false);
+  }
+
+  public WriteToPipeTask(final PipeWriter pipeWriter, final Promise promise, final boolean resolveBytesWritten) {
+    this.pipeWriter = pipeWriter;
     this.promise = promise;
+    this.resolveBytesWritten = resolveBytesWritten;
   }
 
   @Override
   public void run() {
-    int rc;
+    final String inputPath = pipeWriter.getInputPath();
+    final String namedPipePath = pipeWriter.getPipePath();
 
     try {
-      final String asyncCommand = "cat " + inputPath + " > " + namedPipePath;
       Log.d(LIBRARY_NAME, String.format("Starting copy %s to pipe %s operation.", inputPath, namedPipePath));
 
       final long startTime = System.currentTimeMillis();
 
-      final Process process = Runtime.getRuntime().exec(new String[]{"sh", "-c", asyncCommand});
-      rc = process.waitFor();
+      final long bytesWritten = pipeWriter.write();
 
       final long endTime = System.currentTimeMillis();
 
-      Log.d(LIBRARY_NAME, String.format("Copying %s to pipe %s operation completed with rc %d in %d seconds.", inputPath, namedPipePath, rc, (endTime - startTime) / 1000));
+      Log.d(LIBRARY_NAME, String.format("Copying %s to pipe %s operation completed with %d bytes in %d seconds.", inputPath, namedPipePath, bytesWritten, (endTime - startTime) / 1000));
 
-      promise.resolve(rc);
+      if (resolveBytesWritten) {
+        promise.resolve((double) bytesWritten);
+      } else {
+        promise.resolve(0);
+      }
 
-    } catch (final IOException | InterruptedException e) {
+    } catch (final CancellationException e) {
+      Log.d(LIBRARY_NAME, String.format("Copy %s to pipe %s cancelled.", inputPath, namedPipePath));
+      promise.reject("WRITE_CANCELLED", String.format("Copy %s to pipe %s cancelled.", inputPath, namedPipePath), e);
+    } catch (final IOException e) {
       Log.e(LIBRARY_NAME, String.format("Copy %s to pipe %s failed with error.", inputPath, namedPipePath), e);
       promise.reject("Copy failed", String.format("Copy %s to pipe %s failed with error.", inputPath, namedPipePath), e);
+    } catch (final IllegalStateException e) {
+      promise.reject("WRITER_ALREADY_STARTED", e.getMessage(), e);
     }
   }
 
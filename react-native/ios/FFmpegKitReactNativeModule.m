@@ -62,13 +62,74 @@ static int const SESSION_TYPE_MEDIA_INFORMATION = 3;
 static NSString *const EVENT_LOG_CALLBACK_EVENT = @"FFmpegKitLogCallbackEvent";
 static NSString *const EVENT_STATISTICS_CALLBACK_EVENT = @"FFmpegKitStatisticsCallbackEvent";
 static NSString *const EVENT_COMPLETE_CALLBACK_EVENT = @"FFmpegKitCompleteCallbackEvent";
+static NSString *const EVENT_LOG_BATCH_CALLBACK_EVENT = @"FFmpegKitLogBatchCallbackEvent";
+static NSString *const EVENT_STATISTICS_BATCH_CALLBACK_EVENT = @"FFmpegKitStatisticsBatchCallbackEvent";
+static NSString *const EVENT_STATISTICS_BINARY_CALLBACK_EVENT = @"FFmpegKitStatisticsBinaryCallbackEvent";
+static NSString *const EVENT_SESSION_SNAPSHOT_EVENT = @"FFmpegKitSessionSnapshotEvent";
+
+// SESSION SNAPSHOT
+static NSString *const KEY_SNAPSHOT_SESSION_ID = @"sessionId";
+static NSString *const KEY_SNAPSHOT_STATE = @"state";
+static NSString *const KEY_SNAPSHOT_ELAPSED = @"elapsed";
+static NSString *const KEY_SNAPSHOT_LAST_STATISTICS = @"lastStatistics";
+static NSString *const KEY_SNAPSHOT_LOG_COUNT = @"logCount";
+static NSString *const KEY_SNAPSHOT_EXPECTED_DURATION = @"expectedDuration";
+static NSString *const KEY_SNAPSHOT_COMPLETION = @"completion";
+static NSString *const KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING = @"estimatedTimeRemaining";
+
+// BINARY STATISTICS
+static int const STATISTICS_ENTRY_SIZE = 64;
+
+// EVENT BATCHING
+static int const DEFAULT_BATCH_WINDOW = 50;
+static int const DEFAULT_BATCH_SIZE = 200;
 
 extern int const AbstractSessionDefaultTimeoutForAsynchronousMessagesInTransmit;
 
+static NSArray *mediaInformationProjection = nil;
+
+static void appendUInt32(NSMutableData *data, uint32_t value) {
+    uint32_t littleEndianValue = CFSwapInt32HostToLittle(value);
+    [data appendBytes:&littleEndianValue length:sizeof(littleEndianValue)];
+}
+
+static void appendUInt64(NSMutableData *data, uint64_t value) {
+    uint64_t littleEndianValue = CFSwapInt64HostToLittle(value);
+    [data appendBytes:&littleEndianValue length:sizeof(littleEndianValue)];
+}
+
+static void appendFloat32(NSMutableData *data, float value) {
+    uint32_t bits;
+    memcpy(&bits, &value, sizeof(bits));
+    appendUInt32(data, bits);
+}
+
+static void appendFloat64(NSMutableData *data, double value) {
+    uint64_t bits;
+    memcpy(&bits, &value, sizeof(bits));
+    appendUInt64(data, bits);
+}
+
 @implementation FFmpegKitReactNativeModule {
   BOOL logsEnabled;
   BOOL statisticsEnabled;
+  BOOL binaryStatisticsEnabled;
   dispatch_queue_t asyncDispatchQueue;
+  dispatch_source_t sessionSnapshotTimer;
+
+  // EVENT BATCHING, GUARDED BY batchLock
+  BOOL batchingEnabled;
+  BOOL batchingShutdown;
+  BOOL flushScheduled;
+  int batchWindow;
+  int batchSize;
+  NSMutableArray *pendingLogs;
+  NSMutableDictionary *pendingStatistics;
+  uint64_t flushDeadline;
+  long droppedStatistics;
+  NSObject *batchLock;
+  NSObject *emitLock;
+  dispatch_queue_t batchDispatchQueue;
 }
 
 RCT_EXPORT_MODULE(FFmpegKitReactNativeModule);
@@ -78,7 +139,20 @@ RCT_EXPORT_MODULE(FFmpegKitReactNativeModule);
     if (self) {
         logsEnabled = false;
         statisticsEnabled = false;
+        binaryStatisticsEnabled = false;
         asyncDispatchQueue = dispatch_get_global_queue(DISPATCH_QUEUE_PRIORITY_DEFAULT, 0);
+        batchingEnabled = false;
+        batchingShutdown = false;
+        flushScheduled = false;
+        batchWindow = DEFAULT_BATCH_WINDOW;
+        batchSize = DEFAULT_BATCH_SIZE;
+        pendingLogs = [[NSMutableArray alloc] init];
+        pendingStatistics = [[NSMutableDictionary alloc] init];
+        flushDeadline = 0;
+        droppedStatistics = 0;
+        batchLock = [[NSObject alloc] init];
+        emitLock = [[NSObject alloc] init];
+        batchDispatchQueue = dispatch_queue_create("com.arthenica.ffmpegkit.reactnative.batch", DISPATCH_QUEUE_SERIAL);
 
         [self registerGlobalCallbacks];
     }
@@ -92,28 +166,38 @@ RCT_EXPORT_MODULE(FFmpegKitReactNativeModule);
     [array addObject:EVENT_LOG_CALLBACK_EVENT];
     [array addObject:EVENT_STATISTICS_CALLBACK_EVENT];
     [array addObject:EVENT_COMPLETE_CALLBACK_EVENT];
+    [array addObject:EVENT_LOG_BATCH_CALLBACK_EVENT];
+    [array addObject:EVENT_STATISTICS_BATCH_CALLBACK_EVENT];
+    [array addObject:EVENT_STATISTICS_BINARY_CALLBACK_EVENT];
+    [array addObject:EVENT_SESSION_SNAPSHOT_EVENT];
 
     return array;
 }
 
 - (void)registerGlobalCallbacks {
   [FFmpegKitConfig enableFFmpegSessionCompleteCallback:^(FFmpegSession* session){
+    [self flushBatchedEvents];
     NSDictionary *dictionary = [FFmpegKitReactNativeModule toSessionDictionary:session];
     [self sendEventWithName:EVENT_COMPLETE_CALLBACK_EVENT body:dictionary];
   }];
 
   [FFmpegKitConfig enableFFprobeSessionCompleteCallback:^(FFprobeSession* session){
+    [self flushBatchedEvents];
     NSDictionary *dictionary = [FFmpegKitReactNativeModule toSessionDictionary:session];
     [self sendEventWithName:EVENT_COMPLETE_CALLBACK_EVENT body:dictionary];
   }];
 
   [FFmpegKitConfig enableMediaInformationSessionCompleteCallback:^(MediaInformationSession* session){
+    [self flushBatchedEvents];
     NSDictionary *dictionary = [FFmpegKitReactNativeModule toSessionDictionary:session];
     [self sendEventWithName:EVENT_COMPLETE_CALLBACK_EVENT body:dictionary];
   }];
 
   [FFmpegKitConfig enableLogCallback: ^(Log* log){
     if (self->logsEnabled) {
+      if ([self addBatchedLog:log]) {
+        return;
+      }
       NSDictionary *dictionary = [FFmpegKitReactNativeModule toLogDictionary:log];
       [self sendEventWithName:EVENT_LOG_CALLBACK_EVENT body:dictionary];
     }
@@ -121,12 +205,144 @@ RCT_EXPORT_MODULE(FFmpegKitReactNativeModule);
 
   [FFmpegKitConfig enableStatisticsCallback:^(Statistics* statistics){
     if (self->statisticsEnabled) {
-      NSDictionary *dictionary = [FFmpegKitReactNativeModule toStatisticsDictionary:statistics];
-      [self sendEventWithName:EVENT_STATISTICS_CALLBACK_EVENT body:dictionary];
+      if ([self addBatchedStatistics:statistics]) {
+        return;
+      }
+      if (self->binaryStatisticsEnabled) {
+        [self sendEventWithName:EVENT_STATISTICS_BINARY_CALLBACK_EVENT body:[FFmpegKitReactNativeModule toBinaryStatistics:statistics]];
+      } else {
+        NSDictionary *dictionary = [FFmpegKitReactNativeModule toStatisticsDictionary:statistics];
+        [self sendEventWithName:EVENT_STATISTICS_CALLBACK_EVENT body:dictionary];
+      }
     }
   }];
 }
 
+// EVENT BATCHING
+
+/**
+ * Adds a log to the pending batch if event batching is enabled.
+ *
+ * @return YES if the log is batched or dropped because the module is uninitialized, NO if it must be sent now
+ */
+- (BOOL)addBatchedLog:(Log*)log {
+    BOOL flushNow = false;
+
+    @synchronized (batchLock) {
+        if (!batchingEnabled) {
+            return false;
+        }
+        if (batchingShutdown) {
+            return true;
+        }
+        [self openBatchWindow];
+        [pendingLogs addObject:log];
+        if ([pendingLogs count] >= batchSize) {
+            flushNow = true;
+        } else {
+            [self scheduleBatchFlush];
+        }
+    }
+
+    if (flushNow) {
+        dispatch_async(batchDispatchQueue, ^{
+            [self flushBatchedEvents];
+        });
+    }
+
+    return true;
+}
+
+/**
+ * Keeps the latest statistics entry of each session in the pending batch if event batching is
+ * enabled. An entry replaced after its window has expired is counted as dropped.
+ *
+ * @return YES if the entry is batched or dropped because the module is uninitialized, NO if it must be sent now
+ */
+- (BOOL)addBatchedStatistics:(Statistics*)statistics {
+    @synchronized (batchLock) {
+        if (!batchingEnabled) {
+            return false;
+        }
+        if (batchingShutdown) {
+            return true;
+        }
+        [self openBatchWindow];
+        NSNumber *sessionId = [NSNumber numberWithLong:[statistics getSessionId]];
+        if (pendingStatistics[sessionId] != nil && dispatch_time(DISPATCH_TIME_NOW, 0) > flushDeadline) {
+            droppedStatistics++;
+        }
+        pendingStatistics[sessionId] = statistics;
+        [self scheduleBatchFlush];
+    }
+
+    return true;
+}
+
+/**
+ * Emits all pending logs and statistics synchronously on the calling thread.
+ */
+- (void)flushBatchedEvents {
+    @synchronized (emitLock) {
+        NSArray *logs;
+        NSArray *statisticsList;
+        BOOL binary;
+
+        @synchronized (batchLock) {
+            if ([pendingLogs count] == 0 && [pendingStatistics count] == 0) {
+                return;
+            }
+            logs = pendingLogs;
+            statisticsList = [pendingStatistics allValues];
+            pendingLogs = [[NSMutableArray alloc] init];
+            pendingStatistics = [[NSMutableDictionary alloc] init];
+            binary = binaryStatisticsEnabled;
+        }
+
+        if ([logs count] > 0) {
+            NSMutableArray *logArray = [[NSMutableArray alloc] init];
+            for (int i = 0; i < [logs count]; i++) {
+                [logArray addObject:[FFmpegKitReactNativeModule toLogDictionary:[logs objectAtIndex:i]]];
+            }
+            [self sendEventWithName:EVENT_LOG_BATCH_CALLBACK_EVENT body:logArray];
+        }
+
+        if ([statisticsList count] > 0) {
+            if (binary) {
+                [self sendEventWithName:EVENT_STATISTICS_BINARY_CALLBACK_EVENT body:[FFmpegKitReactNativeModule toBinaryStatisticsList:statisticsList]];
+            } else {
+                NSMutableArray *statisticsArray = [[NSMutableArray alloc] init];
+                for (int i = 0; i < [statisticsList count]; i++) {
+                    [statisticsArray addObject:[FFmpegKitReactNativeModule toStatisticsDictionary:[statisticsList objectAtIndex:i]]];
+                }
+                [self sendEventWithName:EVENT_STATISTICS_BATCH_CALLBACK_EVENT body:statisticsArray];
+            }
+        }
+    }
+}
+
+// MUST BE CALLED WITH batchLock HELD
+- (void)openBatchWindow {
+    if ([pendingLogs count] == 0 && [pendingStatistics count] == 0) {
+
+        // THE FIRST PENDING EVENT OPENS A NEW WINDOW
+        flushDeadline = dispatch_time(DISPATCH_TIME_NOW, (int64_t)batchWindow * NSEC_PER_MSEC);
+    }
+}
+
+// MUST BE CALLED WITH batchLock HELD
+- (void)scheduleBatchFlush {
+    if (!flushScheduled) {
+        flushScheduled = true;
+        dispatch_after(dispatch_time(DISPATCH_TIME_NOW, (int64_t)batchWindow * NSEC_PER_MSEC), batchDispatchQueue, ^{
+            @synchronized (self->batchLock) {
+                self->flushScheduled = false;
+            }
+            [self flushBatchedEvents];
+        });
+    }
+}
+
 // AbstractSession
 
 RCT_EXPORT_METHOD(abstractSessionGetEndTime:(int)sessionId resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
@@ -178,6 +394,16 @@ RCT_EXPORT_METHOD(abstractSessionGetLogs:(int)sessionId resolver:(RCTPromiseReso
     }
 }
 
+RCT_EXPORT_METHOD(abstractSessionGetLogsSince:(int)sessionId withIndex:(int)index withMax:(int)max resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:sessionId];
+    if (session == nil) {
+      reject(@"SESSION_NOT_FOUND", @"Session not found.", nil);
+    } else {
+      NSArray* logs = [FFmpegKitReactNativeModule subarray:[session getLogs] fromIndex:index max:max];
+      resolve([FFmpegKitReactNativeModule toLogArray:logs]);
+    }
+}
+
 RCT_EXPORT_METHOD(abstractSessionGetAllLogsAsString:(int)sessionId withTimeout:(int)waitTimeout resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:sessionId];
     if (session == nil) {
@@ -282,6 +508,20 @@ RCT_EXPORT_METHOD(ffmpegSessionGetStatistics:(int)sessionId resolver:(RCTPromise
     }
 }
 
+RCT_EXPORT_METHOD(ffmpegSessionGetStatisticsSince:(int)sessionId withIndex:(int)index withMax:(int)max resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:sessionId];
+    if (session == nil) {
+      reject(@"SESSION_NOT_FOUND", @"Session not found.", nil);
+    } else {
+        if ([session isFFmpeg]) {
+            NSArray* statistics = [FFmpegKitReactNativeModule subarray:[(FFmpegSession*)session getStatistics] fromIndex:index max:max];
+            resolve([FFmpegKitReactNativeModule toStatisticsArray:statistics]);
+        } else {
+            reject(@"NOT_FFMPEG_SESSION", @"A session is found but it does not have the correct type.", nil);
+        }
+    }
+}
+
 // FFprobeSession
 
 RCT_EXPORT_METHOD(ffprobeSession:(NSArray*)arguments resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
@@ -358,6 +598,71 @@ RCT_EXPORT_METHOD(disableStatistics:(RCTPromiseResolveBlock)resolve rejecter:(RC
     resolve(nil);
 }
 
+RCT_EXPORT_METHOD(enableEventBatching:(NSNumber*)window withBatchSize:(NSNumber*)size resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    @synchronized (batchLock) {
+        if (window != nil && [window intValue] > 0) {
+            batchWindow = [window intValue];
+        }
+        if (size != nil && [size intValue] > 0) {
+            batchSize = [size intValue];
+        }
+        batchingEnabled = true;
+    }
+
+    resolve(nil);
+}
+
+RCT_EXPORT_METHOD(disableEventBatching:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    @synchronized (batchLock) {
+        batchingEnabled = false;
+    }
+    [self flushBatchedEvents];
+
+    resolve(nil);
+}
+
+RCT_EXPORT_METHOD(enableBinaryStatistics:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    binaryStatisticsEnabled = true;
+    resolve(nil);
+}
+
+RCT_EXPORT_METHOD(disableBinaryStatistics:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    binaryStatisticsEnabled = false;
+    resolve(nil);
+}
+
+RCT_EXPORT_METHOD(enableSessionSnapshots:(int)period resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    if (period > 0) {
+        [self cancelSessionSnapshotTimer];
+
+        __weak FFmpegKitReactNativeModule *weakSelf = self;
+        sessionSnapshotTimer = dispatch_source_create(DISPATCH_SOURCE_TYPE_TIMER, 0, 0, asyncDispatchQueue);
+        dispatch_source_set_timer(sessionSnapshotTimer, dispatch_time(DISPATCH_TIME_NOW, (int64_t)period * NSEC_PER_MSEC), (uint64_t)period * NSEC_PER_MSEC, (uint64_t)period * NSEC_PER_MSEC / 10);
+        dispatch_source_set_event_handler(sessionSnapshotTimer, ^{
+            NSArray *snapshots = [FFmpegKitReactNativeModule toSessionSnapshotArray:[FFmpegKitConfig getSessionsByState:SessionStateRunning]];
+            if ([snapshots count] > 0) {
+                [weakSelf sendEventWithName:EVENT_SESSION_SNAPSHOT_EVENT body:snapshots];
+            }
+        });
+        dispatch_resume(sessionSnapshotTimer);
+
+        resolve(nil);
+    } else {
+        reject(@"INVALID_PERIOD", @"Invalid session snapshot period value.", nil);
+    }
+}
+
+RCT_EXPORT_METHOD(disableSessionSnapshots:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    [self cancelSessionSnapshotTimer];
+    resolve(nil);
+}
+
+RCT_EXPORT_METHOD(getEventBatchingDroppedStatistics:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    @synchronized (batchLock) {
+        resolve([NSNumber numberWithLong:droppedStatistics]);
+    }
+}
+
 RCT_EXPORT_METHOD(setFontconfigConfigurationPath:(NSString*)path resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     [FFmpegKitConfig setFontconfigConfigurationPath:path];
 
@@ -531,6 +836,18 @@ RCT_EXPORT_METHOD(setSessionHistorySize:(int)sessionHistorySize resolver:(RCTPro
     resolve(nil);
 }
 
+RCT_EXPORT_METHOD(getAsyncConcurrencyLimit:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    reject(@"NOT_SUPPORTED", @"Not supported on iOS platform. Sessions run on a concurrent dispatch queue.", nil);
+}
+
+RCT_EXPORT_METHOD(setAsyncConcurrencyLimit:(int)asyncConcurrencyLimit resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    reject(@"NOT_SUPPORTED", @"Not supported on iOS platform. Sessions run on a concurrent dispatch queue.", nil);
+}
+
+RCT_EXPORT_METHOD(getAsyncExecutorStatistics:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    reject(@"NOT_SUPPORTED", @"Not supported on iOS platform.", nil);
+}
+
 RCT_EXPORT_METHOD(getSession:(int)sessionId resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:sessionId];
     if (session == nil) {
@@ -561,6 +878,10 @@ RCT_EXPORT_METHOD(getSessionsByState:(int)sessionState resolver:(RCTPromiseResol
     resolve([FFmpegKitReactNativeModule toSessionArray:[FFmpegKitConfig getSessionsByState:sessionState]]);
 }
 
+RCT_EXPORT_METHOD(querySessions:(NSNumber*)sessionType withState:(NSNumber*)sessionState withCreatedAfter:(NSNumber*)createdAfter withCreatedBefore:(NSNumber*)createdBefore withOffset:(int)offset withLimit:(int)limit resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    resolve([FFmpegKitReactNativeModule toSessionArray:[FFmpegKitReactNativeModule querySessions:[FFmpegKitConfig getSessions] type:sessionType state:sessionState createdAfter:createdAfter createdBefore:createdBefore offset:offset limit:limit]]);
+}
+
 RCT_EXPORT_METHOD(getLogRedirectionStrategy:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     resolve([FFmpegKitReactNativeModule logRedirectionStrategyToNumber:[FFmpegKitConfig getLogRedirectionStrategy]]);
 }
@@ -578,6 +899,18 @@ RCT_EXPORT_METHOD(getPlatform:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromi
     resolve(PLATFORM_NAME);
 }
 
+RCT_EXPORT_METHOD(pipeWriterCreate:(NSString*)inputPath onPipe:(NSString*)namedPipePath withBufferSize:(int)bufferSize resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    reject(@"NOT_SUPPORTED", @"Not supported on iOS platform. Use writeToPipe, which already copies in-process.", nil);
+}
+
+RCT_EXPORT_METHOD(pipeWriterStart:(int)writerId resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    reject(@"NOT_SUPPORTED", @"Not supported on iOS platform.", nil);
+}
+
+RCT_EXPORT_METHOD(pipeWriterCancel:(int)writerId resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    reject(@"NOT_SUPPORTED", @"Not supported on iOS platform.", nil);
+}
+
 RCT_EXPORT_METHOD(writeToPipe:(NSString*)inputPath onPipe:(NSString*)namedPipePath resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     dispatch_async(asyncDispatchQueue, ^{
 
@@ -669,20 +1002,25 @@ RCT_EXPORT_METHOD(getMediaInformationSessions:(RCTPromiseResolveBlock)resolve re
 
 // MediaInformationSession
 
-RCT_EXPORT_METHOD(getMediaInformation:(int)sessionId resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+RCT_EXPORT_METHOD(getMediaInformation:(int)sessionId withProjection:(NSArray*)projection resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
     AbstractSession* session = (AbstractSession*)[FFmpegKitConfig getSession:sessionId];
     if (session == nil) {
         reject(@"SESSION_NOT_FOUND", @"Session not found.", nil);
     } else {
         if ([session isMediaInformation]) {
             MediaInformationSession *mediaInformationSession = (MediaInformationSession*)session;
-            resolve([FFmpegKitReactNativeModule toMediaInformationDictionary:[mediaInformationSession getMediaInformation]]);
+            resolve([FFmpegKitReactNativeModule toMediaInformationDictionary:[mediaInformationSession getMediaInformation] projection:projection]);
         } else {
             reject(@"NOT_MEDIA_INFORMATION_SESSION", @"A session is found but it does not have the correct type.", nil);
         }
     }
 }
 
+RCT_EXPORT_METHOD(setMediaInformationProjection:(NSArray*)projection resolver:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    mediaInformationProjection = ([projection count] > 0) ? projection : nil;
+    resolve(nil);
+}
+
 // Packages
 
 RCT_EXPORT_METHOD(getPackageName:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
@@ -694,9 +1032,21 @@ RCT_EXPORT_METHOD(getExternalLibraries:(RCTPromiseResolveBlock)resolve rejecter:
 }
 
 RCT_EXPORT_METHOD(uninit:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRejectBlock)reject) {
+    [self cancelSessionSnapshotTimer];
+    @synchronized (batchLock) {
+        batchingShutdown = true;
+    }
+    [self flushBatchedEvents];
     resolve(nil);
 }
 
+- (void)cancelSessionSnapshotTimer {
+    if (sessionSnapshotTimer != nil) {
+        dispatch_source_cancel(sessionSnapshotTimer);
+        sessionSnapshotTimer = nil;
+    }
+}
+
 - (void)enableLogs {
     logsEnabled = true;
 }
@@ -732,7 +1082,7 @@ RCT_EXPORT_METHOD(uninit:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRej
           dictionary[KEY_SESSION_TYPE] = [NSNumber numberWithInt:SESSION_TYPE_FFPROBE];
         } else if ([session isMediaInformation]) {
           MediaInformationSession *mediaInformationSession = (MediaInformationSession*)session;
-          dictionary[KEY_SESSION_MEDIA_INFORMATION] = [FFmpegKitReactNativeModule toMediaInformationDictionary:[mediaInformationSession getMediaInformation]];
+          dictionary[KEY_SESSION_MEDIA_INFORMATION] = [FFmpegKitReactNativeModule toMediaInformationDictionary:[mediaInformationSession getMediaInformation] projection:nil];
           dictionary[KEY_SESSION_TYPE] = [NSNumber numberWithInt:SESSION_TYPE_MEDIA_INFORMATION];
         }
 
@@ -775,6 +1125,97 @@ RCT_EXPORT_METHOD(uninit:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRej
     }
 }
 
++ (NSArray*)toSessionSnapshotArray:(NSArray*)sessions {
+    NSMutableArray *array = [[NSMutableArray alloc] init];
+
+    for (int i = 0; i < [sessions count]; i++) {
+        [array addObject:[FFmpegKitReactNativeModule toSessionSnapshotDictionary:[sessions objectAtIndex:i]]];
+    }
+
+    return array;
+}
+
++ (NSDictionary*)toSessionSnapshotDictionary:(id<Session>)session {
+    NSMutableDictionary *dictionary = [[NSMutableDictionary alloc] init];
+
+    long elapsed = 0;
+    if ([session getStartTime] != nil) {
+        if ([session getEndTime] != nil) {
+            elapsed = [session getDuration];
+        } else {
+            elapsed = (long)([[NSDate date] timeIntervalSinceDate:[session getStartTime]] * 1000);
+        }
+    }
+
+    Statistics *lastStatistics = [session isFFmpeg] ? [(FFmpegSession*)session getLastReceivedStatistics] : nil;
+    long expectedDuration = [session isFFmpeg] ? [FFmpegKitReactNativeModule findInputDuration:[session getArguments]] : 0;
+
+    double completion = -1;
+    if ([session getState] == SessionStateCompleted) {
+        completion = 1;
+    } else if (lastStatistics != nil && expectedDuration > 0) {
+        completion = MIN(1, MAX(0, [lastStatistics getTime] / expectedDuration));
+    }
+
+    dictionary[KEY_SNAPSHOT_SESSION_ID] = [NSNumber numberWithLong: [session getSessionId]];
+    dictionary[KEY_SNAPSHOT_STATE] = [FFmpegKitReactNativeModule sessionStateToNumber:[session getState]];
+    dictionary[KEY_SNAPSHOT_ELAPSED] = [NSNumber numberWithLong: elapsed];
+    dictionary[KEY_SNAPSHOT_LAST_STATISTICS] = (lastStatistics != nil) ? [FFmpegKitReactNativeModule toStatisticsDictionary:lastStatistics] : [NSNull null];
+    dictionary[KEY_SNAPSHOT_LOG_COUNT] = [NSNumber numberWithUnsignedInteger: [[session getLogs] count]];
+    dictionary[KEY_SNAPSHOT_EXPECTED_DURATION] = [NSNumber numberWithLong: expectedDuration];
+    dictionary[KEY_SNAPSHOT_COMPLETION] = [NSNumber numberWithDouble: completion];
+    dictionary[KEY_SNAPSHOT_ESTIMATED_TIME_REMAINING] = [NSNumber numberWithLong: ([session getState] == SessionStateCompleted) ? 0 : -1];
+
+    return dictionary;
+}
+
++ (long)findInputDuration:(NSArray*)arguments {
+    NSArray *mediaInformationSessions = [FFmpegKitConfig getMediaInformationSessions];
+
+    for (int i = 0; i + 1 < [arguments count]; i++) {
+        if ([@"-i" isEqualToString:[arguments objectAtIndex:i]]) {
+            NSString *input = [arguments objectAtIndex:i + 1];
+            for (MediaInformationSession *mediaInformationSession in [mediaInformationSessions reverseObjectEnumerator]) {
+                MediaInformation *mediaInformation = [mediaInformationSession getMediaInformation];
+                if (mediaInformation != nil && [input isEqualToString:[mediaInformation getFilename]] && [mediaInformation getDuration] != nil) {
+                    long duration = (long)([[mediaInformation getDuration] doubleValue] * 1000);
+                    if (duration > 0) {
+                        return duration;
+                    }
+                }
+            }
+        }
+    }
+
+    return 0;
+}
+
++ (NSString*)toBinaryStatistics:(Statistics*)statistics {
+    return [FFmpegKitReactNativeModule toBinaryStatisticsList:[NSArray arrayWithObject:statistics]];
+}
+
++ (NSString*)toBinaryStatisticsList:(NSArray*)statisticsList {
+    NSMutableData *data = [[NSMutableData alloc] initWithCapacity:STATISTICS_ENTRY_SIZE * [statisticsList count]];
+
+    for (int i = 0; i < [statisticsList count]; i++) {
+        Statistics *statistics = [statisticsList objectAtIndex:i];
+        appendUInt64(data, (uint64_t)[statistics getSessionId]);
+        appendUInt32(data, (uint32_t)[statistics getVideoFrameNumber]);
+        appendFloat32(data, [statistics getVideoFps]);
+        appendFloat32(data, [statistics getVideoQuality]);
+        appendUInt64(data, (uint64_t)[statistics getSize]);
+        appendFloat64(data, [statistics getTime]);
+        appendFloat64(data, [statistics getBitrate]);
+        appendFloat64(data, [statistics getSpeed]);
+
+        // PROGRESS AND REMAINING TIME ARE NOT ESTIMATED ON IOS
+        appendFloat32(data, -1);
+        appendUInt64(data, (uint64_t)-1);
+    }
+
+    return [data base64EncodedStringWithOptions:0];
+}
+
 + (NSDictionary*)toMediaInformationDictionary:(MediaInformation*)mediaInformation {
     if (mediaInformation != nil) {
         NSMutableDictionary *dictionary = [[NSMutableDictionary alloc] init];
@@ -792,6 +1233,102 @@ RCT_EXPORT_METHOD(uninit:(RCTPromiseResolveBlock)resolve rejecter:(RCTPromiseRej
     }
 }
 
++ (NSDictionary*)toMediaInformationDictionary:(MediaInformation*)mediaInformation projection:(NSArray*)projection {
+    NSArray* fields = (projection != nil) ? projection : mediaInformationProjection;
+    NSDictionary* allProperties = [mediaInformation getAllProperties];
+    if ([fields count] == 0 || allProperties == nil) {
+        return [FFmpegKitReactNativeModule toMediaInformationDictionary:mediaInformation];
+    }
+
+    NSMutableDictionary *dictionary = [[NSMutableDictionary alloc] init];
+    for (NSString *field in fields) {
+        if ([field length] > 0) {
+            [FFmpegKitReactNativeModule project:allProperties into:dictionary path:[field componentsSeparatedByString:@"."] index:0];
+        }
+    }
+
+    return dictionary;
+}
+
++ (void)project:(NSDictionary*)source into:(NSMutableDictionary*)target path:(NSArray*)path index:(NSUInteger)index {
+    NSString* key = path[index];
+    id value = source[key];
+    if (value == nil || target[key] == value) {
+        return;
+    }
+
+    if (index == [path count] - 1) {
+        target[key] = value;
+    } else if ([value isKindOfClass:[NSDictionary class]]) {
+        NSMutableDictionary* child = target[key];
+        if (child == nil) {
+            child = [[NSMutableDictionary alloc] init];
+            target[key] = child;
+        }
+        [FFmpegKitReactNativeModule project:value into:child path:path index:index + 1];
+    } else if ([value isKindOfClass:[NSArray class]]) {
+        NSArray* sourceArray = value;
+        NSMutableArray* targetArray = target[key];
+        if (targetArray == nil) {
+            targetArray = [[NSMutableArray alloc] init];
+            for (NSUInteger i = 0; i < [sourceArray count]; i++) {
+                [targetArray addObject:[[NSMutableDictionary alloc] init]];
+            }
+            target[key] = targetArray;
+        }
+        for (NSUInteger i = 0; i < [sourceArray count]; i++) {
+            if ([sourceArray[i] isKindOfClass:[NSDictionary class]]) {
+                [FFmpegKitReactNativeModule project:sourceArray[i] into:targetArray[i] path:path index:index + 1];
+            }
+        }
+    }
+}
+
++ (NSArray*)querySessions:(NSArray*)sessions type:(NSNumber*)type state:(NSNumber*)state createdAfter:(NSNumber*)createdAfter createdBefore:(NSNumber*)createdBefore offset:(int)offset limit:(int)limit {
+    NSMutableArray *array = [[NSMutableArray alloc] init];
+    int skipped = 0;
+
+    for (id<Session> session in [sessions reverseObjectEnumerator]) {
+        if (limit > 0 && [array count] >= limit) {
+            break;
+        }
+        if (type != nil) {
+            int sessionType = [type intValue];
+            if ((sessionType == SESSION_TYPE_FFMPEG && ![session isFFmpeg]) || (sessionType == SESSION_TYPE_FFPROBE && ![session isFFprobe]) || (sessionType == SESSION_TYPE_MEDIA_INFORMATION && ![session isMediaInformation])) {
+                continue;
+            }
+        }
+        if (state != nil && [session getState] != [state intValue]) {
+            continue;
+        }
+        double createTime = [[session getCreateTime] timeIntervalSince1970]*1000;
+        if (createdAfter != nil && createTime < [createdAfter doubleValue]) {
+            continue;
+        }
+        if (createdBefore != nil && createTime >= [createdBefore doubleValue]) {
+            continue;
+        }
+        if (skipped < offset) {
+            skipped++;
+            continue;
+        }
+        [array addObject:session];
+    }
+
+    return array;
+}
+
++ (NSArray*)subarray:(NSArray*)array fromIndex:(int)index max:(int)max {
+    NSUInteger count = [array count];
+    NSUInteger fromIndex = (index < 0) ? 0 : MIN((NSUInteger)index, count);
+    NSUInteger length = count - fromIndex;
+    if (max > 0) {
+        length = MIN(length, (NSUInteger)max);
+    }
+
+    return [array subarrayWithRange:NSMakeRange(fromIndex, length)];
+}
+
 + (NSArray*)toLogArray:(NSArray*)logs {
     NSMutableArray *array = [[NSMutableArray alloc] init];
 
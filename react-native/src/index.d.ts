@@ -34,6 +34,8 @@ declare module 'ffmpeg-kit-react-native' {
 
     getLogs(): Promise<Array<Log>>;
 
+    getLogsSince(index: number, max?: number): Promise<Array<Log>>;
+
     getAllLogsAsString(waitTimeout?: number): Promise<string>;
 
     getLogsAsString(): Promise<string>;
@@ -160,6 +162,14 @@ declare module 'ffmpeg-kit-react-native' {
 
     static setSessionHistorySize(sessionHistorySize: number): Promise<void>;
 
+    static getAsyncConcurrencyLimit(): Promise<number>;
+
+    static setAsyncConcurrencyLimit(asyncConcurrencyLimit: number): Promise<void>;
+
+    static getAsyncExecutorStatistics(): Promise<AsyncExecutorStatistics>;
+
+    static setMediaInformationProjection(projection?: string[]): Promise<void>;
+
     static getSession(sessionId: number): Promise<Session>;
 
     static getLastSession(): Promise<Session>;
@@ -178,6 +188,8 @@ declare module 'ffmpeg-kit-react-native' {
 
     static getSessionsByState(state): Promise<Session[]>;
 
+    static querySessions(query?: SessionQuery): Promise<Session[]>;
+
     static getLogRedirectionStrategy(): LogRedirectionStrategy;
 
     static setLogRedirectionStrategy(logRedirectionStrategy: LogRedirectionStrategy);
@@ -198,10 +210,26 @@ declare module 'ffmpeg-kit-react-native' {
 
     static disableStatistics(): Promise<void>;
 
+    static enableEventBatching(batchWindow?: number, batchSize?: number): Promise<void>;
+
+    static disableEventBatching(): Promise<void>;
+
+    static enableBinaryStatistics(binaryStatisticsCallback?: BinaryStatisticsCallback): Promise<void>;
+
+    static disableBinaryStatistics(): Promise<void>;
+
+    static enableSessionSnapshots(sessionSnapshotCallback: SessionSnapshotCallback, period?: number): Promise<void>;
+
+    static disableSessionSnapshots(): Promise<void>;
+
+    static getEventBatchingDroppedStatistics(): Promise<number>;
+
     static getPlatform(): Promise<string>;
 
     static writeToPipe(inputPath: string, pipePath: string): Promise<number>;
 
+    static createPipeWriter(inputPath: string, pipePath: string, progressCallback?: PipeWriteProgressCallback, bufferSize?: number): Promise<PipeWriter>;
+
     static selectDocumentForRead(type?: string, extraTypes?: string[]): Promise<string>;
 
     static selectDocumentForWrite(title?: string, type?: string, extraTypes?: string[]): Promise<string>;
@@ -220,6 +248,8 @@ declare module 'ffmpeg-kit-react-native' {
 
     getStatistics(): Promise<Array<Statistics>>;
 
+    getStatisticsSince(index: number, max?: number): Promise<Array<Statistics>>;
+
     getLastReceivedStatistics(): Promise<Statistics>;
 
     isFFmpeg(): boolean;
@@ -240,11 +270,11 @@ declare module 'ffmpeg-kit-react-native' {
 
     static executeWithArgumentsAsync(commandArguments: string[], completeCallback?: FFprobeSessionCompleteCallback, logCallback?: LogCallback): Promise<FFprobeSession>;
 
-    static getMediaInformation(path: string, waitTimeout?: number): Promise<MediaInformationSession>;
+    static getMediaInformation(path: string, waitTimeout?: number, projection?: string[]): Promise<MediaInformationSession>;
 
-    static getMediaInformationFromCommand(command: string, waitTimeout?: number): Promise<MediaInformationSession>;
+    static getMediaInformationFromCommand(command: string, waitTimeout?: number, projection?: string[]): Promise<MediaInformationSession>;
 
-    static getMediaInformationFromCommandArguments(commandArguments: string[], waitTimeout?: number): Promise<MediaInformationSession>;
+    static getMediaInformationFromCommandArguments(commandArguments: string[], waitTimeout?: number, projection?: string[]): Promise<MediaInformationSession>;
 
     static getMediaInformationAsync(path: string, completeCallback?: FFprobeSessionCompleteCallback, logCallback?: LogCallback, waitTimeout?: number): Promise<MediaInformationSession>;
 
@@ -395,6 +425,18 @@ declare module 'ffmpeg-kit-react-native' {
 
   }
 
+  export type PipeWriteProgressCallback = (bytesWritten: number, totalBytes: number) => void;
+
+  export class PipeWriter {
+
+    getWriterId(): number;
+
+    write(): Promise<number>;
+
+    cancel(): Promise<void>;
+
+  }
+
   export class ReturnCode {
 
     static readonly SUCCESS: number;
@@ -439,6 +481,8 @@ declare module 'ffmpeg-kit-react-native' {
 
     getLogs(): Promise<Array<Log>>;
 
+    getLogsSince(index: number, max?: number): Promise<Array<Log>>;
+
     getAllLogsAsString(waitTimeout?: number): Promise<string>;
 
     getLogsAsString(): Promise<string>;
@@ -482,7 +526,7 @@ declare module 'ffmpeg-kit-react-native' {
 
   export class Statistics {
 
-    constructor(sessionId: number, videoFrameNumber: number, videoFps: number, videoQuality: number, size: number, time: number, bitrate: number, speed: number);
+    constructor(sessionId: number, videoFrameNumber: number, videoFps: number, videoQuality: number, size: number, time: number, bitrate: number, speed: number, progress?: number, estimatedTimeRemaining?: number);
 
     getSessionId(): number;
 
@@ -516,10 +560,49 @@ declare module 'ffmpeg-kit-react-native' {
 
     setSpeed(speed: number): void;
 
+    getProgress(): number;
+
+    setProgress(progress: number): void;
+
+    getEstimatedTimeRemaining(): number;
+
+    setEstimatedTimeRemaining(estimatedTimeRemaining: number): void;
+
   }
 
   export type StatisticsCallback = (statistics: Statistics) => void;
 
+  export type SessionQuery = {
+    type?: number;
+    state?: SessionState;
+    createdAfter?: Date;
+    createdBefore?: Date;
+    offset?: number;
+    limit?: number;
+  };
+
+  export type SessionSnapshot = {
+    sessionId: number;
+    state: SessionState;
+    elapsed: number;
+    lastStatistics?: Statistics;
+    logCount: number;
+    expectedDuration: number;
+    completion: number;
+    estimatedTimeRemaining: number;
+  };
+
+  export type SessionSnapshotCallback = (snapshots: SessionSnapshot[]) => void;
+
+  export type AsyncExecutorStatistics = {
+    concurrencyLimit: number;
+    activeCount: number;
+    queuedCount: number;
+    completedCount: number;
+  };
+
+  export type BinaryStatisticsCallback = (dataView: DataView, count: number) => void;
+
   export class StreamInformation {
 
     static readonly KEY_INDEX: string;
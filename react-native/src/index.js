@@ -8,10 +8,26 @@ const mediaInformationSessionCompleteCallbackMap = new Map()
 const logCallbackMap = new Map()
 const statisticsCallbackMap = new Map()
 const logRedirectionStrategyMap = new Map()
+const pipeWriteProgressCallbackMap = new Map()
 
 const eventLogCallbackEvent = "FFmpegKitLogCallbackEvent";
 const eventStatisticsCallbackEvent = "FFmpegKitStatisticsCallbackEvent";
 const eventCompleteCallbackEvent = "FFmpegKitCompleteCallbackEvent";
+const eventLogBatchCallbackEvent = "FFmpegKitLogBatchCallbackEvent";
+const eventStatisticsBatchCallbackEvent = "FFmpegKitStatisticsBatchCallbackEvent";
+const eventStatisticsBinaryCallbackEvent = "FFmpegKitStatisticsBinaryCallbackEvent";
+const eventPipeWriteProgressEvent = "FFmpegKitPipeWriteProgressEvent";
+const eventSessionSnapshotEvent = "FFmpegKitSessionSnapshotEvent";
+
+const statisticsEntrySize = 64;
+const base64Lookup = (() => {
+  const alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+  const lookup = new Uint8Array(128);
+  for (let i = 0; i < alphabet.length; i++) {
+    lookup[alphabet.charCodeAt(i)] = i;
+  }
+  return lookup;
+})();
 
 export const LogRedirectionStrategy = {
   ALWAYS_PRINT_LOGS: 0,
@@ -145,6 +161,20 @@ export class Session {
   getLogs() {
   }
 
+  /**
+   * Returns log entries delivered for this session starting from the given index. Pass the
+   * number of entries already received as the index to fetch only new entries. Note that if
+   * there are asynchronous log messages that are not delivered yet, this method will not wait
+   * for them.
+   *
+   * @param index index of the first log entry to return
+   * @param max maximum number of log entries to return, zero or undefined returns all entries
+   * after the index
+   * @return list of log entries received for this session after the given index
+   */
+  getLogsSince(index, max) {
+  }
+
   /**
    * Returns all log entries generated for this session as a concatenated string. If there are
    * asynchronous messages that are not delivered yet, this method waits for them until
@@ -537,6 +567,22 @@ export class AbstractSession extends Session {
     return logs.map(FFmpegKitFactory.mapToLog);
   }
 
+  /**
+   * Returns log entries delivered for this session starting from the given index. Pass the
+   * number of entries already received as the index to fetch only new entries. Note that if
+   * there are asynchronous log messages that are not delivered yet, this method will not wait
+   * for them.
+   *
+   * @param index index of the first log entry to return
+   * @param max maximum number of log entries to return, zero or undefined returns all entries
+   * after the index
+   * @return list of log entries received for this session after the given index
+   */
+  async getLogsSince(index, max) {
+    const logs = await FFmpegKitReactNativeModule.abstractSessionGetLogsSince(this.getSessionId(), index ?? 0, max ?? 0);
+    return logs.map(FFmpegKitFactory.mapToLog);
+  }
+
   /**
    * Returns all log entries generated for this session as a concatenated string. If there are
    * asynchronous messages that are not delivered yet, this method waits for them until
@@ -1223,6 +1269,60 @@ export class FFmpegKitConfig {
     return FFmpegKitReactNativeModule.setSessionHistorySize(sessionHistorySize);
   }
 
+  /**
+   * Returns the maximum number of sessions executed in parallel on the native platform.
+   *
+   * @return async concurrency limit
+   */
+  static async getAsyncConcurrencyLimit() {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.getAsyncConcurrencyLimit();
+  }
+
+  /**
+   * <p>Sets the maximum number of sessions executed in parallel on the native platform. If more
+   * sessions are started those will be queued.
+   *
+   * <p>The limit applies to both <code>execute</code> and <code>executeAsync</code> methods, since they share the
+   * same native executor. This method is supported on Android only.
+   *
+   * @param asyncConcurrencyLimit new async concurrency limit, must be greater than zero
+   */
+  static async setAsyncConcurrencyLimit(asyncConcurrencyLimit) {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.setAsyncConcurrencyLimit(asyncConcurrencyLimit);
+  }
+
+  /**
+   * Returns a snapshot of the native session executor. The returned object includes the concurrency limit and the
+   * number of active, queued and completed tasks. This method is supported on Android only.
+   *
+   * @return async executor statistics
+   */
+  static async getAsyncExecutorStatistics() {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.getAsyncExecutorStatistics();
+  }
+
+  /**
+   * <p>Sets the media information fields sent from the native platform by default.
+   *
+   * <p>A field is a dot separated path like "format.duration". When a path element points to an array,
+   * the rest of the path is applied to every element of that array, e.g. "streams.codec_name" selects
+   * the codec name of all streams. Media information maps of complete events, session queries and
+   * <code>FFprobeKit.getMediaInformation</code> methods include only these fields.
+   *
+   * @param projection list of fields or undefined to send all fields
+   */
+  static async setMediaInformationProjection(projection) {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.setMediaInformationProjection(projection ?? null);
+  }
+
   /**
    * Returns the session specified with <code>sessionId</code> from the session history.
    *
@@ -1336,6 +1436,33 @@ export class FFmpegKitConfig {
     return sessionArray.map(FFmpegKitFactory.mapToSession);
   }
 
+  /**
+   * <p>Returns a page of sessions that match the given filters, starting from the newest session in the session
+   * history.
+   *
+   * <p>All query fields are optional: <code>type</code> is one of 1 (FFmpeg), 2 (FFprobe) or 3 (MediaInformation),
+   * <code>state</code> is a <code>SessionState</code>, <code>createdAfter</code> (inclusive) and
+   * <code>createdBefore</code> (exclusive) are <code>Date</code> objects that filter sessions by their create time,
+   * <code>offset</code> is the number of matching sessions to skip and <code>limit</code> is the maximum number of
+   * sessions returned.
+   *
+   * @param query query fields
+   * @return matching sessions ordered from the newest to the oldest
+   */
+  static async querySessions(query) {
+    await FFmpegKitConfig.init();
+
+    const {type, state, createdAfter, createdBefore, offset, limit} = query ?? {};
+    const sessionArray = await FFmpegKitReactNativeModule.querySessions(
+      type ?? null,
+      state ?? null,
+      createdAfter === undefined || createdAfter === null ? null : createdAfter.getTime(),
+      createdBefore === undefined || createdBefore === null ? null : createdBefore.getTime(),
+      offset ?? 0,
+      limit ?? 0);
+    return sessionArray.map(FFmpegKitFactory.mapToSession);
+  }
+
   /**
    * Returns the active log redirection strategy.
    *
@@ -1510,6 +1637,110 @@ export class FFmpegKitConfig {
     return FFmpegKitReactNativeModule.disableStatistics();
   }
 
+  /**
+   * Enables batching of log and statistics events sent from the native platform.
+   *
+   * <p>When enabled, logs are accumulated on the native side and delivered in a single event
+   * every <code>batchWindow</code> milliseconds or when <code>batchSize</code> logs are pending,
+   * whichever comes first. Only the latest statistics entry of each session is delivered in a
+   * window. Callbacks still receive one <code>Log</code> and one <code>Statistics</code> object at
+   * a time.
+   *
+   * @param batchWindow batch window in milliseconds, e.g. between 16 and 100
+   * @param batchSize maximum number of logs delivered in a single batch
+   */
+  static async enableEventBatching(batchWindow, batchSize) {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.enableEventBatching(batchWindow, batchSize);
+  }
+
+  /**
+   * <p>Enables receiving statistics in a fixed binary layout instead of a map for each update.
+   *
+   * <p>Each statistics entry takes 64 bytes in little-endian order: sessionId (int64), videoFrameNumber (int32),
+   * videoFps (float32), videoQuality (float32), size (int64), time (float64), bitrate (float64), speed (float64),
+   * progress (float32) and estimatedTimeRemaining (int64). Progress and remaining time are -1 when they can not be
+   * estimated, which is always the case on iOS.
+   *
+   * <p>If <code>binaryStatisticsCallback</code> is defined, it receives a <code>DataView</code> over the received
+   * entries and the number of entries, and statistics callbacks are not notified. Otherwise entries are decoded
+   * into <code>Statistics</code> objects and delivered to statistics callbacks as usual.
+   *
+   * @param binaryStatisticsCallback callback that reads statistics entries directly or undefined
+   */
+  static async enableBinaryStatistics(binaryStatisticsCallback) {
+    await FFmpegKitConfig.init();
+
+    FFmpegKitFactory.setBinaryStatisticsCallback(binaryStatisticsCallback);
+    return FFmpegKitReactNativeModule.enableBinaryStatistics();
+  }
+
+  /**
+   * Disables receiving statistics in binary layout.
+   */
+  static async disableBinaryStatistics() {
+    await FFmpegKitConfig.init();
+
+    await FFmpegKitReactNativeModule.disableBinaryStatistics();
+    FFmpegKitFactory.setBinaryStatisticsCallback(undefined);
+  }
+
+  /**
+   * <p>Enables periodic snapshots of running sessions.
+   *
+   * <p>At each period the native platform takes a snapshot of every running session and delivers all of them in a
+   * single event, replacing separate calls to read state, duration, statistics and logs. A snapshot is an object with
+   * <code>sessionId</code>, <code>state</code>, <code>elapsed</code> milliseconds, <code>lastStatistics</code>,
+   * <code>logCount</code>, <code>expectedDuration</code> milliseconds, <code>completion</code> and
+   * <code>estimatedTimeRemaining</code> milliseconds. <code>logCount</code> is the number of logs stored in the
+   * session and can be used as the index of the next <code>getLogsSince</code> call. Completion is between 0 and 1, or
+   * -1 when the expected duration is not known. On Android the expected duration is calculated by the native progress
+   * estimator, which also trims inputs with their <code>-ss</code>, <code>-t</code> and <code>-to</code> options. On
+   * other platforms it is the duration of the first input, read from media information sessions that probed the same
+   * file. Remaining time is only estimated on Android and is -1 on other platforms.
+   *
+   * @param sessionSnapshotCallback callback that receives an array of snapshots
+   * @param period snapshot period in milliseconds, 1000 by default
+   */
+  static async enableSessionSnapshots(sessionSnapshotCallback, period = 1000) {
+    await FFmpegKitConfig.init();
+
+    FFmpegKitFactory.setSessionSnapshotCallback(sessionSnapshotCallback);
+    return FFmpegKitReactNativeModule.enableSessionSnapshots(period);
+  }
+
+  /**
+   * Disables periodic snapshots of running sessions.
+   */
+  static async disableSessionSnapshots() {
+    await FFmpegKitConfig.init();
+
+    await FFmpegKitReactNativeModule.disableSessionSnapshots();
+    FFmpegKitFactory.setSessionSnapshotCallback(undefined);
+  }
+
+  /**
+   * Disables batching of log and statistics events. Pending events are delivered immediately.
+   */
+  static async disableEventBatching() {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.disableEventBatching();
+  }
+
+  /**
+   * Returns the number of statistics entries dropped by event batching because delivery fell behind
+   * the batch window. Replacing an entry with a newer one inside its window is not counted.
+   *
+   * @return number of statistics entries replaced by a newer entry after their window expired
+   */
+  static async getEventBatchingDroppedStatistics() {
+    await FFmpegKitConfig.init();
+
+    return FFmpegKitReactNativeModule.getEventBatchingDroppedStatistics();
+  }
+
   /**
    * Returns the platform name the library is loaded on.
    */
@@ -1532,6 +1763,23 @@ export class FFmpegKitConfig {
     return FFmpegKitReactNativeModule.writeToPipe(inputPath, pipePath);
   }
 
+  /**
+   * Creates a writer that copies the given file to a pipe in-process, without spawning a shell.
+   * Call <code>write</code> on the writer returned to start copying.
+   *
+   * @param inputPath input file path
+   * @param pipePath pipe path
+   * @param progressCallback callback that will receive the number of bytes written and the input size, -1 when the input is not a regular file
+   * @param bufferSize number of bytes transferred in a single chunk, library default is used if undefined
+   * @returns pipe writer created
+   */
+  static async createPipeWriter(inputPath, pipePath, progressCallback, bufferSize) {
+    await FFmpegKitConfig.init();
+
+    const writerId = await FFmpegKitReactNativeModule.pipeWriterCreate(inputPath, pipePath, bufferSize ?? 0);
+    return new PipeWriter(writerId, progressCallback);
+  }
+
   /**
    * <p>Displays the native file dialog to select a file in read mode. If a file is selected then this
    * method returns the Structured Access Framework Uri for that file.
@@ -1576,16 +1824,50 @@ class FFmpegKitFactory {
   static #mediaInformationSessionCompleteCallback = undefined;
   static #logCallback = undefined;
   static #statisticsCallback = undefined;
+  static #binaryStatisticsCallback = undefined;
+  static #sessionSnapshotCallback = undefined;
   static #activeLogLevel = undefined;
 
   static mapToStatistics(statisticsMap) {
     if (statisticsMap !== undefined) {
-      return new Statistics(statisticsMap.sessionId, statisticsMap.videoFrameNumber, statisticsMap.videoFps, statisticsMap.videoQuality, statisticsMap.size, statisticsMap.time, statisticsMap.bitrate, statisticsMap.speed);
+      return new Statistics(statisticsMap.sessionId, statisticsMap.videoFrameNumber, statisticsMap.videoFps, statisticsMap.videoQuality, statisticsMap.size, statisticsMap.time, statisticsMap.bitrate, statisticsMap.speed, statisticsMap.progress, statisticsMap.estimatedTimeRemaining);
     } else {
       return undefined;
     }
   }
 
+  static readStatistics(dataView, offset) {
+    const sessionId = dataView.getInt32(offset + 4, true) * 4294967296 + dataView.getUint32(offset, true);
+    const size = dataView.getInt32(offset + 24, true) * 4294967296 + dataView.getUint32(offset + 20, true);
+    const estimatedTimeRemaining = dataView.getInt32(offset + 60, true) * 4294967296 + dataView.getUint32(offset + 56, true);
+
+    return new Statistics(sessionId, dataView.getInt32(offset + 8, true), dataView.getFloat32(offset + 12, true), dataView.getFloat32(offset + 16, true), size, dataView.getFloat64(offset + 28, true), dataView.getFloat64(offset + 36, true), dataView.getFloat64(offset + 44, true), dataView.getFloat32(offset + 52, true), estimatedTimeRemaining);
+  }
+
+  static decodeBase64(value) {
+    let padding = 0;
+    if (value.endsWith("==")) {
+      padding = 2;
+    } else if (value.endsWith("=")) {
+      padding = 1;
+    }
+
+    const bytes = new Uint8Array(value.length / 4 * 3 - padding);
+    let byteIndex = 0;
+    for (let i = 0; i < value.length; i += 4) {
+      const chunk = (base64Lookup[value.charCodeAt(i)] << 18) | (base64Lookup[value.charCodeAt(i + 1)] << 12) | (base64Lookup[value.charCodeAt(i + 2)] << 6) | base64Lookup[value.charCodeAt(i + 3)];
+      bytes[byteIndex++] = (chunk >> 16) & 255;
+      if (byteIndex < bytes.length) {
+        bytes[byteIndex++] = (chunk >> 8) & 255;
+      }
+      if (byteIndex < bytes.length) {
+        bytes[byteIndex++] = chunk & 255;
+      }
+    }
+
+    return bytes;
+  }
+
   static mapToLog(logMap) {
     if (logMap !== undefined) {
       return new Log(logMap.sessionId, logMap.level, logMap.message)
@@ -1658,6 +1940,22 @@ class FFmpegKitFactory {
     this.#statisticsCallback = statisticsCallback;
   }
 
+  static getBinaryStatisticsCallback() {
+    return this.#binaryStatisticsCallback;
+  }
+
+  static setBinaryStatisticsCallback(binaryStatisticsCallback) {
+    this.#binaryStatisticsCallback = binaryStatisticsCallback;
+  }
+
+  static getSessionSnapshotCallback() {
+    return this.#sessionSnapshotCallback;
+  }
+
+  static setSessionSnapshotCallback(sessionSnapshotCallback) {
+    this.#sessionSnapshotCallback = sessionSnapshotCallback;
+  }
+
   static getFFmpegSessionCompleteCallback(sessionId) {
     return ffmpegSessionCompleteCallbackMap.get(sessionId);
   }
@@ -1822,8 +2120,32 @@ class FFmpegKitInitializer {
   }
 
   static processStatisticsCallbackEvent(event) {
-    let statistics = FFmpegKitFactory.mapToStatistics(event);
-    let sessionId = event.sessionId;
+    FFmpegKitInitializer.notifyStatisticsCallbacks(FFmpegKitFactory.mapToStatistics(event));
+  }
+
+  static processStatisticsBinaryCallbackEvent(event) {
+    const bytes = FFmpegKitFactory.decodeBase64(event);
+    const dataView = new DataView(bytes.buffer);
+    const count = Math.floor(bytes.length / statisticsEntrySize);
+
+    const binaryStatisticsCallback = FFmpegKitFactory.getBinaryStatisticsCallback();
+    if (binaryStatisticsCallback !== undefined) {
+      try {
+        // NOTIFY BINARY CALLBACK DEFINED
+        binaryStatisticsCallback(dataView, count);
+      } catch (err) {
+        console.log("Exception thrown inside binary statistics callback.", err.stack);
+      }
+      return;
+    }
+
+    for (let i = 0; i < count; i++) {
+      FFmpegKitInitializer.notifyStatisticsCallbacks(FFmpegKitFactory.readStatistics(dataView, i * statisticsEntrySize));
+    }
+  }
+
+  static notifyStatisticsCallbacks(statistics) {
+    let sessionId = statistics.getSessionId();
 
     let activeStatisticsCallback = FFmpegKitFactory.getStatisticsCallback(sessionId);
     if (activeStatisticsCallback !== undefined) {
@@ -1846,6 +2168,54 @@ class FFmpegKitInitializer {
     }
   }
 
+  static processLogBatchCallbackEvent(events) {
+    if (events !== undefined) {
+      for (let i = 0; i < events.length; i++) {
+        FFmpegKitInitializer.processLogCallbackEvent(events[i]);
+      }
+    }
+  }
+
+  static processStatisticsBatchCallbackEvent(events) {
+    if (events !== undefined) {
+      for (let i = 0; i < events.length; i++) {
+        FFmpegKitInitializer.processStatisticsCallbackEvent(events[i]);
+      }
+    }
+  }
+
+  static processPipeWriteProgressEvent(event) {
+    const progressCallback = pipeWriteProgressCallbackMap.get(event.writerId);
+    if (progressCallback !== undefined) {
+      try {
+        progressCallback(event.bytesWritten, event.totalBytes);
+      } catch (err) {
+        console.log("Exception thrown inside pipe write progress callback.", err.stack);
+      }
+    }
+  }
+
+  static processSessionSnapshotEvent(events) {
+    const sessionSnapshotCallback = FFmpegKitFactory.getSessionSnapshotCallback();
+    if (events !== undefined && sessionSnapshotCallback !== undefined) {
+      const snapshots = events.map(event => ({
+        sessionId: event.sessionId,
+        state: event.state,
+        elapsed: event.elapsed,
+        lastStatistics: (event.lastStatistics === null) ? undefined : FFmpegKitFactory.mapToStatistics(event.lastStatistics),
+        logCount: event.logCount,
+        expectedDuration: event.expectedDuration,
+        completion: event.completion,
+        estimatedTimeRemaining: (event.estimatedTimeRemaining === undefined) ? -1 : event.estimatedTimeRemaining
+      }));
+      try {
+        sessionSnapshotCallback(snapshots);
+      } catch (err) {
+        console.log("Exception thrown inside session snapshot callback.", err.stack);
+      }
+    }
+  }
+
   static processCompleteCallbackEvent(event) {
     if (event !== undefined) {
       let sessionId = event.sessionId;
@@ -1909,6 +2279,11 @@ class FFmpegKitInitializer {
     this.#eventEmitter.addListener(eventLogCallbackEvent, FFmpegKitInitializer.processLogCallbackEvent);
     this.#eventEmitter.addListener(eventStatisticsCallbackEvent, FFmpegKitInitializer.processStatisticsCallbackEvent);
     this.#eventEmitter.addListener(eventCompleteCallbackEvent, FFmpegKitInitializer.processCompleteCallbackEvent);
+    this.#eventEmitter.addListener(eventLogBatchCallbackEvent, FFmpegKitInitializer.processLogBatchCallbackEvent);
+    this.#eventEmitter.addListener(eventStatisticsBatchCallbackEvent, FFmpegKitInitializer.processStatisticsBatchCallbackEvent);
+    this.#eventEmitter.addListener(eventStatisticsBinaryCallbackEvent, FFmpegKitInitializer.processStatisticsBinaryCallbackEvent);
+    this.#eventEmitter.addListener(eventPipeWriteProgressEvent, FFmpegKitInitializer.processPipeWriteProgressEvent);
+    this.#eventEmitter.addListener(eventSessionSnapshotEvent, FFmpegKitInitializer.processSessionSnapshotEvent);
 
     FFmpegKitFactory.setLogLevel(await FFmpegKitReactNativeModule.getLogLevel());
     const version = FFmpegKitFactory.getVersion();
@@ -1995,6 +2370,23 @@ export class FFmpegSession extends AbstractSession {
     return statistics.map(FFmpegKitFactory.mapToStatistics);
   }
 
+  /**
+   * Returns statistics entries delivered for this session starting from the given index. Note
+   * that if there are asynchronous messages that are not delivered yet, this method will not
+   * wait for them.
+   *
+   * @param index index of the first statistics entry to return
+   * @param max maximum number of statistics entries to return, zero or undefined returns all
+   * entries after the index
+   * @return list of statistics entries received for this session after the given index
+   */
+  async getStatisticsSince(index, max) {
+    await FFmpegKitConfig.init();
+
+    const statistics = await FFmpegKitReactNativeModule.ffmpegSessionGetStatisticsSince(this.getSessionId(), index ?? 0, max ?? 0);
+    return statistics.map(FFmpegKitFactory.mapToStatistics);
+  }
+
   /**
    * Returns the last received statistics entry.
    *
@@ -2095,11 +2487,13 @@ export class FFprobeKit {
    *
    * @param path            path or uri of a media file
    * @param waitTimeout     max time to wait until media information is transmitted
+   * @param projection      media information fields to receive, defaults to the projection set with
+   * <code>FFmpegKitConfig.setMediaInformationProjection</code>
    * @return media information session created for this execution
    */
-  static async getMediaInformation(path, waitTimeout) {
+  static async getMediaInformation(path, waitTimeout, projection) {
     const commandArguments = ["-v", "error", "-hide_banner", "-print_format", "json", "-show_format", "-show_streams", "-show_chapters", "-i", path];
-    return FFprobeKit.getMediaInformationFromCommandArguments(commandArguments, waitTimeout);
+    return FFprobeKit.getMediaInformationFromCommandArguments(commandArguments, waitTimeout, projection);
   }
 
   /**
@@ -2108,10 +2502,12 @@ export class FFprobeKit {
    *
    * @param command         FFprobe command that prints media information for a file in JSON format
    * @param waitTimeout     max time to wait until media information is transmitted
+   * @param projection      media information fields to receive, defaults to the projection set with
+   * <code>FFmpegKitConfig.setMediaInformationProjection</code>
    * @return media information session created for this execution
    */
-  static async getMediaInformationFromCommand(command, waitTimeout) {
-    return FFprobeKit.getMediaInformationFromCommandArguments(FFmpegKitConfig.parseArguments(command), waitTimeout);
+  static async getMediaInformationFromCommand(command, waitTimeout, projection) {
+    return FFprobeKit.getMediaInformationFromCommandArguments(FFmpegKitConfig.parseArguments(command), waitTimeout, projection);
   }
 
   /**
@@ -2121,14 +2517,16 @@ export class FFprobeKit {
    *
    * @param commandArguments FFprobe command arguments that prints media information for a file in JSON format
    * @param waitTimeout     max time to wait until media information is transmitted
+   * @param projection      media information fields to receive, defaults to the projection set with
+   * <code>FFmpegKitConfig.setMediaInformationProjection</code>
    * @return media information session created for this execution
    */
-  static async getMediaInformationFromCommandArguments(commandArguments, waitTimeout) {
+  static async getMediaInformationFromCommandArguments(commandArguments, waitTimeout, projection) {
     let session = await MediaInformationSession.create(commandArguments, undefined, undefined);
 
     await FFmpegKitConfig.getMediaInformationExecute(session, waitTimeout);
 
-    const mediaInformation = await FFmpegKitReactNativeModule.getMediaInformation(session.getSessionId());
+    const mediaInformation = await FFmpegKitReactNativeModule.getMediaInformation(session.getSessionId(), projection ?? null);
     if (mediaInformation !== undefined && mediaInformation !== null) {
       session.setMediaInformation(new MediaInformation(mediaInformation));
     }
@@ -2189,7 +2587,7 @@ export class FFprobeKit {
 
     await FFmpegKitConfig.asyncGetMediaInformationExecute(session, waitTimeout);
 
-    const mediaInformation = await FFmpegKitReactNativeModule.getMediaInformation(session.getSessionId());
+    const mediaInformation = await FFmpegKitReactNativeModule.getMediaInformation(session.getSessionId(), null);
     if (mediaInformation !== undefined && mediaInformation !== null) {
       session.setMediaInformation(new MediaInformation(mediaInformation));
     }
@@ -2770,6 +3168,55 @@ export class Packages {
 
 }
 
+/**
+ * <p>Copies a file to a pipe in-process. Created by {@link FFmpegKitConfig#createPipeWriter}.
+ */
+export class PipeWriter {
+
+  #writerId;
+
+  #progressCallback;
+
+  constructor(writerId, progressCallback) {
+    this.#writerId = writerId;
+    this.#progressCallback = progressCallback;
+  }
+
+  /**
+   * Returns the writer identifier.
+   *
+   * @return writer identifier
+   */
+  getWriterId() {
+    return this.#writerId;
+  }
+
+  /**
+   * Copies the input to the pipe. Waits until a reader opens the pipe and all bytes are written.
+   *
+   * @return number of bytes written, rejected if copying fails or the writer is cancelled
+   */
+  async write() {
+    if (this.#progressCallback !== undefined) {
+      pipeWriteProgressCallbackMap.set(this.#writerId, this.#progressCallback);
+    }
+
+    try {
+      return await FFmpegKitReactNativeModule.pipeWriterStart(this.#writerId);
+    } finally {
+      pipeWriteProgressCallbackMap.delete(this.#writerId);
+    }
+  }
+
+  /**
+   * Cancels copying.
+   */
+  async cancel() {
+    return FFmpegKitReactNativeModule.pipeWriterCancel(this.#writerId);
+  }
+
+}
+
 export class ReturnCode {
 
   static SUCCESS = 0;
@@ -2824,8 +3271,10 @@ export class Statistics {
   #time;
   #bitrate;
   #speed;
+  #progress;
+  #estimatedTimeRemaining;
 
-  constructor(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed) {
+  constructor(sessionId, videoFrameNumber, videoFps, videoQuality, size, time, bitrate, speed, progress = -1, estimatedTimeRemaining = -1) {
     this.#sessionId = sessionId;
     this.#videoFrameNumber = videoFrameNumber;
     this.#videoFps = videoFps;
@@ -2834,6 +3283,8 @@ export class Statistics {
     this.#time = time;
     this.#bitrate = bitrate;
     this.#speed = speed;
+    this.#progress = progress;
+    this.#estimatedTimeRemaining = estimatedTimeRemaining;
   }
 
   getSessionId() {
@@ -2900,6 +3351,32 @@ export class Statistics {
     this.#speed = speed;
   }
 
+  /**
+   * Returns the progress of the session estimated from its input durations. Supported on Android.
+   *
+   * @return progress between 0 and 1, or -1 if it can not be estimated
+   */
+  getProgress() {
+    return this.#progress;
+  }
+
+  setProgress(progress) {
+    this.#progress = progress;
+  }
+
+  /**
+   * Returns the remaining time of the session estimated with its smoothed speed. Supported on Android.
+   *
+   * @return remaining time in milliseconds, or -1 if it can not be estimated
+   */
+  getEstimatedTimeRemaining() {
+    return this.#estimatedTimeRemaining;
+  }
+
+  setEstimatedTimeRemaining(estimatedTimeRemaining) {
+    this.#estimatedTimeRemaining = estimatedTimeRemaining;
+  }
+
 }
 
 /**